@@ -12,6 +12,10 @@ public enum ControllerFieldInjectionType implements InjectionType {
      * Inject using a factory
      */
     FACTORY,
+    /**
+     * Inject using a factory taking a typed holder of the fields (a record generated in the view)
+     */
+    TYPED_FACTORY,
     /**
      * Inject using reflection
      */
@@ -12,4 +12,8 @@ public enum ControllerMethodsInjectionType implements InjectionType {
      * Inject using reflection
      */
     REFLECTION,
+    /**
+     * Inject using visible methods, called by a single event handler class per view instead of one lambda per handler
+     */
+    DISPATCH,
 }
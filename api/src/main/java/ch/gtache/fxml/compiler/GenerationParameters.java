@@ -58,4 +58,50 @@ public interface GenerationParameters {
      * @return The injection
      */
     ResourceBundleInjectionType resourceInjectionType();
+
+    /**
+     * Returns the maximum estimated bytecode size of the load method. If the generated load method is larger, it is
+     * split into multiple methods so that each method stays below the JIT compilation limit.
+     *
+     * @return The maximum size, or 0 to never split the load method
+     */
+    int maxLoadMethodSize();
+
+    /**
+     * Returns whether the includes are loaded lazily by default (see {@link ch.gtache.fxml.compiler.parsing.ParsedInclude#lazy()})
+     *
+     * @return True if the includes are lazy unless specified otherwise
+     */
+    boolean lazyIncludes();
+
+    /**
+     * Returns whether the view must provide a loadAsync method loading the included views concurrently
+     *
+     * @return True if loadAsync is generated
+     */
+    boolean asyncLoad();
+
+    /**
+     * Returns whether the view must provide a loadIncrementally method loading the view on the JavaFX application
+     * thread across multiple pulses
+     *
+     * @return True if loadIncrementally is generated
+     */
+    boolean incrementalLoad();
+
+    /**
+     * Returns whether the inline styles are compiled at build time : the style declarations mapping to node properties
+     * are replaced by setter calls, and only the other declarations are given to setStyle
+     *
+     * @return True if the inline styles are compiled
+     */
+    boolean compileStyles();
+
+    /**
+     * Returns whether the view must provide accessors to the objects having an fx:id (a typed getter per object and a
+     * lookup method)
+     *
+     * @return True if the accessors are generated
+     */
+    boolean objectAccessors();
 }
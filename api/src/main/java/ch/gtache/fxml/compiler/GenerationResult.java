@@ -0,0 +1,28 @@
+package ch.gtache.fxml.compiler;
+
+import java.util.Map;
+
+/**
+ * Represents the result of a code generation
+ */
+@FunctionalInterface
+public interface GenerationResult {
+
+    /**
+     * Returns the generated java code
+     *
+     * @return The java code
+     */
+    String javaCode();
+
+    /**
+     * Returns the resources loaded by the generated code, which must be written next to the generated class.
+     * The names are relative to the generated class (as given to {@link Class#getResource(String)}) and start with its
+     * simple name followed by '-'
+     *
+     * @return The mapping of resource name to content (empty by default)
+     */
+    default Map<String, byte[]> resources() {
+        return Map.of();
+    }
+}
@@ -14,4 +14,17 @@ public interface Generator {
      * @throws GenerationException if an error occurs
      */
     String generate(GenerationRequest request) throws GenerationException;
+
+    /**
+     * Generates the java code and the resources it reads, which must be written next to the generated class.
+     * By default, returns the code of {@link #generate(GenerationRequest)} without any resource
+     *
+     * @param request The request
+     * @return The result
+     * @throws GenerationException if an error occurs
+     */
+    default GenerationResult generateWithResources(final GenerationRequest request) throws GenerationException {
+        final var javaCode = generate(request);
+        return () -> javaCode;
+    }
 }
@@ -46,6 +46,15 @@ public interface GenerationCompatibility {
         return javaVersion() >= 9;
     }
 
+    /**
+     * Returns whether to use InputStream.readAllBytes()
+     *
+     * @return True if readAllBytes() should be used
+     */
+    default boolean useReadAllBytes() {
+        return javaVersion() >= 9;
+    }
+
     /**
      * Returns whether to use getFirst() or get(0)
      *
@@ -54,4 +63,13 @@ public interface GenerationCompatibility {
     default boolean useGetFirst() {
         return javaVersion() >= 21;
     }
+
+    /**
+     * Returns whether to use records
+     *
+     * @return True if records should be used
+     */
+    default boolean useRecords() {
+        return javaVersion() >= 16;
+    }
 }
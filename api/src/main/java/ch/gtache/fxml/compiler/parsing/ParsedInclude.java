@@ -39,6 +39,20 @@ public interface ParsedInclude extends ParsedObject {
         }
     }
 
+    /**
+     * Returns whether the subview must be loaded lazily (if present)
+     *
+     * @return The value of the lazy attribute, or null if absent
+     */
+    default Boolean lazy() {
+        final var property = attributes().get("lazy");
+        if (property == null) {
+            return null;
+        } else {
+            return Boolean.valueOf(property.value());
+        }
+    }
+
     /**
      * Returns the include source
      *
@@ -0,0 +1,33 @@
+package ch.gtache.fxml.compiler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TestGenerator {
+
+    private final GenerationRequest request;
+    private final Generator generator;
+
+    TestGenerator(@Mock final GenerationRequest request) {
+        this.request = Objects.requireNonNull(request);
+        this.generator = spy(Generator.class);
+    }
+
+    @Test
+    void testGenerateWithResources() throws GenerationException {
+        when(generator.generate(request)).thenReturn("code");
+        final var result = generator.generateWithResources(request);
+        assertEquals("code", result.javaCode());
+        assertEquals(Map.of(), result.resources());
+    }
+}
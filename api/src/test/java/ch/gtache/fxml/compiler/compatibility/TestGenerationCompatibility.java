@@ -58,6 +58,18 @@ class TestGenerationCompatibility {
         assertFalse(compatibility.useCollectionsOf());
     }
 
+    @Test
+    void testUseReadAllBytes() {
+        when(compatibility.javaVersion()).thenReturn(9);
+        assertTrue(compatibility.useReadAllBytes());
+    }
+
+    @Test
+    void testDontUseReadAllBytes() {
+        when(compatibility.javaVersion()).thenReturn(8);
+        assertFalse(compatibility.useReadAllBytes());
+    }
+
     @Test
     void testUseGetFirst() {
         when(compatibility.javaVersion()).thenReturn(21);
@@ -69,4 +81,16 @@ class TestGenerationCompatibility {
         when(compatibility.javaVersion()).thenReturn(20);
         assertFalse(compatibility.useGetFirst());
     }
+
+    @Test
+    void testUseRecords() {
+        when(compatibility.javaVersion()).thenReturn(16);
+        assertTrue(compatibility.useRecords());
+    }
+
+    @Test
+    void testDontUseRecords() {
+        when(compatibility.javaVersion()).thenReturn(15);
+        assertFalse(compatibility.useRecords());
+    }
 }
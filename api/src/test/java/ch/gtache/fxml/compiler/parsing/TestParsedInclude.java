@@ -60,6 +60,25 @@ class TestParsedInclude {
         assertEquals(string.replace("/", "."), include.resources());
     }
 
+    @Test
+    void testLazyNull() {
+        assertNull(include.lazy());
+    }
+
+    @Test
+    void testLazy() {
+        attributes.put("lazy", property);
+        when(property.value()).thenReturn("true");
+        assertEquals(Boolean.TRUE, include.lazy());
+    }
+
+    @Test
+    void testLazyFalse() {
+        attributes.put("lazy", property);
+        when(property.value()).thenReturn("false");
+        assertEquals(Boolean.FALSE, include.lazy());
+    }
+
     @Test
     void testSourceNull() {
         assertThrows(IllegalStateException.class, include::source);
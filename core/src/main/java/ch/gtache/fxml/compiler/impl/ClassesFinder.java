@@ -1,22 +1,29 @@
 package ch.gtache.fxml.compiler.impl;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
- * Helper class to find classes in a package
+ * Helper class to find classes in a package.
+ * The packages are indexed on first access and kept in memory (along with the opened jars) until {@link #clear()}
+ * is called. This class is thread-safe.
  */
 public final class ClassesFinder {
     private static final Pattern START_FILE_PATTERN = Pattern.compile("^(?:file:/)?/");
 
+    private static final Map<ClassLoader, Map<String, Map<String, String>>> index = new ConcurrentHashMap<>();
+    private static final Map<String, FileSystem> jars = new ConcurrentHashMap<>();
+
     private ClassesFinder() {
 
     }
@@ -29,46 +36,103 @@ public final class ClassesFinder {
      * @throws IOException If an error occurs
      */
     public static Set<String> getClasses(final String packageName) throws IOException {
-        return doGetClasses(packageName);
+        return Set.copyOf(getClassMap(packageName).values());
     }
 
-    private static Set<String> doGetClasses(final String packageName) throws IOException {
+    /**
+     * Finds all classes in the given package
+     *
+     * @param packageName The package
+     * @return The mapping of simple class name to fully qualified class name
+     * @throws IOException If an error occurs
+     */
+    public static Map<String, String> getClassMap(final String packageName) throws IOException {
         final var classLoader = Thread.currentThread().getContextClassLoader();
+        final var packages = index.computeIfAbsent(classLoader, c -> new ConcurrentHashMap<>());
+        try {
+            return packages.computeIfAbsent(packageName, p -> {
+                try {
+                    return Map.copyOf(doGetClasses(p, classLoader));
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Clears the index and closes the opened jars
+     *
+     * @throws IOException If an error occurs while closing a jar
+     */
+    public static void clear() throws IOException {
+        index.clear();
+        IOException exception = null;
+        for (final var it = jars.values().iterator(); it.hasNext(); ) {
+            final var fs = it.next();
+            it.remove();
+            try {
+                fs.close();
+            } catch (final IOException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private static Map<String, String> doGetClasses(final String packageName, final ClassLoader classLoader) throws IOException {
         final var path = packageName.replace('.', '/');
         final var resources = classLoader.getResources(path);
-        final var classes = new HashSet<String>();
+        final var classes = new HashMap<String, String>();
         while (resources.hasMoreElements()) {
             final var resource = resources.nextElement();
             final var file = resource.getFile();
             if (file.contains(".jar!")) {
                 final var jarFile = file.substring(0, file.indexOf(".jar!") + 4);
-                try (final var fs = FileSystems.newFileSystem(Path.of(URI.create(jarFile)), classLoader)) {
-                    classes.addAll(findClasses(fs.getPath(path), packageName));
-                }
+                final var fs = getJar(jarFile, classLoader);
+                findClasses(fs.getPath(path), packageName, classes);
             } else {
                 final var filepath = START_FILE_PATTERN.matcher(file).replaceAll("");
-                classes.addAll(findClasses(Path.of(filepath), packageName));
+                findClasses(Path.of(filepath), packageName, classes);
             }
         }
         return classes;
     }
 
-    private static List<String> findClasses(final Path directory, final String packageName) throws IOException {
+    private static FileSystem getJar(final String jarFile, final ClassLoader classLoader) throws IOException {
+        try {
+            return jars.computeIfAbsent(jarFile, j -> {
+                try {
+                    return FileSystems.newFileSystem(Path.of(URI.create(j)), classLoader);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void findClasses(final Path directory, final String packageName, final Map<? super String, ? super String> classes) throws IOException {
         if (Files.isDirectory(directory)) {
-            final var classes = new ArrayList<String>();
             try (final var stream = Files.list(directory)) {
                 final var files = stream.toList();
                 for (final var file : files) {
                     final var filename = file.getFileName().toString();
                     if (filename.endsWith(".class")) {
-                        final var className = packageName + '.' + filename.substring(0, filename.length() - 6);
-                        classes.add(className);
+                        final var simpleName = filename.substring(0, filename.length() - 6);
+                        classes.putIfAbsent(simpleName, packageName + '.' + simpleName);
                     }
                 }
             }
-            return classes;
-        } else {
-            return List.of();
         }
     }
 }
@@ -22,13 +22,22 @@ import static java.util.Objects.requireNonNull;
  * @param fieldInjectionType             The field injection type
  * @param methodInjectionType            The method injection type
  * @param resourceInjectionType          The resource injection type
+ * @param maxLoadMethodSize              The maximum estimated bytecode size of the load method (0 to never split)
+ * @param lazyIncludes                   True if the includes are loaded lazily by default
+ * @param asyncLoad                      True if loadAsync is generated
+ * @param incrementalLoad                True if loadIncrementally is generated
+ * @param compileStyles                  True if the inline styles are compiled
+ * @param objectAccessors                True if the accessors to the objects having an fx:id are generated
  */
 public record GenerationParametersImpl(GenerationCompatibility compatibility, boolean useImageInputStreamConstructor,
                                        Map<String, String> bundleMap,
                                        ControllerInjectionType controllerInjectionType,
                                        ControllerFieldInjectionType fieldInjectionType,
                                        ControllerMethodsInjectionType methodInjectionType,
-                                       ResourceBundleInjectionType resourceInjectionType) implements GenerationParameters {
+                                       ResourceBundleInjectionType resourceInjectionType,
+                                       int maxLoadMethodSize, boolean lazyIncludes,
+                                       boolean asyncLoad, boolean incrementalLoad,
+                                       boolean compileStyles, boolean objectAccessors) implements GenerationParameters {
 
     /**
      * Instantiates new parameters
@@ -40,7 +49,14 @@ public record GenerationParametersImpl(GenerationCompatibility compatibility, bo
      * @param fieldInjectionType             The field injection type
      * @param methodInjectionType            The method injection type
      * @param resourceInjectionType          The resource injection type
-     * @throws NullPointerException if any parameter is null
+     * @param maxLoadMethodSize              The maximum estimated bytecode size of the load method (0 to never split)
+     * @param lazyIncludes                   True if the includes are loaded lazily by default
+     * @param asyncLoad                      True if loadAsync is generated
+     * @param incrementalLoad                True if loadIncrementally is generated
+     * @param compileStyles                  True if the inline styles are compiled
+     * @param objectAccessors                True if the accessors to the objects having an fx:id are generated
+     * @throws NullPointerException     if any parameter is null
+     * @throws IllegalArgumentException if maxLoadMethodSize is negative
      */
     public GenerationParametersImpl {
         requireNonNull(compatibility);
@@ -49,5 +65,8 @@ public record GenerationParametersImpl(GenerationCompatibility compatibility, bo
         requireNonNull(fieldInjectionType);
         requireNonNull(methodInjectionType);
         requireNonNull(resourceInjectionType);
+        if (maxLoadMethodSize < 0) {
+            throw new IllegalArgumentException("maxLoadMethodSize must be >= 0");
+        }
     }
 }
@@ -0,0 +1,27 @@
+package ch.gtache.fxml.compiler.impl;
+
+import ch.gtache.fxml.compiler.GenerationResult;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link GenerationResult}
+ *
+ * @param javaCode  The generated java code
+ * @param resources The mapping of resource name to content
+ */
+public record GenerationResultImpl(String javaCode, Map<String, byte[]> resources) implements GenerationResult {
+
+    /**
+     * Instantiates a new result
+     *
+     * @param javaCode  The generated java code
+     * @param resources The mapping of resource name to content
+     * @throws NullPointerException If any parameter is null
+     */
+    public GenerationResultImpl {
+        Objects.requireNonNull(javaCode);
+        resources = Map.copyOf(resources);
+    }
+}
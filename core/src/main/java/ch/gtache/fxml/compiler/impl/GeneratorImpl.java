@@ -2,10 +2,14 @@ package ch.gtache.fxml.compiler.impl;
 
 import ch.gtache.fxml.compiler.GenerationException;
 import ch.gtache.fxml.compiler.GenerationRequest;
+import ch.gtache.fxml.compiler.GenerationResult;
 import ch.gtache.fxml.compiler.Generator;
 import ch.gtache.fxml.compiler.impl.internal.GenerationProgress;
 import ch.gtache.fxml.compiler.impl.internal.HelperProvider;
+import ch.gtache.fxml.compiler.impl.internal.ReflectionCache;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -33,9 +37,41 @@ public class GeneratorImpl implements Generator {
         this.helperProviderFactory = Objects.requireNonNull(helperProviderFactory);
     }
 
+    /**
+     * Loads the reflection lookups saved by a previous build, avoiding to recompute them.
+     * The file is ignored if it was created with a different classpath
+     *
+     * @param file        The cache file
+     * @param fingerprint The fingerprint of the current classpath
+     * @throws NullPointerException If any parameter is null
+     */
+    public static void loadReflectionCache(final Path file, final String fingerprint) {
+        ReflectionCache.load(Objects.requireNonNull(file), Objects.requireNonNull(fingerprint));
+    }
+
+    /**
+     * Saves the reflection lookups made by this JVM so that they can be reused by later builds
+     *
+     * @param file The cache file
+     * @throws IOException          If an error occurs
+     * @throws NullPointerException If any parameter is null
+     */
+    public static void saveReflectionCache(final Path file) throws IOException {
+        ReflectionCache.save(Objects.requireNonNull(file));
+    }
+
     @Override
     public String generate(final GenerationRequest request) throws GenerationException {
-        final var progress = new GenerationProgress(request);
+        return generate(request, false).javaCode();
+    }
+
+    @Override
+    public GenerationResult generateWithResources(final GenerationRequest request) throws GenerationException {
+        return generate(request, true);
+    }
+
+    private GenerationResult generate(final GenerationRequest request, final boolean useResources) throws GenerationException {
+        final var progress = new GenerationProgress(request, useResources);
         final var helperProvider = helperProviderFactory.apply(progress);
         final var className = request.outputClassName();
         final var pkgName = className.substring(0, className.lastIndexOf('.'));
@@ -53,11 +89,16 @@ public class GeneratorImpl implements Generator {
         sb.append("\n");
         helperProvider.getLoadMethodFormatter().formatLoadMethod();
         sb.append("\n");
-        helperProvider.getHelperMethodsFormatter().formatHelperMethods();
+        final var helperMethodsFormatter = helperProvider.getHelperMethodsFormatter();
+        helperMethodsFormatter.formatHelperMethods();
         sb.append("\n");
+        if (request.parameters().objectAccessors()) {
+            helperProvider.getNamespaceFormatter().formatNamespace();
+            sb.append("\n");
+        }
         formatControllerMethod(progress, controllerInjectionClass);
         sb.append("}\n");
-        return sb.toString();
+        return new GenerationResultImpl(sb.toString(), helperMethodsFormatter.resources());
     }
 
     private static void formatControllerMethod(final GenerationProgress progress, final String controllerInjectionClass) {
@@ -89,7 +89,7 @@ final class BindingFormatter {
         if (split.size() == 2) {
             final var referenced = split.getFirst();
             if (referenced.equals("controller")) {
-                return fieldInjectionType == ControllerFieldInjectionType.FACTORY;
+                return GenerationHelper.isFactory(fieldInjectionType);
             }
         }
         return false;
@@ -6,7 +6,9 @@ import ch.gtache.fxml.compiler.ControllerMethodsInjectionType;
 import ch.gtache.fxml.compiler.impl.GeneratorImpl;
 import ch.gtache.fxml.compiler.parsing.ParsedProperty;
 
+import java.util.LinkedHashMap;
 import java.util.SequencedCollection;
+import java.util.SequencedMap;
 
 import static ch.gtache.fxml.compiler.impl.internal.GenerationHelper.INDENT_8;
 import static java.util.Objects.requireNonNull;
@@ -16,20 +18,32 @@ import static java.util.Objects.requireNonNull;
  */
 final class ControllerInjector {
 
+    private final HelperProvider helperProvider;
     private final ControllerInfo controllerInfo;
     private final ControllerFieldInjectionType fieldInjectionType;
     private final ControllerMethodsInjectionType methodInjectionType;
     private final StringBuilder sb;
     private final SequencedCollection<String> controllerFactoryPostAction;
+    private final SequencedMap<String, InjectedField> injectedFields;
 
-    ControllerInjector(final ControllerInfo controllerInfo, final ControllerFieldInjectionType fieldInjectionType,
+    ControllerInjector(final HelperProvider helperProvider, final ControllerInfo controllerInfo,
+                       final ControllerFieldInjectionType fieldInjectionType,
                        final ControllerMethodsInjectionType methodInjectionType, final StringBuilder sb,
                        final SequencedCollection<String> controllerFactoryPostAction) {
+        this.helperProvider = requireNonNull(helperProvider);
         this.controllerInfo = requireNonNull(controllerInfo);
         this.fieldInjectionType = requireNonNull(fieldInjectionType);
         this.methodInjectionType = requireNonNull(methodInjectionType);
         this.sb = requireNonNull(sb);
         this.controllerFactoryPostAction = requireNonNull(controllerFactoryPostAction);
+        this.injectedFields = new LinkedHashMap<>();
+    }
+
+    /**
+     * @return The distinct fields injected so far, in injection order (e.g. to size the field map)
+     */
+    SequencedCollection<InjectedField> injectedFields() {
+        return injectedFields.sequencedValues();
     }
 
     /**
@@ -37,11 +51,16 @@ final class ControllerInjector {
      *
      * @param id       The object id
      * @param variable The object variable
+     * @param type     The object type
      */
-    void injectControllerField(final String id, final String variable) {
+    void injectControllerField(final String id, final String variable, final String type) {
+        injectedFields.put(id, new InjectedField(id, variable, type));
         switch (fieldInjectionType) {
             case FACTORY ->
                     sb.append(INDENT_8).append("fieldMap.put(\"").append(id).append("\", ").append(variable).append(");\n");
+            case TYPED_FACTORY -> {
+                //Passed to the factory once all the fields are created
+            }
             case ASSIGN ->
                     sb.append(INDENT_8).append("controller.").append(id).append(" = ").append(variable).append(";\n");
             case SETTERS -> {
@@ -81,7 +100,7 @@ final class ControllerInjector {
      */
     private void injectControllerMethod(final String methodInjection) {
         switch (fieldInjectionType) {
-            case FACTORY -> controllerFactoryPostAction.add(methodInjection);
+            case FACTORY, TYPED_FACTORY -> controllerFactoryPostAction.add(methodInjection);
             case ASSIGN, SETTERS, REFLECTION -> sb.append(methodInjection);
         }
     }
@@ -108,6 +127,11 @@ final class ControllerInjector {
             }
             case REFLECTION ->
                     INDENT_8 + parentVariable + "." + setMethod + "(e -> callEventHandlerMethod(\"" + controllerMethod + "\", e));\n";
+            case DISPATCH -> {
+                final var handler = helperProvider.getHelperMethodsFormatter().formatEventHandler(controllerMethod,
+                        controllerInfo.handlerHasArgument(controllerMethod));
+                yield INDENT_8 + parentVariable + "." + setMethod + "(" + handler + ");\n";
+            }
         };
     }
 
@@ -123,9 +147,33 @@ final class ControllerInjector {
         final var setMethod = GenerationHelper.getSetMethod(property.name());
         final var controllerMethod = property.value().replace("#", "");
         return switch (methodInjectionType) {
-            case REFERENCE -> INDENT_8 + parentVariable + "." + setMethod + "(controller::" + controllerMethod + ");\n";
+            case REFERENCE, DISPATCH -> INDENT_8 + parentVariable + "." + setMethod + "(controller::" + controllerMethod + ");\n";
             case REFLECTION ->
                     INDENT_8 + parentVariable + "." + setMethod + "(e -> callCallbackMethod(\"" + controllerMethod + "\", e, " + argumentClazz + "));\n";
         };
     }
+
+    /**
+     * A field injected into the controller
+     *
+     * @param id       The field name
+     * @param variable The variable (or expression) holding the value
+     * @param type     The type of the value
+     */
+    record InjectedField(String id, String variable, String type) {
+
+        /**
+         * Instantiates a new field
+         *
+         * @param id       The field name
+         * @param variable The variable
+         * @param type     The type
+         * @throws NullPointerException if any parameter is null
+         */
+        InjectedField {
+            requireNonNull(id);
+            requireNonNull(variable);
+            requireNonNull(type);
+        }
+    }
 }
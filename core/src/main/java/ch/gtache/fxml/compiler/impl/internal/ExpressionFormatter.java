@@ -81,7 +81,7 @@ class ExpressionFormatter {
     private String getControllerExpression(final String value, final Class<?> returnType) {
         return switch (fieldInjectionType) {
             case REFLECTION -> getControllerReflectionExpression(value, returnType);
-            case SETTERS, FACTORY -> "controller." + value + PROPERTY_METHOD;
+            case SETTERS, FACTORY, TYPED_FACTORY -> "controller." + value + PROPERTY_METHOD;
             case ASSIGN -> "controller." + value;
         };
     }
@@ -91,11 +91,8 @@ class ExpressionFormatter {
         final var variable = helperProvider.getVariableProvider().getNextVariableName("binding");
         sb.append(startVar).append(variable).append(";\n");
         sb.append("        try {\n");
-        sb.append("            ").append(helperProvider.getCompatibilityHelper().getStartVar("java.lang.reflect.Field", 0))
-                .append("field = controller.getClass().getDeclaredField(\"").append(value).append("\");\n");
-        sb.append("            field.setAccessible(true);\n");
-        sb.append("            ").append(variable).append(" = (").append(returnType.getName()).append(") field.get(controller);\n");
-        sb.append("        } catch (final NoSuchFieldException | IllegalAccessException e) {\n");
+        sb.append("            ").append(variable).append(" = (").append(returnType.getName()).append(") getControllerField(\"").append(value).append("\").get(controller);\n");
+        sb.append("        } catch (final IllegalAccessException e) {\n");
         sb.append("            throw new RuntimeException(e);\n");
         sb.append("        }\n");
         return variable;
@@ -54,7 +54,7 @@ final class FieldSetter {
     void setField(final ParsedProperty property, final String parentVariable, final String fieldType) throws GenerationException {
         switch (fieldInjectionType) {
             case ASSIGN -> setAssign(property, parentVariable);
-            case FACTORY -> setFactory(property, parentVariable);
+            case FACTORY, TYPED_FACTORY -> setFactory(property, parentVariable);
             case REFLECTION -> setReflection(property, parentVariable, fieldType);
             case SETTERS -> setSetter(property, parentVariable);
         }
@@ -102,12 +102,10 @@ final class FieldSetter {
         if (Objects.equals(holderName, CONTROLLER)) {
             final var fieldName = split[1];
             sb.append("        try {\n");
-            sb.append("            ").append(helperProvider.getCompatibilityHelper().getStartVar("java.lang.reflect.Field", 0))
-                    .append("field = ").append(CONTROLLER).append(".getClass().getDeclaredField(\"").append(fieldName).append("\");\n");
-            sb.append("            field.setAccessible(true);\n");
-            sb.append("            final var value = (").append(fieldType).append(") field.get(").append(CONTROLLER).append(");\n");
+            sb.append("            ").append(helperProvider.getCompatibilityHelper().getStartVar(fieldType, 0))
+                    .append("value = (").append(fieldType).append(") getControllerField(\"").append(fieldName).append("\").get(").append(CONTROLLER).append(");\n");
             sb.append("            ").append(parentVariable).append(".").append(methodName).append("(value);\n");
-            sb.append("        } catch (final NoSuchFieldException | IllegalAccessException e) {\n");
+            sb.append("        } catch (final IllegalAccessException e) {\n");
             sb.append("            throw new RuntimeException(e);\n");
             sb.append("        }\n");
         } else {
@@ -59,24 +59,32 @@ final class FontFormatter {
 
     private void formatURL(final URL url, final double size, final String variableName) {
         final var urlVariableName = helperProvider.getURLFormatter().formatURL(url.toString());
-        sb.append("        final javafx.scene.text.Font ").append(variableName).append(";\n");
-        sb.append("        try (").append(helperProvider.getCompatibilityHelper().getStartVar("java.io.InputStream", 0)).append("in = ").append(urlVariableName).append(".openStream()) {\n");
-        sb.append("            ").append(variableName).append(" = javafx.scene.text.Font.loadFont(in, ").append(size).append(");\n");
-        sb.append("        } catch (final java.io.IOException e) {\n");
-        sb.append("            throw new RuntimeException(e);\n");
-        sb.append("        }\n");
+        final var loader = "() -> {\n" +
+                "            try (" + helperProvider.getCompatibilityHelper().getStartVar("java.io.InputStream", 0) + "in = " + urlVariableName + ".openStream()) {\n" +
+                "                return javafx.scene.text.Font.loadFont(in, " + size + ");\n" +
+                "            } catch (final java.io.IOException e) {\n" +
+                "                throw new RuntimeException(e);\n" +
+                "            }\n" +
+                "        }";
+        final var key = "\"font:\" + " + urlVariableName + " + \"|" + size + "\"";
+        sb.append(getStartFont()).append(variableName).append(" = ")
+                .append(helperProvider.getHelperMethodsFormatter().formatCachedResource(key, loader)).append(";\n");
     }
 
     private void formatNoStyle(final String name, final double size, final String variableName) {
-        sb.append(getStartFont()).append(variableName).append(" = new javafx.scene.text.Font(\"").append(name).append("\", ").append(size).append(");\n");
+        formatConstantFont("new javafx.scene.text.Font(\"" + name + "\", " + size + ")", variableName);
     }
 
     private void formatStyle(final FontWeight fw, final FontPosture fp, final double size, final String name, final String variableName) {
         final var finalFW = fw == null ? FontWeight.NORMAL : fw;
         final var finalFP = fp == null ? FontPosture.REGULAR : fp;
-        sb.append(getStartFont()).append(variableName).append(" = new javafx.scene.text.Font(\"").append(name)
-                .append("\", javafx.scene.text.FontWeight.").append(finalFW.name()).append(", javafx.scene.text.FontPosture.")
-                .append(finalFP.name()).append(", ").append(size).append(");\n");
+        formatConstantFont("new javafx.scene.text.Font(\"" + name + "\", javafx.scene.text.FontWeight." + finalFW.name() +
+                ", javafx.scene.text.FontPosture." + finalFP.name() + ", " + size + ")", variableName);
+    }
+
+    private void formatConstantFont(final String expression, final String variableName) {
+        final var constant = helperProvider.getHelperMethodsFormatter().formatConstant("javafx.scene.text.Font", expression);
+        sb.append(getStartFont()).append(variableName).append(" = ").append(constant).append(";\n");
     }
 
     private static FontValue parseFontValue(final ParsedObject parsedObject) throws GenerationException {
@@ -14,10 +14,35 @@ final class GenerationCompatibilityHelper {
 
     private final HelperProvider helperProvider;
     private final GenerationCompatibility compatibility;
+    private final boolean explicitTypes;
 
     GenerationCompatibilityHelper(final HelperProvider helperProvider, final GenerationCompatibility compatibility) {
+        this(helperProvider, compatibility, false);
+    }
+
+    /**
+     * Instantiates a new helper
+     *
+     * @param helperProvider The helper provider
+     * @param compatibility  The compatibility
+     * @param explicitTypes  True if variables must always be declared with their type (e.g. to be promoted to fields
+     *                       when the load method is split), even if var is available
+     * @throws NullPointerException if any parameter is null
+     */
+    GenerationCompatibilityHelper(final HelperProvider helperProvider, final GenerationCompatibility compatibility,
+                                  final boolean explicitTypes) {
         this.helperProvider = Objects.requireNonNull(helperProvider);
         this.compatibility = Objects.requireNonNull(compatibility);
+        this.explicitTypes = explicitTypes;
+    }
+
+    /**
+     * Returns whether variables are declared with var
+     *
+     * @return True if var is used
+     */
+    boolean useVar() {
+        return compatibility.useVar() && !explicitTypes;
     }
 
     String getStartVar(final ParsedObject parsedObject) throws GenerationException {
@@ -29,7 +54,7 @@ final class GenerationCompatibilityHelper {
     }
 
     String getStartVar(final String className, final int indent) {
-        if (compatibility.useVar()) {
+        if (useVar()) {
             return " ".repeat(indent) + "final var ";
         } else {
             return " ".repeat(indent) + "final " + className + " ";
@@ -44,6 +69,15 @@ final class GenerationCompatibilityHelper {
         };
     }
 
+    /**
+     * Returns whether InputStream.readAllBytes() is available
+     *
+     * @return True if readAllBytes() is used
+     */
+    boolean useReadAllBytes() {
+        return compatibility.useReadAllBytes();
+    }
+
     String getGetFirst() {
         if (compatibility.useGetFirst()) {
             return ".getFirst()";
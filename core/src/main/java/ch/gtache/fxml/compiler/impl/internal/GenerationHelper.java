@@ -1,11 +1,13 @@
 package ch.gtache.fxml.compiler.impl.internal;
 
+import ch.gtache.fxml.compiler.ControllerFieldInjectionType;
 import ch.gtache.fxml.compiler.impl.GeneratorImpl;
 import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import ch.gtache.fxml.compiler.parsing.ParsedProperty;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Various helper methods for {@link GeneratorImpl}
@@ -14,8 +16,10 @@ final class GenerationHelper {
 
     static final String INDENT_8 = "        ";
     static final String FX_ID = "fx:id";
+    static final String FIELDS_CLASS = "Fields";
     static final String FX_VALUE = "fx:value";
     static final String VALUE = "value";
+    static final String STYLE_PROPERTY = "style";
 
     //Taken from FXMLLoader
     static final String ESCAPE_PREFIX = "\\";
@@ -25,6 +29,26 @@ final class GenerationHelper {
     static final String BINDING_EXPRESSION_PREFIX = "${";
     static final String BIDIRECTIONAL_BINDING_PREFIX = "#{";
 
+    /**
+     * Classes whose instances are immutable and can therefore be shared between views
+     */
+    static final Set<String> IMMUTABLE_CLASSES = Set.of(
+            "javafx.geometry.Dimension2D",
+            "javafx.geometry.Insets",
+            "javafx.geometry.Point2D",
+            "javafx.geometry.Point3D",
+            "javafx.geometry.Rectangle2D",
+            "javafx.scene.layout.BorderWidths",
+            "javafx.scene.layout.CornerRadii",
+            "javafx.scene.paint.Color",
+            "javafx.scene.paint.LinearGradient",
+            "javafx.scene.paint.Paint",
+            "javafx.scene.paint.RadialGradient",
+            "javafx.scene.paint.Stop",
+            "javafx.scene.text.Font",
+            "javafx.util.Duration"
+    );
+
     private GenerationHelper() {
 
     }
@@ -122,4 +146,14 @@ final class GenerationHelper {
     static List<ParsedProperty> getSortedAttributes(final ParsedObject parsedObject) {
         return parsedObject.attributes().entrySet().stream().sorted(Map.Entry.comparingByKey()).map(Map.Entry::getValue).toList();
     }
+
+    /**
+     * Checks if the given field injection creates the controller with a factory once the fields are known
+     *
+     * @param fieldInjectionType The field injection type
+     * @return True if the injection type is FACTORY or TYPED_FACTORY
+     */
+    static boolean isFactory(final ControllerFieldInjectionType fieldInjectionType) {
+        return fieldInjectionType == ControllerFieldInjectionType.FACTORY || fieldInjectionType == ControllerFieldInjectionType.TYPED_FACTORY;
+    }
 }
@@ -12,33 +12,52 @@ import java.util.SequencedCollection;
  *
  * @param request                     The generation request
  * @param controllerFactoryPostAction The controller factory post action for factory injection
+ * @param includeLoads                The code creating the included views and their load tasks, placed at the start
+ *                                    of the load method when the load method is asynchronous
  * @param stringBuilder               The string builder
+ * @param useResources                True if the generated code may read data from resources written next to it
  */
 public record GenerationProgress(GenerationRequest request,
                                  SequencedCollection<String> controllerFactoryPostAction,
-                                 StringBuilder stringBuilder) {
+                                 SequencedCollection<String> includeLoads,
+                                 StringBuilder stringBuilder,
+                                 boolean useResources) {
 
     /**
      * Instantiates a new GenerationProgress
      *
      * @param request                     The generation request
      * @param controllerFactoryPostAction The controller factory post action
+     * @param includeLoads                The included views load code
      * @param stringBuilder               The string builder
+     * @param useResources                True if the generated code may use resources
      * @throws NullPointerException if any parameter is null
      */
     public GenerationProgress {
         Objects.requireNonNull(request);
         Objects.requireNonNull(controllerFactoryPostAction);
+        Objects.requireNonNull(includeLoads);
         Objects.requireNonNull(stringBuilder);
     }
 
     /**
      * Instantiates a new GenerationProgress
      *
+     * @param request      The generation request
+     * @param useResources True if the generated code may use resources
+     * @throws NullPointerException if request is null
+     */
+    public GenerationProgress(final GenerationRequest request, final boolean useResources) {
+        this(request, new ArrayList<>(), new ArrayList<>(), new StringBuilder(), useResources);
+    }
+
+    /**
+     * Instantiates a new GenerationProgress whose generated code doesn't use resources
+     *
      * @param request The generation request
      * @throws NullPointerException if request is null
      */
     public GenerationProgress(final GenerationRequest request) {
-        this(request, new ArrayList<>(), new StringBuilder());
+        this(request, false);
     }
 }
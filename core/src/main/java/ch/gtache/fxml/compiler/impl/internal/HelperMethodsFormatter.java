@@ -3,59 +3,197 @@ package ch.gtache.fxml.compiler.impl.internal;
 import ch.gtache.fxml.compiler.ControllerFieldInjectionType;
 import ch.gtache.fxml.compiler.ControllerMethodsInjectionType;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
- * Formats the helper methods for the generated code
+ * Formats the helper methods for the generated code.
+ * With {@link ControllerMethodsInjectionType#REFLECTION}, the controller methods are looked up on first use and cached
+ * by the generated view, so that events don't pay for a reflective lookup each time.
+ * With {@link ControllerMethodsInjectionType#DISPATCH}, the event handlers are instances of a single generated class
+ * dispatching to the controller method using an id, and a controller method used by multiple nodes shares the same
+ * instance (see {@link #formatEventHandler(String, boolean)}). The unchecked casts of the handlers and of the events are
+ * only made (and their warnings suppressed) inside the dispatching methods, not at each use.
+ * With {@link ControllerFieldInjectionType#REFLECTION}, the controller fields are looked up once per controller class
+ * and cached in a static {@link ClassValue} shared by all the instances of the generated view.
+ * The resources that are expensive to load (images, fonts, resource bundles) are cached in a static map of soft
+ * references shared by all the instances of the generated view (see {@link #formatCachedResource(String, String)}).
+ * The URLs known at build time are resolved once in static constants of a nested class, which is only initialized when
+ * one of them is first used (see {@link #formatResourceURL(String)}).
+ * Likewise, the immutable values created from literals are shared in static constants (see
+ * {@link #formatConstant(String, String)}), except for the large arrays which are stored in resources written next to
+ * the generated view and read when first used (see {@link #formatResourceArray(float[])}), as the static initializer
+ * of a class is limited to 64KB of bytecode.
  */
 public final class HelperMethodsFormatter {
 
+    private static final String URLS_CLASS = "ResourceURLs";
+    private static final String CONSTANTS_CLASS = "Constants";
+    private static final String ARRAYS_CLASS = "ResourceArrays";
+    private static final String FLOAT_ARRAY = "float[]";
+    private static final String INT_ARRAY = "int[]";
+
     private final HelperProvider helperProvider;
     private final ControllerFieldInjectionType fieldInjectionType;
     private final ControllerMethodsInjectionType methodInjectionType;
+    private final String className;
+    private final boolean useResources;
     private final StringBuilder sb;
+    private final Map<String, String> staticURLs;
+    private final Map<StaticConstant, String> constants;
+    private final Map<ResourceArray, String> resourceArrays;
+    private final Map<String, DispatchedHandler> eventHandlers;
+    private boolean resourceCacheUsed;
+    private boolean absoluteURLUsed;
 
     HelperMethodsFormatter(final HelperProvider helperProvider, final ControllerFieldInjectionType fieldInjectionType,
-                           final ControllerMethodsInjectionType methodInjectionType, final StringBuilder sb) {
+                           final ControllerMethodsInjectionType methodInjectionType, final String className,
+                           final boolean useResources, final StringBuilder sb) {
         this.helperProvider = Objects.requireNonNull(helperProvider);
         this.fieldInjectionType = Objects.requireNonNull(fieldInjectionType);
         this.methodInjectionType = Objects.requireNonNull(methodInjectionType);
+        this.className = Objects.requireNonNull(className);
+        this.useResources = useResources;
         this.sb = Objects.requireNonNull(sb);
+        this.staticURLs = new LinkedHashMap<>();
+        this.constants = new LinkedHashMap<>();
+        this.resourceArrays = new LinkedHashMap<>();
+        this.eventHandlers = new LinkedHashMap<>();
+    }
+
+    /**
+     * Formats a call returning the event handler calling the given controller method
+     *
+     * @param controllerMethod The controller method
+     * @param hasArgument      True if the method takes the event as argument
+     * @return The call
+     */
+    String formatEventHandler(final String controllerMethod, final boolean hasArgument) {
+        final var handler = eventHandlers.computeIfAbsent(controllerMethod, k -> new DispatchedHandler(eventHandlers.size(), hasArgument));
+        return "eventHandler(" + handler.id() + ")";
+    }
+
+    /**
+     * Formats a reference to a static constant containing the given value. Equal values share the same constant.
+     *
+     * @param type       The type of the value
+     * @param expression The expression creating the value (must be immutable and only depend on literals)
+     * @return The reference
+     */
+    String formatConstant(final String type, final String expression) {
+        return CONSTANTS_CLASS + "." + constants.computeIfAbsent(new StaticConstant(type, expression), k -> "VALUE" + constants.size());
+    }
+
+    /**
+     * Returns whether the generated code may read data from resources (see {@link #formatResourceArray(float[])})
+     *
+     * @return True if resources can be used
+     */
+    boolean useResources() {
+        return useResources;
+    }
+
+    /**
+     * Formats a reference to a static constant containing the given array, read from a resource when first used.
+     * Equal arrays share the same constant
+     *
+     * @param array The array (must not be modified)
+     * @return The reference
+     */
+    String formatResourceArray(final float[] array) {
+        final var buffer = ByteBuffer.allocate(array.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(array);
+        return formatResourceArray(new ResourceArray(FLOAT_ARRAY, array.length, buffer));
+    }
+
+    /**
+     * Formats a reference to a static constant containing the given array, read from a resource when first used.
+     * Equal arrays share the same constant
+     *
+     * @param array The array (must not be modified)
+     * @return The reference
+     */
+    String formatResourceArray(final int[] array) {
+        final var buffer = ByteBuffer.allocate(array.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(array);
+        return formatResourceArray(new ResourceArray(INT_ARRAY, array.length, buffer));
+    }
+
+    private String formatResourceArray(final ResourceArray array) {
+        return ARRAYS_CLASS + "." + resourceArrays.computeIfAbsent(array, k -> "ARRAY" + resourceArrays.size());
+    }
+
+    /**
+     * Returns the resources read by the generated code
+     *
+     * @return The mapping of resource name (relative to the generated view) to content
+     */
+    public Map<String, byte[]> resources() {
+        final var resources = new LinkedHashMap<String, byte[]>();
+        resourceArrays.forEach((array, name) -> resources.put(getResourceName(name), array.data().array()));
+        return resources;
+    }
+
+    private String getResourceName(final String arrayName) {
+        return className + "-" + arrayName.toLowerCase() + ".bin";
+    }
+
+    /**
+     * Formats a reference to a static constant containing the URL of the given resource (relative to the generated view)
+     *
+     * @param name The resource name, as given to {@link Class#getResource(String)}
+     * @return The reference
+     */
+    String formatResourceURL(final String name) {
+        return formatStaticURL(URLS_CLASS + ".class.getResource(\"" + name + "\")");
+    }
+
+    /**
+     * Formats a reference to a static constant containing the given absolute URL
+     *
+     * @param url The URL (must be valid)
+     * @return The reference
+     */
+    String formatAbsoluteURL(final String url) {
+        absoluteURLUsed = true;
+        return formatStaticURL("toURL(\"" + url + "\")");
+    }
+
+    private String formatStaticURL(final String initializer) {
+        return URLS_CLASS + "." + staticURLs.computeIfAbsent(initializer, k -> "URL" + staticURLs.size());
+    }
+
+    /**
+     * Formats a call returning a cached resource, loading it if it isn't cached
+     *
+     * @param key    The expression of the cache key (must identify the resource and all its loading parameters)
+     * @param loader The expression of the supplier loading the resource
+     * @return The call
+     */
+    String formatCachedResource(final String key, final String loader) {
+        resourceCacheUsed = true;
+        return "getCachedResource(" + key + ", " + loader + ")";
     }
 
     /**
      * Formats the helper methods
      */
     public void formatHelperMethods() {
+        final var start = sb.length();
         final var compatibilityHelper = helperProvider.getCompatibilityHelper();
         if (methodInjectionType == ControllerMethodsInjectionType.REFLECTION) {
             final var toList = compatibilityHelper.getToList();
             final var getFirst = compatibilityHelper.getGetFirst();
             final var startVariableMethodList = compatibilityHelper.getStartVar("java.util.List<java.lang.reflect.Method>", 0);
+            sb.append("    private final java.util.Map<String, java.lang.reflect.Method> eventHandlerMethods = new java.util.HashMap<>();\n");
+            sb.append("    private final java.util.Map<String, java.lang.reflect.Method> callbackMethods = new java.util.HashMap<>();\n");
+            sb.append("\n");
             sb.append("    private <T extends javafx.event.Event> void callEventHandlerMethod(final String methodName, final T event) {\n");
             sb.append("        try {\n");
-            sb.append("            final java.lang.reflect.Method method;\n");
-            sb.append("            ").append(startVariableMethodList).append("methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())\n");
-            sb.append("                    .filter(m -> m.getName().equals(methodName))").append(toList).append(";\n");
-            sb.append("            if (methods.size() > 1) {\n");
-            sb.append("                ").append(startVariableMethodList).append("eventMethods = methods.stream().filter(m ->\n");
-            sb.append("                        m.getParameterCount() == 1 && javafx.event.Event.class.isAssignableFrom(m.getParameterTypes()[0]))").append(toList).append(";\n");
-            sb.append("                if (eventMethods.size() == 1) {\n");
-            sb.append("                    method = eventMethods").append(getFirst).append(";\n");
-            sb.append("                } else {\n");
-            sb.append("                    ").append(startVariableMethodList).append("emptyMethods = methods.stream().filter(m -> m.getParameterCount() == 0)").append(toList).append(";\n");
-            sb.append("                    if (emptyMethods.size() == 1) {\n");
-            sb.append("                        method = emptyMethods").append(getFirst).append(";\n");
-            sb.append("                    } else {\n");
-            sb.append("                        throw new IllegalArgumentException(\"Multiple matching methods for \" + methodName);\n");
-            sb.append("                    }\n");
-            sb.append("                }\n");
-            sb.append("            } else if (methods.size() == 1) {\n");
-            sb.append("                method = methods").append(getFirst).append(";\n");
-            sb.append("            } else {\n");
-            sb.append("                throw new IllegalArgumentException(\"No matching method for \" + methodName);\n");
-            sb.append("            }\n");
-            sb.append("            method.setAccessible(true);\n");
+            sb.append("            final java.lang.reflect.Method method = eventHandlerMethods.computeIfAbsent(methodName, this::findEventHandlerMethod);\n");
             sb.append("            if (method.getParameterCount() == 0) {\n");
             sb.append("                method.invoke(controller);\n");
             sb.append("            } else {\n");
@@ -66,41 +204,275 @@ public final class HelperMethodsFormatter {
             sb.append("        }\n");
             sb.append("    }\n");
             sb.append("\n");
-            sb.append("    private <T, U> U callCallbackMethod(final String methodName, final T value, final Class<T> clazz) {\n");
-            sb.append("        try {\n");
-            sb.append("            final java.lang.reflect.Method method;\n");
-            sb.append("            ").append(startVariableMethodList).append("methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())\n");
-            sb.append("                    .filter(m -> m.getName().equals(methodName))").append(toList).append(";\n");
-            sb.append("            if (methods.size() > 1) {\n");
-            sb.append("                ").append(startVariableMethodList).append("eventMethods = methods.stream().filter(m ->\n");
-            sb.append("                        m.getParameterCount() == 2 && clazz.isAssignableFrom(m.getParameterTypes()[1]))").append(toList).append(";\n");
-            sb.append("                if (eventMethods.size() == 1) {\n");
-            sb.append("                    method = eventMethods").append(getFirst).append(";\n");
+            sb.append("    private java.lang.reflect.Method findEventHandlerMethod(final String methodName) {\n");
+            sb.append("        final java.lang.reflect.Method method;\n");
+            sb.append("        ").append(startVariableMethodList).append("methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())\n");
+            sb.append("                .filter(m -> m.getName().equals(methodName))").append(toList).append(";\n");
+            sb.append("        if (methods.size() > 1) {\n");
+            sb.append("            ").append(startVariableMethodList).append("eventMethods = methods.stream().filter(m ->\n");
+            sb.append("                    m.getParameterCount() == 1 && javafx.event.Event.class.isAssignableFrom(m.getParameterTypes()[0]))").append(toList).append(";\n");
+            sb.append("            if (eventMethods.size() == 1) {\n");
+            sb.append("                method = eventMethods").append(getFirst).append(";\n");
+            sb.append("            } else {\n");
+            sb.append("                ").append(startVariableMethodList).append("emptyMethods = methods.stream().filter(m -> m.getParameterCount() == 0)").append(toList).append(";\n");
+            sb.append("                if (emptyMethods.size() == 1) {\n");
+            sb.append("                    method = emptyMethods").append(getFirst).append(";\n");
             sb.append("                } else {\n");
             sb.append("                    throw new IllegalArgumentException(\"Multiple matching methods for \" + methodName);\n");
             sb.append("                }\n");
-            sb.append("            } else if (methods.size() == 1) {\n");
-            sb.append("                method = methods").append(getFirst).append(";\n");
-            sb.append("            } else {\n");
-            sb.append("                throw new IllegalArgumentException(\"No matching method for \" + methodName);\n");
             sb.append("            }\n");
-            sb.append("            method.setAccessible(true);\n");
+            sb.append("        } else if (methods.size() == 1) {\n");
+            sb.append("            method = methods").append(getFirst).append(";\n");
+            sb.append("        } else {\n");
+            sb.append("            throw new IllegalArgumentException(\"No matching method for \" + methodName);\n");
+            sb.append("        }\n");
+            sb.append("        method.setAccessible(true);\n");
+            sb.append("        return method;\n");
+            sb.append("    }\n");
+            sb.append("\n");
+            sb.append("    private <T, U> U callCallbackMethod(final String methodName, final T value, final Class<T> clazz) {\n");
+            sb.append("        try {\n");
+            sb.append("            final java.lang.reflect.Method method = callbackMethods.computeIfAbsent(clazz.getName() + '#' + methodName, k -> findCallbackMethod(methodName, clazz));\n");
             sb.append("            return (U) method.invoke(controller, value);\n");
             sb.append("        } catch (final IllegalAccessException | java.lang.reflect.InvocationTargetException ex) {\n");
             sb.append("            throw new RuntimeException(\"Error using reflection on \" + methodName, ex);\n");
             sb.append("        }\n");
             sb.append("    }\n");
+            sb.append("\n");
+            sb.append("    private <T> java.lang.reflect.Method findCallbackMethod(final String methodName, final Class<T> clazz) {\n");
+            sb.append("        final java.lang.reflect.Method method;\n");
+            sb.append("        ").append(startVariableMethodList).append("methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())\n");
+            sb.append("                .filter(m -> m.getName().equals(methodName))").append(toList).append(";\n");
+            sb.append("        if (methods.size() > 1) {\n");
+            sb.append("            ").append(startVariableMethodList).append("eventMethods = methods.stream().filter(m ->\n");
+            sb.append("                    m.getParameterCount() == 2 && clazz.isAssignableFrom(m.getParameterTypes()[1]))").append(toList).append(";\n");
+            sb.append("            if (eventMethods.size() == 1) {\n");
+            sb.append("                method = eventMethods").append(getFirst).append(";\n");
+            sb.append("            } else {\n");
+            sb.append("                throw new IllegalArgumentException(\"Multiple matching methods for \" + methodName);\n");
+            sb.append("            }\n");
+            sb.append("        } else if (methods.size() == 1) {\n");
+            sb.append("            method = methods").append(getFirst).append(";\n");
+            sb.append("        } else {\n");
+            sb.append("            throw new IllegalArgumentException(\"No matching method for \" + methodName);\n");
+            sb.append("        }\n");
+            sb.append("        method.setAccessible(true);\n");
+            sb.append("        return method;\n");
+            sb.append("    }\n");
+        }
+        if (!eventHandlers.isEmpty()) {
+            if (sb.length() > start) {
+                sb.append("\n");
+            }
+            formatEventHandlers();
         }
         if (fieldInjectionType == ControllerFieldInjectionType.REFLECTION) {
+            sb.append("    private static final ClassValue<java.util.Map<String, java.lang.reflect.Field>> CONTROLLER_FIELDS = new ClassValue<java.util.Map<String, java.lang.reflect.Field>>() {\n");
+            sb.append("        @Override\n");
+            sb.append("        protected java.util.Map<String, java.lang.reflect.Field> computeValue(final Class<?> type) {\n");
+            sb.append("            return new java.util.concurrent.ConcurrentHashMap<>();\n");
+            sb.append("        }\n");
+            sb.append("    };\n");
+            sb.append("\n");
+            sb.append("    private java.lang.reflect.Field getControllerField(final String fieldName) {\n");
+            sb.append("        final Class<?> controllerClass = controller.getClass();\n");
+            sb.append("        return CONTROLLER_FIELDS.get(controllerClass).computeIfAbsent(fieldName, n -> {\n");
+            sb.append("            try {\n");
+            sb.append("                ").append(compatibilityHelper.getStartVar("java.lang.reflect.Field", 0)).append("field = controllerClass.getDeclaredField(n);\n");
+            sb.append("                field.setAccessible(true);\n");
+            sb.append("                return field;\n");
+            sb.append("            } catch (final NoSuchFieldException e) {\n");
+            sb.append("                throw new RuntimeException(\"Error using reflection on \" + n, e);\n");
+            sb.append("            }\n");
+            sb.append("        });\n");
+            sb.append("    }\n");
+            sb.append("\n");
             sb.append("    private <T> void injectField(final String fieldName, final T object) {\n");
             sb.append("        try {\n");
-            sb.append("            ").append(compatibilityHelper.getStartVar("java.lang.reflect.Field", 0)).append("field = controller.getClass().getDeclaredField(fieldName);\n");
-            sb.append("            field.setAccessible(true);\n");
-            sb.append("            field.set(controller, object);\n");
-            sb.append("        } catch (final NoSuchFieldException | IllegalAccessException e) {\n");
+            sb.append("            getControllerField(fieldName).set(controller, object);\n");
+            sb.append("        } catch (final IllegalAccessException e) {\n");
             sb.append("            throw new RuntimeException(\"Error using reflection on \" + fieldName, e);\n");
             sb.append("        }\n");
             sb.append("    }\n");
         }
+        if (resourceCacheUsed) {
+            if (sb.length() > start) {
+                sb.append("\n");
+            }
+            sb.append("    private static final java.util.Map<String, java.lang.ref.SoftReference<Object>> RESOURCE_CACHE = new java.util.concurrent.ConcurrentHashMap<>();\n");
+            sb.append("\n");
+            sb.append("    private static <T> T getCachedResource(final String key, final java.util.function.Supplier<T> loader) {\n");
+            sb.append("        final java.lang.ref.SoftReference<Object> reference = RESOURCE_CACHE.get(key);\n");
+            sb.append("        final Object cached = reference == null ? null : reference.get();\n");
+            sb.append("        if (cached == null) {\n");
+            sb.append("            final T resource = loader.get();\n");
+            sb.append("            RESOURCE_CACHE.put(key, new java.lang.ref.SoftReference<>(resource));\n");
+            sb.append("            return resource;\n");
+            sb.append("        } else {\n");
+            sb.append("            return (T) cached;\n");
+            sb.append("        }\n");
+            sb.append("    }\n");
+        }
+        if (!staticURLs.isEmpty()) {
+            if (sb.length() > start) {
+                sb.append("\n");
+            }
+            formatStaticURLs();
+        }
+        if (!constants.isEmpty()) {
+            if (sb.length() > start) {
+                sb.append("\n");
+            }
+            formatConstants();
+        }
+        if (!resourceArrays.isEmpty()) {
+            if (sb.length() > start) {
+                sb.append("\n");
+            }
+            formatResourceArrays();
+        }
+    }
+
+    private void formatEventHandlers() {
+        sb.append("    private final javafx.event.EventHandler<?>[] eventHandlers = new javafx.event.EventHandler<?>[").append(eventHandlers.size()).append("];\n");
+        sb.append("\n");
+        sb.append("    private <T extends javafx.event.Event> javafx.event.EventHandler<T> eventHandler(final int id) {\n");
+        sb.append("        if (eventHandlers[id] == null) {\n");
+        sb.append("            eventHandlers[id] = new EventHandlerDispatcher(id);\n");
+        sb.append("        }\n");
+        sb.append("        @SuppressWarnings(\"unchecked\")\n");
+        sb.append("        final javafx.event.EventHandler<T> handler = (javafx.event.EventHandler<T>) eventHandlers[id];\n");
+        sb.append("        return handler;\n");
+        sb.append("    }\n");
+        sb.append("\n");
+        sb.append("    @SuppressWarnings(\"unchecked\")\n");
+        sb.append("    private static <T extends javafx.event.Event> T castEvent(final javafx.event.Event event) {\n");
+        sb.append("        return (T) event;\n");
+        sb.append("    }\n");
+        sb.append("\n");
+        sb.append("    private final class EventHandlerDispatcher implements javafx.event.EventHandler<javafx.event.Event> {\n");
+        sb.append("\n");
+        sb.append("        private final int id;\n");
+        sb.append("\n");
+        sb.append("        private EventHandlerDispatcher(final int id) {\n");
+        sb.append("            this.id = id;\n");
+        sb.append("        }\n");
+        sb.append("\n");
+        sb.append("        @Override\n");
+        sb.append("        public void handle(final javafx.event.Event event) {\n");
+        sb.append("            switch (id) {\n");
+        eventHandlers.forEach((method, handler) -> {
+            sb.append("                case ").append(handler.id()).append(":\n");
+            sb.append("                    controller.").append(method).append(handler.hasArgument() ? "(castEvent(event));\n" : "();\n");
+            sb.append("                    break;\n");
+        });
+        sb.append("                default:\n");
+        sb.append("                    throw new IllegalArgumentException(\"Unknown event handler : \" + id);\n");
+        sb.append("            }\n");
+        sb.append("        }\n");
+        sb.append("    }\n");
+    }
+
+    private void formatStaticURLs() {
+        sb.append("    private static final class ").append(URLS_CLASS).append(" {\n");
+        sb.append("\n");
+        staticURLs.forEach((initializer, name) -> sb.append("        static final java.net.URL ").append(name).append(" = ").append(initializer).append(";\n"));
+        if (absoluteURLUsed) {
+            sb.append("\n");
+            sb.append("        private static java.net.URL toURL(final String url) {\n");
+            sb.append("            try {\n");
+            sb.append("                return new java.net.URI(url).toURL();\n");
+            sb.append("            } catch (final java.net.MalformedURLException | java.net.URISyntaxException e) {\n");
+            sb.append("                throw new RuntimeException(\"Couldn't parse url : \" + url, e);\n");
+            sb.append("            }\n");
+            sb.append("        }\n");
+        }
+        sb.append("    }\n");
+    }
+
+    private void formatConstants() {
+        sb.append("    private static final class ").append(CONSTANTS_CLASS).append(" {\n");
+        sb.append("\n");
+        constants.forEach((constant, name) -> sb.append("        static final ").append(constant.type()).append(" ").append(name)
+                .append(" = ").append(constant.expression()).append(";\n"));
+        sb.append("    }\n");
+    }
+
+    private void formatResourceArrays() {
+        sb.append("    private static final class ").append(ARRAYS_CLASS).append(" {\n");
+        sb.append("\n");
+        resourceArrays.forEach((array, name) -> sb.append("        static final ").append(array.type()).append(" ").append(name)
+                .append(" = ").append(FLOAT_ARRAY.equals(array.type()) ? "readFloats" : "readInts").append("(\"")
+                .append(getResourceName(name)).append("\", ").append(array.length()).append(");\n"));
+        sb.append("\n");
+        final var useReadAllBytes = helperProvider.getCompatibilityHelper().useReadAllBytes();
+        sb.append("        private static java.nio.ByteBuffer read(final String name) {\n");
+        sb.append("            try (final java.io.InputStream in = ").append(ARRAYS_CLASS).append(".class.getResourceAsStream(name)) {\n");
+        sb.append("                if (in == null) {\n");
+        sb.append("                    throw new IllegalStateException(\"Missing resource : \" + name);\n");
+        sb.append("                }\n");
+        sb.append("                return java.nio.ByteBuffer.wrap(").append(useReadAllBytes ? "in.readAllBytes()" : "readAllBytes(in)")
+                .append(").order(java.nio.ByteOrder.LITTLE_ENDIAN);\n");
+        sb.append("            } catch (final java.io.IOException e) {\n");
+        sb.append("                throw new java.io.UncheckedIOException(\"Error reading resource : \" + name, e);\n");
+        sb.append("            }\n");
+        sb.append("        }\n");
+        if (!useReadAllBytes) {
+            sb.append("\n");
+            sb.append("        private static byte[] readAllBytes(final java.io.InputStream in) throws java.io.IOException {\n");
+            sb.append("            final java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();\n");
+            sb.append("            final byte[] buffer = new byte[8192];\n");
+            sb.append("            int read;\n");
+            sb.append("            while ((read = in.read(buffer)) != -1) {\n");
+            sb.append("                out.write(buffer, 0, read);\n");
+            sb.append("            }\n");
+            sb.append("            return out.toByteArray();\n");
+            sb.append("        }\n");
+        }
+        final var types = resourceArrays.keySet().stream().map(ResourceArray::type).distinct().toList();
+        if (types.contains(FLOAT_ARRAY)) {
+            formatReadArray("readFloats", "float", "asFloatBuffer");
+        }
+        if (types.contains(INT_ARRAY)) {
+            formatReadArray("readInts", "int", "asIntBuffer");
+        }
+        sb.append("    }\n");
+    }
+
+    private void formatReadArray(final String methodName, final String type, final String bufferMethod) {
+        sb.append("\n");
+        sb.append("        private static ").append(type).append("[] ").append(methodName).append("(final String name, final int length) {\n");
+        sb.append("            final ").append(type).append("[] array = new ").append(type).append("[length];\n");
+        sb.append("            read(name).").append(bufferMethod).append("().get(array);\n");
+        sb.append("            return array;\n");
+        sb.append("        }\n");
+    }
+
+    /**
+     * An array stored in a resource
+     *
+     * @param type   The type of the array
+     * @param length The length of the array
+     * @param data   The content of the resource, in little-endian order (compared by content)
+     */
+    private record ResourceArray(String type, int length, ByteBuffer data) {
+    }
+
+    /**
+     * A static constant
+     *
+     * @param type       The type
+     * @param expression The expression creating the value
+     */
+    private record StaticConstant(String type, String expression) {
+    }
+
+    /**
+     * An event handler called by the dispatcher
+     *
+     * @param id          The id of the handler
+     * @param hasArgument True if the controller method takes the event as argument
+     */
+    private record DispatchedHandler(int id, boolean hasArgument) {
     }
 }
@@ -40,7 +40,7 @@ public class HelperProvider {
             final var methodInjectionType = parameters.methodInjectionType();
             final var sb = progress.stringBuilder();
             final var controllerFactoryPostAction = progress.controllerFactoryPostAction();
-            return new ControllerInjector(controllerInfo, fieldInjectionType, methodInjectionType, sb, controllerFactoryPostAction);
+            return new ControllerInjector(this, controllerInfo, fieldInjectionType, methodInjectionType, sb, controllerFactoryPostAction);
         });
     }
 
@@ -70,8 +70,8 @@ public class HelperProvider {
 
     GenerationCompatibilityHelper getCompatibilityHelper() {
         return (GenerationCompatibilityHelper) helpers.computeIfAbsent(GenerationCompatibilityHelper.class, c -> {
-            final var compatibility = progress.request().parameters().compatibility();
-            return new GenerationCompatibilityHelper(this, compatibility);
+            final var parameters = progress.request().parameters();
+            return new GenerationCompatibilityHelper(this, parameters.compatibility(), parameters.maxLoadMethodSize() > 0 || parameters.incrementalLoad());
         });
     }
 
@@ -80,8 +80,10 @@ public class HelperProvider {
             final var parameters = progress.request().parameters();
             final var fieldInjectionType = parameters.fieldInjectionType();
             final var methodInjectionType = parameters.methodInjectionType();
+            final var className = progress.request().outputClassName();
+            final var simpleClassName = className.substring(className.lastIndexOf('.') + 1);
             final var sb = progress.stringBuilder();
-            return new HelperMethodsFormatter(this, fieldInjectionType, methodInjectionType, sb);
+            return new HelperMethodsFormatter(this, fieldInjectionType, methodInjectionType, simpleClassName, progress.useResources(), sb);
         });
     }
 
@@ -105,11 +107,15 @@ public class HelperProvider {
         return (LoadMethodFormatter) helpers.computeIfAbsent(LoadMethodFormatter.class, c -> new LoadMethodFormatter(this, progress));
     }
 
+    public NamespaceFormatter getNamespaceFormatter() {
+        return (NamespaceFormatter) helpers.computeIfAbsent(NamespaceFormatter.class, c -> new NamespaceFormatter(this, progress.stringBuilder()));
+    }
+
     ObjectFormatter getObjectFormatter() {
         return (ObjectFormatter) helpers.computeIfAbsent(ObjectFormatter.class, c -> {
             final var request = progress.request();
             final var sb = progress.stringBuilder();
-            return new ObjectFormatter(this, request, sb);
+            return new ObjectFormatter(this, request, progress.includeLoads(), sb);
         });
     }
 
@@ -131,6 +137,10 @@ public class HelperProvider {
         });
     }
 
+    StyleFormatter getStyleFormatter() {
+        return (StyleFormatter) helpers.computeIfAbsent(StyleFormatter.class, c -> new StyleFormatter(this));
+    }
+
     TriangleMeshFormatter getTriangleMeshFormatter() {
         return (TriangleMeshFormatter) helpers.computeIfAbsent(TriangleMeshFormatter.class, c -> {
             final var sb = progress.stringBuilder();
@@ -66,13 +66,17 @@ final class ImageFormatter {
     private void formatInputStream(final String url, final double requestedWidth,
                                    final double requestedHeight, final boolean preserveRatio, final boolean smooth, final String variableName) {
         final var inputStream = helperProvider.getVariableProvider().getNextVariableName("inputStream");
-        sb.append("        final javafx.scene.image.Image ").append(variableName).append(";\n");
-        sb.append("        try (").append(helperProvider.getCompatibilityHelper().getStartVar("java.io.InputStream", 0)).append(inputStream).append(" = ").append(url).append(".openStream()) {\n");
-        sb.append("            ").append(variableName).append(" = new javafx.scene.image.Image(").append(inputStream);
-        sb.append(", ").append(requestedWidth).append(", ").append(requestedHeight).append(", ").append(preserveRatio).append(", ").append(smooth).append(");\n");
-        sb.append("        } catch (final java.io.IOException e) {\n");
-        sb.append("            throw new RuntimeException(e);\n");
-        sb.append("        }\n");
+        final var compatibilityHelper = helperProvider.getCompatibilityHelper();
+        final var parameters = requestedWidth + ", " + requestedHeight + ", " + preserveRatio + ", " + smooth;
+        final var loader = "() -> {\n" +
+                "            try (" + compatibilityHelper.getStartVar("java.io.InputStream", 0) + inputStream + " = " + url + ".openStream()) {\n" +
+                "                return new javafx.scene.image.Image(" + inputStream + ", " + parameters + ");\n" +
+                "            } catch (final java.io.IOException e) {\n" +
+                "                throw new RuntimeException(e);\n" +
+                "            }\n" +
+                "        }";
+        sb.append(compatibilityHelper.getStartVar("javafx.scene.image.Image")).append(variableName).append(" = ")
+                .append(formatCachedImage(url, parameters, loader)).append(";\n");
     }
 
     private void formatURL(final String url, final double requestedWidth,
@@ -80,9 +84,23 @@ final class ImageFormatter {
                            final boolean backgroundLoading, final String variableName) {
         final var urlString = helperProvider.getVariableProvider().getNextVariableName("urlStr");
         final var compatibilityHelper = helperProvider.getCompatibilityHelper();
+        final var parameters = requestedWidth + ", " + requestedHeight + ", " + preserveRatio + ", " + smooth + ", " + backgroundLoading;
+        final var loader = "() -> new javafx.scene.image.Image(" + urlString + ", " + parameters + ")";
         sb.append(compatibilityHelper.getStartVar("String")).append(urlString).append(" = ").append(url).append(".toString();\n");
-        sb.append(compatibilityHelper.getStartVar("javafx.scene.image.Image")).append(variableName).append(" = new javafx.scene.image.Image(").append(urlString)
-                .append(", ").append(requestedWidth).append(", ").append(requestedHeight).append(", ")
-                .append(preserveRatio).append(", ").append(smooth).append(", ").append(backgroundLoading).append(");\n");
+        sb.append(compatibilityHelper.getStartVar("javafx.scene.image.Image")).append(variableName).append(" = ")
+                .append(formatCachedImage(urlString, parameters, loader)).append(";\n");
+    }
+
+    /**
+     * Formats the retrieval of an image from the cache shared by the instances of the view
+     *
+     * @param url        The url expression
+     * @param parameters The image constructor parameters (apart from the url)
+     * @param loader     The loader expression
+     * @return The formatted expression
+     */
+    private String formatCachedImage(final String url, final String parameters, final String loader) {
+        final var key = "\"image:\" + " + url + " + \"|" + parameters.replace(", ", "|") + "\"";
+        return helperProvider.getHelperMethodsFormatter().formatCachedResource(key, loader);
     }
 }
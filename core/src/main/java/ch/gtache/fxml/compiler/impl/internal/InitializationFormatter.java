@@ -8,6 +8,7 @@ import ch.gtache.fxml.compiler.InjectionType;
 import ch.gtache.fxml.compiler.SourceInfo;
 import ch.gtache.fxml.compiler.parsing.ParsedInclude;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -62,17 +63,18 @@ public final class InitializationFormatter {
         fillControllers();
         final var sortedControllersKeys = controllerClassToVariable.keySet().stream().sorted().toList();
         final var controllerArg = getVariableName("controller", isFactory);
-        final var controllerArgClass = getType(mainControllerClass, controllerInjectionType, fieldInjectionType);
+        final var controllerArgClass = getType(mainControllerClass, className, controllerInjectionType, fieldInjectionType);
+        final var controllerTypes = getControllerTypes(sortedControllersKeys);
         final var resourceBundleInfo = getResourceBundleInfo();
         final var resourceBundleType = resourceBundleInfo.type();
         final var resourceBundleArg = resourceBundleInfo.variableName();
         if (isFactory) {
             sb.append("    private final ").append(controllerArgClass).append(" ").append(controllerArg).append(";\n");
-            sortedControllersKeys.forEach(e -> sb.append("    private final ").append(getType(e, controllerInjectionType, fieldInjectionType)).append(" ").append(controllerClassToVariable.get(e)).append("Factory").append(";\n"));
+            sortedControllersKeys.forEach(e -> sb.append("    private final ").append(controllerTypes.get(e)).append(" ").append(controllerClassToVariable.get(e)).append("Factory").append(";\n"));
             sb.append("    private ").append(mainControllerClass).append(" controller;\n");
         } else {
             sb.append("    private final ").append(mainControllerClass).append(" controller;\n");
-            sortedControllersKeys.forEach(e -> sb.append("    private final ").append(getType(e, controllerInjectionType, fieldInjectionType)).append(" ").append(controllerClassToVariable.get(e)).append(";\n"));
+            sortedControllersKeys.forEach(e -> sb.append("    private final ").append(controllerTypes.get(e)).append(" ").append(controllerClassToVariable.get(e)).append(";\n"));
         }
         if (resourceBundleType != null) {
             sb.append("    private final ").append(resourceBundleType).append(" ").append(resourceBundleArg).append(";\n");
@@ -91,7 +93,7 @@ public final class InitializationFormatter {
         sb.append("     */\n");
         final var arguments = "final " + controllerArgClass + " " + controllerArg +
                 ((sortedControllersKeys.isEmpty()) ? "" : ", ") +
-                sortedControllersKeys.stream().map(e -> "final " + getType(e, controllerInjectionType, fieldInjectionType) + " " + getVariableName(controllerClassToVariable.get(e), isFactory))
+                sortedControllersKeys.stream().map(e -> "final " + controllerTypes.get(e) + " " + getVariableName(controllerClassToVariable.get(e), isFactory))
                         .sorted().collect(Collectors.joining(", "))
                 + (resourceBundleType == null ? "" : ", final " + resourceBundleType + " " + resourceBundleArg);
         sb.append("    public ").append(simpleClassName).append("(").append(arguments).append(") {\n");
@@ -120,8 +122,45 @@ public final class InitializationFormatter {
     private record ResourceBundleInfo(String type, String variableName) {
     }
 
-    private static String getType(final String controllerClass, final InjectionType controllerInjectionTypes, final InjectionType fieldInjectionTypes) {
-        if (fieldInjectionTypes == ControllerFieldInjectionType.FACTORY) {
+    private Map<String, String> getControllerTypes(final Collection<String> controllerClasses) throws GenerationException {
+        final var parameters = request.parameters();
+        final var types = new HashMap<String, String>();
+        for (final var controllerClass : controllerClasses) {
+            final var viewClass = parameters.fieldInjectionType() == ControllerFieldInjectionType.TYPED_FACTORY ? getViewClass(controllerClass) : null;
+            types.put(controllerClass, getType(controllerClass, viewClass, parameters.controllerInjectionType(), parameters.fieldInjectionType()));
+        }
+        return types;
+    }
+
+    /**
+     * Returns the view class of the given subcontroller (with TYPED_FACTORY field injection, the factory takes the
+     * fields class of the view)
+     *
+     * @param controllerClass The controller class
+     * @return The view class
+     * @throws GenerationException if the controller is used by multiple views
+     */
+    private String getViewClass(final String controllerClass) throws GenerationException {
+        final var viewClasses = new HashSet<String>();
+        request.sourceInfo().includedSources().forEach(s -> fillViewClasses(s, controllerClass, viewClasses));
+        if (viewClasses.size() == 1) {
+            return viewClasses.iterator().next();
+        } else {
+            throw new GenerationException("Controller " + controllerClass + " is used by multiple views " + viewClasses + " ; TYPED_FACTORY field injection requires one view per controller");
+        }
+    }
+
+    private static void fillViewClasses(final SourceInfo info, final String controllerClass, final Set<? super String> viewClasses) {
+        if (info.controllerClassName().equals(controllerClass)) {
+            viewClasses.add(info.generatedClassName());
+        }
+        info.includedSources().forEach(s -> fillViewClasses(s, controllerClass, viewClasses));
+    }
+
+    private static String getType(final String controllerClass, final String viewClass, final InjectionType controllerInjectionTypes, final InjectionType fieldInjectionTypes) {
+        if (fieldInjectionTypes == ControllerFieldInjectionType.TYPED_FACTORY) {
+            return "java.util.function.Function<" + viewClass + "." + GenerationHelper.FIELDS_CLASS + ", " + controllerClass + ">";
+        } else if (fieldInjectionTypes == ControllerFieldInjectionType.FACTORY) {
             return "java.util.function.Function<java.util.Map<String, Object>, " + controllerClass + ">";
         } else if (controllerInjectionTypes == ControllerInjectionType.FACTORY) {
             return "java.util.function.Supplier<" + controllerClass + ">";
@@ -206,17 +245,29 @@ public final class InitializationFormatter {
                 }
                 case CONSTRUCTOR_FUNCTION -> {
                     final var bundleVariable = variableProvider.getNextVariableName(RESOURCE_BUNDLE);
-                    sb.append(compatibilityHelper.getStartVar(RESOURCE_BUNDLE_TYPE)).append(bundleVariable).append(" = java.util.ResourceBundle.getBundle(\"").append(include.resources()).append("\");\n");
+                    sb.append(compatibilityHelper.getStartVar(RESOURCE_BUNDLE_TYPE)).append(bundleVariable).append(" = ").append(formatGetBundle(include.resources())).append(";\n");
                     final var bundleFunctionVariable = variableProvider.getNextVariableName("resourceBundleFunction");
                     sb.append(compatibilityHelper.getStartVar("java.util.function.Function<String, String>")).append(bundleFunctionVariable).append(" = (java.util.function.Function<String, String>) s -> ").append(bundleVariable).append(".getString(s);\n");
                     yield bundleFunctionVariable;
                 }
                 case CONSTRUCTOR -> {
                     final var bundleVariable = variableProvider.getNextVariableName(RESOURCE_BUNDLE);
-                    sb.append(compatibilityHelper.getStartVar(RESOURCE_BUNDLE_TYPE)).append(bundleVariable).append(" = java.util.ResourceBundle.getBundle(\"").append(include.resources()).append("\");\n");
+                    sb.append(compatibilityHelper.getStartVar(RESOURCE_BUNDLE_TYPE)).append(bundleVariable).append(" = ").append(formatGetBundle(include.resources())).append(";\n");
                     yield bundleVariable;
                 }
             };
         }
     }
+
+    /**
+     * Formats the retrieval of a resource bundle from the cache shared by the instances of the view
+     *
+     * @param bundleName The bundle name
+     * @return The formatted expression
+     */
+    private String formatGetBundle(final String bundleName) {
+        final var key = "\"bundle:" + bundleName + "|\" + java.util.Locale.getDefault()";
+        final var loader = "() -> java.util.ResourceBundle.getBundle(\"" + bundleName + "\")";
+        return helperProvider.getHelperMethodsFormatter().formatCachedResource(key, loader);
+    }
 }
@@ -4,15 +4,28 @@ import ch.gtache.fxml.compiler.ControllerFieldInjectionType;
 import ch.gtache.fxml.compiler.ControllerInjectionType;
 import ch.gtache.fxml.compiler.ControllerMethodsInjectionType;
 import ch.gtache.fxml.compiler.GenerationException;
+import ch.gtache.fxml.compiler.GenerationParameters;
 import ch.gtache.fxml.compiler.ResourceBundleInjectionType;
 
+import java.util.SequencedCollection;
+import java.util.stream.Collectors;
+
 import static java.util.Objects.requireNonNull;
 
 /**
- * Formats the load method for the generated code
+ * Formats the load method for the generated code.
+ * With {@link GenerationParameters#asyncLoad()}, the included views and their load tasks are
+ * created at the start of the load method, and a loadAsync method runs the load method and the load tasks on an
+ * executor. A load task that hasn't been started when the include is reached is run on the current thread, so that the
+ * executor can't be starved.
+ * With {@link GenerationParameters#incrementalLoad()}, the load method is split into small
+ * parts, and a loadIncrementally method runs them on the JavaFX application thread, a few at a time, so that the pulses
+ * aren't blocked by the whole view construction.
  */
 public final class LoadMethodFormatter {
 
+    private static final int DEFAULT_INCREMENTAL_PART_SIZE = 1000;
+
     private final HelperProvider helperProvider;
     private final GenerationProgress progress;
 
@@ -34,15 +47,15 @@ public final class LoadMethodFormatter {
         final var fieldInjectionType = parameters.fieldInjectionType();
         final var controllerClass = progress.request().controllerInfo().className();
         final var sb = progress.stringBuilder();
+        final var methodStart = sb.length();
         sb.append("    /**\n");
         sb.append("     * Loads the view. Can only be called once.\n");
         sb.append("     *\n");
         sb.append("     * @return The view parent\n");
         sb.append("     */\n");
         sb.append("    public <T> T load() {\n");
-        sb.append("        if (loaded) {\n");
-        sb.append("            throw new IllegalStateException(\"Already loaded\");\n");
-        sb.append("        }\n");
+        formatLoadedCheck(sb, parameters.incrementalLoad());
+        final var bodyStart = sb.length();
         final var resourceBundleInjection = parameters.resourceInjectionType();
         final var generationCompatibilityHelper = helperProvider.getCompatibilityHelper();
         if (resourceBundleInjection == ResourceBundleInjectionType.CONSTRUCTOR_NAME) {
@@ -51,16 +64,24 @@ public final class LoadMethodFormatter {
             sb.append(generationCompatibilityHelper.getStartVar("java.util.ResourceBundle")).append("resourceBundle = java.util.ResourceBundle.getBundle(\"")
                     .append(parameters.bundleMap().get(controllerClass)).append("\");\n");
         }
-        if (fieldInjectionType == ControllerFieldInjectionType.FACTORY) {
-            sb.append(generationCompatibilityHelper.getStartVar("java.util.Map<String, Object>")).append("fieldMap = new java.util.HashMap<String, Object>();\n");
-        } else if (controllerInjectionType == ControllerInjectionType.FACTORY) {
+        //The field map is declared once the number of fields is known
+        final var fieldMapStart = sb.length();
+        if (!GenerationHelper.isFactory(fieldInjectionType) && controllerInjectionType == ControllerInjectionType.FACTORY) {
             sb.append("        controller = controllerFactory.get();\n");
         }
+        final var includesStart = sb.length();
         final var variableName = helperProvider.getVariableProvider().getNextVariableName(GenerationHelper.getVariablePrefix(rootObject));
         helperProvider.getObjectFormatter().format(rootObject, variableName);
+        sb.insert(includesStart, String.join("", progress.includeLoads()));
         if (fieldInjectionType == ControllerFieldInjectionType.FACTORY) {
+            final var capacity = getMapCapacity(helperProvider.getControllerInjector().injectedFields().size());
+            sb.insert(fieldMapStart, generationCompatibilityHelper.getStartVar("java.util.Map<String, Object>") + "fieldMap = new java.util.HashMap<String, Object>(" + capacity + ");\n");
             sb.append("        controller = controllerFactory.apply(fieldMap);\n");
             progress.controllerFactoryPostAction().forEach(sb::append);
+        } else if (fieldInjectionType == ControllerFieldInjectionType.TYPED_FACTORY) {
+            final var arguments = helperProvider.getControllerInjector().injectedFields().stream().map(ControllerInjector.InjectedField::variable).collect(Collectors.joining(", "));
+            sb.append("        controller = controllerFactory.apply(new ").append(GenerationHelper.FIELDS_CLASS).append("(").append(arguments).append("));\n");
+            progress.controllerFactoryPostAction().forEach(sb::append);
         }
         if (request.controllerInfo().hasInitialize()) {
             if (parameters.methodInjectionType() == ControllerMethodsInjectionType.REFLECTION) {
@@ -75,8 +96,224 @@ public final class LoadMethodFormatter {
                 sb.append("        controller.initialize();\n");
             }
         }
-        sb.append("        loaded = true;\n");
-        sb.append("        return (T) ").append(variableName).append(";\n");
+        final var tail = "        loaded = true;\n" +
+                "        return (T) " + variableName + ";\n";
+        final var partSize = getPartSize(parameters);
+        final var split = partSize > 0 ? new LoadMethodSplitter(partSize).split(sb.substring(bodyStart), tail) : null;
+        if (split == null) {
+            sb.append(tail);
+            sb.append("    }\n");
+        } else {
+            sb.setLength(bodyStart);
+            sb.append(split.calls());
+            sb.append(tail);
+            sb.append("    }\n");
+            sb.append(split.methods());
+        }
+        final var fields = new StringBuilder(split == null ? "" : split.fields());
+        if (parameters.asyncLoad()) {
+            fields.append("    private java.util.concurrent.Executor executor;\n");
+            formatAsyncMethods(sb);
+        }
+        if (parameters.incrementalLoad()) {
+            fields.append("    private boolean loading;\n");
+            formatIncrementalMethod(sb, split == null ? 0 : split.parts(), variableName);
+        }
+        if (fieldInjectionType == ControllerFieldInjectionType.TYPED_FACTORY) {
+            formatFieldsClass(sb, helperProvider.getControllerInjector().injectedFields(), parameters.compatibility().useRecords());
+        }
+        if (!fields.isEmpty()) {
+            sb.insert(methodStart, fields.append("\n"));
+        }
+    }
+
+    /**
+     * Formats the class holding the fields passed to the controller factory with TYPED_FACTORY field injection : a
+     * record, or an equivalent final class if the target version doesn't support records
+     *
+     * @param sb         The string builder
+     * @param fields     The injected fields
+     * @param useRecords True if a record should be used
+     */
+    private static void formatFieldsClass(final StringBuilder sb, final SequencedCollection<ControllerInjector.InjectedField> fields,
+                                          final boolean useRecords) {
+        sb.append("\n");
+        sb.append("    /**\n");
+        sb.append("     * The fields of the controller, passed to the controller factory\n");
+        if (useRecords) {
+            if (!fields.isEmpty()) {
+                sb.append("     *\n");
+                fields.forEach(f -> sb.append("     * @param ").append(f.id()).append(" The ").append(f.id()).append(" field\n"));
+            }
+            sb.append("     */\n");
+            final var components = fields.stream().map(f -> f.type() + " " + f.id()).collect(Collectors.joining(", "));
+            sb.append("    public record ").append(GenerationHelper.FIELDS_CLASS).append("(").append(components).append(") {\n");
+            sb.append("    }\n");
+        } else {
+            sb.append("     */\n");
+            sb.append("    public static final class ").append(GenerationHelper.FIELDS_CLASS).append(" {\n");
+            fields.forEach(f -> sb.append("        private final ").append(f.type()).append(" ").append(f.id()).append(";\n"));
+            sb.append("\n");
+            final var parameters = fields.stream().map(f -> "final " + f.type() + " " + f.id()).collect(Collectors.joining(", "));
+            sb.append("        ").append(GenerationHelper.FIELDS_CLASS).append("(").append(parameters).append(") {\n");
+            fields.forEach(f -> sb.append("            this.").append(f.id()).append(" = ").append(f.id()).append(";\n"));
+            sb.append("        }\n");
+            fields.forEach(f -> {
+                sb.append("\n");
+                sb.append("        /**\n");
+                sb.append("         * @return The ").append(f.id()).append(" field\n");
+                sb.append("         */\n");
+                sb.append("        public ").append(f.type()).append(" ").append(f.id()).append("() {\n");
+                sb.append("            return ").append(f.id()).append(";\n");
+                sb.append("        }\n");
+            });
+            sb.append("    }\n");
+        }
+    }
+
+    /**
+     * Computes the initial capacity of a HashMap holding the given number of entries without rehashing
+     *
+     * @param size The number of entries
+     * @return The capacity
+     */
+    static int getMapCapacity(final int size) {
+        return (int) Math.ceil(size / 0.75);
+    }
+
+    private static int getPartSize(final GenerationParameters parameters) {
+        if (parameters.maxLoadMethodSize() > 0) {
+            return parameters.maxLoadMethodSize();
+        } else if (parameters.incrementalLoad()) {
+            return DEFAULT_INCREMENTAL_PART_SIZE;
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Formats the loadIncrementally method
+     *
+     * @param sb           The string builder
+     * @param parts        The number of parts of the load method (0 if it isn't split)
+     * @param variableName The root variable name
+     */
+    private static void formatIncrementalMethod(final StringBuilder sb, final int parts, final String variableName) {
+        sb.append("\n");
+        sb.append("    /**\n");
+        sb.append("     * Loads the view on the JavaFX application thread. The loading is split into steps which are run across multiple\n");
+        sb.append("     * pulses : once the given budget is exceeded, the remaining steps are run later. Can only be called once,\n");
+        sb.append("     * and the other load methods can't be called while the view is loading.\n");
+        sb.append("     *\n");
+        sb.append("     * @param budget The maximum time spent loading the view per pulse (at least one step is run per pulse)\n");
+        sb.append("     * @return The future view parent, completed on the JavaFX application thread once the view is loaded\n");
+        sb.append("     */\n");
+        sb.append("    public <T> java.util.concurrent.CompletableFuture<T> loadIncrementally(final java.time.Duration budget) {\n");
+        sb.append("        final long budgetNanos = budget.toNanos();\n");
+        sb.append("        final java.util.concurrent.CompletableFuture<T> future = new java.util.concurrent.CompletableFuture<>();\n");
+        formatLoadedCheck(sb, true);
+        sb.append("        loading = true;\n");
+        if (parts == 0) {
+            sb.append("        javafx.application.Platform.runLater(() -> {\n");
+            sb.append("            loading = false;\n");
+            sb.append("            try {\n");
+            sb.append("                future.complete(load());\n");
+            sb.append("            } catch (final RuntimeException | Error e) {\n");
+            sb.append("                future.completeExceptionally(e);\n");
+            sb.append("            }\n");
+            sb.append("        });\n");
+        } else {
+            sb.append("        final Runnable[] steps = {");
+            for (var i = 0; i < parts; i++) {
+                sb.append(i == 0 ? "" : ", ").append("this::").append(LoadMethodSplitter.METHOD_PREFIX).append(i);
+            }
+            sb.append("};\n");
+            sb.append("        javafx.application.Platform.runLater(new Runnable() {\n");
+            sb.append("            private int next;\n");
+            sb.append("\n");
+            sb.append("            @Override\n");
+            sb.append("            public void run() {\n");
+            sb.append("                final long start = System.nanoTime();\n");
+            sb.append("                try {\n");
+            sb.append("                    do {\n");
+            sb.append("                        steps[next++].run();\n");
+            sb.append("                    } while (next < steps.length && System.nanoTime() - start < budgetNanos);\n");
+            sb.append("                    if (next < steps.length) {\n");
+            sb.append("                        javafx.application.Platform.runLater(this);\n");
+            sb.append("                    } else {\n");
+            sb.append("                        loading = false;\n");
+            sb.append("                        loaded = true;\n");
+            sb.append("                        future.complete((T) ").append(variableName).append(");\n");
+            sb.append("                    }\n");
+            sb.append("                } catch (final RuntimeException | Error e) {\n");
+            sb.append("                    future.completeExceptionally(e);\n");
+            sb.append("                }\n");
+            sb.append("            }\n");
+            sb.append("        });\n");
+        }
+        sb.append("        return future;\n");
         sb.append("    }\n");
     }
+
+    /**
+     * Formats the check throwing if the view is already loaded (or being loaded incrementally)
+     *
+     * @param sb          The string builder
+     * @param incremental True if the view can be loaded incrementally
+     */
+    private static void formatLoadedCheck(final StringBuilder sb, final boolean incremental) {
+        if (incremental) {
+            sb.append("        if (loaded || loading) {\n");
+            sb.append("            throw new IllegalStateException(\"Already loading or loaded\");\n");
+        } else {
+            sb.append("        if (loaded) {\n");
+            sb.append("            throw new IllegalStateException(\"Already loaded\");\n");
+        }
+        sb.append("        }\n");
+    }
+
+    private void formatAsyncMethods(final StringBuilder sb) {
+        sb.append("\n");
+        sb.append("    /**\n");
+        sb.append("     * Loads the view using the given executor. The included views are loaded concurrently. Can only be called once.\n");
+        sb.append("     * The nodes are created outside of the JavaFX application thread : the view must not contain nodes requiring it,\n");
+        sb.append("     * and the view must be attached to a scene on the JavaFX application thread.\n");
+        sb.append("     *\n");
+        sb.append("     * @param executor The executor\n");
+        sb.append("     * @return The future view parent\n");
+        sb.append("     */\n");
+        sb.append("    public <T> java.util.concurrent.CompletableFuture<T> loadAsync(final java.util.concurrent.Executor executor) {\n");
+        sb.append("        this.executor = java.util.Objects.requireNonNull(executor);\n");
+        sb.append("        return java.util.concurrent.CompletableFuture.supplyAsync(this::load, executor);\n");
+        sb.append("    }\n");
+        if (!progress.includeLoads().isEmpty()) {
+            sb.append("\n");
+            sb.append("    private java.util.concurrent.FutureTask<javafx.scene.Parent> startLoad(final java.util.concurrent.Callable<javafx.scene.Parent> load) {\n");
+            sb.append("        final java.util.concurrent.FutureTask<javafx.scene.Parent> task = new java.util.concurrent.FutureTask<>(load);\n");
+            sb.append("        if (executor != null) {\n");
+            sb.append("            executor.execute(task);\n");
+            sb.append("        }\n");
+            sb.append("        return task;\n");
+            sb.append("    }\n");
+            sb.append("\n");
+            sb.append("    private static javafx.scene.Parent joinLoad(final java.util.concurrent.FutureTask<javafx.scene.Parent> task) {\n");
+            sb.append("        //Does nothing if the task is already started\n");
+            sb.append("        task.run();\n");
+            sb.append("        try {\n");
+            sb.append("            return task.get();\n");
+            sb.append("        } catch (final InterruptedException e) {\n");
+            sb.append("            Thread.currentThread().interrupt();\n");
+            sb.append("            throw new IllegalStateException(\"Interrupted while loading include\", e);\n");
+            sb.append("        } catch (final java.util.concurrent.ExecutionException e) {\n");
+            sb.append("            if (e.getCause() instanceof RuntimeException) {\n");
+            sb.append("                throw (RuntimeException) e.getCause();\n");
+            sb.append("            } else if (e.getCause() instanceof Error) {\n");
+            sb.append("                throw (Error) e.getCause();\n");
+            sb.append("            } else {\n");
+            sb.append("                throw new RuntimeException(\"Error loading include\", e.getCause());\n");
+            sb.append("            }\n");
+            sb.append("        }\n");
+            sb.append("    }\n");
+        }
+    }
 }
@@ -0,0 +1,284 @@
+package ch.gtache.fxml.compiler.impl.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits the body of the generated load method into multiple methods so that each method stays below a given
+ * estimated bytecode size (HotSpot doesn't compile methods larger than 8000 bytes of bytecode).
+ * The body is cut between top-level statements ; a statement may span several lines (try/catch, if/else, lambda or
+ * anonymous class bodies) and is never cut. Only the top-level local variables are considered : those used by a later
+ * part are promoted to fields, and the variables declared in a lambda or a block stay local.
+ * The variables must be declared with their type (no var).
+ * <p>
+ * The promoted fields are never cleared : the nodes they reference stay reachable for the lifetime of the view (they
+ * are usually part of the scene graph anyway). They can't be cleared once the parts have run, because the lambdas
+ * created by the load method (lazy includes, event handlers) read the fields instead of capturing the locals.
+ */
+final class LoadMethodSplitter {
+
+    private static final Pattern DECLARATION_PATTERN = Pattern.compile("^\\s*(?:final\\s+)?([A-Za-z_$][\\w$.]*(?:<.*?>)?(?:\\[])*)\\s+([A-Za-z_$][\\w$]*)\\s*([=;])",
+            Pattern.DOTALL);
+    private static final Set<String> KEYWORDS = Set.of("return", "throw", "new", "else", "case", "yield");
+    static final String METHOD_PREFIX = "loadPart";
+
+    private final int maxSize;
+
+    /**
+     * Instantiates a new splitter
+     *
+     * @param maxSize The maximum estimated bytecode size of a method
+     * @throws IllegalArgumentException if maxSize is not positive
+     */
+    LoadMethodSplitter(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be > 0");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Splits the given body
+     *
+     * @param body The body of the load method (statements indented with 8 spaces)
+     * @param tail The code following the body in the load method (e.g. the return statement)
+     * @return The result, or null if the body doesn't need to be split
+     */
+    SplitBody split(final String body, final String tail) {
+        if (estimateSize(body) <= maxSize) {
+            return null;
+        }
+        final var parts = partition(getStatements(body));
+        if (parts.size() < 2) {
+            return null;
+        }
+        final var declarations = new ArrayList<Map<String, Declaration>>(parts.size());
+        final var usages = new ArrayList<Set<String>>(parts.size());
+        for (final var part : parts) {
+            final var partDeclarations = new LinkedHashMap<String, Declaration>();
+            for (final var statement : part) {
+                final var declaration = getDeclaration(statement);
+                if (declaration != null) {
+                    partDeclarations.put(declaration.name(), declaration);
+                }
+            }
+            declarations.add(partDeclarations);
+            usages.add(getIdentifiers(String.join("", part)));
+        }
+        final var tailUsages = getIdentifiers(tail);
+        final var promoted = new LinkedHashMap<String, Declaration>();
+        for (var i = 0; i < parts.size(); i++) {
+            for (final var declaration : declarations.get(i).values()) {
+                if (isUsedAfter(declaration.name(), usages, i, tailUsages)) {
+                    promoted.put(declaration.name(), declaration);
+                }
+            }
+        }
+        final var fields = new StringBuilder();
+        promoted.values().forEach(d -> fields.append("    private ").append(d.type()).append(" ").append(d.name()).append(";\n"));
+        final var calls = new StringBuilder();
+        final var methods = new StringBuilder();
+        for (var i = 0; i < parts.size(); i++) {
+            calls.append("        ").append(METHOD_PREFIX).append(i).append("();\n");
+            methods.append("\n");
+            methods.append("    private void ").append(METHOD_PREFIX).append(i).append("() {\n");
+            for (final var statement : parts.get(i)) {
+                methods.append(promote(statement, promoted));
+            }
+            methods.append("    }\n");
+        }
+        return new SplitBody(fields.toString(), calls.toString(), methods.toString(), parts.size());
+    }
+
+    private static boolean isUsedAfter(final String name, final List<Set<String>> usages, final int part, final Set<String> tailUsages) {
+        if (tailUsages.contains(name)) {
+            return true;
+        }
+        for (var i = part + 1; i < usages.size(); i++) {
+            if (usages.get(i).contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String promote(final String statement, final Map<String, Declaration> promoted) {
+        final var declaration = getDeclaration(statement);
+        if (declaration == null || !promoted.containsKey(declaration.name())) {
+            return statement;
+        } else if (declaration.initialized()) {
+            return "        " + statement.substring(declaration.nameStart());
+        } else {
+            return "";
+        }
+    }
+
+    private List<List<String>> partition(final List<String> statements) {
+        final var parts = new ArrayList<List<String>>();
+        var current = new ArrayList<String>();
+        var currentSize = 0;
+        for (final var statement : statements) {
+            final var size = estimateSize(statement);
+            if (!current.isEmpty() && currentSize + size > maxSize) {
+                parts.add(current);
+                current = new ArrayList<>();
+                currentSize = 0;
+            }
+            current.add(statement);
+            currentSize += size;
+        }
+        if (!current.isEmpty()) {
+            parts.add(current);
+        }
+        return parts;
+    }
+
+    /**
+     * Splits the given code into top-level statements. A try/catch or an if/else is a single statement.
+     *
+     * @param code The code
+     * @return The statements, each one including its line terminator
+     */
+    static List<String> getStatements(final String code) {
+        final var statements = new ArrayList<String>();
+        var start = 0;
+        var parens = 0;
+        var braces = 0;
+        var i = 0;
+        while (i < code.length()) {
+            final var c = code.charAt(i);
+            if (c == '"' || c == '\'') {
+                i = skipLiteral(code, i);
+                continue;
+            } else if (c == '(') {
+                parens++;
+            } else if (c == ')') {
+                parens--;
+            } else if (c == '{') {
+                braces++;
+            } else if (c == '}') {
+                braces--;
+            }
+            i++;
+            if (parens == 0 && braces == 0 && (c == ';' || (c == '}' && !continuesStatement(code, i)))) {
+                final var end = lineEnd(code, i);
+                statements.add(code.substring(start, end));
+                start = end;
+                i = end;
+            }
+        }
+        if (start < code.length() && !code.substring(start).isBlank()) {
+            statements.add(code.substring(start));
+        }
+        return statements;
+    }
+
+    private static boolean continuesStatement(final String code, final int index) {
+        var i = index;
+        while (i < code.length() && Character.isWhitespace(code.charAt(i))) {
+            i++;
+        }
+        return code.startsWith("catch", i) || code.startsWith("finally", i) || code.startsWith("else", i);
+    }
+
+    private static int lineEnd(final String code, final int index) {
+        final var newLine = code.indexOf('\n', index);
+        return newLine < 0 ? code.length() : newLine + 1;
+    }
+
+    private static int skipLiteral(final String code, final int start) {
+        final var quote = code.charAt(start);
+        var i = start + 1;
+        while (i < code.length() && code.charAt(i) != quote) {
+            i += code.charAt(i) == '\\' ? 2 : 1;
+        }
+        return Math.min(code.length(), i + 1);
+    }
+
+    /**
+     * Roughly estimates the bytecode size of the given code : an invocation (or instantiation) takes about 5 bytes,
+     * loading a string literal about 2, an additional argument about 4 and storing or discarding a result about 3.
+     *
+     * @param code The code
+     * @return The estimated size
+     */
+    static int estimateSize(final CharSequence code) {
+        var size = 0;
+        var i = 0;
+        final var string = code.toString();
+        while (i < string.length()) {
+            final var c = string.charAt(i);
+            if (c == '"' || c == '\'') {
+                size += 2;
+                i = skipLiteral(string, i);
+                continue;
+            } else if (c == '(') {
+                size += 5;
+            } else if (c == ',') {
+                size += 4;
+            } else if (c == ';') {
+                size += 3;
+            }
+            i++;
+        }
+        return size;
+    }
+
+    private static Set<String> getIdentifiers(final String code) {
+        final var identifiers = new HashSet<String>();
+        var i = 0;
+        while (i < code.length()) {
+            final var c = code.charAt(i);
+            if (c == '"' || c == '\'') {
+                i = skipLiteral(code, i);
+            } else if (Character.isJavaIdentifierStart(c)) {
+                final var start = i;
+                while (i < code.length() && Character.isJavaIdentifierPart(code.charAt(i))) {
+                    i++;
+                }
+                if (start == 0 || code.charAt(start - 1) != '.') {
+                    identifiers.add(code.substring(start, i));
+                }
+            } else {
+                i++;
+            }
+        }
+        return identifiers;
+    }
+
+    private static Declaration getDeclaration(final String statement) {
+        final var matcher = DECLARATION_PATTERN.matcher(statement);
+        if (matcher.find() && !KEYWORDS.contains(matcher.group(1))) {
+            return new Declaration(matcher.group(1), matcher.group(2), matcher.start(2), matcher.group(3).equals("="));
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * A top-level local variable declaration
+     *
+     * @param type        The type
+     * @param name        The name
+     * @param nameStart   The index of the name in the statement
+     * @param initialized True if the declaration has an initializer
+     */
+    private record Declaration(String type, String name, int nameStart, boolean initialized) {
+    }
+
+    /**
+     * The result of a split
+     *
+     * @param fields  The declarations of the promoted fields
+     * @param calls   The calls to the methods, replacing the body of the load method
+     * @param methods The methods containing the body
+     * @param parts   The number of methods (named loadPart0 to loadPartN)
+     */
+    record SplitBody(String fields, String calls, String methods, int parts) {
+    }
+}
@@ -0,0 +1,130 @@
+package ch.gtache.fxml.compiler.impl.internal;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.SequencedMap;
+
+import static ch.gtache.fxml.compiler.impl.internal.GenerationHelper.INDENT_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Formats the accessors of the objects having an fx:id : a typed getter per object, and a lookup method equivalent to
+ * the namespace of FXMLLoader.
+ * The objects are stored in fields of the view when they are created, so that the accessors neither walk the scene
+ * graph (like Node.lookup) nor use reflection. The lookup method casts the object once, in a method suppressing the
+ * unchecked warning, so that the generated view doesn't add a warning per fx:id to the build.
+ */
+public final class NamespaceFormatter {
+
+    private static final Logger logger = LogManager.getLogger(NamespaceFormatter.class);
+
+    private static final String FIELD_PREFIX = "fxId";
+    private static final String OBJECT_GETTER = "getClass";
+
+    private final HelperProvider helperProvider;
+    private final StringBuilder sb;
+    private final SequencedMap<String, NamespaceObject> objects;
+
+    NamespaceFormatter(final HelperProvider helperProvider, final StringBuilder sb) {
+        this.helperProvider = requireNonNull(helperProvider);
+        this.sb = requireNonNull(sb);
+        this.objects = new LinkedHashMap<>();
+    }
+
+    /**
+     * Adds an object to the namespace
+     *
+     * @param id       The fx:id
+     * @param variable The variable (or expression) holding the object
+     * @param type     The object type
+     */
+    void addObject(final String id, final String variable, final String type) {
+        final var existing = objects.get(id);
+        final var field = existing == null ? helperProvider.getVariableProvider().getNextVariableName(FIELD_PREFIX) : existing.field();
+        objects.put(id, new NamespaceObject(id, field, type));
+        sb.append(INDENT_8).append(field).append(" = ").append(variable).append(";\n");
+    }
+
+    /**
+     * Formats the fields holding the objects, their getters and the lookup method
+     */
+    public void formatNamespace() {
+        objects.values().forEach(o -> sb.append("    private ").append(o.type()).append(" ").append(o.field()).append(";\n"));
+        if (!objects.isEmpty()) {
+            sb.append("\n");
+        }
+        final var getters = new HashSet<String>();
+        for (final var object : objects.values()) {
+            final var getter = GenerationHelper.getGetMethod(object.id());
+            if (getter.equals(OBJECT_GETTER) || !getters.add(getter)) {
+                logger.warn("Not generating a getter for {} : {} already exists", object.id(), getter);
+            } else {
+                formatGetter(object, getter);
+            }
+        }
+        sb.append("    /**\n");
+        sb.append("     * Returns the object with the given fx:id, like the namespace of FXMLLoader\n");
+        sb.append("     * @param id The fx:id\n");
+        sb.append("     * @return The object, or null if no object has the given fx:id (or if it is part of a lazy include which isn't loaded yet)\n");
+        sb.append("     * @throws IllegalStateException If the view is not loaded\n");
+        sb.append("     */\n");
+        if (objects.isEmpty()) {
+            sb.append("    public <T> T lookup(final String id) {\n");
+            formatLoadedCheck();
+            sb.append("        return null;\n");
+            sb.append("    }\n");
+        } else {
+            sb.append("    @SuppressWarnings(\"unchecked\")\n");
+            sb.append("    public <T> T lookup(final String id) {\n");
+            formatLoadedCheck();
+            sb.append("        return (T) lookupObject(id);\n");
+            sb.append("    }\n");
+            sb.append("\n");
+            sb.append("    private Object lookupObject(final String id) {\n");
+            sb.append("        switch (id) {\n");
+            objects.values().forEach(o -> {
+                sb.append("            case \"").append(o.id()).append("\":\n");
+                sb.append("                return ").append(o.field()).append(";\n");
+            });
+            sb.append("            default:\n");
+            sb.append("                return null;\n");
+            sb.append("        }\n");
+            sb.append("    }\n");
+        }
+    }
+
+    private void formatLoadedCheck() {
+        sb.append("        if (!loaded) {\n");
+        sb.append("            throw new IllegalStateException(\"Not loaded\");\n");
+        sb.append("        }\n");
+    }
+
+    private void formatGetter(final NamespaceObject object, final String getter) {
+        sb.append("    /**\n");
+        sb.append("     * Returns the object with the fx:id ").append(object.id()).append("\n");
+        sb.append("     * @return The object (null if it is part of a lazy include which isn't loaded yet)\n");
+        sb.append("     * @throws IllegalStateException If the view is not loaded\n");
+        sb.append("     */\n");
+        sb.append("    public ").append(object.type()).append(" ").append(getter).append("() {\n");
+        sb.append("        if (loaded) {\n");
+        sb.append("            return ").append(object.field()).append(";\n");
+        sb.append("        } else {\n");
+        sb.append("            throw new IllegalStateException(\"Not loaded\");\n");
+        sb.append("        }\n");
+        sb.append("    }\n");
+        sb.append("\n");
+    }
+
+    /**
+     * An object of the namespace
+     *
+     * @param id    The fx:id
+     * @param field The field holding the object
+     * @param type  The object type
+     */
+    private record NamespaceObject(String id, String field, String type) {
+    }
+}
@@ -36,6 +36,7 @@ final class ObjectFormatter {
     private static final Logger logger = LogManager.getLogger(ObjectFormatter.class);
 
     private static final String NEW_ASSIGN = " = new ";
+    private static final String PARENT_CLASS = "javafx.scene.Parent";
 
     private static final Set<String> BUILDER_CLASSES = Set.of(
             "javafx.scene.Scene",
@@ -58,11 +59,14 @@ final class ObjectFormatter {
 
     private final HelperProvider helperProvider;
     private final GenerationRequest request;
+    private final SequencedCollection<String> includeLoads;
     private final StringBuilder sb;
 
-    ObjectFormatter(final HelperProvider helperProvider, final GenerationRequest request, final StringBuilder sb) {
+    ObjectFormatter(final HelperProvider helperProvider, final GenerationRequest request,
+                    final SequencedCollection<String> includeLoads, final StringBuilder sb) {
         this.helperProvider = requireNonNull(helperProvider);
         this.request = requireNonNull(request);
+        this.includeLoads = requireNonNull(includeLoads);
         this.sb = requireNonNull(sb);
     }
 
@@ -136,7 +140,8 @@ final class ObjectFormatter {
 
     private void handleId(final ParsedObject parsedObject, final String variableName, final String value) throws GenerationException {
         final String className;
-        if (request.controllerInfo().fieldInfo(value) == null) {
+        final var injected = request.controllerInfo().fieldInfo(value) != null;
+        if (!injected) {
             className = parsedObject.className();
             logger.debug("Not injecting {} because it is not found in controller", value);
         } else {
@@ -146,9 +151,26 @@ final class ObjectFormatter {
             } else {
                 className = parsedObject.className();
             }
-            helperProvider.getControllerInjector().injectControllerField(value, variableName);
+        }
+        final var type = parsedObject instanceof ParsedInclude ? PARENT_CLASS : className;
+        if (injected) {
+            helperProvider.getControllerInjector().injectControllerField(value, variableName, type);
         }
         helperProvider.getVariableProvider().addVariableInfo(value, new VariableInfo(value, parsedObject, variableName, className));
+        addNamespaceObject(value, variableName, type);
+    }
+
+    /**
+     * Adds an object to the namespace of the view if the object accessors are generated
+     *
+     * @param id       The fx:id
+     * @param variable The variable (or expression) holding the object
+     * @param type     The object type
+     */
+    private void addNamespaceObject(final String id, final String variable, final String type) {
+        if (request.parameters().objectAccessors()) {
+            helperProvider.getNamespaceFormatter().addObject(id, variable, type);
+        }
     }
 
     /**
@@ -320,9 +342,16 @@ final class ObjectFormatter {
         final var reflectionHelper = helperProvider.getReflectionHelper();
         final var args = ConstructorHelper.getListConstructorArgs(constructorArgs, parsedObject);
         final var genericTypes = reflectionHelper.getGenericTypes(parsedObject);
-        sb.append(helperProvider.getCompatibilityHelper().getStartVar(parsedObject)).append(variableName)
-                .append(NEW_ASSIGN).append(parsedObject.className()).append(genericTypes).append("(")
-                .append(String.join(", ", args)).append(");\n");
+        if (isConstant(parsedObject, constructorArgs)) {
+            final var constant = helperProvider.getHelperMethodsFormatter().formatConstant(parsedObject.className(),
+                    "new " + parsedObject.className() + "(" + String.join(", ", args) + ")");
+            sb.append(helperProvider.getCompatibilityHelper().getStartVar(parsedObject)).append(variableName)
+                    .append(" = ").append(constant).append(";\n");
+        } else {
+            sb.append(helperProvider.getCompatibilityHelper().getStartVar(parsedObject)).append(variableName)
+                    .append(NEW_ASSIGN).append(parsedObject.className()).append(genericTypes).append("(")
+                    .append(String.join(", ", args)).append(");\n");
+        }
         final var sortedAttributes = getSortedAttributes(parsedObject);
         for (final var value : sortedAttributes) {
             if (!constructorArgs.namedArgs().containsKey(value.name())) {
@@ -347,6 +376,33 @@ final class ObjectFormatter {
         }
     }
 
+    /**
+     * Checks if the given object is immutable and entirely created by its constructor using literals, meaning that it
+     * can be shared between all the instances of the view
+     *
+     * @param parsedObject    The parsed object
+     * @param constructorArgs The constructor arguments
+     * @return True if the object is constant
+     */
+    private static boolean isConstant(final ParsedObject parsedObject, final ConstructorArgs constructorArgs) {
+        if (!IMMUTABLE_CLASSES.contains(parsedObject.className()) || !parsedObject.children().isEmpty() ||
+                !parsedObject.properties().isEmpty()) {
+            return false;
+        }
+        for (final var attribute : parsedObject.attributes().values()) {
+            if (!attribute.name().equals(FX_ID) && (!constructorArgs.namedArgs().containsKey(attribute.name()) ||
+                    isReference(attribute.value()))) {
+                return false;
+            }
+        }
+        return constructorArgs.namedArgs().values().stream().allMatch(p -> ValueFormatter.isConstantType(p.type()));
+    }
+
+    private static boolean isReference(final String value) {
+        return value.startsWith(RELATIVE_PATH_PREFIX) || value.startsWith(RESOURCE_KEY_PREFIX) ||
+                value.startsWith(EXPRESSION_PREFIX) || value.startsWith(BIDIRECTIONAL_BINDING_PREFIX);
+    }
+
     /**
      * Formats an include object
      *
@@ -354,11 +410,91 @@ final class ObjectFormatter {
      * @param subNodeName The sub node name
      */
     private void formatInclude(final ParsedInclude include, final String subNodeName) throws GenerationException {
+        if (request.parameters().asyncLoad()) {
+            formatAsyncInclude(include, subNodeName);
+        } else {
+            final var viewVariable = helperProvider.getInitializationFormatter().formatSubViewConstructorCall(include);
+            sb.append("        final javafx.scene.Parent ").append(subNodeName).append(" = ").append(viewVariable).append(".load();\n");
+            injectSubController(include, viewVariable);
+        }
+    }
+
+    /**
+     * Formats an include object whose subview may be loaded concurrently : the subview and its load task are created
+     * at the start of the load method (see {@link GenerationProgress#includeLoads()}), and the include only waits for
+     * the task
+     *
+     * @param include     The include object
+     * @param subNodeName The sub node name
+     * @throws GenerationException if an error occurs
+     */
+    private void formatAsyncInclude(final ParsedInclude include, final String subNodeName) throws GenerationException {
+        final var start = sb.length();
         final var viewVariable = helperProvider.getInitializationFormatter().formatSubViewConstructorCall(include);
-        sb.append("        final javafx.scene.Parent ").append(subNodeName).append(" = ").append(viewVariable).append(".load();\n");
+        final var taskVariable = helperProvider.getVariableProvider().getNextVariableName("loadTask");
+        sb.append(helperProvider.getCompatibilityHelper().getStartVar("java.util.concurrent.FutureTask<javafx.scene.Parent>"))
+                .append(taskVariable).append(" = startLoad(").append(viewVariable).append("::load);\n");
+        includeLoads.add(sb.substring(start));
+        sb.setLength(start);
+        sb.append("        final javafx.scene.Parent ").append(subNodeName).append(" = joinLoad(").append(taskVariable).append(");\n");
         injectSubController(include, viewVariable);
     }
 
+    /**
+     * Formats an include object whose subview is only instantiated, loaded and injected once the given trigger property
+     * of the parent becomes true (e.g. when a tab is first selected)
+     *
+     * @param include        The include object
+     * @param subNodeName    The sub node name
+     * @param parentVariable The parent variable
+     * @param trigger        The trigger property of the parent (e.g. selectedProperty())
+     * @param setMethod      The method setting the sub node on the parent
+     * @throws GenerationException if an error occurs
+     */
+    void formatLazyInclude(final ParsedInclude include, final String subNodeName, final String parentVariable,
+                           final String trigger, final String setMethod) throws GenerationException {
+        final var loaderVariable = helperProvider.getVariableProvider().getNextVariableName("lazy");
+        final var start = sb.length();
+        final var viewVariable = helperProvider.getInitializationFormatter().formatSubViewConstructorCall(include);
+        sb.append("        final javafx.scene.Parent ").append(subNodeName).append(" = ").append(viewVariable).append(".load();\n");
+        final var id = include.attributes().get(FX_ID);
+        if (id != null) {
+            if (request.controllerInfo().fieldInfo(id.value()) != null) {
+                helperProvider.getControllerInjector().injectControllerField(id.value(), subNodeName, PARENT_CLASS);
+            }
+            addNamespaceObject(id.value(), subNodeName, PARENT_CLASS);
+        }
+        final var controllerId = include.controllerId();
+        if (controllerId != null) {
+            final var controllerClass = request.sourceInfo().sourceToSourceInfo().get(include.source()).controllerClassName();
+            final var controllerVariable = viewVariable + ".controller()";
+            if (request.controllerInfo().fieldInfo(controllerId) != null) {
+                helperProvider.getControllerInjector().injectControllerField(controllerId, controllerVariable, controllerClass);
+            }
+            addNamespaceObject(controllerId, controllerVariable, controllerClass);
+        }
+        sb.append("        ").append(parentVariable).append(".").append(setMethod).append("(").append(subNodeName).append(");\n");
+        final var loader = sb.substring(start).indent(4);
+        sb.setLength(start);
+        final var triggerProperty = parentVariable + "." + trigger;
+        sb.append("        final Runnable ").append(loaderVariable).append(" = () -> {\n");
+        sb.append(loader);
+        sb.append("        };\n");
+        sb.append("        if (").append(triggerProperty).append(".get()) {\n");
+        sb.append("            ").append(loaderVariable).append(".run();\n");
+        sb.append("        } else {\n");
+        sb.append("            ").append(triggerProperty).append(".addListener(new javafx.beans.value.ChangeListener<Boolean>() {\n");
+        sb.append("                @Override\n");
+        sb.append("                public void changed(final javafx.beans.value.ObservableValue<? extends Boolean> observable, final Boolean oldValue, final Boolean newValue) {\n");
+        sb.append("                    if (newValue) {\n");
+        sb.append("                        observable.removeListener(this);\n");
+        sb.append("                        ").append(loaderVariable).append(".run();\n");
+        sb.append("                    }\n");
+        sb.append("                }\n");
+        sb.append("            });\n");
+        sb.append("        }\n");
+    }
+
     private void injectSubController(final ParsedInclude include, final String subViewVariable) {
         final var id = include.controllerId();
         if (id != null) {
@@ -370,8 +506,9 @@ final class ObjectFormatter {
             if (request.controllerInfo().fieldInfo(id) == null) {
                 logger.debug("Not injecting {} because it is not found in controller", id);
             } else {
-                helperProvider.getControllerInjector().injectControllerField(id, subControllerVariable);
+                helperProvider.getControllerInjector().injectControllerField(id, subControllerVariable, controllerClass);
             }
+            addNamespaceObject(id, subControllerVariable, controllerClass);
         }
     }
 
@@ -439,7 +576,10 @@ final class ObjectFormatter {
      * @param variableName The variable name
      */
     private void formatValue(final ParsedValue value, final String variableName) {
-        sb.append(helperProvider.getCompatibilityHelper().getStartVar(value.className())).append(variableName).append(" = ").append(value.className()).append(".valueOf(\"").append(value.value()).append("\");\n");
+        final var expression = value.className() + ".valueOf(\"" + value.value() + "\")";
+        final var formatted = IMMUTABLE_CLASSES.contains(value.className()) ?
+                helperProvider.getHelperMethodsFormatter().formatConstant(value.className(), expression) : expression;
+        sb.append(helperProvider.getCompatibilityHelper().getStartVar(value.className())).append(variableName).append(" = ").append(formatted).append(";\n");
     }
 
     /**
@@ -460,7 +600,7 @@ final class ObjectFormatter {
             format(argument, argumentVariable);
         }
         final var compatibilityHelper = helperProvider.getCompatibilityHelper();
-        if (request.parameters().compatibility().useVar()) {
+        if (compatibilityHelper.useVar()) {
             sb.append(compatibilityHelper.getStartVar(factory.className())).append(variableName).append(" = ").append(factory.className())
                     .append(".").append(factory.factory()).append("(").append(String.join(", ", variables)).append(");\n");
         } else {
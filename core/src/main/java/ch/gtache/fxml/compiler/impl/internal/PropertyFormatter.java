@@ -1,20 +1,24 @@
 package ch.gtache.fxml.compiler.impl.internal;
 
-import ch.gtache.fxml.compiler.ControllerFieldInjectionType;
 import ch.gtache.fxml.compiler.GenerationException;
 import ch.gtache.fxml.compiler.ResourceBundleInjectionType;
 import ch.gtache.fxml.compiler.impl.GeneratorImpl;
 import ch.gtache.fxml.compiler.parsing.ParsedDefine;
+import ch.gtache.fxml.compiler.parsing.ParsedInclude;
 import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import ch.gtache.fxml.compiler.parsing.ParsedProperty;
 import ch.gtache.fxml.compiler.parsing.ParsedText;
 import ch.gtache.fxml.compiler.parsing.impl.ParsedPropertyImpl;
 import javafx.event.EventHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.SequencedCollection;
+import java.util.Set;
 
 import static ch.gtache.fxml.compiler.impl.internal.GenerationHelper.*;
 import static java.util.Objects.requireNonNull;
@@ -24,6 +28,7 @@ import static java.util.Objects.requireNonNull;
  */
 final class PropertyFormatter {
 
+    private static final Logger logger = LogManager.getLogger(PropertyFormatter.class);
 
     private final HelperProvider helperProvider;
     private final GenerationProgress progress;
@@ -115,7 +120,7 @@ final class PropertyFormatter {
         final var getMethod = getGetMethod(propertyName);
         final var parentClass = ReflectionHelper.getClass(parent.className());
         if (ReflectionHelper.hasMethod(parentClass, setMethod, (Class<?>) null)) {
-            handleSetProperty(property, parentClass, parentVariable);
+            handleSetProperty(property, parent, parentClass, parentVariable);
         } else if (ReflectionHelper.hasMethod(parentClass, getMethod)) {
             handleGetProperty(property, parentClass, parentVariable);
         } else {
@@ -123,19 +128,54 @@ final class PropertyFormatter {
         }
     }
 
-    private void handleSetProperty(final ParsedProperty property, final Class<?> parentClass, final String parentVariable) throws GenerationException {
+    private void handleSetProperty(final ParsedProperty property, final ParsedObject parent, final Class<?> parentClass,
+                                   final String parentVariable) throws GenerationException {
         final var setMethod = getSetMethod(property.name());
         final var method = ReflectionHelper.getMethod(parentClass, setMethod, (Class<?>) null);
         final var parameterType = method.getParameterTypes()[0];
-        final var arg = helperProvider.getValueFormatter().getArg(property.value(), parameterType);
-        setLaterIfNeeded(property, parameterType, "        " + parentVariable + "." + setMethod + "(" + arg + ");\n");
+        if (isCompiledStyle(property, parameterType)) {
+            setLaterIfNeeded(property, parameterType, helperProvider.getStyleFormatter().formatStyle(property.value(), parentClass, parentVariable,
+                    getSetProperties(parent)));
+        } else {
+            final var arg = helperProvider.getValueFormatter().getArg(property.value(), parameterType);
+            setLaterIfNeeded(property, parameterType, "        " + parentVariable + "." + setMethod + "(" + arg + ");\n");
+        }
+    }
+
+    /**
+     * Returns the names of the properties set on the given object, either as attributes or as elements
+     *
+     * @param parent The object
+     * @return The property names
+     */
+    private static Set<String> getSetProperties(final ParsedObject parent) {
+        final var names = new HashSet<>(parent.attributes().keySet());
+        parent.properties().keySet().forEach(p -> names.add(p.name()));
+        return names;
+    }
+
+    /**
+     * Checks if the property is an inline style to compile (only literal styles are compiled)
+     *
+     * @param property      The property
+     * @param parameterType The setter parameter type
+     * @return True if the style must be compiled
+     */
+    private boolean isCompiledStyle(final ParsedProperty property, final Class<?> parameterType) {
+        final var value = property.value();
+        return property.name().equals(STYLE_PROPERTY) && parameterType == String.class && progress.request().parameters().compileStyles() &&
+                !value.startsWith(RESOURCE_KEY_PREFIX) && !value.startsWith(RELATIVE_PATH_PREFIX) &&
+                !value.startsWith(EXPRESSION_PREFIX) && !value.startsWith(ESCAPE_PREFIX);
     }
 
     private void handleGetProperty(final ParsedProperty property, final Class<?> parentClass, final String parentVariable) throws GenerationException {
         final var getMethod = getGetMethod(property.name());
         final var method = ReflectionHelper.getMethod(parentClass, getMethod);
         final var returnType = method.getReturnType();
-        if (ReflectionHelper.hasMethod(returnType, "addAll", List.class)) {
+        if (ReflectionHelper.hasMethod(returnType, "add", Object.class)) {
+            final var arg = helperProvider.getValueFormatter().getArg(property.value(), String.class);
+            setLaterIfNeeded(property, String.class, "        " + parentVariable + "." + getMethod + "().add(" + arg + ");\n");
+        } else if (ReflectionHelper.hasMethod(returnType, "addAll", List.class)) {
             final var arg = helperProvider.getValueFormatter().getArg(property.value(), String.class);
             setLaterIfNeeded(property, String.class, "        " + parentVariable + "." + getMethod + "().addAll(" +
                     helperProvider.getCompatibilityHelper().getListOf() + arg + "));\n");
@@ -154,7 +194,7 @@ final class PropertyFormatter {
     private void setLaterIfNeeded(final ParsedProperty property, final Class<?> type, final String arg) {
         final var parameters = progress.request().parameters();
         if (type == String.class && property.value().startsWith(RESOURCE_KEY_PREFIX) && parameters.resourceInjectionType() == ResourceBundleInjectionType.GETTER
-                && parameters.fieldInjectionType() == ControllerFieldInjectionType.FACTORY) {
+                && GenerationHelper.isFactory(parameters.fieldInjectionType())) {
             progress.controllerFactoryPostAction().add(arg);
         } else {
             progress.stringBuilder().append(arg);
@@ -172,6 +212,13 @@ final class PropertyFormatter {
     private void formatChild(final ParsedObject parent, final ParsedProperty property,
                              final Iterable<? extends ParsedObject> objects, final String parentVariable) throws GenerationException {
         final var propertyName = property.name();
+        final var lazyInclude = getLazyInclude(parent, property, objects);
+        if (lazyInclude != null) {
+            final var vn = helperProvider.getVariableProvider().getNextVariableName(getVariablePrefix(lazyInclude));
+            final var trigger = getLazyTrigger(ReflectionHelper.getClass(parent.className()));
+            helperProvider.getObjectFormatter().formatLazyInclude(lazyInclude, vn, parentVariable, trigger, getSetMethod(property));
+            return;
+        }
         final var variables = new ArrayList<String>();
         for (final var object : objects) {
             final var vn = helperProvider.getVariableProvider().getNextVariableName(getVariablePrefix(object));
@@ -187,7 +234,69 @@ final class PropertyFormatter {
     }
 
     /**
-     * Formats children objects given that they are more than one
+     * Returns the include to load lazily, if the objects are a single lazy include set as the content of a Tab or a
+     * TitledPane
+     *
+     * @param parent   The parent object
+     * @param property The parent property
+     * @param objects  The child objects
+     * @return The include, or null if the objects must be loaded eagerly
+     * @throws GenerationException if an error occurs
+     */
+    private ParsedInclude getLazyInclude(final ParsedObject parent, final ParsedProperty property,
+                                         final Iterable<? extends ParsedObject> objects) throws GenerationException {
+        final var iterator = objects.iterator();
+        if (property.sourceType() != null || !property.name().equals("content") || !iterator.hasNext()) {
+            return null;
+        }
+        final var object = iterator.next();
+        if (iterator.hasNext() || !(object instanceof final ParsedInclude include)) {
+            return null;
+        }
+        final var request = progress.request();
+        final var lazy = include.lazy() == null ? request.parameters().lazyIncludes() : include.lazy();
+        if (!lazy) {
+            return null;
+        } else if (getLazyTrigger(ReflectionHelper.getClass(parent.className())) == null) {
+            logger.warn("Loading {} eagerly : lazy includes are only supported as content of a Tab or a TitledPane", include.source());
+            return null;
+        } else if (GenerationHelper.isFactory(request.parameters().fieldInjectionType()) && isInjected(include)) {
+            logger.warn("Loading {} eagerly : lazy includes can't be injected with FACTORY field injection", include.source());
+            return null;
+        } else {
+            return include;
+        }
+    }
+
+    private boolean isInjected(final ParsedInclude include) {
+        final var controllerInfo = progress.request().controllerInfo();
+        final var id = include.attributes().get(FX_ID);
+        final var controllerId = include.controllerId();
+        return (id != null && controllerInfo.fieldInfo(id.value()) != null) ||
+                (controllerId != null && controllerInfo.fieldInfo(controllerId) != null);
+    }
+
+    /**
+     * Returns the property triggering the loading of a lazy include set on an object of the given class
+     *
+     * @param parentClass The parent class
+     * @return The property, or null if lazy includes are not supported for the class
+     */
+    private static String getLazyTrigger(final Class<?> parentClass) {
+        //javafx.controls is not a dependency of the compiler
+        for (var clazz = parentClass; clazz != null; clazz = clazz.getSuperclass()) {
+            if (clazz.getName().equals("javafx.scene.control.Tab")) {
+                return "selectedProperty()";
+            } else if (clazz.getName().equals("javafx.scene.control.TitledPane")) {
+                return "expandedProperty()";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Formats children objects given that they are more than one.
+     * The children are added using the varargs addAll if available (e.g. ObservableList) to avoid a temporary list
      *
      * @param variables      The children variables
      * @param propertyName   The property name
@@ -197,8 +306,16 @@ final class PropertyFormatter {
     private void formatMultipleChildren(final Iterable<String> variables, final String propertyName, final ParsedObject parent,
                                         final String parentVariable) throws GenerationException {
         final var getMethod = getGetMethod(propertyName);
-        if (ReflectionHelper.hasMethod(ReflectionHelper.getClass(parent.className()), getMethod)) {
-            progress.stringBuilder().append("        ").append(parentVariable).append(".").append(getMethod).append("().addAll(").append(helperProvider.getCompatibilityHelper().getListOf()).append(String.join(", ", variables)).append("));\n");
+        final var parentClass = ReflectionHelper.getClass(parent.className());
+        if (ReflectionHelper.hasMethod(parentClass, getMethod)) {
+            final var returnType = ReflectionHelper.getMethod(parentClass, getMethod).getReturnType();
+            final var sb = progress.stringBuilder();
+            sb.append("        ").append(parentVariable).append(".").append(getMethod).append("().addAll(");
+            if (ReflectionHelper.hasMethod(returnType, "addAll", Object[].class)) {
+                sb.append(String.join(", ", variables)).append(");\n");
+            } else {
+                sb.append(helperProvider.getCompatibilityHelper().getListOf()).append(String.join(", ", variables)).append("));\n");
+            }
         } else {
             throw getCannotSetException(propertyName, parent.className());
         }
@@ -240,7 +357,12 @@ final class PropertyFormatter {
             sb.append("        ").append(parentVariable).append(".").append(setMethod).append("(").append(variableName).append(");\n");
         } else if (ReflectionHelper.hasMethod(parentClass, getMethod)) {
             //Probably a list method that has only one element
-            sb.append("        ").append(parentVariable).append(".").append(getMethod).append("().addAll(").append(helperProvider.getCompatibilityHelper().getListOf()).append(variableName).append("));\n");
+            final var returnType = ReflectionHelper.getMethod(parentClass, getMethod).getReturnType();
+            if (ReflectionHelper.hasMethod(returnType, "add", Object.class)) {
+                sb.append("        ").append(parentVariable).append(".").append(getMethod).append("().add(").append(variableName).append(");\n");
+            } else {
+                sb.append("        ").append(parentVariable).append(".").append(getMethod).append("().addAll(").append(helperProvider.getCompatibilityHelper().getListOf()).append(variableName).append("));\n");
+            }
         } else {
             throw getCannotSetException(property.name(), parent.className());
         }
@@ -0,0 +1,156 @@
+package ch.gtache.fxml.compiler.impl.internal;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent cache of the results of {@link ReflectionHelper} lookups.
+ * The results are stored as strings so that they can be written to a file and reused by later builds.
+ * A cache file is only valid for the classpath it was created with, identified by a fingerprint.
+ */
+public final class ReflectionCache {
+
+    private static final Logger logger = LogManager.getLogger(ReflectionCache.class);
+    private static final String FINGERPRINT_PREFIX = "fingerprint\t";
+    private static final String SEPARATOR = "\t";
+
+    private static final Map<Key, String> entries = new ConcurrentHashMap<>();
+    private static volatile String fingerprint = "";
+    private static volatile boolean modified;
+
+    private ReflectionCache() {
+    }
+
+    /**
+     * Kind of cached lookup
+     */
+    enum Kind {
+        /**
+         * Whether a class has a valueOf(String) method
+         */
+        VALUE_OF,
+        /**
+         * Default property of a class
+         */
+        DEFAULT_PROPERTY,
+        /**
+         * Resolution of an instance method
+         */
+        METHOD,
+        /**
+         * Resolution of a static method
+         */
+        STATIC_METHOD
+    }
+
+    /**
+     * Gets a cached value
+     *
+     * @param kind The kind of lookup
+     * @param key  The lookup key
+     * @return The value, or null if not cached
+     */
+    static String get(final Kind kind, final String key) {
+        return entries.get(new Key(kind, key));
+    }
+
+    /**
+     * Caches a value
+     *
+     * @param kind  The kind of lookup
+     * @param key   The lookup key
+     * @param value The value
+     */
+    static void put(final Kind kind, final String key, final String value) {
+        if (!Objects.equals(entries.put(new Key(kind, key), value), value)) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Loads the given cache file. The file is ignored if it doesn't exist, is invalid or if its fingerprint doesn't
+     * match the given one
+     *
+     * @param file        The cache file
+     * @param fingerprint The fingerprint of the current classpath
+     */
+    public static synchronized void load(final Path file, final String fingerprint) {
+        if (!fingerprint.equals(ReflectionCache.fingerprint)) {
+            entries.clear();
+            ReflectionCache.fingerprint = fingerprint;
+        }
+        if (Files.isRegularFile(file)) {
+            try {
+                final var lines = Files.readAllLines(file);
+                if (!lines.isEmpty() && lines.getFirst().equals(FINGERPRINT_PREFIX + fingerprint)) {
+                    final var loaded = HashMap.<Key, String>newHashMap(lines.size() - 1);
+                    for (final var line : lines.subList(1, lines.size())) {
+                        final var split = line.split(SEPARATOR, 3);
+                        if (split.length == 3) {
+                            loaded.put(new Key(Kind.valueOf(split[0]), split[1]), split[2]);
+                        } else {
+                            logger.warn("Invalid reflection cache line {} in {}, ignoring cache", line, file);
+                            return;
+                        }
+                    }
+                    loaded.forEach(entries::putIfAbsent);
+                    logger.info("Loaded {} reflection cache entries from {}", loaded.size(), file);
+                } else {
+                    logger.info("Reflection cache {} is outdated, ignoring", file);
+                    modified = true;
+                }
+            } catch (final IOException | RuntimeException e) {
+                logger.warn("Error reading reflection cache {}, ignoring", file, e);
+            }
+        } else {
+            modified = true;
+        }
+    }
+
+    /**
+     * Saves the cache to the given file if it has been modified since it was loaded
+     *
+     * @param file The cache file
+     * @throws IOException If an error occurs
+     */
+    public static synchronized void save(final Path file) throws IOException {
+        if (modified || !Files.isRegularFile(file)) {
+            final var lines = new ArrayList<String>(entries.size() + 1);
+            lines.add(FINGERPRINT_PREFIX + fingerprint);
+            entries.forEach((k, v) -> lines.add(k.kind().name() + SEPARATOR + k.key() + SEPARATOR + v));
+            final var parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            final var temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, lines);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            modified = false;
+            logger.info("Saved {} reflection cache entries to {}", entries.size(), file);
+        }
+    }
+
+    /**
+     * Clears the cache
+     */
+    public static synchronized void clear() {
+        entries.clear();
+        fingerprint = "";
+        modified = false;
+    }
+
+    private record Key(Kind kind, String key) {
+    }
+}
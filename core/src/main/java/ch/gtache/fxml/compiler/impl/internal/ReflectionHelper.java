@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static ch.gtache.fxml.compiler.impl.internal.GenerationHelper.FX_ID;
@@ -36,6 +37,9 @@ final class ReflectionHelper {
     private static final Map<Class<?>, Map<MethodKey, Method>> staticMethods = new ConcurrentHashMap<>();
     private static final Map<Class<?>, Map<MethodKey, Class<?>>> methodsReturnType = new ConcurrentHashMap<>();
 
+    private static final String NOT_FOUND_PREFIX = "!";
+    private static final String ANY_TYPE = "?";
+
     private static final Map<String, Class<?>> PRIMITIVE_TYPES = Map.of(
             "boolean", boolean.class,
             "byte", byte.class,
@@ -188,7 +192,69 @@ final class ReflectionHelper {
         return computeMethod(clazz, methodKey, true);
     }
 
+    /**
+     * Computes the method corresponding to the given key, using the persistent {@link ReflectionCache} if possible
+     *
+     * @param clazz     The class
+     * @param methodKey The method key
+     * @param isStatic  True if the method is static
+     * @return The method
+     * @throws GenerationException If the method is not found
+     */
     private static Method computeMethod(final Class<?> clazz, final MethodKey methodKey, final boolean isStatic) throws GenerationException {
+        final var kind = isStatic ? ReflectionCache.Kind.STATIC_METHOD : ReflectionCache.Kind.METHOD;
+        final var key = clazz.getName() + "#" + methodKey.format();
+        final var cached = ReflectionCache.get(kind, key);
+        if (cached != null) {
+            if (cached.startsWith(NOT_FOUND_PREFIX)) {
+                throw new GenerationException(cached.substring(NOT_FOUND_PREFIX.length()));
+            }
+            final var method = resolveMethod(clazz, methodKey.methodName(), cached);
+            if (method != null) {
+                return method;
+            }
+        }
+        try {
+            final var method = lookupMethod(clazz, methodKey, isStatic);
+            ReflectionCache.put(kind, key, formatTypes(Arrays.asList(method.getParameterTypes())));
+            return method;
+        } catch (final GenerationException e) {
+            ReflectionCache.put(kind, key, NOT_FOUND_PREFIX + e.getMessage().replace('\n', ' '));
+            throw e;
+        }
+    }
+
+    /**
+     * Resolves a method previously found with the given parameter types
+     *
+     * @param clazz          The class
+     * @param methodName     The method name
+     * @param parameterTypes The formatted parameter types
+     * @return The method, or null if it can't be resolved anymore
+     */
+    private static Method resolveMethod(final Class<?> clazz, final String methodName, final String parameterTypes) {
+        try {
+            final var names = parameterTypes.isEmpty() ? new String[0] : parameterTypes.split(",");
+            final var types = new Class<?>[names.length];
+            for (var i = 0; i < names.length; i++) {
+                types[i] = getClass(names[i]);
+            }
+            return clazz.getMethod(methodName, types);
+        } catch (final GenerationException | NoSuchMethodException e) {
+            logger.debug("Couldn't resolve cached method {}#{}({})", clazz.getName(), methodName, parameterTypes, e);
+            return null;
+        }
+    }
+
+    private static String formatTypes(final Iterable<? extends Class<?>> types) {
+        final var joiner = new StringJoiner(",");
+        for (final var type : types) {
+            joiner.add(type == null ? ANY_TYPE : type.getName());
+        }
+        return joiner.toString();
+    }
+
+    private static Method lookupMethod(final Class<?> clazz, final MethodKey methodKey, final boolean isStatic) throws GenerationException {
         final var parameterTypes = methodKey.parameterTypes();
         if (parameterTypes.stream().allMatch(Objects::nonNull)) {
             return computeExactMethod(clazz, methodKey, isStatic);
@@ -240,7 +306,16 @@ final class ReflectionHelper {
      * @return True if the class has a valueOf(String)
      */
     static boolean hasValueOf(final Class<?> clazz) {
-        return hasValueOf.computeIfAbsent(clazz, ReflectionHelper::computeHasValueOf);
+        return hasValueOf.computeIfAbsent(clazz, c -> {
+            final var cached = ReflectionCache.get(ReflectionCache.Kind.VALUE_OF, c.getName());
+            if (cached == null) {
+                final var computed = computeHasValueOf(c);
+                ReflectionCache.put(ReflectionCache.Kind.VALUE_OF, c.getName(), String.valueOf(computed));
+                return computed;
+            } else {
+                return Boolean.parseBoolean(cached);
+            }
+        });
     }
 
     /**
@@ -298,7 +373,14 @@ final class ReflectionHelper {
         if (defaultProperty.containsKey(className)) {
             return defaultProperty.get(className);
         } else {
-            final var property = computeDefaultProperty(className);
+            final var cached = ReflectionCache.get(ReflectionCache.Kind.DEFAULT_PROPERTY, className);
+            final String property;
+            if (cached == null) {
+                property = computeDefaultProperty(className);
+                ReflectionCache.put(ReflectionCache.Kind.DEFAULT_PROPERTY, className, property == null ? "" : property);
+            } else {
+                property = cached.isEmpty() ? null : cached;
+            }
             if (property != null) {
                 defaultProperty.put(className, property);
             }
@@ -487,5 +569,12 @@ final class ReflectionHelper {
     }
 
     private record MethodKey(String methodName, List<Class<?>> parameterTypes) {
+
+        /**
+         * @return The string representation of this key, used by {@link ReflectionCache}
+         */
+        String format() {
+            return methodName + "(" + formatTypes(parameterTypes) + ")";
+        }
     }
 }
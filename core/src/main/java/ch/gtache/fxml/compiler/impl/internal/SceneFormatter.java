@@ -7,6 +7,7 @@ import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import ch.gtache.fxml.compiler.parsing.ParsedProperty;
 import ch.gtache.fxml.compiler.parsing.impl.ParsedPropertyImpl;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -55,8 +56,9 @@ final class SceneFormatter {
                 default -> throw new GenerationException("Unknown font attribute : " + property.name());
             }
         }
+        final var fill = helperProvider.getValueFormatter().getArg(paint, Paint.class);
         sb.append(helperProvider.getCompatibilityHelper().getStartVar("javafx.scene.Scene")).append(variableName).append(" = new javafx.scene.Scene(").append(rootVariableName).append(", ")
-                .append(width).append(", ").append(height).append(", javafx.scene.paint.Color.valueOf(\"").append(paint).append("\"));\n");
+                .append(width).append(", ").append(height).append(", ").append(fill).append(");\n");
         addStylesheets(variableName, stylesheets);
     }
 
@@ -111,11 +113,9 @@ final class SceneFormatter {
 
     private void addStylesheets(final String variableName, final Collection<String> stylesheets) {
         if (!stylesheets.isEmpty()) {
-            final var urlVariables = helperProvider.getURLFormatter().formatURL(stylesheets);
-            final var tmpVariable = helperProvider.getVariableProvider().getNextVariableName("stylesheets");
-            final var compatibilityHelper = helperProvider.getCompatibilityHelper();
-            sb.append(compatibilityHelper.getStartVar("java.util.List<String>")).append(tmpVariable).append(" = ").append(variableName).append(".getStyleSheets();\n");
-            sb.append("        ").append(tmpVariable).append(".addAll(").append(compatibilityHelper.getListOf()).append(String.join(", ", urlVariables)).append("));\n");
+            final var urls = helperProvider.getURLFormatter().formatURL(stylesheets);
+            final var strings = urls.stream().map(u -> u + ".toString()").toList();
+            sb.append("        ").append(variableName).append(".getStylesheets().addAll(").append(String.join(", ", strings)).append(");\n");
         }
     }
 }
@@ -0,0 +1,330 @@
+package ch.gtache.fxml.compiler.impl.internal;
+
+import ch.gtache.fxml.compiler.GenerationException;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SequencedMap;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static ch.gtache.fxml.compiler.impl.internal.GenerationHelper.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Compiles the inline styles at build time.
+ * The declarations mapping directly to a property of a JavaFX node (sizes, padding, plain colors, alignment) are
+ * formatted as setter calls, with the Insets and Background values shared in static constants ; the other declarations
+ * are still given to setStyle. Any style which can't be parsed safely (comments, quotes, malformed declarations) is
+ * left untouched.
+ * An inline style has a higher priority than the properties set in the FXML, so a declaration whose property is also
+ * set by the FXML is still given to setStyle, the setters not being called in a fixed order relative to the style.
+ */
+final class StyleFormatter {
+
+    private static final Logger logger = LogManager.getLogger(StyleFormatter.class);
+
+    private static final String STYLE_PREFIX = "-fx-";
+    private static final String BACKGROUND_PREFIX = STYLE_PREFIX + "background-";
+    private static final String BACKGROUND_COLOR = BACKGROUND_PREFIX + "color";
+    private static final String BACKGROUND_PROPERTY = "background";
+    private static final String CONTROL_CLASS = "javafx.scene.control.Control";
+    private static final Pattern DECLARATION_SEPARATOR_PATTERN = Pattern.compile(";");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern SIZE_PATTERN = Pattern.compile("-?(?:\\d+|\\d*\\.\\d+)(?:px)?");
+    private static final Pattern COLOR_PATTERN = Pattern.compile("#\\p{XDigit}{3,8}|[a-z]+|rgba?\\([^)]*\\)");
+    private static final Map<String, StyleType> PROPERTIES = Map.ofEntries(
+            Map.entry("-fx-opacity", StyleType.SIZE),
+            Map.entry("-fx-rotate", StyleType.SIZE),
+            Map.entry("-fx-scale-x", StyleType.SIZE),
+            Map.entry("-fx-scale-y", StyleType.SIZE),
+            Map.entry("-fx-translate-x", StyleType.SIZE),
+            Map.entry("-fx-translate-y", StyleType.SIZE),
+            Map.entry("-fx-min-width", StyleType.SIZE),
+            Map.entry("-fx-pref-width", StyleType.SIZE),
+            Map.entry("-fx-max-width", StyleType.SIZE),
+            Map.entry("-fx-min-height", StyleType.SIZE),
+            Map.entry("-fx-pref-height", StyleType.SIZE),
+            Map.entry("-fx-max-height", StyleType.SIZE),
+            Map.entry("-fx-spacing", StyleType.SIZE),
+            Map.entry("-fx-hgap", StyleType.SIZE),
+            Map.entry("-fx-vgap", StyleType.SIZE),
+            Map.entry("-fx-padding", StyleType.INSETS),
+            Map.entry("-fx-text-fill", StyleType.PAINT),
+            Map.entry("-fx-alignment", StyleType.POS)
+    );
+
+    private final HelperProvider helperProvider;
+
+    StyleFormatter(final HelperProvider helperProvider) {
+        this.helperProvider = requireNonNull(helperProvider);
+    }
+
+    /**
+     * Formats an inline style
+     *
+     * @param style         The style
+     * @param nodeClass     The styled node class
+     * @param nodeVariable  The styled node variable
+     * @param setProperties The names of the properties of the node set by the FXML
+     * @return The setter calls, followed by a setStyle call with the remaining declarations if any
+     * @throws GenerationException if an error occurs
+     */
+    String formatStyle(final String style, final Class<?> nodeClass, final String nodeVariable,
+                       final Set<String> setProperties) throws GenerationException {
+        final var declarations = parseDeclarations(style);
+        if (declarations == null || !Node.class.isAssignableFrom(nodeClass)) {
+            return formatSetStyle(style, nodeVariable);
+        }
+        final var sb = new StringBuilder();
+        final var remaining = new ArrayList<String>();
+        for (final var entry : declarations.entrySet()) {
+            final var declaration = entry.getValue();
+            final var setter = formatDeclaration(entry.getKey(), declaration.value(), nodeClass, declarations, setProperties);
+            if (setter == null) {
+                remaining.add(declaration.text());
+            } else {
+                sb.append(INDENT_8).append(nodeVariable).append(".").append(setter).append(";\n");
+            }
+        }
+        if (!remaining.isEmpty()) {
+            sb.append(formatSetStyle(String.join("; ", remaining), nodeVariable));
+        }
+        return sb.toString();
+    }
+
+    private static String formatSetStyle(final String style, final String nodeVariable) {
+        return INDENT_8 + nodeVariable + ".setStyle(" + ValueFormatter.toString(style, String.class) + ");\n";
+    }
+
+    /**
+     * Parses the declarations of a style. A repeated property keeps its last value, like CSS
+     *
+     * @param style The style
+     * @return The declarations by property name, or null if the style can't be parsed safely
+     */
+    private static SequencedMap<String, Declaration> parseDeclarations(final String style) {
+        if (style.contains("\"") || style.contains("'") || style.contains("/*") || style.contains("\\") ||
+                style.contains("url(")) {
+            return null;
+        }
+        final var declarations = new LinkedHashMap<String, Declaration>();
+        for (final var text : DECLARATION_SEPARATOR_PATTERN.split(style)) {
+            final var trimmed = text.trim();
+            if (!trimmed.isEmpty()) {
+                final var index = trimmed.indexOf(':');
+                if (index <= 0) {
+                    return null;
+                }
+                final var name = trimmed.substring(0, index).trim().toLowerCase(Locale.ROOT);
+                final var value = trimmed.substring(index + 1).trim();
+                declarations.remove(name);
+                declarations.put(name, new Declaration(trimmed, value));
+            }
+        }
+        return declarations;
+    }
+
+    /**
+     * Formats a declaration as a setter call
+     *
+     * @param name          The property name
+     * @param value         The property value
+     * @param nodeClass     The styled node class
+     * @param declarations  All the declarations of the style
+     * @param setProperties The names of the properties of the node set by the FXML
+     * @return The setter call, or null if the declaration isn't supported
+     * @throws GenerationException if an error occurs
+     */
+    private String formatDeclaration(final String name, final String value, final Class<?> nodeClass,
+                                     final Map<String, Declaration> declarations, final Set<String> setProperties) throws GenerationException {
+        if (value.contains("!")) {
+            return null;
+        } else if (name.equals(BACKGROUND_COLOR)) {
+            return setProperties.contains(BACKGROUND_PROPERTY) ? null : formatBackground(value, nodeClass, declarations);
+        } else {
+            final var type = PROPERTIES.get(name);
+            if (type == null) {
+                return null;
+            }
+            final var propertyName = toPropertyName(name);
+            if (setProperties.contains(propertyName)) {
+                return null;
+            }
+            final var setMethod = getSetMethod(propertyName);
+            if (!isStyleableSetter(nodeClass, setMethod, type.parameterType())) {
+                return null;
+            }
+            final var arg = switch (type) {
+                case SIZE -> formatSize(value);
+                case INSETS -> formatInsets(value);
+                case PAINT -> formatColor(value);
+                case POS -> formatPos(value);
+            };
+            return arg == null ? null : setMethod + "(" + arg + ")";
+        }
+    }
+
+    /**
+     * Formats a plain background color. The background declarations are combined by the CSS engine, so the color is
+     * only compiled if it is the only background declaration ; the controls are excluded because their default
+     * stylesheet defines the background radius and insets
+     *
+     * @param value        The color
+     * @param nodeClass    The styled node class
+     * @param declarations All the declarations of the style
+     * @return The setter call, or null if the background can't be compiled
+     */
+    private String formatBackground(final String value, final Class<?> nodeClass, final Map<String, Declaration> declarations) {
+        if (!Region.class.isAssignableFrom(nodeClass) || isSubclass(nodeClass, CONTROL_CLASS) ||
+                declarations.keySet().stream().anyMatch(n -> n.startsWith(BACKGROUND_PREFIX) && !n.equals(BACKGROUND_COLOR))) {
+            return null;
+        }
+        final var color = formatColor(value);
+        if (color == null) {
+            return null;
+        }
+        final var expression = "new javafx.scene.layout.Background(new javafx.scene.layout.BackgroundFill(" + color +
+                ", javafx.scene.layout.CornerRadii.EMPTY, javafx.geometry.Insets.EMPTY))";
+        return "setBackground(" + helperProvider.getHelperMethodsFormatter().formatConstant("javafx.scene.layout.Background", expression) + ")";
+    }
+
+    private static String formatSize(final String value) {
+        final var size = parseSize(value);
+        return size == null ? null : ValueFormatter.doubleToString(size);
+    }
+
+    private String formatInsets(final String value) {
+        final var values = WHITESPACE_PATTERN.split(value);
+        if (values.length != 1 && values.length != 4) {
+            return null;
+        }
+        final var sizes = new ArrayList<String>(values.length);
+        for (final var v : values) {
+            final var size = formatSize(v);
+            if (size == null) {
+                return null;
+            }
+            sizes.add(size);
+        }
+        final var expression = "new javafx.geometry.Insets(" + String.join(", ", sizes) + ")";
+        return helperProvider.getHelperMethodsFormatter().formatConstant("javafx.geometry.Insets", expression);
+    }
+
+    /**
+     * Formats a plain color (named, hexadecimal, rgb or rgba). Looked-up colors, gradients and functions like derive
+     * are left to the CSS engine
+     *
+     * @param value The color
+     * @return The color expression, or null if the value isn't a plain color
+     */
+    private String formatColor(final String value) {
+        final var lowerValue = value.toLowerCase(Locale.ROOT);
+        if (!COLOR_PATTERN.matcher(lowerValue).matches()) {
+            return null;
+        }
+        try {
+            final var color = Color.web(lowerValue);
+            final var expression = "new javafx.scene.paint.Color(" + color.getRed() + ", " + color.getGreen() + ", " +
+                    color.getBlue() + ", " + color.getOpacity() + ")";
+            return helperProvider.getHelperMethodsFormatter().formatConstant("javafx.scene.paint.Color", expression);
+        } catch (final IllegalArgumentException e) {
+            logger.debug("Not compiling color {}", value, e);
+            return null;
+        }
+    }
+
+    private static String formatPos(final String value) {
+        try {
+            return Pos.class.getCanonicalName() + "." + Pos.valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_')).name();
+        } catch (final IllegalArgumentException e) {
+            logger.debug("Not compiling alignment {}", value, e);
+            return null;
+        }
+    }
+
+    private static Double parseSize(final String value) {
+        if (SIZE_PATTERN.matcher(value).matches()) {
+            return Double.parseDouble(value.endsWith("px") ? value.substring(0, value.length() - 2) : value);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Checks that the setter exists and is declared by JavaFX, i.e. that it sets the property targeted by the style
+     *
+     * @param nodeClass     The node class
+     * @param setMethod     The setter name
+     * @param parameterType The setter parameter type
+     * @return True if the setter can be used
+     * @throws GenerationException if an error occurs
+     */
+    private static boolean isStyleableSetter(final Class<?> nodeClass, final String setMethod, final Class<?> parameterType) throws GenerationException {
+        return ReflectionHelper.hasMethod(nodeClass, setMethod, parameterType) &&
+                ReflectionHelper.getMethod(nodeClass, setMethod, parameterType).getDeclaringClass().getName().startsWith("javafx.");
+    }
+
+    private static boolean isSubclass(final Class<?> clazz, final String className) {
+        for (var c = clazz; c != null; c = c.getSuperclass()) {
+            if (c.getName().equals(className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts a style property name to a JavaFX property name (e.g. -fx-pref-width to prefWidth)
+     *
+     * @param name The style property name
+     * @return The property name
+     */
+    private static String toPropertyName(final String name) {
+        final var parts = name.substring(STYLE_PREFIX.length()).split("-");
+        final var sb = new StringBuilder(parts[0]);
+        for (var i = 1; i < parts.length; i++) {
+            sb.append(Character.toUpperCase(parts[i].charAt(0))).append(parts[i].substring(1));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The types of the supported style values
+     */
+    private enum StyleType {
+        SIZE(double.class),
+        INSETS(Insets.class),
+        PAINT(Paint.class),
+        POS(Pos.class);
+
+        private final Class<?> parameterType;
+
+        StyleType(final Class<?> parameterType) {
+            this.parameterType = parameterType;
+        }
+
+        Class<?> parameterType() {
+            return parameterType;
+        }
+    }
+
+    /**
+     * A style declaration
+     *
+     * @param text  The declaration text
+     * @param value The declaration value
+     */
+    private record Declaration(String text, String value) {
+    }
+}
@@ -6,13 +6,9 @@ import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import ch.gtache.fxml.compiler.parsing.ParsedProperty;
 import javafx.scene.shape.VertexFormat;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
-import java.util.function.Function;
+import java.util.StringJoiner;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static ch.gtache.fxml.compiler.impl.internal.GenerationHelper.*;
 import static java.util.Objects.requireNonNull;
@@ -22,6 +18,10 @@ import static java.util.Objects.requireNonNull;
  */
 final class TriangleMeshFormatter {
 
+    private static final Pattern SPLIT_PATTERN = Pattern.compile("\\s*,\\s*|\\s+");
+    //Each element of an array literal costs about 7 bytes of bytecode in the static initializer, limited to 64KB
+    private static final int MAX_INLINE_ARRAY_LENGTH = 1024;
+
     private final HelperProvider helperProvider;
     private final StringBuilder sb;
 
@@ -33,37 +33,22 @@ final class TriangleMeshFormatter {
     void formatTriangleMesh(final ParsedObject parsedObject, final String variableName) throws GenerationException {
         if (parsedObject.children().isEmpty() && parsedObject.properties().isEmpty()) {
             final var sortedAttributes = getSortedAttributes(parsedObject);
-            final var points = new ArrayList<Float>();
-            final var texCoords = new ArrayList<Float>();
-            final var normals = new ArrayList<Float>();
-            final var faces = new ArrayList<Integer>();
-            final var faceSmoothingGroups = new ArrayList<Integer>();
+            var points = new float[0];
+            var texCoords = new float[0];
+            var normals = new float[0];
+            var faces = new int[0];
+            var faceSmoothingGroups = new int[0];
             VertexFormat vertexFormat = null;
             for (final var property : sortedAttributes) {
                 switch (property.name().toLowerCase()) {
                     case FX_ID -> {
                         //Do nothing, handled in ObjectFormatter
                     }
-                    case "points" -> {
-                        points.clear();
-                        points.addAll(parseList(property.value(), Float::parseFloat));
-                    }
-                    case "texcoords" -> {
-                        texCoords.clear();
-                        texCoords.addAll(parseList(property.value(), Float::parseFloat));
-                    }
-                    case "normals" -> {
-                        normals.clear();
-                        normals.addAll(parseList(property.value(), Float::parseFloat));
-                    }
-                    case "faces" -> {
-                        faces.clear();
-                        faces.addAll(parseList(property.value(), Integer::parseInt));
-                    }
-                    case "facesmoothinggroups" -> {
-                        faceSmoothingGroups.clear();
-                        faceSmoothingGroups.addAll(parseList(property.value(), Integer::parseInt));
-                    }
+                    case "points" -> points = parseFloats(property.value());
+                    case "texcoords" -> texCoords = parseFloats(property.value());
+                    case "normals" -> normals = parseFloats(property.value());
+                    case "faces" -> faces = parseInts(property.value());
+                    case "facesmoothinggroups" -> faceSmoothingGroups = parseInts(property.value());
                     case "vertexformat" -> vertexFormat = parseVertexFormat(property);
                     default -> throw new GenerationException("Unknown TriangleMesh attribute : " + property.name());
                 }
@@ -90,33 +75,33 @@ final class TriangleMeshFormatter {
         }
     }
 
-    private void setPoints(final String variableName, final Collection<Float> points) {
-        if (!points.isEmpty()) {
-            sb.append(INDENT_8).append(variableName).append(".getPoints().setAll(new float[]{").append(formatList(points)).append("});\n");
+    private void setPoints(final String variableName, final float[] points) {
+        if (points.length > 0) {
+            sb.append(INDENT_8).append(variableName).append(".getPoints().setAll(").append(formatArray(points)).append(");\n");
         }
     }
 
-    private void setTexCoords(final String variableName, final Collection<Float> texCoords) {
-        if (!texCoords.isEmpty()) {
-            sb.append(INDENT_8).append(variableName).append(".getTexCoords().setAll(new float[]{").append(formatList(texCoords)).append("});\n");
+    private void setTexCoords(final String variableName, final float[] texCoords) {
+        if (texCoords.length > 0) {
+            sb.append(INDENT_8).append(variableName).append(".getTexCoords().setAll(").append(formatArray(texCoords)).append(");\n");
         }
     }
 
-    private void setNormals(final String variableName, final Collection<Float> normals) {
-        if (!normals.isEmpty()) {
-            sb.append(INDENT_8).append(variableName).append(".getNormals().setAll(new float[]{").append(formatList(normals)).append("});\n");
+    private void setNormals(final String variableName, final float[] normals) {
+        if (normals.length > 0) {
+            sb.append(INDENT_8).append(variableName).append(".getNormals().setAll(").append(formatArray(normals)).append(");\n");
         }
     }
 
-    private void setFaces(final String variableName, final Collection<Integer> faces) {
-        if (!faces.isEmpty()) {
-            sb.append(INDENT_8).append(variableName).append(".getFaces().setAll(new int[]{").append(formatList(faces)).append("});\n");
+    private void setFaces(final String variableName, final int[] faces) {
+        if (faces.length > 0) {
+            sb.append(INDENT_8).append(variableName).append(".getFaces().setAll(").append(formatArray(faces)).append(");\n");
         }
     }
 
-    private void setFaceSmoothingGroups(final String variableName, final Collection<Integer> faceSmoothingGroups) {
-        if (!faceSmoothingGroups.isEmpty()) {
-            sb.append(INDENT_8).append(variableName).append(".getFaceSmoothingGroups().setAll(new int[]{").append(formatList(faceSmoothingGroups)).append("});\n");
+    private void setFaceSmoothingGroups(final String variableName, final int[] faceSmoothingGroups) {
+        if (faceSmoothingGroups.length > 0) {
+            sb.append(INDENT_8).append(variableName).append(".getFaceSmoothingGroups().setAll(").append(formatArray(faceSmoothingGroups)).append(");\n");
         }
     }
 
@@ -126,13 +111,57 @@ final class TriangleMeshFormatter {
         }
     }
 
-    private static <T> String formatList(final Collection<T> list) {
-        return list.stream().map(String::valueOf).collect(Collectors.joining(", "));
+    /**
+     * Formats a reference to a static constant containing the given array. The array is copied by setAll, it is
+     * therefore only created once per view class instead of at each load. The large arrays are read from a resource
+     * instead of being created by the static initializer, if the generated code may use resources.
+     *
+     * @param array The array
+     * @return The reference
+     */
+    private String formatArray(final float[] array) {
+        final var helperMethodsFormatter = helperProvider.getHelperMethodsFormatter();
+        if (array.length > MAX_INLINE_ARRAY_LENGTH && helperMethodsFormatter.useResources()) {
+            return helperMethodsFormatter.formatResourceArray(array);
+        }
+        final var joiner = new StringJoiner(", ", "new float[]{", "}");
+        for (final var value : array) {
+            joiner.add(ValueFormatter.floatToString(value));
+        }
+        return helperMethodsFormatter.formatConstant("float[]", joiner.toString());
+    }
+
+    private String formatArray(final int[] array) {
+        final var helperMethodsFormatter = helperProvider.getHelperMethodsFormatter();
+        if (array.length > MAX_INLINE_ARRAY_LENGTH && helperMethodsFormatter.useResources()) {
+            return helperMethodsFormatter.formatResourceArray(array);
+        }
+        final var joiner = new StringJoiner(", ", "new int[]{", "}");
+        for (final var value : array) {
+            joiner.add(String.valueOf(value));
+        }
+        return helperMethodsFormatter.formatConstant("int[]", joiner.toString());
+    }
+
+    private static float[] parseFloats(final String value) {
+        final var split = split(value);
+        final var floats = new float[split.length];
+        for (var i = 0; i < split.length; i++) {
+            floats[i] = Float.parseFloat(split[i]);
+        }
+        return floats;
+    }
+
+    private static int[] parseInts(final String value) {
+        final var split = split(value);
+        final var ints = new int[split.length];
+        for (var i = 0; i < split.length; i++) {
+            ints[i] = Integer.parseInt(split[i]);
+        }
+        return ints;
     }
 
-    private static <T> List<T> parseList(final CharSequence value, final Function<? super String, ? extends T> parser) {
-        final var splitPattern = Pattern.compile("\\s*,\\s*|\\s+");
-        final var split = splitPattern.split(value);
-        return Arrays.stream(split).map(String::trim).filter(s -> !s.isEmpty()).map(parser).collect(Collectors.toList());
+    private static String[] split(final CharSequence value) {
+        return Arrays.stream(SPLIT_PATTERN.split(value)).filter(s -> !s.isEmpty()).toArray(String[]::new);
     }
 }
@@ -4,6 +4,9 @@ import ch.gtache.fxml.compiler.GenerationException;
 import ch.gtache.fxml.compiler.impl.GeneratorImpl;
 import ch.gtache.fxml.compiler.parsing.ParsedObject;
 
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,7 +15,9 @@ import static java.util.Objects.requireNonNull;
 
 
 /**
- * Helper methods for {@link GeneratorImpl} to format URLs
+ * Helper methods for {@link GeneratorImpl} to format URLs.
+ * The relative URLs and the valid absolute URLs don't change at runtime : they are resolved once per generated class
+ * (see {@link HelperMethodsFormatter#formatResourceURL(String)}) instead of at each load.
  */
 final class URLFormatter {
 
@@ -32,19 +37,37 @@ final class URLFormatter {
         return ret;
     }
 
+    /**
+     * Formats the given URL
+     *
+     * @param url The URL (relative if starting with @)
+     * @return The expression of the URL (variable or constant)
+     */
     String formatURL(final String url) {
-        final var variableName = helperProvider.getVariableProvider().getNextVariableName("url");
+        final var helperMethodsFormatter = helperProvider.getHelperMethodsFormatter();
         if (url.startsWith(RELATIVE_PATH_PREFIX)) {
-            sb.append(getStartURL()).append(variableName).append(" = getClass().getResource(\"").append(url.substring(1)).append("\");\n");
+            return helperMethodsFormatter.formatResourceURL(url.substring(1));
+        } else if (isValidURL(url)) {
+            return helperMethodsFormatter.formatAbsoluteURL(url);
         } else {
+            final var variableName = helperProvider.getVariableProvider().getNextVariableName("url");
             sb.append("        final java.net.URL ").append(variableName).append(";\n");
             sb.append("        try {\n");
             sb.append("            ").append(variableName).append(" = new java.net.URI(\"").append(url).append("\").toURL();\n");
             sb.append("        } catch (final java.net.MalformedURLException | java.net.URISyntaxException e) {\n");
             sb.append("            throw new RuntimeException(\"Couldn't parse url : ").append(url).append("\", e);\n");
             sb.append("        }\n");
+            return variableName;
+        }
+    }
+
+    private static boolean isValidURL(final String url) {
+        try {
+            new URI(url).toURL();
+            return true;
+        } catch (final MalformedURLException | URISyntaxException | IllegalArgumentException ignored) {
+            return false;
         }
-        return variableName;
     }
 
     void formatURL(final ParsedObject parsedObject, final String variableName) throws GenerationException {
@@ -61,7 +84,8 @@ final class URLFormatter {
                 }
             }
             //FIXME only relative path (@) ?
-            sb.append(getStartURL()).append(variableName).append(" = getClass().getResource(\"").append(value).append("\");\n");
+            final var url = helperProvider.getHelperMethodsFormatter().formatResourceURL(value);
+            sb.append(getStartURL()).append(variableName).append(" = ").append(url).append(";\n");
         } else {
             throw new GenerationException("URL cannot have children or properties : " + parsedObject);
         }
@@ -4,6 +4,11 @@ import ch.gtache.fxml.compiler.GenerationException;
 import ch.gtache.fxml.compiler.ResourceBundleInjectionType;
 import ch.gtache.fxml.compiler.impl.GeneratorImpl;
 
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.util.Duration;
+
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.regex.Pattern;
@@ -12,7 +17,10 @@ import static ch.gtache.fxml.compiler.impl.internal.GenerationHelper.*;
 import static java.util.Objects.requireNonNull;
 
 /**
- * Helper methods for {@link GeneratorImpl} to format values
+ * Helper methods for {@link GeneratorImpl} to format values.
+ * The values that would be parsed at runtime (numbers, dates, colors, durations) are parsed at build time if possible
+ * and formatted as literals or as direct constructions ; invalid values are still parsed at runtime so that the error
+ * is reported by the view.
  */
 final class ValueFormatter {
 
@@ -52,13 +60,38 @@ final class ValueFormatter {
                 throw new GenerationException("Unknown variable : " + value.substring(1));
             }
             return variable.variableName();
+        } else if (isImmutableValue(parameterType)) {
+            return helperProvider.getHelperMethodsFormatter().formatConstant(parameterType.getCanonicalName(), toString(value, parameterType));
         } else {
             return toString(value, parameterType);
         }
     }
 
-    private static String getResourceValue(final String subpath) {
-        return "getClass().getResource(\"" + subpath + "\").toString()";
+    /**
+     * Checks if the values of the given class are immutable objects parsed by {@link #toString(String, Class)}
+     *
+     * @param clazz The class
+     * @return True if the values are parsed immutable objects
+     */
+    private static boolean isImmutableValue(final Class<?> clazz) {
+        return IMMUTABLE_CLASSES.contains(clazz.getName()) && ReflectionHelper.hasValueOf(clazz);
+    }
+
+    /**
+     * Checks if the values of the given class are formatted by {@link #toString(String, Class)} as expressions only
+     * depending on literals
+     *
+     * @param clazz The class
+     * @return True if the formatted values are constant
+     */
+    static boolean isConstantType(final Class<?> clazz) {
+        return clazz.isPrimitive() || clazz == String.class || clazz == Boolean.class || clazz == Character.class ||
+                clazz == Byte.class || clazz == Short.class || clazz == Integer.class || clazz == Long.class ||
+                clazz == Float.class || clazz == Double.class || clazz.isEnum() || isImmutableValue(clazz);
+    }
+
+    private String getResourceValue(final String subpath) {
+        return helperProvider.getHelperMethodsFormatter().formatResourceURL(subpath) + ".toString()";
     }
 
     /**
@@ -97,9 +130,9 @@ final class ValueFormatter {
         } else if (clazz == float.class || clazz == Float.class || clazz == double.class || clazz == Double.class) {
             return decimalToString(value, clazz);
         } else if (clazz == LocalDate.class) {
-            return "LocalDate.parse(\"" + value + "\")";
+            return localDateToString(value);
         } else if (clazz == LocalDateTime.class) {
-            return "LocalDateTime.parse(\"" + value + "\")";
+            return localDateTimeToString(value);
         } else if (ReflectionHelper.hasValueOf(clazz)) {
             return valueOfToString(value, clazz);
         } else {
@@ -111,7 +144,19 @@ final class ValueFormatter {
         if (INT_PATTERN.matcher(value).matches()) {
             return value;
         } else {
-            return getValueOf(ReflectionHelper.getWrapperClass(clazz), value);
+            try {
+                if (clazz == byte.class || clazz == Byte.class) {
+                    return "(byte) " + Byte.parseByte(value);
+                } else if (clazz == short.class || clazz == Short.class) {
+                    return "(short) " + Short.parseShort(value);
+                } else if (clazz == long.class || clazz == Long.class) {
+                    return Long.parseLong(value) + "L";
+                } else {
+                    return String.valueOf(Integer.parseInt(value));
+                }
+            } catch (final NumberFormatException ignored) {
+                return getValueOf(ReflectionHelper.getWrapperClass(clazz), value);
+            }
         }
     }
 
@@ -119,7 +164,67 @@ final class ValueFormatter {
         if (DECIMAL_PATTERN.matcher(value).matches()) {
             return value;
         } else {
-            return getValueOf(ReflectionHelper.getWrapperClass(clazz), value);
+            try {
+                if (clazz == float.class || clazz == Float.class) {
+                    return floatToString(Float.parseFloat(value));
+                } else {
+                    return doubleToString(Double.parseDouble(value));
+                }
+            } catch (final NumberFormatException ignored) {
+                return getValueOf(ReflectionHelper.getWrapperClass(clazz), value);
+            }
+        }
+    }
+
+    /**
+     * Formats the given float as a literal
+     *
+     * @param value The value
+     * @return The literal
+     */
+    static String floatToString(final float value) {
+        if (Float.isNaN(value)) {
+            return "Float.NaN";
+        } else if (Float.isInfinite(value)) {
+            return value > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+        } else {
+            return value + "f";
+        }
+    }
+
+    /**
+     * Formats the given double as a literal
+     *
+     * @param value The value
+     * @return The literal
+     */
+    static String doubleToString(final double value) {
+        if (Double.isNaN(value)) {
+            return "Double.NaN";
+        } else if (Double.isInfinite(value)) {
+            return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+        } else {
+            return String.valueOf(value);
+        }
+    }
+
+    private static String localDateToString(final String value) {
+        try {
+            final var date = LocalDate.parse(value);
+            return "java.time.LocalDate.of(" + date.getYear() + ", " + date.getMonthValue() + ", " + date.getDayOfMonth() + ")";
+        } catch (final DateTimeException ignored) {
+            return "java.time.LocalDate.parse(\"" + value + "\")";
+        }
+    }
+
+    private static String localDateTimeToString(final String value) {
+        try {
+            final var dateTime = LocalDateTime.parse(value);
+            return "java.time.LocalDateTime.of(" + dateTime.getYear() + ", " + dateTime.getMonthValue() + ", " +
+                    dateTime.getDayOfMonth() + ", " + dateTime.getHour() + ", " + dateTime.getMinute() + ", " +
+                    dateTime.getSecond() + ", " + dateTime.getNano() + ")";
+        } catch (final DateTimeException ignored) {
+            return "java.time.LocalDateTime.parse(\"" + value + "\")";
         }
     }
 
@@ -127,7 +232,40 @@ final class ValueFormatter {
         if (clazz.isEnum()) {
             return clazz.getCanonicalName() + "." + value;
         } else {
-            return getValueOf(clazz.getCanonicalName(), value);
+            final var parsed = parseValueOf(value, clazz);
+            return parsed == null ? getValueOf(clazz.getCanonicalName(), value) : parsed;
+        }
+    }
+
+    /**
+     * Parses the values of the known classes
+     *
+     * @param value The value
+     * @param clazz The value class
+     * @return The expression creating the parsed value, or null if the class is unknown or the value is invalid
+     */
+    private static String parseValueOf(final String value, final Class<?> clazz) {
+        try {
+            if (clazz == Color.class || clazz == Paint.class) {
+                return Paint.valueOf(value) instanceof final Color color ? "new javafx.scene.paint.Color(" + color.getRed() +
+                        ", " + color.getGreen() + ", " + color.getBlue() + ", " + color.getOpacity() + ")" : null;
+            } else if (clazz == Duration.class) {
+                return durationToString(Duration.valueOf(value));
+            } else {
+                return null;
+            }
+        } catch (final IllegalArgumentException ignored) {
+            return null;
+        }
+    }
+
+    private static String durationToString(final Duration duration) {
+        if (duration.isIndefinite()) {
+            return "javafx.util.Duration.INDEFINITE";
+        } else if (duration.isUnknown()) {
+            return "javafx.util.Duration.UNKNOWN";
+        } else {
+            return "javafx.util.Duration.millis(" + doubleToString(duration.toMillis()) + ")";
         }
     }
 
@@ -3,9 +3,12 @@ package ch.gtache.fxml.compiler.impl;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class TestClassesFinder {
 
@@ -37,4 +40,27 @@ class TestClassesFinder {
         final var actual = ClassesFinder.getClasses("javafx.beans");
         assertEquals(expected, actual);
     }
+
+    @Test
+    void testGetClassMapJar() throws IOException {
+        final var actual = ClassesFinder.getClassMap("javafx.beans");
+        assertEquals("javafx.beans.NamedArg", actual.get("NamedArg"));
+        assertEquals(6, actual.size());
+        assertSame(actual, ClassesFinder.getClassMap("javafx.beans"));
+    }
+
+    @Test
+    void testGetClassMapUnknown() throws IOException {
+        assertEquals(Map.of(), ClassesFinder.getClassMap("unknown.pkg"));
+    }
+
+    @Test
+    void testClear() throws IOException {
+        final var map = ClassesFinder.getClassMap("javafx.beans");
+        ClassesFinder.clear();
+        final var actual = ClassesFinder.getClassMap("javafx.beans");
+        assertNotSame(map, actual);
+        assertEquals(map, actual);
+        assertEquals("javafx.beans.value.ObservableValue", ClassesFinder.getClassMap("javafx.beans.value").get("ObservableValue"));
+    }
 }
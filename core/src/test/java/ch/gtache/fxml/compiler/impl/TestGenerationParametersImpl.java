@@ -27,6 +27,12 @@ class TestGenerationParametersImpl {
     private final ControllerFieldInjectionType fieldInjectionType;
     private final ControllerMethodsInjectionType methodInjectionType;
     private final ResourceBundleInjectionType resourceInjectionType;
+    private final int maxLoadMethodSize;
+    private final boolean lazyIncludes;
+    private final boolean asyncLoad;
+    private final boolean incrementalLoad;
+    private final boolean compileStyles;
+    private final boolean objectAccessors;
     private final GenerationParameters parameters;
 
     TestGenerationParametersImpl(@Mock final GenerationCompatibility compatibility, @Mock final ControllerInjectionType controllerInjectionType,
@@ -39,7 +45,13 @@ class TestGenerationParametersImpl {
         this.methodInjectionType = requireNonNull(methodInjectionType);
         this.resourceInjectionType = requireNonNull(resourceInjectionType);
         this.bundleMap = Map.of("source", "generated");
-        this.parameters = new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, bundleMap, controllerInjectionType, fieldInjectionType, methodInjectionType, resourceInjectionType);
+        this.maxLoadMethodSize = 8000;
+        this.lazyIncludes = true;
+        this.asyncLoad = true;
+        this.incrementalLoad = true;
+        this.compileStyles = true;
+        this.objectAccessors = true;
+        this.parameters = new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, bundleMap, controllerInjectionType, fieldInjectionType, methodInjectionType, resourceInjectionType, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors);
     }
 
     @Test
@@ -51,15 +63,22 @@ class TestGenerationParametersImpl {
         assertEquals(fieldInjectionType, parameters.fieldInjectionType());
         assertEquals(methodInjectionType, parameters.methodInjectionType());
         assertEquals(resourceInjectionType, parameters.resourceInjectionType());
+        assertEquals(maxLoadMethodSize, parameters.maxLoadMethodSize());
+        assertEquals(lazyIncludes, parameters.lazyIncludes());
+        assertEquals(asyncLoad, parameters.asyncLoad());
+        assertEquals(incrementalLoad, parameters.incrementalLoad());
+        assertEquals(compileStyles, parameters.compileStyles());
+        assertEquals(objectAccessors, parameters.objectAccessors());
     }
 
     @Test
     void testIllegal() {
-        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(null, useImageInputStreamConstructor, bundleMap, controllerInjectionType, fieldInjectionType, methodInjectionType, resourceInjectionType));
-        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, null, controllerInjectionType, fieldInjectionType, methodInjectionType, resourceInjectionType));
-        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, bundleMap, null, fieldInjectionType, methodInjectionType, resourceInjectionType));
-        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, bundleMap, controllerInjectionType, null, methodInjectionType, resourceInjectionType));
-        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, bundleMap, controllerInjectionType, fieldInjectionType, null, resourceInjectionType));
-        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, bundleMap, controllerInjectionType, fieldInjectionType, methodInjectionType, null));
+        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(null, useImageInputStreamConstructor, bundleMap, controllerInjectionType, fieldInjectionType, methodInjectionType, resourceInjectionType, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors));
+        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, null, controllerInjectionType, fieldInjectionType, methodInjectionType, resourceInjectionType, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors));
+        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, bundleMap, null, fieldInjectionType, methodInjectionType, resourceInjectionType, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors));
+        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, bundleMap, controllerInjectionType, null, methodInjectionType, resourceInjectionType, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors));
+        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, bundleMap, controllerInjectionType, fieldInjectionType, null, resourceInjectionType, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors));
+        assertThrows(NullPointerException.class, () -> new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, bundleMap, controllerInjectionType, fieldInjectionType, methodInjectionType, null, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors));
+        assertThrows(IllegalArgumentException.class, () -> new GenerationParametersImpl(compatibility, useImageInputStreamConstructor, bundleMap, controllerInjectionType, fieldInjectionType, methodInjectionType, resourceInjectionType, -1, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors));
     }
 }
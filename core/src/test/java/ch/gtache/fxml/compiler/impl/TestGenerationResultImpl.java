@@ -0,0 +1,48 @@
+package ch.gtache.fxml.compiler.impl;
+
+import ch.gtache.fxml.compiler.GenerationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TestGenerationResultImpl {
+
+    private final String javaCode;
+    private final Map<String, byte[]> resources;
+    private final GenerationResult result;
+
+    TestGenerationResultImpl() {
+        this.javaCode = "code";
+        this.resources = new HashMap<>(Map.of("View-array0.bin", new byte[]{1, 2}));
+        this.result = new GenerationResultImpl(javaCode, resources);
+    }
+
+    @Test
+    void testGetters() {
+        assertEquals(javaCode, result.javaCode());
+        assertEquals(resources, result.resources());
+    }
+
+    @Test
+    void testCopyMap() {
+        final var originalResources = result.resources();
+        resources.clear();
+        assertEquals(originalResources, result.resources());
+    }
+
+    @Test
+    void testUnmodifiable() {
+        final var resultResources = result.resources();
+        assertThrows(UnsupportedOperationException.class, resultResources::clear);
+    }
+
+    @Test
+    void testIllegal() {
+        assertThrows(NullPointerException.class, () -> new GenerationResultImpl(null, resources));
+        assertThrows(NullPointerException.class, () -> new GenerationResultImpl(javaCode, null));
+    }
+}
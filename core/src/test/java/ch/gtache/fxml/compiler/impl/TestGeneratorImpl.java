@@ -2,21 +2,28 @@ package ch.gtache.fxml.compiler.impl;
 
 import ch.gtache.fxml.compiler.ControllerInfo;
 import ch.gtache.fxml.compiler.GenerationException;
+import ch.gtache.fxml.compiler.GenerationParameters;
 import ch.gtache.fxml.compiler.GenerationRequest;
 import ch.gtache.fxml.compiler.Generator;
 import ch.gtache.fxml.compiler.impl.internal.HelperMethodsFormatter;
 import ch.gtache.fxml.compiler.impl.internal.HelperProvider;
 import ch.gtache.fxml.compiler.impl.internal.InitializationFormatter;
 import ch.gtache.fxml.compiler.impl.internal.LoadMethodFormatter;
+import ch.gtache.fxml.compiler.impl.internal.NamespaceFormatter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
+import java.util.Map;
+
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,7 +33,9 @@ class TestGeneratorImpl {
     private final InitializationFormatter initializationFormatter;
     private final LoadMethodFormatter loadMethodFormatter;
     private final HelperMethodsFormatter helperMethodsFormatter;
+    private final NamespaceFormatter namespaceFormatter;
     private final GenerationRequest request;
+    private final GenerationParameters parameters;
     private final String outputClassName;
     private final ControllerInfo controllerInfo;
     private final String className;
@@ -34,12 +43,16 @@ class TestGeneratorImpl {
 
     TestGeneratorImpl(@Mock final HelperProvider helperProvider, @Mock final InitializationFormatter initializationFormatter,
                       @Mock final LoadMethodFormatter loadMethodFormatter, @Mock final HelperMethodsFormatter helperMethodsFormatter,
-                      @Mock final GenerationRequest request, @Mock final ControllerInfo controllerInfo) {
+                      @Mock final NamespaceFormatter namespaceFormatter,
+                      @Mock final GenerationRequest request, @Mock final GenerationParameters parameters,
+                      @Mock final ControllerInfo controllerInfo) {
         this.helperProvider = requireNonNull(helperProvider);
         this.initializationFormatter = requireNonNull(initializationFormatter);
         this.loadMethodFormatter = requireNonNull(loadMethodFormatter);
         this.helperMethodsFormatter = requireNonNull(helperMethodsFormatter);
+        this.namespaceFormatter = requireNonNull(namespaceFormatter);
         this.request = requireNonNull(request);
+        this.parameters = requireNonNull(parameters);
         this.controllerInfo = requireNonNull(controllerInfo);
         this.outputClassName = "ch.gtache.fxml.compiler.OutputClass";
         this.className = "ch.gtache.fxml.compiler.ControllerClass";
@@ -53,6 +66,7 @@ class TestGeneratorImpl {
         when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
         when(request.outputClassName()).thenReturn(outputClassName);
         when(request.controllerInfo()).thenReturn(controllerInfo);
+        when(request.parameters()).thenReturn(parameters);
         when(controllerInfo.className()).thenReturn(className);
     }
 
@@ -87,5 +101,57 @@ class TestGeneratorImpl {
         verify(initializationFormatter).formatFieldsAndConstructor();
         verify(loadMethodFormatter).formatLoadMethod();
         verify(helperMethodsFormatter).formatHelperMethods();
+        verifyNoInteractions(namespaceFormatter);
+    }
+
+    @Test
+    void testGenerateObjectAccessors() throws GenerationException {
+        when(helperProvider.getNamespaceFormatter()).thenReturn(namespaceFormatter);
+        when(parameters.objectAccessors()).thenReturn(true);
+        final var expected = """
+                package ch.gtache.fxml.compiler;
+                
+                /**
+                 * Generated code
+                 */
+                public final class OutputClass {
+                
+                
+                
+                
+                
+                    /**
+                     * Returns the controller if available
+                     * @return The controller
+                     * @throws IllegalStateException If the view is not loaded
+                     */
+                    public ch.gtache.fxml.compiler.ControllerClass controller() {
+                        if (loaded) {
+                            return controller;
+                        } else {
+                            throw new IllegalStateException("Not loaded");
+                        }
+                    }
+                }
+                """;
+        assertEquals(expected, generator.generate(request));
+        verify(namespaceFormatter).formatNamespace();
+    }
+
+    @Test
+    void testGenerateWithResources() throws GenerationException {
+        final var resources = Map.of("OutputClass-array0.bin", new byte[]{1});
+        when(helperMethodsFormatter.resources()).thenReturn(resources);
+        final var result = generator.generateWithResources(request);
+        assertEquals(generator.generate(request), result.javaCode());
+        assertEquals(resources, result.resources());
+    }
+
+    @Test
+    void testIllegalReflectionCache() {
+        final var path = Path.of("cache.txt");
+        assertThrows(NullPointerException.class, () -> GeneratorImpl.loadReflectionCache(null, ""));
+        assertThrows(NullPointerException.class, () -> GeneratorImpl.loadReflectionCache(path, null));
+        assertThrows(NullPointerException.class, () -> GeneratorImpl.saveReflectionCache(null));
     }
 }
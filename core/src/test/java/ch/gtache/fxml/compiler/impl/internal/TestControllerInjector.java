@@ -20,20 +20,26 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class TestControllerInjector {
 
+    private final HelperProvider helperProvider;
+    private final HelperMethodsFormatter helperMethodsFormatter;
     private final ControllerInfo controllerInfo;
     private final List<String> controllerFactoryPostAction;
     private final String id;
     private final String variable;
+    private final String type;
     private final ParsedProperty property;
     private final String propertyValue;
     private final StringBuilder sb;
 
-    TestControllerInjector(@Mock final ControllerInfo controllerInfo,
-                           @Mock final ParsedProperty property) {
+    TestControllerInjector(@Mock final HelperProvider helperProvider, @Mock final HelperMethodsFormatter helperMethodsFormatter,
+                           @Mock final ControllerInfo controllerInfo, @Mock final ParsedProperty property) {
+        this.helperProvider = Objects.requireNonNull(helperProvider);
+        this.helperMethodsFormatter = Objects.requireNonNull(helperMethodsFormatter);
         this.controllerInfo = Objects.requireNonNull(controllerInfo);
         this.controllerFactoryPostAction = new ArrayList<>();
         this.id = "id";
         this.variable = "variable";
+        this.type = "type";
         this.propertyValue = "#property";
         this.property = Objects.requireNonNull(property);
         this.sb = new StringBuilder();
@@ -47,17 +53,45 @@ class TestControllerInjector {
 
     @Test
     void testInjectControllerFieldFactory() {
-        final var injector = new ControllerInjector(controllerInfo, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
-        injector.injectControllerField(id, variable);
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
+        injector.injectControllerField(id, variable, type);
         final var expected = "        fieldMap.put(\"" + id + "\", " + variable + ");\n";
         assertEquals(expected, sb.toString());
         assertTrue(controllerFactoryPostAction.isEmpty());
     }
 
+    @Test
+    void testInjectControllerFieldTypedFactory() {
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.TYPED_FACTORY, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
+        injector.injectControllerField(id, variable, type);
+        assertEquals("", sb.toString());
+        assertTrue(controllerFactoryPostAction.isEmpty());
+        assertEquals(List.of(new ControllerInjector.InjectedField(id, variable, type)), List.copyOf(injector.injectedFields()));
+    }
+
+    @Test
+    void testInjectedFields() {
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
+        assertTrue(injector.injectedFields().isEmpty());
+        injector.injectControllerField(id, variable, type);
+        injector.injectControllerField("other", "otherVariable", type);
+        injector.injectControllerField(id, variable, type);
+        final var expected = List.of(new ControllerInjector.InjectedField(id, variable, type),
+                new ControllerInjector.InjectedField("other", "otherVariable", type));
+        assertEquals(expected, List.copyOf(injector.injectedFields()));
+    }
+
+    @Test
+    void testInjectedFieldIllegal() {
+        assertThrows(NullPointerException.class, () -> new ControllerInjector.InjectedField(null, variable, type));
+        assertThrows(NullPointerException.class, () -> new ControllerInjector.InjectedField(id, null, type));
+        assertThrows(NullPointerException.class, () -> new ControllerInjector.InjectedField(id, variable, null));
+    }
+
     @Test
     void testInjectControllerFieldAssign() {
-        final var injector = new ControllerInjector(controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
-        injector.injectControllerField(id, variable);
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
+        injector.injectControllerField(id, variable, type);
         final var expected = "        controller." + id + " = " + variable + ";\n";
         assertEquals(expected, sb.toString());
         assertTrue(controllerFactoryPostAction.isEmpty());
@@ -65,8 +99,8 @@ class TestControllerInjector {
 
     @Test
     void testInjectControllerFieldSetters() {
-        final var injector = new ControllerInjector(controllerInfo, ControllerFieldInjectionType.SETTERS, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
-        injector.injectControllerField(id, variable);
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.SETTERS, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
+        injector.injectControllerField(id, variable, type);
         final var expected = "        controller." + GenerationHelper.getSetMethod(id) + "(" + variable + ");\n";
         assertEquals(expected, sb.toString());
         assertTrue(controllerFactoryPostAction.isEmpty());
@@ -74,8 +108,8 @@ class TestControllerInjector {
 
     @Test
     void testInjectControllerFieldReflection() {
-        final var injector = new ControllerInjector(controllerInfo, ControllerFieldInjectionType.REFLECTION, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
-        injector.injectControllerField(id, variable);
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.REFLECTION, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
+        injector.injectControllerField(id, variable, type);
         final var expected = "        injectField(\"" + id + "\", " + variable + ");\n";
         assertEquals(expected, sb.toString());
         assertTrue(controllerFactoryPostAction.isEmpty());
@@ -83,7 +117,7 @@ class TestControllerInjector {
 
     @Test
     void testInjectEventHandlerReferenceFactoryNoArgument() {
-        final var injector = new ControllerInjector(controllerInfo, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
         injector.injectEventHandlerControllerMethod(property, variable);
         final var expected = "        " + variable + "." + GenerationHelper.getSetMethod(property.name()) + "(e -> controller." + property.value().replace("#", "") + "());\n";
         assertEquals(1, controllerFactoryPostAction.size());
@@ -93,7 +127,7 @@ class TestControllerInjector {
 
     @Test
     void testInjectEventHandlerReferenceFactoryWithArgument() {
-        final var injector = new ControllerInjector(controllerInfo, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
         when(controllerInfo.handlerHasArgument(propertyValue.replace("#", ""))).thenReturn(true);
         injector.injectEventHandlerControllerMethod(property, variable);
         final var expected = "        " + variable + "." + GenerationHelper.getSetMethod(property.name()) + "(controller::" + propertyValue.replace("#", "") + ");\n";
@@ -104,7 +138,7 @@ class TestControllerInjector {
 
     @Test
     void testInjectEventHandlerReflectionAssign() {
-        final var injector = new ControllerInjector(controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFLECTION, sb, controllerFactoryPostAction);
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFLECTION, sb, controllerFactoryPostAction);
         injector.injectEventHandlerControllerMethod(property, variable);
         final var expected = "        " + variable + "." + GenerationHelper.getSetMethod(property.name()) + "(e -> callEventHandlerMethod(\"" + propertyValue.replace("#", "") + "\", e));\n";
         assertEquals(expected, sb.toString());
@@ -113,7 +147,7 @@ class TestControllerInjector {
 
     @Test
     void testInjectCallbackReflectionSetters() {
-        final var injector = new ControllerInjector(controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFLECTION, sb, controllerFactoryPostAction);
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFLECTION, sb, controllerFactoryPostAction);
         injector.injectCallbackControllerMethod(property, variable, "clazz");
         final var expected = "        " + variable + "." + GenerationHelper.getSetMethod(property.name()) + "(e -> callCallbackMethod(\"" + propertyValue.replace("#", "") + "\", e, clazz));\n";
         assertEquals(expected, sb.toString());
@@ -122,7 +156,7 @@ class TestControllerInjector {
 
     @Test
     void testInjectCallbackReferenceFactory() {
-        final var injector = new ControllerInjector(controllerInfo, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction);
         injector.injectCallbackControllerMethod(property, variable, "clazz");
         final var expected = "        " + variable + "." + GenerationHelper.getSetMethod(property.name()) + "(controller::" + propertyValue.replace("#", "") + ");\n";
         assertEquals(1, controllerFactoryPostAction.size());
@@ -130,12 +164,34 @@ class TestControllerInjector {
         assertEquals("", sb.toString());
     }
 
+    @Test
+    void testInjectEventHandlerDispatch() {
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.DISPATCH, sb, controllerFactoryPostAction);
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(controllerInfo.handlerHasArgument(propertyValue.replace("#", ""))).thenReturn(true);
+        when(helperMethodsFormatter.formatEventHandler(propertyValue.replace("#", ""), true)).thenReturn("eventHandler(0)");
+        injector.injectEventHandlerControllerMethod(property, variable);
+        final var expected = "        " + variable + "." + GenerationHelper.getSetMethod(property.name()) + "(eventHandler(0));\n";
+        assertEquals(expected, sb.toString());
+        assertTrue(controllerFactoryPostAction.isEmpty());
+    }
+
+    @Test
+    void testInjectCallbackDispatch() {
+        final var injector = new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.DISPATCH, sb, controllerFactoryPostAction);
+        injector.injectCallbackControllerMethod(property, variable, "clazz");
+        final var expected = "        " + variable + "." + GenerationHelper.getSetMethod(property.name()) + "(controller::" + propertyValue.replace("#", "") + ");\n";
+        assertEquals(expected, sb.toString());
+        assertTrue(controllerFactoryPostAction.isEmpty());
+    }
+
     @Test
     void testIllegal() {
-        assertThrows(NullPointerException.class, () -> new ControllerInjector(null, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction));
-        assertThrows(NullPointerException.class, () -> new ControllerInjector(controllerInfo, null, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction));
-        assertThrows(NullPointerException.class, () -> new ControllerInjector(controllerInfo, ControllerFieldInjectionType.ASSIGN, null, sb, controllerFactoryPostAction));
-        assertThrows(NullPointerException.class, () -> new ControllerInjector(controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFERENCE, null, controllerFactoryPostAction));
-        assertThrows(NullPointerException.class, () -> new ControllerInjector(controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFERENCE, sb, null));
+        assertThrows(NullPointerException.class, () -> new ControllerInjector(null, controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction));
+        assertThrows(NullPointerException.class, () -> new ControllerInjector(helperProvider, null, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction));
+        assertThrows(NullPointerException.class, () -> new ControllerInjector(helperProvider, controllerInfo, null, ControllerMethodsInjectionType.REFERENCE, sb, controllerFactoryPostAction));
+        assertThrows(NullPointerException.class, () -> new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.ASSIGN, null, sb, controllerFactoryPostAction));
+        assertThrows(NullPointerException.class, () -> new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFERENCE, null, controllerFactoryPostAction));
+        assertThrows(NullPointerException.class, () -> new ControllerInjector(helperProvider, controllerInfo, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFERENCE, sb, null));
     }
 }
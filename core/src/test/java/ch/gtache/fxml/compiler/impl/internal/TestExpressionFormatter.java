@@ -98,10 +98,8 @@ class TestExpressionFormatter {
         final var expected = """
                 javafx.beans.property.StringPropertybinding;
                         try {
-                            java.lang.reflect.Fieldfield = controller.getClass().getDeclaredField("text");
-                            field.setAccessible(true);
-                            binding = (javafx.beans.property.StringProperty) field.get(controller);
-                        } catch (final NoSuchFieldException | IllegalAccessException e) {
+                            binding = (javafx.beans.property.StringProperty) getControllerField("text").get(controller);
+                        } catch (final IllegalAccessException e) {
                             throw new RuntimeException(e);
                         }
                 """;
@@ -89,11 +89,9 @@ class TestFieldSetter {
         setter.setField(property, parentVariable, "javafx.scene.control.Button");
         final var expected = """
                         try {
-                            java.lang.reflect.Fieldfield = controller.getClass().getDeclaredField("value");
-                            field.setAccessible(true);
-                            final var value = (javafx.scene.control.Button) field.get(controller);
+                            javafx.scene.control.Buttonvalue = (javafx.scene.control.Button) getControllerField("value").get(controller);
                             variable.setPropertyName(value);
-                        } catch (final NoSuchFieldException | IllegalAccessException e) {
+                        } catch (final IllegalAccessException e) {
                             throw new RuntimeException(e);
                         }
                 """;
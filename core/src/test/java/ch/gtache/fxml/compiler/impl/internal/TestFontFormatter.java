@@ -61,6 +61,11 @@ class TestFontFormatter {
         when(urlFormatter.formatURL(anyString())).then(i -> i.getArgument(0) + "url");
     }
 
+    private void mockConstants(final HelperMethodsFormatter helperMethodsFormatter) {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatConstant(anyString(), anyString())).then(i -> "constant(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
+    }
+
     @Test
     void testHasChildren() {
         when(parsedObject.children()).thenReturn(List.of(parsedObject));
@@ -90,72 +95,80 @@ class TestFontFormatter {
     }
 
     @Test
-    void testNameDefault() throws GenerationException {
+    void testNameDefault(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        mockConstants(helperMethodsFormatter);
         attributes.put("name", new ParsedPropertyImpl("name", null, "Arial"));
         final var expected = """
-                javafx.scene.text.Fontvariable = new javafx.scene.text.Font("Arial", 12.0);
+                javafx.scene.text.Fontvariable = constant(javafx.scene.text.Font, new javafx.scene.text.Font("Arial", 12.0));
                 """;
         fontFormatter.formatFont(parsedObject, variableName);
         assertEquals(expected, sb.toString());
     }
 
     @Test
-    void testName() throws GenerationException {
+    void testName(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        mockConstants(helperMethodsFormatter);
         attributes.put("name", new ParsedPropertyImpl("name", null, "Arial"));
         attributes.put("size", new ParsedPropertyImpl("size", null, "14.0"));
         final var expected = """
-                javafx.scene.text.Fontvariable = new javafx.scene.text.Font("Arial", 14.0);
+                javafx.scene.text.Fontvariable = constant(javafx.scene.text.Font, new javafx.scene.text.Font("Arial", 14.0));
                 """;
         fontFormatter.formatFont(parsedObject, variableName);
         assertEquals(expected, sb.toString());
     }
 
     @Test
-    void testNameWeight() throws GenerationException {
+    void testNameWeight(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        mockConstants(helperMethodsFormatter);
         attributes.put("name", new ParsedPropertyImpl("name", null, "Arial"));
         attributes.put("size", new ParsedPropertyImpl("size", null, "14.0"));
         attributes.put("style", new ParsedPropertyImpl("style", null, "bold"));
         final var expected = """
-                javafx.scene.text.Fontvariable = new javafx.scene.text.Font("Arial", javafx.scene.text.FontWeight.BOLD, javafx.scene.text.FontPosture.REGULAR, 14.0);
+                javafx.scene.text.Fontvariable = constant(javafx.scene.text.Font, new javafx.scene.text.Font("Arial", javafx.scene.text.FontWeight.BOLD, javafx.scene.text.FontPosture.REGULAR, 14.0));
                 """;
         fontFormatter.formatFont(parsedObject, variableName);
         assertEquals(expected, sb.toString());
     }
 
     @Test
-    void testNamePosture() throws GenerationException {
+    void testNamePosture(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        mockConstants(helperMethodsFormatter);
         attributes.put("name", new ParsedPropertyImpl("name", null, "Arial"));
         attributes.put("size", new ParsedPropertyImpl("size", null, "14.0"));
         attributes.put("style", new ParsedPropertyImpl("style", null, "italic"));
         final var expected = """
-                javafx.scene.text.Fontvariable = new javafx.scene.text.Font("Arial", javafx.scene.text.FontWeight.NORMAL, javafx.scene.text.FontPosture.ITALIC, 14.0);
+                javafx.scene.text.Fontvariable = constant(javafx.scene.text.Font, new javafx.scene.text.Font("Arial", javafx.scene.text.FontWeight.NORMAL, javafx.scene.text.FontPosture.ITALIC, 14.0));
                 """;
         fontFormatter.formatFont(parsedObject, variableName);
         assertEquals(expected, sb.toString());
     }
 
     @Test
-    void testNameStyle() throws GenerationException {
+    void testNameStyle(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        mockConstants(helperMethodsFormatter);
         attributes.put("name", new ParsedPropertyImpl("name", null, "Arial"));
         attributes.put("size", new ParsedPropertyImpl("size", null, "14.0"));
         attributes.put("style", new ParsedPropertyImpl("style", null, "bold italic"));
         final var expected = """
-                javafx.scene.text.Fontvariable = new javafx.scene.text.Font("Arial", javafx.scene.text.FontWeight.BOLD, javafx.scene.text.FontPosture.ITALIC, 14.0);
+                javafx.scene.text.Fontvariable = constant(javafx.scene.text.Font, new javafx.scene.text.Font("Arial", javafx.scene.text.FontWeight.BOLD, javafx.scene.text.FontPosture.ITALIC, 14.0));
                 """;
         fontFormatter.formatFont(parsedObject, variableName);
         assertEquals(expected, sb.toString());
     }
 
     @Test
-    void testURL() throws GenerationException {
+    void testURL(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatCachedResource(anyString(), anyString())).then(i -> "cache(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
         attributes.put("url", new ParsedPropertyImpl("url", null, "file:/urlValue"));
         final var expected = """
-                        final javafx.scene.text.Font variable;
-                        try (java.io.InputStreamin = file:/urlValueurl.openStream()) {
-                            variable = javafx.scene.text.Font.loadFont(in, 12.0);
-                        } catch (final java.io.IOException e) {
-                            throw new RuntimeException(e);
-                        }
+                javafx.scene.text.Fontvariable = cache("font:" + file:/urlValueurl + "|12.0", () -> {
+                            try (java.io.InputStreamin = file:/urlValueurl.openStream()) {
+                                return javafx.scene.text.Font.loadFont(in, 12.0);
+                            } catch (final java.io.IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
                 """;
         fontFormatter.formatFont(parsedObject, variableName);
         assertEquals(expected, sb.toString());
@@ -163,18 +176,21 @@ class TestFontFormatter {
     }
 
     @Test
-    void testURLAllAttributes() throws GenerationException {
+    void testURLAllAttributes(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatCachedResource(anyString(), anyString())).then(i -> "cache(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
         attributes.put("url", new ParsedPropertyImpl("url", null, "file:/urlValue"));
         attributes.put("name", new ParsedPropertyImpl("name", null, "Arial"));
         attributes.put("size", new ParsedPropertyImpl("size", null, "14.0"));
         attributes.put("style", new ParsedPropertyImpl("style", null, "bold italic"));
         final var expected = """
-                        final javafx.scene.text.Font variable;
-                        try (java.io.InputStreamin = file:/urlValueurl.openStream()) {
-                            variable = javafx.scene.text.Font.loadFont(in, 14.0);
-                        } catch (final java.io.IOException e) {
-                            throw new RuntimeException(e);
-                        }
+                javafx.scene.text.Fontvariable = cache("font:" + file:/urlValueurl + "|14.0", () -> {
+                            try (java.io.InputStreamin = file:/urlValueurl.openStream()) {
+                                return javafx.scene.text.Font.loadFont(in, 14.0);
+                            } catch (final java.io.IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
                 """;
         fontFormatter.formatFont(parsedObject, variableName);
         assertEquals(expected, sb.toString());
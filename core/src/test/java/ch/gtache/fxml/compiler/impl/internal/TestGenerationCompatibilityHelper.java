@@ -13,7 +13,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -83,6 +85,20 @@ class TestGenerationCompatibilityHelper {
         verify(reflectionHelper).getGenericTypes(parsedObject);
     }
 
+    @Test
+    void testGetStartVarExplicitTypes() {
+        final var explicitHelper = new GenerationCompatibilityHelper(helperProvider, compatibility, true);
+        when(compatibility.useVar()).thenReturn(true);
+        assertFalse(explicitHelper.useVar());
+        assertEquals("        final javafx.scene.control.Label ", explicitHelper.getStartVar("javafx.scene.control.Label"));
+    }
+
+    @Test
+    void testUseVar() {
+        when(compatibility.useVar()).thenReturn(true);
+        assertTrue(compatibilityHelper.useVar());
+    }
+
     @Test
     void testGetToListToList() {
         when(compatibility.listCollector()).thenReturn(ListCollector.TO_LIST);
@@ -101,6 +117,14 @@ class TestGenerationCompatibilityHelper {
         assertEquals(".collect(java.util.stream.Collectors.toList())", compatibilityHelper.getToList());
     }
 
+    @Test
+    void testUseReadAllBytes() {
+        when(compatibility.useReadAllBytes()).thenReturn(true);
+        assertTrue(compatibilityHelper.useReadAllBytes());
+        when(compatibility.useReadAllBytes()).thenReturn(false);
+        assertFalse(compatibilityHelper.useReadAllBytes());
+    }
+
     @Test
     void testGetFirstUse() {
         when(compatibility.useGetFirst()).thenReturn(true);
@@ -129,5 +153,7 @@ class TestGenerationCompatibilityHelper {
     void testIllegal() {
         assertThrows(NullPointerException.class, () -> new GenerationCompatibilityHelper(null, compatibility));
         assertThrows(NullPointerException.class, () -> new GenerationCompatibilityHelper(helperProvider, null));
+        assertThrows(NullPointerException.class, () -> new GenerationCompatibilityHelper(null, compatibility, true));
+        assertThrows(NullPointerException.class, () -> new GenerationCompatibilityHelper(helperProvider, null, true));
     }
 }
@@ -1,5 +1,6 @@
 package ch.gtache.fxml.compiler.impl.internal;
 
+import ch.gtache.fxml.compiler.ControllerFieldInjectionType;
 import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import ch.gtache.fxml.compiler.parsing.ParsedProperty;
 import ch.gtache.fxml.compiler.parsing.impl.ParsedPropertyImpl;
@@ -15,6 +16,8 @@ import java.util.Map;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -89,4 +92,13 @@ class TestGenerationHelper {
         final var expected = List.of(attributes.get("a"), attributes.get("b"), attributes.get("c"));
         assertEquals(expected, GenerationHelper.getSortedAttributes(parsedObject));
     }
+
+    @Test
+    void testIsFactory() {
+        assertTrue(GenerationHelper.isFactory(ControllerFieldInjectionType.FACTORY));
+        assertTrue(GenerationHelper.isFactory(ControllerFieldInjectionType.TYPED_FACTORY));
+        assertFalse(GenerationHelper.isFactory(ControllerFieldInjectionType.ASSIGN));
+        assertFalse(GenerationHelper.isFactory(ControllerFieldInjectionType.SETTERS));
+        assertFalse(GenerationHelper.isFactory(ControllerFieldInjectionType.REFLECTION));
+    }
 }
@@ -12,13 +12,16 @@ import java.util.SequencedCollection;
 
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class TestGenerationProgress {
 
     private final GenerationRequest request;
     private final SequencedCollection<String> controllerFactoryPostAction;
+    private final SequencedCollection<String> includeLoads;
     private final StringBuilder sb;
     private final GenerationProgress progress;
 
@@ -26,15 +29,19 @@ class TestGenerationProgress {
         this.request = requireNonNull(request);
         this.controllerFactoryPostAction = new ArrayList<>();
         controllerFactoryPostAction.add("bla");
+        this.includeLoads = new ArrayList<>();
+        includeLoads.add("include");
         this.sb = new StringBuilder("test");
-        this.progress = new GenerationProgress(request, controllerFactoryPostAction, sb);
+        this.progress = new GenerationProgress(request, controllerFactoryPostAction, includeLoads, sb, true);
     }
 
     @Test
     void testGetters() {
         assertEquals(request, progress.request());
         assertEquals(controllerFactoryPostAction, progress.controllerFactoryPostAction());
+        assertEquals(includeLoads, progress.includeLoads());
         assertEquals(sb, progress.stringBuilder());
+        assertTrue(progress.useResources());
     }
 
     @Test
@@ -42,6 +49,9 @@ class TestGenerationProgress {
         controllerFactoryPostAction.clear();
         assertEquals(controllerFactoryPostAction, progress.controllerFactoryPostAction());
 
+        includeLoads.clear();
+        assertEquals(includeLoads, progress.includeLoads());
+
         sb.setLength(0);
         assertEquals(sb, progress.stringBuilder());
     }
@@ -51,6 +61,9 @@ class TestGenerationProgress {
         progress.controllerFactoryPostAction().add("bla2");
         assertEquals(controllerFactoryPostAction, progress.controllerFactoryPostAction());
 
+        progress.includeLoads().add("include2");
+        assertEquals(includeLoads, progress.includeLoads());
+
         progress.stringBuilder().append("test2");
         assertEquals(sb, progress.stringBuilder());
     }
@@ -60,14 +73,18 @@ class TestGenerationProgress {
         final var progress2 = new GenerationProgress(request);
         assertEquals(request, progress2.request());
         assertEquals(List.of(), progress2.controllerFactoryPostAction());
+        assertEquals(List.of(), progress2.includeLoads());
         assertEquals("", progress2.stringBuilder().toString());
+        assertFalse(progress2.useResources());
+        assertTrue(new GenerationProgress(request, true).useResources());
     }
 
     @Test
     void testIllegal() {
-        assertThrows(NullPointerException.class, () -> new GenerationProgress(null, controllerFactoryPostAction, sb));
-        assertThrows(NullPointerException.class, () -> new GenerationProgress(request, null, sb));
-        assertThrows(NullPointerException.class, () -> new GenerationProgress(request, controllerFactoryPostAction, null));
+        assertThrows(NullPointerException.class, () -> new GenerationProgress(null, controllerFactoryPostAction, includeLoads, sb, true));
+        assertThrows(NullPointerException.class, () -> new GenerationProgress(request, null, includeLoads, sb, true));
+        assertThrows(NullPointerException.class, () -> new GenerationProgress(request, controllerFactoryPostAction, null, sb, true));
+        assertThrows(NullPointerException.class, () -> new GenerationProgress(request, controllerFactoryPostAction, includeLoads, null, true));
     }
 
 }
@@ -8,10 +8,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -41,32 +46,14 @@ class TestHelperMethodsFormatter {
 
     @Test
     void testMethodReflection() {
-        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFLECTION, sb);
+        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.ASSIGN, ControllerMethodsInjectionType.REFLECTION, "View", true, sb);
         final var expected = """
+                    private final java.util.Map<String, java.lang.reflect.Method> eventHandlerMethods = new java.util.HashMap<>();
+                    private final java.util.Map<String, java.lang.reflect.Method> callbackMethods = new java.util.HashMap<>();
+
                     private <T extends javafx.event.Event> void callEventHandlerMethod(final String methodName, final T event) {
                         try {
-                            final java.lang.reflect.Method method;
-                            java.util.List<java.lang.reflect.Method>methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())
-                                    .filter(m -> m.getName().equals(methodName)).toList();
-                            if (methods.size() > 1) {
-                                java.util.List<java.lang.reflect.Method>eventMethods = methods.stream().filter(m ->
-                                        m.getParameterCount() == 1 && javafx.event.Event.class.isAssignableFrom(m.getParameterTypes()[0])).toList();
-                                if (eventMethods.size() == 1) {
-                                    method = eventMethods.getFirst();
-                                } else {
-                                    java.util.List<java.lang.reflect.Method>emptyMethods = methods.stream().filter(m -> m.getParameterCount() == 0).toList();
-                                    if (emptyMethods.size() == 1) {
-                                        method = emptyMethods.getFirst();
-                                    } else {
-                                        throw new IllegalArgumentException("Multiple matching methods for " + methodName);
-                                    }
-                                }
-                            } else if (methods.size() == 1) {
-                                method = methods.getFirst();
-                            } else {
-                                throw new IllegalArgumentException("No matching method for " + methodName);
-                            }
-                            method.setAccessible(true);
+                            final java.lang.reflect.Method method = eventHandlerMethods.computeIfAbsent(methodName, this::findEventHandlerMethod);
                             if (method.getParameterCount() == 0) {
                                 method.invoke(controller);
                             } else {
@@ -76,31 +63,62 @@ class TestHelperMethodsFormatter {
                             throw new RuntimeException("Error using reflection on " + methodName, ex);
                         }
                     }
-                
-                    private <T, U> U callCallbackMethod(final String methodName, final T value, final Class<T> clazz) {
-                        try {
-                            final java.lang.reflect.Method method;
-                            java.util.List<java.lang.reflect.Method>methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())
-                                    .filter(m -> m.getName().equals(methodName)).toList();
-                            if (methods.size() > 1) {
-                                java.util.List<java.lang.reflect.Method>eventMethods = methods.stream().filter(m ->
-                                        m.getParameterCount() == 2 && clazz.isAssignableFrom(m.getParameterTypes()[1])).toList();
-                                if (eventMethods.size() == 1) {
-                                    method = eventMethods.getFirst();
+
+                    private java.lang.reflect.Method findEventHandlerMethod(final String methodName) {
+                        final java.lang.reflect.Method method;
+                        java.util.List<java.lang.reflect.Method>methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())
+                                .filter(m -> m.getName().equals(methodName)).toList();
+                        if (methods.size() > 1) {
+                            java.util.List<java.lang.reflect.Method>eventMethods = methods.stream().filter(m ->
+                                    m.getParameterCount() == 1 && javafx.event.Event.class.isAssignableFrom(m.getParameterTypes()[0])).toList();
+                            if (eventMethods.size() == 1) {
+                                method = eventMethods.getFirst();
+                            } else {
+                                java.util.List<java.lang.reflect.Method>emptyMethods = methods.stream().filter(m -> m.getParameterCount() == 0).toList();
+                                if (emptyMethods.size() == 1) {
+                                    method = emptyMethods.getFirst();
                                 } else {
                                     throw new IllegalArgumentException("Multiple matching methods for " + methodName);
                                 }
-                            } else if (methods.size() == 1) {
-                                method = methods.getFirst();
-                            } else {
-                                throw new IllegalArgumentException("No matching method for " + methodName);
                             }
-                            method.setAccessible(true);
+                        } else if (methods.size() == 1) {
+                            method = methods.getFirst();
+                        } else {
+                            throw new IllegalArgumentException("No matching method for " + methodName);
+                        }
+                        method.setAccessible(true);
+                        return method;
+                    }
+
+                    private <T, U> U callCallbackMethod(final String methodName, final T value, final Class<T> clazz) {
+                        try {
+                            final java.lang.reflect.Method method = callbackMethods.computeIfAbsent(clazz.getName() + '#' + methodName, k -> findCallbackMethod(methodName, clazz));
                             return (U) method.invoke(controller, value);
                         } catch (final IllegalAccessException | java.lang.reflect.InvocationTargetException ex) {
                             throw new RuntimeException("Error using reflection on " + methodName, ex);
                         }
                     }
+
+                    private <T> java.lang.reflect.Method findCallbackMethod(final String methodName, final Class<T> clazz) {
+                        final java.lang.reflect.Method method;
+                        java.util.List<java.lang.reflect.Method>methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())
+                                .filter(m -> m.getName().equals(methodName)).toList();
+                        if (methods.size() > 1) {
+                            java.util.List<java.lang.reflect.Method>eventMethods = methods.stream().filter(m ->
+                                    m.getParameterCount() == 2 && clazz.isAssignableFrom(m.getParameterTypes()[1])).toList();
+                            if (eventMethods.size() == 1) {
+                                method = eventMethods.getFirst();
+                            } else {
+                                throw new IllegalArgumentException("Multiple matching methods for " + methodName);
+                            }
+                        } else if (methods.size() == 1) {
+                            method = methods.getFirst();
+                        } else {
+                            throw new IllegalArgumentException("No matching method for " + methodName);
+                        }
+                        method.setAccessible(true);
+                        return method;
+                    }
                 """;
         helperMethodsFormatter.formatHelperMethods();
         assertEquals(expected, sb.toString());
@@ -108,14 +126,32 @@ class TestHelperMethodsFormatter {
 
     @Test
     void testFieldReflection() {
-        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.REFLECTION, ControllerMethodsInjectionType.REFERENCE, sb);
+        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.REFLECTION, ControllerMethodsInjectionType.REFERENCE, "View", true, sb);
         final var expected = """
+                    private static final ClassValue<java.util.Map<String, java.lang.reflect.Field>> CONTROLLER_FIELDS = new ClassValue<java.util.Map<String, java.lang.reflect.Field>>() {
+                        @Override
+                        protected java.util.Map<String, java.lang.reflect.Field> computeValue(final Class<?> type) {
+                            return new java.util.concurrent.ConcurrentHashMap<>();
+                        }
+                    };
+
+                    private java.lang.reflect.Field getControllerField(final String fieldName) {
+                        final Class<?> controllerClass = controller.getClass();
+                        return CONTROLLER_FIELDS.get(controllerClass).computeIfAbsent(fieldName, n -> {
+                            try {
+                                java.lang.reflect.Fieldfield = controllerClass.getDeclaredField(n);
+                                field.setAccessible(true);
+                                return field;
+                            } catch (final NoSuchFieldException e) {
+                                throw new RuntimeException("Error using reflection on " + n, e);
+                            }
+                        });
+                    }
+
                     private <T> void injectField(final String fieldName, final T object) {
                         try {
-                            java.lang.reflect.Fieldfield = controller.getClass().getDeclaredField(fieldName);
-                            field.setAccessible(true);
-                            field.set(controller, object);
-                        } catch (final NoSuchFieldException | IllegalAccessException e) {
+                            getControllerField(fieldName).set(controller, object);
+                        } catch (final IllegalAccessException e) {
                             throw new RuntimeException("Error using reflection on " + fieldName, e);
                         }
                     }
@@ -126,39 +162,21 @@ class TestHelperMethodsFormatter {
 
     @Test
     void testNoReflection() {
-        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, sb);
+        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, "View", true, sb);
         helperMethodsFormatter.formatHelperMethods();
         assertEquals("", sb.toString());
     }
 
     @Test
     void testBothReflection() {
-        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.REFLECTION, ControllerMethodsInjectionType.REFLECTION, sb);
+        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.REFLECTION, ControllerMethodsInjectionType.REFLECTION, "View", true, sb);
         final var expected = """
+                    private final java.util.Map<String, java.lang.reflect.Method> eventHandlerMethods = new java.util.HashMap<>();
+                    private final java.util.Map<String, java.lang.reflect.Method> callbackMethods = new java.util.HashMap<>();
+
                     private <T extends javafx.event.Event> void callEventHandlerMethod(final String methodName, final T event) {
                         try {
-                            final java.lang.reflect.Method method;
-                            java.util.List<java.lang.reflect.Method>methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())
-                                    .filter(m -> m.getName().equals(methodName)).toList();
-                            if (methods.size() > 1) {
-                                java.util.List<java.lang.reflect.Method>eventMethods = methods.stream().filter(m ->
-                                        m.getParameterCount() == 1 && javafx.event.Event.class.isAssignableFrom(m.getParameterTypes()[0])).toList();
-                                if (eventMethods.size() == 1) {
-                                    method = eventMethods.getFirst();
-                                } else {
-                                    java.util.List<java.lang.reflect.Method>emptyMethods = methods.stream().filter(m -> m.getParameterCount() == 0).toList();
-                                    if (emptyMethods.size() == 1) {
-                                        method = emptyMethods.getFirst();
-                                    } else {
-                                        throw new IllegalArgumentException("Multiple matching methods for " + methodName);
-                                    }
-                                }
-                            } else if (methods.size() == 1) {
-                                method = methods.getFirst();
-                            } else {
-                                throw new IllegalArgumentException("No matching method for " + methodName);
-                            }
-                            method.setAccessible(true);
+                            final java.lang.reflect.Method method = eventHandlerMethods.computeIfAbsent(methodName, this::findEventHandlerMethod);
                             if (method.getParameterCount() == 0) {
                                 method.invoke(controller);
                             } else {
@@ -168,37 +186,86 @@ class TestHelperMethodsFormatter {
                             throw new RuntimeException("Error using reflection on " + methodName, ex);
                         }
                     }
-                
-                    private <T, U> U callCallbackMethod(final String methodName, final T value, final Class<T> clazz) {
-                        try {
-                            final java.lang.reflect.Method method;
-                            java.util.List<java.lang.reflect.Method>methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())
-                                    .filter(m -> m.getName().equals(methodName)).toList();
-                            if (methods.size() > 1) {
-                                java.util.List<java.lang.reflect.Method>eventMethods = methods.stream().filter(m ->
-                                        m.getParameterCount() == 2 && clazz.isAssignableFrom(m.getParameterTypes()[1])).toList();
-                                if (eventMethods.size() == 1) {
-                                    method = eventMethods.getFirst();
+
+                    private java.lang.reflect.Method findEventHandlerMethod(final String methodName) {
+                        final java.lang.reflect.Method method;
+                        java.util.List<java.lang.reflect.Method>methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())
+                                .filter(m -> m.getName().equals(methodName)).toList();
+                        if (methods.size() > 1) {
+                            java.util.List<java.lang.reflect.Method>eventMethods = methods.stream().filter(m ->
+                                    m.getParameterCount() == 1 && javafx.event.Event.class.isAssignableFrom(m.getParameterTypes()[0])).toList();
+                            if (eventMethods.size() == 1) {
+                                method = eventMethods.getFirst();
+                            } else {
+                                java.util.List<java.lang.reflect.Method>emptyMethods = methods.stream().filter(m -> m.getParameterCount() == 0).toList();
+                                if (emptyMethods.size() == 1) {
+                                    method = emptyMethods.getFirst();
                                 } else {
                                     throw new IllegalArgumentException("Multiple matching methods for " + methodName);
                                 }
-                            } else if (methods.size() == 1) {
-                                method = methods.getFirst();
-                            } else {
-                                throw new IllegalArgumentException("No matching method for " + methodName);
                             }
-                            method.setAccessible(true);
+                        } else if (methods.size() == 1) {
+                            method = methods.getFirst();
+                        } else {
+                            throw new IllegalArgumentException("No matching method for " + methodName);
+                        }
+                        method.setAccessible(true);
+                        return method;
+                    }
+
+                    private <T, U> U callCallbackMethod(final String methodName, final T value, final Class<T> clazz) {
+                        try {
+                            final java.lang.reflect.Method method = callbackMethods.computeIfAbsent(clazz.getName() + '#' + methodName, k -> findCallbackMethod(methodName, clazz));
                             return (U) method.invoke(controller, value);
                         } catch (final IllegalAccessException | java.lang.reflect.InvocationTargetException ex) {
                             throw new RuntimeException("Error using reflection on " + methodName, ex);
                         }
                     }
+
+                    private <T> java.lang.reflect.Method findCallbackMethod(final String methodName, final Class<T> clazz) {
+                        final java.lang.reflect.Method method;
+                        java.util.List<java.lang.reflect.Method>methods = java.util.Arrays.stream(controller.getClass().getDeclaredMethods())
+                                .filter(m -> m.getName().equals(methodName)).toList();
+                        if (methods.size() > 1) {
+                            java.util.List<java.lang.reflect.Method>eventMethods = methods.stream().filter(m ->
+                                    m.getParameterCount() == 2 && clazz.isAssignableFrom(m.getParameterTypes()[1])).toList();
+                            if (eventMethods.size() == 1) {
+                                method = eventMethods.getFirst();
+                            } else {
+                                throw new IllegalArgumentException("Multiple matching methods for " + methodName);
+                            }
+                        } else if (methods.size() == 1) {
+                            method = methods.getFirst();
+                        } else {
+                            throw new IllegalArgumentException("No matching method for " + methodName);
+                        }
+                        method.setAccessible(true);
+                        return method;
+                    }
+                    private static final ClassValue<java.util.Map<String, java.lang.reflect.Field>> CONTROLLER_FIELDS = new ClassValue<java.util.Map<String, java.lang.reflect.Field>>() {
+                        @Override
+                        protected java.util.Map<String, java.lang.reflect.Field> computeValue(final Class<?> type) {
+                            return new java.util.concurrent.ConcurrentHashMap<>();
+                        }
+                    };
+
+                    private java.lang.reflect.Field getControllerField(final String fieldName) {
+                        final Class<?> controllerClass = controller.getClass();
+                        return CONTROLLER_FIELDS.get(controllerClass).computeIfAbsent(fieldName, n -> {
+                            try {
+                                java.lang.reflect.Fieldfield = controllerClass.getDeclaredField(n);
+                                field.setAccessible(true);
+                                return field;
+                            } catch (final NoSuchFieldException e) {
+                                throw new RuntimeException("Error using reflection on " + n, e);
+                            }
+                        });
+                    }
+
                     private <T> void injectField(final String fieldName, final T object) {
                         try {
-                            java.lang.reflect.Fieldfield = controller.getClass().getDeclaredField(fieldName);
-                            field.setAccessible(true);
-                            field.set(controller, object);
-                        } catch (final NoSuchFieldException | IllegalAccessException e) {
+                            getControllerField(fieldName).set(controller, object);
+                        } catch (final IllegalAccessException e) {
                             throw new RuntimeException("Error using reflection on " + fieldName, e);
                         }
                     }
@@ -207,11 +274,226 @@ class TestHelperMethodsFormatter {
         assertEquals(expected, sb.toString());
     }
 
+    @Test
+    void testResourceCache() {
+        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, "View", true, sb);
+        assertEquals("getCachedResource(key, loader)", helperMethodsFormatter.formatCachedResource("key", "loader"));
+        final var expected = """
+                    private static final java.util.Map<String, java.lang.ref.SoftReference<Object>> RESOURCE_CACHE = new java.util.concurrent.ConcurrentHashMap<>();
+
+                    private static <T> T getCachedResource(final String key, final java.util.function.Supplier<T> loader) {
+                        final java.lang.ref.SoftReference<Object> reference = RESOURCE_CACHE.get(key);
+                        final Object cached = reference == null ? null : reference.get();
+                        if (cached == null) {
+                            final T resource = loader.get();
+                            RESOURCE_CACHE.put(key, new java.lang.ref.SoftReference<>(resource));
+                            return resource;
+                        } else {
+                            return (T) cached;
+                        }
+                    }
+                """;
+        helperMethodsFormatter.formatHelperMethods();
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    void testStaticURLs() {
+        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, "View", true, sb);
+        assertEquals("ResourceURLs.URL0", helperMethodsFormatter.formatResourceURL("style.css"));
+        assertEquals("ResourceURLs.URL1", helperMethodsFormatter.formatAbsoluteURL("file:/image.png"));
+        assertEquals("ResourceURLs.URL0", helperMethodsFormatter.formatResourceURL("style.css"));
+        final var expected = """
+                    private static final class ResourceURLs {
+
+                        static final java.net.URL URL0 = ResourceURLs.class.getResource("style.css");
+                        static final java.net.URL URL1 = toURL("file:/image.png");
+
+                        private static java.net.URL toURL(final String url) {
+                            try {
+                                return new java.net.URI(url).toURL();
+                            } catch (final java.net.MalformedURLException | java.net.URISyntaxException e) {
+                                throw new RuntimeException("Couldn't parse url : " + url, e);
+                            }
+                        }
+                    }
+                """;
+        helperMethodsFormatter.formatHelperMethods();
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    void testConstants() {
+        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, "View", true, sb);
+        assertEquals("Constants.VALUE0", helperMethodsFormatter.formatConstant("javafx.geometry.Insets", "new javafx.geometry.Insets(1.0)"));
+        assertEquals("Constants.VALUE1", helperMethodsFormatter.formatConstant("javafx.scene.paint.Paint", "javafx.scene.paint.Paint.valueOf(\"red\")"));
+        assertEquals("Constants.VALUE0", helperMethodsFormatter.formatConstant("javafx.geometry.Insets", "new javafx.geometry.Insets(1.0)"));
+        final var expected = """
+                    private static final class Constants {
+
+                        static final javafx.geometry.Insets VALUE0 = new javafx.geometry.Insets(1.0);
+                        static final javafx.scene.paint.Paint VALUE1 = javafx.scene.paint.Paint.valueOf("red");
+                    }
+                """;
+        helperMethodsFormatter.formatHelperMethods();
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    void testResourceArrays() {
+        when(compatibilityHelper.useReadAllBytes()).thenReturn(true);
+        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, "View", true, sb);
+        assertEquals("ResourceArrays.ARRAY0", helperMethodsFormatter.formatResourceArray(new float[]{1.0f, 2.5f}));
+        assertEquals("ResourceArrays.ARRAY1", helperMethodsFormatter.formatResourceArray(new int[]{1, 2}));
+        assertEquals("ResourceArrays.ARRAY0", helperMethodsFormatter.formatResourceArray(new float[]{1.0f, 2.5f}));
+        final var expected = """
+                    private static final class ResourceArrays {
+
+                        static final float[] ARRAY0 = readFloats("View-array0.bin", 2);
+                        static final int[] ARRAY1 = readInts("View-array1.bin", 2);
+
+                        private static java.nio.ByteBuffer read(final String name) {
+                            try (final java.io.InputStream in = ResourceArrays.class.getResourceAsStream(name)) {
+                                if (in == null) {
+                                    throw new IllegalStateException("Missing resource : " + name);
+                                }
+                                return java.nio.ByteBuffer.wrap(in.readAllBytes()).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+                            } catch (final java.io.IOException e) {
+                                throw new java.io.UncheckedIOException("Error reading resource : " + name, e);
+                            }
+                        }
+
+                        private static float[] readFloats(final String name, final int length) {
+                            final float[] array = new float[length];
+                            read(name).asFloatBuffer().get(array);
+                            return array;
+                        }
+
+                        private static int[] readInts(final String name, final int length) {
+                            final int[] array = new int[length];
+                            read(name).asIntBuffer().get(array);
+                            return array;
+                        }
+                    }
+                """;
+        helperMethodsFormatter.formatHelperMethods();
+        assertEquals(expected, sb.toString());
+        final var resources = helperMethodsFormatter.resources();
+        assertEquals(List.of("View-array0.bin", "View-array1.bin"), List.copyOf(resources.keySet()));
+        assertArrayEquals(new byte[]{0, 0, (byte) 0x80, 0x3F, 0, 0, 0x20, 0x40}, resources.get("View-array0.bin"));
+        assertArrayEquals(new byte[]{1, 0, 0, 0, 2, 0, 0, 0}, resources.get("View-array1.bin"));
+    }
+
+    @Test
+    void testResourceArraysNoReadAllBytes() {
+        when(compatibilityHelper.useReadAllBytes()).thenReturn(false);
+        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, "View", true, sb);
+        assertEquals("ResourceArrays.ARRAY0", helperMethodsFormatter.formatResourceArray(new float[]{1.0f}));
+        final var expected = """
+                    private static final class ResourceArrays {
+
+                        static final float[] ARRAY0 = readFloats("View-array0.bin", 1);
+
+                        private static java.nio.ByteBuffer read(final String name) {
+                            try (final java.io.InputStream in = ResourceArrays.class.getResourceAsStream(name)) {
+                                if (in == null) {
+                                    throw new IllegalStateException("Missing resource : " + name);
+                                }
+                                return java.nio.ByteBuffer.wrap(readAllBytes(in)).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+                            } catch (final java.io.IOException e) {
+                                throw new java.io.UncheckedIOException("Error reading resource : " + name, e);
+                            }
+                        }
+
+                        private static byte[] readAllBytes(final java.io.InputStream in) throws java.io.IOException {
+                            final java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
+                            final byte[] buffer = new byte[8192];
+                            int read;
+                            while ((read = in.read(buffer)) != -1) {
+                                out.write(buffer, 0, read);
+                            }
+                            return out.toByteArray();
+                        }
+
+                        private static float[] readFloats(final String name, final int length) {
+                            final float[] array = new float[length];
+                            read(name).asFloatBuffer().get(array);
+                            return array;
+                        }
+                    }
+                """;
+        helperMethodsFormatter.formatHelperMethods();
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    void testUseResources() {
+        assertTrue(new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, "View", true, sb).useResources());
+        assertFalse(new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, "View", false, sb).useResources());
+    }
+
+    @Test
+    void testNoResources() {
+        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, "View", true, sb);
+        assertEquals(Map.of(), helperMethodsFormatter.resources());
+    }
+
+    @Test
+    void testEventHandlers() {
+        final var helperMethodsFormatter = new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.DISPATCH, "View", true, sb);
+        assertEquals("eventHandler(0)", helperMethodsFormatter.formatEventHandler("onAction", true));
+        assertEquals("eventHandler(1)", helperMethodsFormatter.formatEventHandler("onClose", false));
+        assertEquals("eventHandler(0)", helperMethodsFormatter.formatEventHandler("onAction", true));
+        final var expected = """
+                    private final javafx.event.EventHandler<?>[] eventHandlers = new javafx.event.EventHandler<?>[2];
+
+                    private <T extends javafx.event.Event> javafx.event.EventHandler<T> eventHandler(final int id) {
+                        if (eventHandlers[id] == null) {
+                            eventHandlers[id] = new EventHandlerDispatcher(id);
+                        }
+                        @SuppressWarnings("unchecked")
+                        final javafx.event.EventHandler<T> handler = (javafx.event.EventHandler<T>) eventHandlers[id];
+                        return handler;
+                    }
+
+                    @SuppressWarnings("unchecked")
+                    private static <T extends javafx.event.Event> T castEvent(final javafx.event.Event event) {
+                        return (T) event;
+                    }
+
+                    private final class EventHandlerDispatcher implements javafx.event.EventHandler<javafx.event.Event> {
+
+                        private final int id;
+
+                        private EventHandlerDispatcher(final int id) {
+                            this.id = id;
+                        }
+
+                        @Override
+                        public void handle(final javafx.event.Event event) {
+                            switch (id) {
+                                case 0:
+                                    controller.onAction(castEvent(event));
+                                    break;
+                                case 1:
+                                    controller.onClose();
+                                    break;
+                                default:
+                                    throw new IllegalArgumentException("Unknown event handler : " + id);
+                            }
+                        }
+                    }
+                """;
+        helperMethodsFormatter.formatHelperMethods();
+        assertEquals(expected, sb.toString());
+    }
+
     @Test
     void testIllegal() {
-        assertThrows(NullPointerException.class, () -> new HelperMethodsFormatter(null, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, sb));
-        assertThrows(NullPointerException.class, () -> new HelperMethodsFormatter(helperProvider, null, ControllerMethodsInjectionType.REFERENCE, sb));
-        assertThrows(NullPointerException.class, () -> new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, null, sb));
-        assertThrows(NullPointerException.class, () -> new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, null));
+        assertThrows(NullPointerException.class, () -> new HelperMethodsFormatter(null, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, "View", true, sb));
+        assertThrows(NullPointerException.class, () -> new HelperMethodsFormatter(helperProvider, null, ControllerMethodsInjectionType.REFERENCE, "View", true, sb));
+        assertThrows(NullPointerException.class, () -> new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, null, "View", true, sb));
+        assertThrows(NullPointerException.class, () -> new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, null, true, sb));
+        assertThrows(NullPointerException.class, () -> new HelperMethodsFormatter(helperProvider, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE, "View", true, null));
     }
 }
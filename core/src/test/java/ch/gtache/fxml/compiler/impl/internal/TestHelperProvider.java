@@ -33,6 +33,7 @@ class TestHelperProvider {
     private final ControllerInfo controllerInfo;
     private final StringBuilder sb;
     private final List<String> controllerFactoryPostAction;
+    private final List<String> includeLoads;
     private final HelperProvider helperProvider;
 
     @BeforeEach
@@ -47,6 +48,7 @@ class TestHelperProvider {
         when(parameters.compatibility()).thenReturn(compatibility);
         when(progress.stringBuilder()).thenReturn(sb);
         when(progress.controllerFactoryPostAction()).thenReturn(controllerFactoryPostAction);
+        when(progress.includeLoads()).thenReturn(includeLoads);
     }
 
     TestHelperProvider(@Mock final GenerationProgress progress, @Mock final GenerationRequest request, @Mock final GenerationCompatibility compatibility,
@@ -62,6 +64,7 @@ class TestHelperProvider {
         this.resourceInjectionType = ResourceBundleInjectionType.CONSTRUCTOR;
         this.sb = new StringBuilder();
         this.controllerFactoryPostAction = List.of();
+        this.includeLoads = List.of();
         this.helperProvider = new HelperProvider(progress);
     }
 
@@ -103,6 +106,7 @@ class TestHelperProvider {
 
     @Test
     void testGetHelperMethodsFormatter() {
+        when(request.outputClassName()).thenReturn("com.example.View");
         final var helperMethodsFormatter = helperProvider.getHelperMethodsFormatter();
         assertSame(helperMethodsFormatter, helperProvider.getHelperMethodsFormatter());
     }
@@ -119,6 +123,12 @@ class TestHelperProvider {
         assertSame(initializationFormatter, helperProvider.getInitializationFormatter());
     }
 
+    @Test
+    void testGetNamespaceFormatter() {
+        final var namespaceFormatter = helperProvider.getNamespaceFormatter();
+        assertSame(namespaceFormatter, helperProvider.getNamespaceFormatter());
+    }
+
     @Test
     void testGetLoadMethodFormatter() {
         final var loadMethodFormatter = helperProvider.getLoadMethodFormatter();
@@ -149,6 +159,12 @@ class TestHelperProvider {
         assertSame(sceneFormatter, helperProvider.getSceneFormatter());
     }
 
+    @Test
+    void testGetStyleFormatter() {
+        final var styleFormatter = helperProvider.getStyleFormatter();
+        assertSame(styleFormatter, helperProvider.getStyleFormatter());
+    }
+
     @Test
     void testGetTriangleMeshFormatter() {
         final var triangleMeshFormatter = helperProvider.getTriangleMeshFormatter();
@@ -95,12 +95,14 @@ class TestImageFormatter {
     }
 
     @Test
-    void testMinimumAttributesURL() throws GenerationException {
+    void testMinimumAttributesURL(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatCachedResource(anyString(), anyString())).then(i -> "cache(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
         final var urlImageFormatter = new ImageFormatter(helperProvider, sb, false);
         attributes.put("url", new ParsedPropertyImpl("url", null, "urlValue"));
         final var expected = """
                 StringurlStr = urlValueurl.toString();
-                javafx.scene.image.Imagevariable = new javafx.scene.image.Image(urlStr, 0.0, 0.0, false, false, false);
+                javafx.scene.image.Imagevariable = cache("image:" + urlStr + "|0.0|0.0|false|false|false", () -> new javafx.scene.image.Image(urlStr, 0.0, 0.0, false, false, false));
                 """;
         urlImageFormatter.formatImage(parsedObject, variableName);
         assertEquals(expected, sb.toString());
@@ -108,7 +110,9 @@ class TestImageFormatter {
     }
 
     @Test
-    void testAllAttributesURL() throws GenerationException {
+    void testAllAttributesURL(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatCachedResource(anyString(), anyString())).then(i -> "cache(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
         final var urlImageFormatter = new ImageFormatter(helperProvider, sb, false);
         attributes.put("url", new ParsedPropertyImpl("url", null, "urlValue"));
         attributes.put("requestedWidth", new ParsedPropertyImpl("requestedWidth", null, "50"));
@@ -119,7 +123,7 @@ class TestImageFormatter {
         attributes.put("fx:id", new ParsedPropertyImpl("fx:id", null, "id"));
         final var expected = """
                 StringurlStr = urlValueurl.toString();
-                javafx.scene.image.Imagevariable = new javafx.scene.image.Image(urlStr, 50.0, 12.0, true, true, true);
+                javafx.scene.image.Imagevariable = cache("image:" + urlStr + "|50.0|12.0|true|true|true", () -> new javafx.scene.image.Image(urlStr, 50.0, 12.0, true, true, true));
                 """;
         urlImageFormatter.formatImage(parsedObject, variableName);
         assertEquals(expected, sb.toString());
@@ -127,15 +131,18 @@ class TestImageFormatter {
     }
 
     @Test
-    void testMinimumAttributesInputStream() throws GenerationException {
+    void testMinimumAttributesInputStream(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatCachedResource(anyString(), anyString())).then(i -> "cache(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
         attributes.put("url", new ParsedPropertyImpl("url", null, "urlValue"));
         final var expected = """
-                        final javafx.scene.image.Image variable;
-                        try (java.io.InputStreaminputStream = urlValueurl.openStream()) {
-                            variable = new javafx.scene.image.Image(inputStream, 0.0, 0.0, false, false);
-                        } catch (final java.io.IOException e) {
-                            throw new RuntimeException(e);
-                        }
+                javafx.scene.image.Imagevariable = cache("image:" + urlValueurl + "|0.0|0.0|false|false", () -> {
+                            try (java.io.InputStreaminputStream = urlValueurl.openStream()) {
+                                return new javafx.scene.image.Image(inputStream, 0.0, 0.0, false, false);
+                            } catch (final java.io.IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
                 """;
         imageFormatter.formatImage(parsedObject, variableName);
         assertEquals(expected, sb.toString());
@@ -143,7 +150,9 @@ class TestImageFormatter {
     }
 
     @Test
-    void testAllAttributesInputStream() throws GenerationException {
+    void testAllAttributesInputStream(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatCachedResource(anyString(), anyString())).then(i -> "cache(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
         attributes.put("url", new ParsedPropertyImpl("url", null, "urlValue"));
         attributes.put("requestedWidth", new ParsedPropertyImpl("requestedWidth", null, "50"));
         attributes.put("requestedHeight", new ParsedPropertyImpl("requestedHeight", null, "12.0"));
@@ -152,12 +161,13 @@ class TestImageFormatter {
         attributes.put("backgroundLoading", new ParsedPropertyImpl("backgroundLoading", null, "true"));
         attributes.put("fx:id", new ParsedPropertyImpl("fx:id", null, "id"));
         final var expected = """
-                        final javafx.scene.image.Image variable;
-                        try (java.io.InputStreaminputStream = urlValueurl.openStream()) {
-                            variable = new javafx.scene.image.Image(inputStream, 50.0, 12.0, true, true);
-                        } catch (final java.io.IOException e) {
-                            throw new RuntimeException(e);
-                        }
+                javafx.scene.image.Imagevariable = cache("image:" + urlValueurl + "|50.0|12.0|true|true", () -> {
+                            try (java.io.InputStreaminputStream = urlValueurl.openStream()) {
+                                return new javafx.scene.image.Image(inputStream, 50.0, 12.0, true, true);
+                            } catch (final java.io.IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
                 """;
         imageFormatter.formatImage(parsedObject, variableName);
         assertEquals(expected, sb.toString());
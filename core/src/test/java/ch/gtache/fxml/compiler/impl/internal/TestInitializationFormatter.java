@@ -251,6 +251,48 @@ class TestInitializationFormatter {
         assertEquals(expected, sb.toString());
     }
 
+    @Test
+    void testHasControllersTypedFactory() throws GenerationException {
+        when(parameters.controllerInjectionType()).thenReturn(ControllerInjectionType.FACTORY);
+        when(parameters.fieldInjectionType()).thenReturn(ControllerFieldInjectionType.TYPED_FACTORY);
+        final var expected = """
+                    private final java.util.function.Function<ch.gtache.fxml.OutputClassName.Fields, ch.gtache.fxml.ControllerClassName> controllerFactory;
+                    private final java.util.function.Function<ch.gtache.fxml.View2.Fields, ch.gtache.fxml.Controller2> controller2Factory;
+                    private ch.gtache.fxml.ControllerClassName controller;
+                    private boolean loaded;
+                
+                    /**
+                     * Instantiates a new OutputClassName
+                     * @param controllerFactory The controller factory
+                     * @param controller2Factory The subcontroller factory for ch.gtache.fxml.Controller2
+                     */
+                    public OutputClassName(final java.util.function.Function<ch.gtache.fxml.OutputClassName.Fields, ch.gtache.fxml.ControllerClassName> controllerFactory, final java.util.function.Function<ch.gtache.fxml.View2.Fields, ch.gtache.fxml.Controller2> controller2Factory) {
+                        this.controllerFactory = java.util.Objects.requireNonNull(controllerFactory);
+                        this.controller2Factory = java.util.Objects.requireNonNull(controller2Factory);
+                    }
+                """;
+        final var source2 = mock(SourceInfo.class);
+        when(source2.controllerClassName()).thenReturn("ch.gtache.fxml.Controller2");
+        when(source2.generatedClassName()).thenReturn("ch.gtache.fxml.View2");
+        when(sourceInfo.includedSources()).thenReturn(List.of(source2, source2));
+        initializationFormatter.formatFieldsAndConstructor();
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    void testTypedFactoryControllerMultipleViews() {
+        when(parameters.controllerInjectionType()).thenReturn(ControllerInjectionType.FACTORY);
+        when(parameters.fieldInjectionType()).thenReturn(ControllerFieldInjectionType.TYPED_FACTORY);
+        final var source2 = mock(SourceInfo.class);
+        when(source2.controllerClassName()).thenReturn("ch.gtache.fxml.Controller2");
+        when(source2.generatedClassName()).thenReturn("ch.gtache.fxml.View2");
+        final var source3 = mock(SourceInfo.class);
+        when(source3.controllerClassName()).thenReturn("ch.gtache.fxml.Controller2");
+        when(source3.generatedClassName()).thenReturn("ch.gtache.fxml.View3");
+        when(sourceInfo.includedSources()).thenReturn(List.of(source2, source3));
+        assertThrows(GenerationException.class, initializationFormatter::formatFieldsAndConstructor);
+    }
+
     @Test
     void testHasControllersBaseFactory() throws GenerationException {
         when(parameters.controllerInjectionType()).thenReturn(ControllerInjectionType.FACTORY);
@@ -508,7 +550,9 @@ class TestInitializationFormatter {
     }
 
     @Test
-    void testFormatSubViewRequiresBundleConstructorResources(@Mock final SourceInfo subInfo) throws GenerationException {
+    void testFormatSubViewRequiresBundleConstructorResources(@Mock final SourceInfo subInfo, @Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatCachedResource(anyString(), anyString())).then(i -> "cache(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
         when(subInfo.includedSources()).thenReturn(List.of());
         when(subInfo.requiresResourceBundle()).thenReturn(true);
         when(include.source()).thenReturn("source");
@@ -519,13 +563,15 @@ class TestInitializationFormatter {
         when(subInfo.generatedClassName()).thenReturn("ch.gtache.fxml.View2");
         controllerClassToVariable.put("ch.gtache.fxml.Controller2", "controller2");
         when(include.resources()).thenReturn("resources");
-        final var expected = "java.util.ResourceBundleresourceBundle = java.util.ResourceBundle.getBundle(\"resources\");\nch.gtache.fxml.View2view2 = new ch.gtache.fxml.View2(controller2, resourceBundle);\n";
+        final var expected = "java.util.ResourceBundleresourceBundle = cache(\"bundle:resources|\" + java.util.Locale.getDefault(), () -> java.util.ResourceBundle.getBundle(\"resources\"));\nch.gtache.fxml.View2view2 = new ch.gtache.fxml.View2(controller2, resourceBundle);\n";
         assertEquals("view2", initializationFormatter.formatSubViewConstructorCall(include));
         assertEquals(expected, sb.toString());
     }
 
     @Test
-    void testFormatSubViewRequiresBundleConstructorFunctionResources(@Mock final SourceInfo subInfo) throws GenerationException {
+    void testFormatSubViewRequiresBundleConstructorFunctionResources(@Mock final SourceInfo subInfo, @Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatCachedResource(anyString(), anyString())).then(i -> "cache(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
         when(subInfo.includedSources()).thenReturn(List.of());
         when(subInfo.requiresResourceBundle()).thenReturn(true);
         when(include.source()).thenReturn("source");
@@ -536,7 +582,7 @@ class TestInitializationFormatter {
         when(subInfo.generatedClassName()).thenReturn("ch.gtache.fxml.View2");
         controllerClassToVariable.put("ch.gtache.fxml.Controller2", "controller2");
         when(include.resources()).thenReturn("resources");
-        final var expected = "java.util.ResourceBundleresourceBundle = java.util.ResourceBundle.getBundle(\"resources\");\njava.util.function.Function<String, String>resourceBundleFunction = (java.util.function.Function<String, String>) s -> resourceBundle.getString(s);\nch.gtache.fxml.View2view2 = new ch.gtache.fxml.View2(controller2, resourceBundleFunction);\n";
+        final var expected = "java.util.ResourceBundleresourceBundle = cache(\"bundle:resources|\" + java.util.Locale.getDefault(), () -> java.util.ResourceBundle.getBundle(\"resources\"));\njava.util.function.Function<String, String>resourceBundleFunction = (java.util.function.Function<String, String>) s -> resourceBundle.getString(s);\nch.gtache.fxml.View2view2 = new ch.gtache.fxml.View2(controller2, resourceBundleFunction);\n";
         assertEquals("view2", initializationFormatter.formatSubViewConstructorCall(include));
         assertEquals(expected, sb.toString());
     }
@@ -8,6 +8,7 @@ import ch.gtache.fxml.compiler.GenerationException;
 import ch.gtache.fxml.compiler.GenerationParameters;
 import ch.gtache.fxml.compiler.GenerationRequest;
 import ch.gtache.fxml.compiler.ResourceBundleInjectionType;
+import ch.gtache.fxml.compiler.compatibility.GenerationCompatibility;
 import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,7 @@ import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +31,7 @@ class TestLoadMethodFormatter {
 
     private final HelperProvider helperProvider;
     private final ObjectFormatter objectFormatter;
+    private final ControllerInjector controllerInjector;
     private final GenerationCompatibilityHelper compatibilityHelper;
     private final VariableProvider variableProvider;
     private final GenerationProgress progress;
@@ -39,14 +42,16 @@ class TestLoadMethodFormatter {
     private final String className;
     private final StringBuilder sb;
     private final List<String> controllerFactoryPostAction;
+    private final List<String> includeLoads;
     private final LoadMethodFormatter loadMethodFormatter;
 
-    TestLoadMethodFormatter(@Mock final HelperProvider helperProvider, @Mock final ObjectFormatter objectFormatter,
+    TestLoadMethodFormatter(@Mock final HelperProvider helperProvider, @Mock final ObjectFormatter objectFormatter, @Mock final ControllerInjector controllerInjector,
                             @Mock final GenerationCompatibilityHelper compatibilityHelper, @Mock final VariableProvider variableProvider,
                             @Mock final GenerationProgress progress, @Mock final GenerationRequest request, @Mock final GenerationParameters parameters,
                             @Mock final ParsedObject object, @Mock final ControllerInfo controllerInfo) {
         this.helperProvider = Objects.requireNonNull(helperProvider);
         this.objectFormatter = Objects.requireNonNull(objectFormatter);
+        this.controllerInjector = Objects.requireNonNull(controllerInjector);
         this.compatibilityHelper = Objects.requireNonNull(compatibilityHelper);
         this.variableProvider = Objects.requireNonNull(variableProvider);
         this.request = Objects.requireNonNull(request);
@@ -56,6 +61,7 @@ class TestLoadMethodFormatter {
         this.className = "class";
         this.sb = new StringBuilder();
         this.controllerFactoryPostAction = new ArrayList<>();
+        this.includeLoads = new ArrayList<>();
         this.progress = Objects.requireNonNull(progress);
         this.loadMethodFormatter = new LoadMethodFormatter(helperProvider, progress);
     }
@@ -72,6 +78,7 @@ class TestLoadMethodFormatter {
         when(request.rootObject()).thenReturn(object);
         when(progress.stringBuilder()).thenReturn(sb);
         when(progress.controllerFactoryPostAction()).thenReturn(controllerFactoryPostAction);
+        when(progress.includeLoads()).thenReturn(includeLoads);
         when(variableProvider.getNextVariableName(any(String.class))).then(i -> i.getArgument(0));
         doAnswer(i -> sb.append(i.getArgument(0) + "-" + i.getArgument(1))).when(objectFormatter).format(any(), any());
         when(controllerInfo.className()).thenReturn(className);
@@ -133,6 +140,9 @@ class TestLoadMethodFormatter {
     void testGetBundleFieldFactoryReflectionInitialize() throws GenerationException {
         when(parameters.resourceInjectionType()).thenReturn(ResourceBundleInjectionType.GET_BUNDLE);
         when(parameters.fieldInjectionType()).thenReturn(ControllerFieldInjectionType.FACTORY);
+        when(helperProvider.getControllerInjector()).thenReturn(controllerInjector);
+        when(controllerInjector.injectedFields()).thenReturn(List.of(new ControllerInjector.InjectedField("a", "a", "A"),
+                new ControllerInjector.InjectedField("b", "b", "B"), new ControllerInjector.InjectedField("c", "c", "C")));
         when(parameters.methodInjectionType()).thenReturn(ControllerMethodsInjectionType.REFLECTION);
         when(parameters.bundleMap()).thenReturn(Map.of(className, "bundle"));
         when(controllerInfo.hasInitialize()).thenReturn(true);
@@ -149,7 +159,7 @@ class TestLoadMethodFormatter {
                             throw new IllegalStateException("Already loaded");
                         }
                 java.util.ResourceBundleresourceBundle = java.util.ResourceBundle.getBundle("bundle");
-                java.util.Map<String, Object>fieldMap = new java.util.HashMap<String, Object>();
+                java.util.Map<String, Object>fieldMap = new java.util.HashMap<String, Object>(4);
                 object-class        controller = controllerFactory.apply(fieldMap);
                         try {
                             java.lang.reflect.Methodinitialize = controller.getClass().getDeclaredMethod("initialize");
@@ -170,6 +180,9 @@ class TestLoadMethodFormatter {
     void testGetBundleFieldFactoryReflectionNoBundle() throws GenerationException {
         when(parameters.resourceInjectionType()).thenReturn(ResourceBundleInjectionType.GET_BUNDLE);
         when(parameters.fieldInjectionType()).thenReturn(ControllerFieldInjectionType.FACTORY);
+        when(helperProvider.getControllerInjector()).thenReturn(controllerInjector);
+        when(controllerInjector.injectedFields()).thenReturn(List.of(new ControllerInjector.InjectedField("a", "a", "A"),
+                new ControllerInjector.InjectedField("b", "b", "B"), new ControllerInjector.InjectedField("c", "c", "C")));
         when(parameters.methodInjectionType()).thenReturn(ControllerMethodsInjectionType.REFLECTION);
         when(parameters.bundleMap()).thenReturn(Map.of());
         when(object.toString()).thenReturn("object");
@@ -184,7 +197,7 @@ class TestLoadMethodFormatter {
                         if (loaded) {
                             throw new IllegalStateException("Already loaded");
                         }
-                java.util.Map<String, Object>fieldMap = new java.util.HashMap<String, Object>();
+                java.util.Map<String, Object>fieldMap = new java.util.HashMap<String, Object>(4);
                 object-class        controller = controllerFactory.apply(fieldMap);
                         loaded = true;
                         return (T) class;
@@ -194,6 +207,338 @@ class TestLoadMethodFormatter {
         verify(objectFormatter).format(object, "class");
     }
 
+    @Test
+    void testTypedFactoryRecord(@Mock final GenerationCompatibility compatibility) throws GenerationException {
+        when(parameters.fieldInjectionType()).thenReturn(ControllerFieldInjectionType.TYPED_FACTORY);
+        when(parameters.compatibility()).thenReturn(compatibility);
+        when(compatibility.useRecords()).thenReturn(true);
+        when(helperProvider.getControllerInjector()).thenReturn(controllerInjector);
+        when(controllerInjector.injectedFields()).thenReturn(List.of(new ControllerInjector.InjectedField("a", "a0", "A"),
+                new ControllerInjector.InjectedField("b", "b0", "B")));
+        controllerFactoryPostAction.add("        postAction();\n");
+        when(object.toString()).thenReturn("object");
+        loadMethodFormatter.formatLoadMethod();
+        final var expected = """
+                    /**
+                     * Loads the view. Can only be called once.
+                     *
+                     * @return The view parent
+                     */
+                    public <T> T load() {
+                        if (loaded) {
+                            throw new IllegalStateException("Already loaded");
+                        }
+                object-class        controller = controllerFactory.apply(new Fields(a0, b0));
+                        postAction();
+                        loaded = true;
+                        return (T) class;
+                    }
+
+                    /**
+                     * The fields of the controller, passed to the controller factory
+                     *
+                     * @param a The a field
+                     * @param b The b field
+                     */
+                    public record Fields(A a, B b) {
+                    }
+                """;
+        assertEquals(expected, sb.toString());
+        verify(objectFormatter).format(object, "class");
+    }
+
+    @Test
+    void testTypedFactoryClass(@Mock final GenerationCompatibility compatibility) throws GenerationException {
+        when(parameters.fieldInjectionType()).thenReturn(ControllerFieldInjectionType.TYPED_FACTORY);
+        when(parameters.compatibility()).thenReturn(compatibility);
+        when(helperProvider.getControllerInjector()).thenReturn(controllerInjector);
+        when(controllerInjector.injectedFields()).thenReturn(List.of(new ControllerInjector.InjectedField("a", "a0", "A"),
+                new ControllerInjector.InjectedField("b", "b0", "B")));
+        when(object.toString()).thenReturn("object");
+        loadMethodFormatter.formatLoadMethod();
+        final var expected = """
+                    /**
+                     * Loads the view. Can only be called once.
+                     *
+                     * @return The view parent
+                     */
+                    public <T> T load() {
+                        if (loaded) {
+                            throw new IllegalStateException("Already loaded");
+                        }
+                object-class        controller = controllerFactory.apply(new Fields(a0, b0));
+                        loaded = true;
+                        return (T) class;
+                    }
+
+                    /**
+                     * The fields of the controller, passed to the controller factory
+                     */
+                    public static final class Fields {
+                        private final A a;
+                        private final B b;
+
+                        Fields(final A a, final B b) {
+                            this.a = a;
+                            this.b = b;
+                        }
+
+                        /**
+                         * @return The a field
+                         */
+                        public A a() {
+                            return a;
+                        }
+
+                        /**
+                         * @return The b field
+                         */
+                        public B b() {
+                            return b;
+                        }
+                    }
+                """;
+        assertEquals(expected, sb.toString());
+        verify(objectFormatter).format(object, "class");
+    }
+
+    @Test
+    void testSplit() throws GenerationException {
+        when(parameters.maxLoadMethodSize()).thenReturn(10);
+        doAnswer(i -> sb.append("""
+                        final javafx.scene.control.Label label0 = new javafx.scene.control.Label("a");
+                        final javafx.scene.control.Label label1 = new javafx.scene.control.Label("b");
+                        final javafx.scene.layout.VBox class = new javafx.scene.layout.VBox();
+                        class.getChildren().addAll(label0, label1);
+                """)).when(objectFormatter).format(object, "class");
+        loadMethodFormatter.formatLoadMethod();
+        final var expected = """
+                    private javafx.scene.control.Label label0;
+                    private javafx.scene.control.Label label1;
+                    private javafx.scene.layout.VBox class;
+
+                    /**
+                     * Loads the view. Can only be called once.
+                     *
+                     * @return The view parent
+                     */
+                    public <T> T load() {
+                        if (loaded) {
+                            throw new IllegalStateException("Already loaded");
+                        }
+                        loadPart0();
+                        loadPart1();
+                        loadPart2();
+                        loadPart3();
+                        loaded = true;
+                        return (T) class;
+                    }
+
+                    private void loadPart0() {
+                        label0 = new javafx.scene.control.Label("a");
+                    }
+
+                    private void loadPart1() {
+                        label1 = new javafx.scene.control.Label("b");
+                    }
+
+                    private void loadPart2() {
+                        class = new javafx.scene.layout.VBox();
+                    }
+
+                    private void loadPart3() {
+                        class.getChildren().addAll(label0, label1);
+                    }
+                """;
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    void testAsyncNoInclude() throws GenerationException {
+        when(parameters.asyncLoad()).thenReturn(true);
+        when(object.toString()).thenReturn("object");
+        loadMethodFormatter.formatLoadMethod();
+        final var expected = """
+                    private java.util.concurrent.Executor executor;
+
+                    /**
+                     * Loads the view. Can only be called once.
+                     *
+                     * @return The view parent
+                     */
+                    public <T> T load() {
+                        if (loaded) {
+                            throw new IllegalStateException("Already loaded");
+                        }
+                object-class        loaded = true;
+                        return (T) class;
+                    }
+
+                    /**
+                     * Loads the view using the given executor. The included views are loaded concurrently. Can only be called once.
+                     * The nodes are created outside of the JavaFX application thread : the view must not contain nodes requiring it,
+                     * and the view must be attached to a scene on the JavaFX application thread.
+                     *
+                     * @param executor The executor
+                     * @return The future view parent
+                     */
+                    public <T> java.util.concurrent.CompletableFuture<T> loadAsync(final java.util.concurrent.Executor executor) {
+                        this.executor = java.util.Objects.requireNonNull(executor);
+                        return java.util.concurrent.CompletableFuture.supplyAsync(this::load, executor);
+                    }
+                """;
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    void testAsyncIncludes() throws GenerationException {
+        when(parameters.asyncLoad()).thenReturn(true);
+        when(parameters.controllerInjectionType()).thenReturn(ControllerInjectionType.FACTORY);
+        doAnswer(i -> {
+            includeLoads.add("        start0\n");
+            includeLoads.add("        start1\n");
+            return sb.append("        join0\n        join1\n");
+        }).when(objectFormatter).format(object, "class");
+        loadMethodFormatter.formatLoadMethod();
+        final var load = """
+                    public <T> T load() {
+                        if (loaded) {
+                            throw new IllegalStateException("Already loaded");
+                        }
+                        controller = controllerFactory.get();
+                        start0
+                        start1
+                        join0
+                        join1
+                        loaded = true;
+                        return (T) class;
+                    }
+                """;
+        final var helpers = """
+                    private java.util.concurrent.FutureTask<javafx.scene.Parent> startLoad(final java.util.concurrent.Callable<javafx.scene.Parent> load) {
+                        final java.util.concurrent.FutureTask<javafx.scene.Parent> task = new java.util.concurrent.FutureTask<>(load);
+                        if (executor != null) {
+                            executor.execute(task);
+                        }
+                        return task;
+                    }
+
+                    private static javafx.scene.Parent joinLoad(final java.util.concurrent.FutureTask<javafx.scene.Parent> task) {
+                        //Does nothing if the task is already started
+                        task.run();
+                        try {
+                            return task.get();
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException("Interrupted while loading include", e);
+                        } catch (final java.util.concurrent.ExecutionException e) {
+                            if (e.getCause() instanceof RuntimeException) {
+                                throw (RuntimeException) e.getCause();
+                            } else if (e.getCause() instanceof Error) {
+                                throw (Error) e.getCause();
+                            } else {
+                                throw new RuntimeException("Error loading include", e.getCause());
+                            }
+                        }
+                    }
+                """;
+        final var result = sb.toString();
+        assertTrue(result.startsWith("    private java.util.concurrent.Executor executor;\n\n"));
+        assertTrue(result.contains(load));
+        assertTrue(result.endsWith(helpers));
+    }
+
+    @Test
+    void testIncrementalNotSplit() throws GenerationException {
+        when(parameters.incrementalLoad()).thenReturn(true);
+        when(object.toString()).thenReturn("object");
+        loadMethodFormatter.formatLoadMethod();
+        final var expected = """
+                    /**
+                     * Loads the view on the JavaFX application thread. The loading is split into steps which are run across multiple
+                     * pulses : once the given budget is exceeded, the remaining steps are run later. Can only be called once,
+                     * and the other load methods can't be called while the view is loading.
+                     *
+                     * @param budget The maximum time spent loading the view per pulse (at least one step is run per pulse)
+                     * @return The future view parent, completed on the JavaFX application thread once the view is loaded
+                     */
+                    public <T> java.util.concurrent.CompletableFuture<T> loadIncrementally(final java.time.Duration budget) {
+                        final long budgetNanos = budget.toNanos();
+                        final java.util.concurrent.CompletableFuture<T> future = new java.util.concurrent.CompletableFuture<>();
+                        if (loaded || loading) {
+                            throw new IllegalStateException("Already loading or loaded");
+                        }
+                        loading = true;
+                        javafx.application.Platform.runLater(() -> {
+                            loading = false;
+                            try {
+                                future.complete(load());
+                            } catch (final RuntimeException | Error e) {
+                                future.completeExceptionally(e);
+                            }
+                        });
+                        return future;
+                    }
+                """;
+        final var result = sb.toString();
+        assertTrue(result.startsWith("    private boolean loading;\n\n    /**\n     * Loads the view. Can only be called once."));
+        assertTrue(result.contains("        if (loaded || loading) {\n            throw new IllegalStateException(\"Already loading or loaded\");\n        }\n"));
+        assertTrue(result.endsWith("    }\n\n" + expected));
+    }
+
+    @Test
+    void testIncrementalSplit() throws GenerationException {
+        when(parameters.incrementalLoad()).thenReturn(true);
+        final var statement = "        class.getChildren().add(new javafx.scene.control.Label(\"a\"));\n";
+        doAnswer(i -> sb.append(statement.repeat(75))).when(objectFormatter).format(object, "class");
+        loadMethodFormatter.formatLoadMethod();
+        final var expected = """
+                    public <T> java.util.concurrent.CompletableFuture<T> loadIncrementally(final java.time.Duration budget) {
+                        final long budgetNanos = budget.toNanos();
+                        final java.util.concurrent.CompletableFuture<T> future = new java.util.concurrent.CompletableFuture<>();
+                        if (loaded || loading) {
+                            throw new IllegalStateException("Already loading or loaded");
+                        }
+                        loading = true;
+                        final Runnable[] steps = {this::loadPart0, this::loadPart1};
+                        javafx.application.Platform.runLater(new Runnable() {
+                            private int next;
+
+                            @Override
+                            public void run() {
+                                final long start = System.nanoTime();
+                                try {
+                                    do {
+                                        steps[next++].run();
+                                    } while (next < steps.length && System.nanoTime() - start < budgetNanos);
+                                    if (next < steps.length) {
+                                        javafx.application.Platform.runLater(this);
+                                    } else {
+                                        loading = false;
+                                        loaded = true;
+                                        future.complete((T) class);
+                                    }
+                                } catch (final RuntimeException | Error e) {
+                                    future.completeExceptionally(e);
+                                }
+                            }
+                        });
+                        return future;
+                    }
+                """;
+        final var result = sb.toString();
+        assertTrue(result.contains("        loadPart0();\n        loadPart1();\n        loaded = true;\n"));
+        assertTrue(result.endsWith(expected));
+    }
+
+    @Test
+    void testGetMapCapacity() {
+        assertEquals(0, LoadMethodFormatter.getMapCapacity(0));
+        assertEquals(4, LoadMethodFormatter.getMapCapacity(3));
+        assertEquals(16, LoadMethodFormatter.getMapCapacity(12));
+        assertEquals(18, LoadMethodFormatter.getMapCapacity(13));
+    }
+
     @Test
     void testIllegal() {
         assertThrows(NullPointerException.class, () -> new LoadMethodFormatter(null, progress));
@@ -0,0 +1,204 @@
+package ch.gtache.fxml.compiler.impl.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TestLoadMethodSplitter {
+
+    @Test
+    void testSplitSmall() {
+        final var splitter = new LoadMethodSplitter(8000);
+        assertNull(splitter.split("        final javafx.scene.control.Label label0 = new javafx.scene.control.Label();\n",
+                "        return (T) label0;\n"));
+    }
+
+    @Test
+    void testSplitSingleStatement() {
+        final var splitter = new LoadMethodSplitter(1);
+        assertNull(splitter.split("        final javafx.scene.control.Label label0 = new javafx.scene.control.Label();\n",
+                "        return (T) label0;\n"));
+    }
+
+    @Test
+    void testSplit() {
+        final var splitter = new LoadMethodSplitter(38);
+        final var body = """
+                        final javafx.scene.text.Font font0;
+                        try (final java.io.InputStream in = url0.openStream()) {
+                            font0 = javafx.scene.text.Font.loadFont(in, 12.0);
+                        } catch (final java.io.IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                        final java.util.Map<String, Object> fieldMap = new java.util.HashMap<String, Object>();
+                        final javafx.scene.control.Label label0 = new javafx.scene.control.Label("a;b{");
+                        label0.setFont(font0);
+                        fieldMap.put("label0", label0);
+                        final String unused0 = "unused";
+                        controller = controllerFactory.apply(fieldMap);
+                """;
+        final var split = splitter.split(body, "        return (T) label0;\n");
+        final var expectedFields = """
+                    private javafx.scene.text.Font font0;
+                    private java.util.Map<String, Object> fieldMap;
+                    private javafx.scene.control.Label label0;
+                """;
+        final var expectedCalls = """
+                        loadPart0();
+                        loadPart1();
+                        loadPart2();
+                """;
+        final var expectedMethods = """
+
+                    private void loadPart0() {
+                        try (final java.io.InputStream in = url0.openStream()) {
+                            font0 = javafx.scene.text.Font.loadFont(in, 12.0);
+                        } catch (final java.io.IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+
+                    private void loadPart1() {
+                        fieldMap = new java.util.HashMap<String, Object>();
+                        label0 = new javafx.scene.control.Label("a;b{");
+                        label0.setFont(font0);
+                    }
+
+                    private void loadPart2() {
+                        fieldMap.put("label0", label0);
+                        final String unused0 = "unused";
+                        controller = controllerFactory.apply(fieldMap);
+                    }
+                """;
+        assertEquals(expectedFields, split.fields());
+        assertEquals(expectedCalls, split.calls());
+        assertEquals(expectedMethods, split.methods());
+        assertEquals(3, split.parts());
+    }
+
+    @Test
+    void testSplitMultiLineStatements() {
+        final var splitter = new LoadMethodSplitter(60);
+        final var body = """
+                        final javafx.scene.text.Font font0 = cachedResource("font:" + url0 + "|12.0", () -> {
+                            try (final java.io.InputStream in = url0.openStream()) {
+                                return javafx.scene.text.Font.loadFont(in, 12.0);
+                            } catch (final java.io.IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+                        final javafx.scene.layout.VBox vbox0 = new javafx.scene.layout.VBox();
+                        final Runnable loader0 = () -> {
+                            final javafx.scene.control.Label label0 = new javafx.scene.control.Label();
+                            label0.setFont(font0);
+                            vbox0.getChildren().add(label0);
+                        };
+                        if (vbox0.visibleProperty().get()) {
+                            loader0.run();
+                        } else {
+                            vbox0.visibleProperty().addListener(new javafx.beans.value.ChangeListener<Boolean>() {
+                                @Override
+                                public void changed(final javafx.beans.value.ObservableValue<? extends Boolean> observable, final Boolean oldValue, final Boolean newValue) {
+                                    if (newValue) {
+                                        observable.removeListener(this);
+                                        loader0.run();
+                                    }
+                                }
+                            });
+                        }
+                        final javafx.scene.control.Button button0 = new javafx.scene.control.Button();
+                        button0.setOnAction(e -> {
+                            controller.onAction(e);
+                        });
+                        vbox0.getChildren().add(button0);
+                """;
+        final var split = splitter.split(body, "        return (T) vbox0;\n");
+        final var expectedFields = """
+                    private javafx.scene.text.Font font0;
+                    private javafx.scene.layout.VBox vbox0;
+                    private Runnable loader0;
+                """;
+        final var expectedMethods = """
+
+                    private void loadPart0() {
+                        font0 = cachedResource("font:" + url0 + "|12.0", () -> {
+                            try (final java.io.InputStream in = url0.openStream()) {
+                                return javafx.scene.text.Font.loadFont(in, 12.0);
+                            } catch (final java.io.IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+                    }
+
+                    private void loadPart1() {
+                        vbox0 = new javafx.scene.layout.VBox();
+                        loader0 = () -> {
+                            final javafx.scene.control.Label label0 = new javafx.scene.control.Label();
+                            label0.setFont(font0);
+                            vbox0.getChildren().add(label0);
+                        };
+                    }
+
+                    private void loadPart2() {
+                        if (vbox0.visibleProperty().get()) {
+                            loader0.run();
+                        } else {
+                            vbox0.visibleProperty().addListener(new javafx.beans.value.ChangeListener<Boolean>() {
+                                @Override
+                                public void changed(final javafx.beans.value.ObservableValue<? extends Boolean> observable, final Boolean oldValue, final Boolean newValue) {
+                                    if (newValue) {
+                                        observable.removeListener(this);
+                                        loader0.run();
+                                    }
+                                }
+                            });
+                        }
+                    }
+
+                    private void loadPart3() {
+                        final javafx.scene.control.Button button0 = new javafx.scene.control.Button();
+                        button0.setOnAction(e -> {
+                            controller.onAction(e);
+                        });
+                        vbox0.getChildren().add(button0);
+                    }
+                """;
+        assertEquals(expectedFields, split.fields());
+        assertEquals(expectedMethods, split.methods());
+        assertEquals(4, split.parts());
+    }
+
+    @Test
+    void testGetStatements() {
+        final var code = """
+                        final javafx.scene.control.Button button0 = new javafx.scene.control.Button("}");
+                        button0.setOnAction(e -> {
+                            controller.onAction(e);
+                        });
+                        if (button0 != null) {
+                            button0.setText(";");
+                        } else {
+                            button0.setText('{' + "");
+                        }
+                """;
+        final var expected = List.of("        final javafx.scene.control.Button button0 = new javafx.scene.control.Button(\"}\");\n",
+                "        button0.setOnAction(e -> {\n            controller.onAction(e);\n        });\n",
+                "        if (button0 != null) {\n            button0.setText(\";\");\n        } else {\n            button0.setText('{' + \"\");\n        }\n");
+        assertEquals(expected, LoadMethodSplitter.getStatements(code));
+    }
+
+    @Test
+    void testEstimateSize() {
+        assertEquals(0, LoadMethodSplitter.estimateSize(""));
+        assertEquals(14, LoadMethodSplitter.estimateSize("final javafx.scene.control.Label label0 = new javafx.scene.control.Label(\"a,(;\", 2.0);"));
+    }
+
+    @Test
+    void testIllegal() {
+        assertThrows(IllegalArgumentException.class, () -> new LoadMethodSplitter(0));
+    }
+}
@@ -0,0 +1,122 @@
+package ch.gtache.fxml.compiler.impl.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TestNamespaceFormatter {
+
+    private final HelperProvider helperProvider;
+    private final VariableProvider variableProvider;
+    private final StringBuilder sb;
+    private final NamespaceFormatter namespaceFormatter;
+
+    TestNamespaceFormatter(@Mock final HelperProvider helperProvider, @Mock final VariableProvider variableProvider) {
+        this.helperProvider = Objects.requireNonNull(helperProvider);
+        this.variableProvider = Objects.requireNonNull(variableProvider);
+        this.sb = new StringBuilder();
+        this.namespaceFormatter = new NamespaceFormatter(helperProvider, sb);
+    }
+
+    @Test
+    void testAddObject() {
+        when(helperProvider.getVariableProvider()).thenReturn(variableProvider);
+        when(variableProvider.getNextVariableName("fxId")).thenReturn("fxId0", "fxId1");
+        namespaceFormatter.addObject("label", "label0", "javafx.scene.control.Label");
+        namespaceFormatter.addObject("box", "vbox0", "javafx.scene.layout.VBox");
+        namespaceFormatter.addObject("label", "label1", "javafx.scene.control.Label");
+        final var expected = """
+                        fxId0 = label0;
+                        fxId1 = vbox0;
+                        fxId0 = label1;
+                """;
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    void testFormatNamespaceEmpty() {
+        namespaceFormatter.formatNamespace();
+        final var expected = """
+                    /**
+                     * Returns the object with the given fx:id, like the namespace of FXMLLoader
+                     * @param id The fx:id
+                     * @return The object, or null if no object has the given fx:id (or if it is part of a lazy include which isn't loaded yet)
+                     * @throws IllegalStateException If the view is not loaded
+                     */
+                    public <T> T lookup(final String id) {
+                        if (!loaded) {
+                            throw new IllegalStateException("Not loaded");
+                        }
+                        return null;
+                    }
+                """;
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    void testFormatNamespace() {
+        when(helperProvider.getVariableProvider()).thenReturn(variableProvider);
+        when(variableProvider.getNextVariableName("fxId")).thenReturn("fxId0", "fxId1");
+        namespaceFormatter.addObject("label", "label0", "javafx.scene.control.Label");
+        namespaceFormatter.addObject("class", "vbox0", "javafx.scene.layout.VBox");
+        sb.setLength(0);
+        namespaceFormatter.formatNamespace();
+        final var expected = """
+                    private javafx.scene.control.Label fxId0;
+                    private javafx.scene.layout.VBox fxId1;
+
+                    /**
+                     * Returns the object with the fx:id label
+                     * @return The object (null if it is part of a lazy include which isn't loaded yet)
+                     * @throws IllegalStateException If the view is not loaded
+                     */
+                    public javafx.scene.control.Label getLabel() {
+                        if (loaded) {
+                            return fxId0;
+                        } else {
+                            throw new IllegalStateException("Not loaded");
+                        }
+                    }
+
+                    /**
+                     * Returns the object with the given fx:id, like the namespace of FXMLLoader
+                     * @param id The fx:id
+                     * @return The object, or null if no object has the given fx:id (or if it is part of a lazy include which isn't loaded yet)
+                     * @throws IllegalStateException If the view is not loaded
+                     */
+                    @SuppressWarnings("unchecked")
+                    public <T> T lookup(final String id) {
+                        if (!loaded) {
+                            throw new IllegalStateException("Not loaded");
+                        }
+                        return (T) lookupObject(id);
+                    }
+
+                    private Object lookupObject(final String id) {
+                        switch (id) {
+                            case "label":
+                                return fxId0;
+                            case "class":
+                                return fxId1;
+                            default:
+                                return null;
+                        }
+                    }
+                """;
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    void testIllegal() {
+        assertThrows(NullPointerException.class, () -> new NamespaceFormatter(null, sb));
+        assertThrows(NullPointerException.class, () -> new NamespaceFormatter(helperProvider, null));
+    }
+}
@@ -6,7 +6,6 @@ import ch.gtache.fxml.compiler.GenerationException;
 import ch.gtache.fxml.compiler.GenerationParameters;
 import ch.gtache.fxml.compiler.GenerationRequest;
 import ch.gtache.fxml.compiler.SourceInfo;
-import ch.gtache.fxml.compiler.compatibility.GenerationCompatibility;
 import ch.gtache.fxml.compiler.parsing.ParsedDefine;
 import ch.gtache.fxml.compiler.parsing.ParsedInclude;
 import ch.gtache.fxml.compiler.parsing.ParsedObject;
@@ -19,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -28,6 +28,7 @@ import java.util.SequencedCollection;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,14 +36,17 @@ class TestObjectFormatter {
 
     private final HelperProvider helperProvider;
     private final ControllerInjector controllerInjector;
+    private final NamespaceFormatter namespaceFormatter;
     private final GenerationCompatibilityHelper compatibilityHelper;
     private final InitializationFormatter initializationFormatter;
     private final ReflectionHelper reflectionHelper;
     private final ValueClassGuesser valueClassGuesser;
     private final VariableProvider variableProvider;
     private final GenerationRequest request;
+    private final GenerationParameters parameters;
     private final ControllerInfo controllerInfo;
     private final SourceInfo sourceInfo;
+    private final List<String> includeLoads;
     private final StringBuilder sb;
     private final String variableName;
     private final ObjectFormatter objectFormatter;
@@ -51,27 +55,32 @@ class TestObjectFormatter {
     TestObjectFormatter(@Mock final HelperProvider helperProvider, @Mock final GenerationCompatibilityHelper compatibilityHelper,
                         @Mock final InitializationFormatter initializationFormatter, @Mock final ReflectionHelper reflectionHelper,
                         @Mock final VariableProvider variableProvider, @Mock final ValueClassGuesser valueClassGuesser, @Mock final GenerationRequest request,
-                        @Mock final ControllerInfo controllerInfo, @Mock final ControllerInjector controllerInjector,
+                        @Mock final GenerationParameters parameters, @Mock final ControllerInfo controllerInfo,
+                        @Mock final ControllerInjector controllerInjector, @Mock final NamespaceFormatter namespaceFormatter,
                         @Mock final SourceInfo sourceInfo) {
         this.helperProvider = Objects.requireNonNull(helperProvider);
         this.controllerInjector = Objects.requireNonNull(controllerInjector);
+        this.namespaceFormatter = Objects.requireNonNull(namespaceFormatter);
         this.compatibilityHelper = Objects.requireNonNull(compatibilityHelper);
         this.initializationFormatter = Objects.requireNonNull(initializationFormatter);
         this.reflectionHelper = Objects.requireNonNull(reflectionHelper);
         this.valueClassGuesser = Objects.requireNonNull(valueClassGuesser);
         this.variableProvider = Objects.requireNonNull(variableProvider);
         this.request = Objects.requireNonNull(request);
+        this.parameters = Objects.requireNonNull(parameters);
         this.controllerInfo = Objects.requireNonNull(controllerInfo);
         this.sourceInfo = Objects.requireNonNull(sourceInfo);
+        this.includeLoads = new ArrayList<>();
         this.sb = new StringBuilder();
         this.variableName = "variable";
-        this.objectFormatter = spy(new ObjectFormatter(helperProvider, request, sb));
+        this.objectFormatter = spy(new ObjectFormatter(helperProvider, request, includeLoads, sb));
     }
 
     @BeforeEach
     void beforeEach() throws GenerationException {
         when(helperProvider.getCompatibilityHelper()).thenReturn(compatibilityHelper);
         when(helperProvider.getControllerInjector()).thenReturn(controllerInjector);
+        when(helperProvider.getNamespaceFormatter()).thenReturn(namespaceFormatter);
         when(helperProvider.getInitializationFormatter()).thenReturn(initializationFormatter);
         when(helperProvider.getReflectionHelper()).thenReturn(reflectionHelper);
         when(helperProvider.getValueClassGuesser()).thenReturn(valueClassGuesser);
@@ -91,7 +100,7 @@ class TestObjectFormatter {
             final var variable = (String) i.getArgument(1);
             sb.append("inject(").append(id).append(", ").append(variable).append(")");
             return null;
-        }).when(controllerInjector).injectControllerField(anyString(), anyString());
+        }).when(controllerInjector).injectControllerField(anyString(), anyString(), anyString());
         when(compatibilityHelper.getStartVar(any(ParsedObject.class))).thenReturn("startVar");
     }
 
@@ -104,6 +113,8 @@ class TestObjectFormatter {
 
     @Test
     void testHandleIdNotFound() throws GenerationException {
+        when(request.parameters()).thenReturn(parameters);
+        when(parameters.objectAccessors()).thenReturn(true);
         final var className = "className";
         final var value = "id";
         final var parsedObject = new ParsedValueImpl(className, Map.of("fx:id", new ParsedPropertyImpl("fx:id", null, value),
@@ -111,11 +122,27 @@ class TestObjectFormatter {
         objectFormatter.format(parsedObject, variableName);
         final var variableInfo = new VariableInfo(value, parsedObject, variableName, className);
         verify(variableProvider).addVariableInfo(value, variableInfo);
+        verify(namespaceFormatter).addObject(value, variableName, className);
         verifyNoInteractions(controllerInjector, reflectionHelper);
     }
 
+    @Test
+    void testHandleIdNoObjectAccessors() throws GenerationException {
+        when(request.parameters()).thenReturn(parameters);
+        final var className = "className";
+        final var value = "id";
+        final var parsedObject = new ParsedValueImpl(className, Map.of("fx:id", new ParsedPropertyImpl("fx:id", null, value),
+                "fx:value", new ParsedPropertyImpl("fx:value", null, "value")));
+        objectFormatter.format(parsedObject, variableName);
+        final var variableInfo = new VariableInfo(value, parsedObject, variableName, className);
+        verify(variableProvider).addVariableInfo(value, variableInfo);
+        verifyNoInteractions(controllerInjector, reflectionHelper, namespaceFormatter);
+    }
+
     @Test
     void testHandleIdGeneric(@Mock final ControllerFieldInfo fieldInfo) throws GenerationException {
+        when(request.parameters()).thenReturn(parameters);
+        when(parameters.objectAccessors()).thenReturn(true);
         final var value = "id";
         final var genericClassName = "javafx.scene.control.ComboBox";
         final var parsedObject = new ParsedValueImpl(genericClassName, Map.of("fx:id", new ParsedPropertyImpl("fx:id", null, value),
@@ -128,11 +155,14 @@ class TestObjectFormatter {
         verify(variableProvider).addVariableInfo(value, variableInfo);
         verify(reflectionHelper).getGenericTypes(parsedObject);
         verify(controllerInfo).fieldInfo(value);
-        verify(controllerInjector).injectControllerField(value, variableName);
+        verify(controllerInjector).injectControllerField(value, variableName, genericClassName + genericTypes);
+        verify(namespaceFormatter).addObject(value, variableName, genericClassName + genericTypes);
     }
 
     @Test
     void testHandleId(@Mock final ControllerFieldInfo fieldInfo) throws GenerationException {
+        when(request.parameters()).thenReturn(parameters);
+        when(parameters.objectAccessors()).thenReturn(true);
         final var className = "java.lang.String";
         final var value = "id";
         final var parsedObject = new ParsedValueImpl(className, Map.of("fx:id", new ParsedPropertyImpl("fx:id", null, value),
@@ -142,7 +172,8 @@ class TestObjectFormatter {
         final var variableInfo = new VariableInfo(value, parsedObject, variableName, className);
         verify(variableProvider).addVariableInfo(value, variableInfo);
         verify(controllerInfo).fieldInfo(value);
-        verify(controllerInjector).injectControllerField(value, variableName);
+        verify(controllerInjector).injectControllerField(value, variableName, className);
+        verify(namespaceFormatter).addObject(value, variableName, className);
         verifyNoInteractions(reflectionHelper);
     }
 
@@ -184,6 +215,7 @@ class TestObjectFormatter {
 
     @Test
     void testHandleIdProperty(@Mock final ControllerFieldInfo fieldInfo, @Mock final PropertyFormatter propertyFormatter) throws GenerationException {
+        when(request.parameters()).thenReturn(parameters);
         when(helperProvider.getPropertyFormatter()).thenReturn(propertyFormatter);
         final var className = "javafx.scene.control.Label";
         final var value = "id";
@@ -197,7 +229,7 @@ class TestObjectFormatter {
         final var variableInfo = new VariableInfo(value, parsedObject, variableName, className);
         verify(variableProvider).addVariableInfo(value, variableInfo);
         verify(controllerInfo).fieldInfo(value);
-        verify(controllerInjector).injectControllerField(value, variableName);
+        verify(controllerInjector).injectControllerField(value, variableName, className);
         verify(objectFormatter).format(define, "define");
     }
 
@@ -243,10 +275,8 @@ class TestObjectFormatter {
     }
 
     @Test
-    void testFormatFactoryVar(@Mock final GenerationParameters parameters, @Mock final GenerationCompatibility compatibility) throws GenerationException {
-        when(parameters.compatibility()).thenReturn(compatibility);
-        when(request.parameters()).thenReturn(parameters);
-        when(compatibility.useVar()).thenReturn(true);
+    void testFormatFactoryVar() throws GenerationException {
+        when(compatibilityHelper.useVar()).thenReturn(true);
 
         final var children = List.<ParsedObject>of(new ParsedDefineImpl(List.of()));
         final var arguments = List.of(mock(ParsedObject.class), mock(ParsedObject.class));
@@ -278,10 +308,7 @@ class TestObjectFormatter {
     }
 
     @Test
-    void testFormatFactory(@Mock final GenerationParameters parameters, @Mock final GenerationCompatibility compatibility) throws GenerationException {
-        when(parameters.compatibility()).thenReturn(compatibility);
-        when(request.parameters()).thenReturn(parameters);
-
+    void testFormatFactory() throws GenerationException {
         final var children = List.<ParsedObject>of(new ParsedDefineImpl(List.of()));
         for (final var c : children) {
             doAnswer(i -> {
@@ -302,6 +329,7 @@ class TestObjectFormatter {
 
     @Test
     void testFormatIncludeOnlySource() throws GenerationException {
+        when(request.parameters()).thenReturn(parameters);
         final var include = new ParsedIncludeImpl("source", null, null);
         objectFormatter.format(include, variableName);
         final var expected = "include(source, null)        final javafx.scene.Parent variable = view.load();\n";
@@ -311,6 +339,7 @@ class TestObjectFormatter {
 
     @Test
     void testFormatIncludeIDNotInController(@Mock final SourceInfo innerSourceInfo) throws GenerationException {
+        when(request.parameters()).thenReturn(parameters);
         final var controllerClassName = "controllerClassName";
         final var source = "source";
         when(innerSourceInfo.controllerClassName()).thenReturn(controllerClassName);
@@ -328,6 +357,8 @@ class TestObjectFormatter {
 
     @Test
     void testFormatIncludeID(@Mock final ControllerFieldInfo fieldInfo, @Mock final SourceInfo innerSourceInfo) throws GenerationException {
+        when(request.parameters()).thenReturn(parameters);
+        when(parameters.objectAccessors()).thenReturn(true);
         when(controllerInfo.fieldInfo("id")).thenReturn(fieldInfo);
         when(controllerInfo.fieldInfo("idController")).thenReturn(fieldInfo);
         final var controllerClassName = "controllerClassName";
@@ -343,8 +374,88 @@ class TestObjectFormatter {
                 inject(idController, controller)inject(id, variable)""";
         assertEquals(expected, sb.toString());
         verify(initializationFormatter).formatSubViewConstructorCall(include);
-        verify(controllerInjector).injectControllerField("id", "variable");
-        verify(controllerInjector).injectControllerField("idController", "controller");
+        verify(controllerInjector).injectControllerField("id", "variable", "javafx.scene.Parent");
+        verify(controllerInjector).injectControllerField("idController", "controller", controllerClassName);
+        verify(namespaceFormatter).addObject("id", "variable", "javafx.scene.Parent");
+        verify(namespaceFormatter).addObject("idController", "controller", controllerClassName);
+    }
+
+    @Test
+    void testFormatAsyncInclude(@Mock final SourceInfo innerSourceInfo) throws GenerationException {
+        when(request.parameters()).thenReturn(parameters);
+        when(parameters.asyncLoad()).thenReturn(true);
+        when(innerSourceInfo.controllerClassName()).thenReturn("controllerClassName");
+        when(sourceInfo.sourceToSourceInfo()).thenReturn(Map.of("source", innerSourceInfo));
+        final var include = new ParsedIncludeImpl("source", "resources", "id");
+        objectFormatter.format(include, variableName);
+        final var expected = """
+                        final javafx.scene.Parent variable = joinLoad(loadTask);
+                controllerClassNamecontroller = view.controller();
+                """;
+        assertEquals(expected, sb.toString());
+        assertEquals(List.of("include(source, resources)java.util.concurrent.FutureTask<javafx.scene.Parent>loadTask = startLoad(view::load);\n"), includeLoads);
+        verify(initializationFormatter).formatSubViewConstructorCall(include);
+    }
+
+    @Test
+    void testFormatLazyInclude(@Mock final ControllerFieldInfo fieldInfo, @Mock final SourceInfo innerSourceInfo) throws GenerationException {
+        when(request.parameters()).thenReturn(parameters);
+        when(parameters.objectAccessors()).thenReturn(true);
+        when(controllerInfo.fieldInfo("id")).thenReturn(fieldInfo);
+        when(innerSourceInfo.controllerClassName()).thenReturn("controllerClassName");
+        when(sourceInfo.sourceToSourceInfo()).thenReturn(Map.of("source", innerSourceInfo));
+        when(controllerInfo.fieldInfo("idController")).thenReturn(fieldInfo);
+        when(variableProvider.getNextVariableName("lazy")).thenReturn("lazy0");
+        final var include = new ParsedIncludeImpl("source", "resources", "id");
+        objectFormatter.formatLazyInclude(include, variableName, "tab", "selectedProperty()", "setContent");
+        final var expected = """
+                        final Runnable lazy0 = () -> {
+                    include(source, resources)        final javafx.scene.Parent variable = view.load();
+                    inject(id, variable)inject(idController, view.controller())        tab.setContent(variable);
+                        };
+                        if (tab.selectedProperty().get()) {
+                            lazy0.run();
+                        } else {
+                            tab.selectedProperty().addListener(new javafx.beans.value.ChangeListener<Boolean>() {
+                                @Override
+                                public void changed(final javafx.beans.value.ObservableValue<? extends Boolean> observable, final Boolean oldValue, final Boolean newValue) {
+                                    if (newValue) {
+                                        observable.removeListener(this);
+                                        lazy0.run();
+                                    }
+                                }
+                            });
+                        }
+                """;
+        assertEquals(expected, sb.toString());
+        verify(initializationFormatter).formatSubViewConstructorCall(include);
+        verify(controllerInjector).injectControllerField("id", "variable", "javafx.scene.Parent");
+        verify(controllerInjector).injectControllerField("idController", "view.controller()", "controllerClassName");
+        verify(namespaceFormatter).addObject("id", "variable", "javafx.scene.Parent");
+        verify(namespaceFormatter).addObject("idController", "view.controller()", "controllerClassName");
+        verify(variableProvider, never()).addVariableInfo(any(), any());
+    }
+
+    @Test
+    void testFormatLazyIncludeNotInController(@Mock final SourceInfo innerSourceInfo) throws GenerationException {
+        when(request.parameters()).thenReturn(parameters);
+        when(parameters.objectAccessors()).thenReturn(true);
+        when(variableProvider.getNextVariableName("lazy")).thenReturn("lazy0");
+        when(innerSourceInfo.controllerClassName()).thenReturn("controllerClassName");
+        when(sourceInfo.sourceToSourceInfo()).thenReturn(Map.of("source", innerSourceInfo));
+        final var include = new ParsedIncludeImpl("source", null, "id");
+        objectFormatter.formatLazyInclude(include, variableName, "pane", "expandedProperty()", "setContent");
+        final var expected = """
+                        final Runnable lazy0 = () -> {
+                    include(source, null)        final javafx.scene.Parent variable = view.load();
+                            pane.setContent(variable);
+                        };
+                        if (pane.expandedProperty().get()) {
+                """;
+        assertTrue(sb.toString().startsWith(expected));
+        verifyNoInteractions(controllerInjector);
+        verify(namespaceFormatter).addObject("id", "variable", "javafx.scene.Parent");
+        verify(namespaceFormatter).addObject("idController", "view.controller()", "controllerClassName");
     }
 
     @Test
@@ -374,6 +485,16 @@ class TestObjectFormatter {
         assertEquals(expected, sb.toString());
     }
 
+    @Test
+    void testFormatValueConstant(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatConstant(anyString(), anyString())).then(i -> "constant(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
+        final var value = new ParsedValueImpl("javafx.scene.paint.Color", "red");
+        objectFormatter.format(value, variableName);
+        final var expected = "javafx.scene.paint.Colorvariable = constant(javafx.scene.paint.Color, javafx.scene.paint.Color.valueOf(\"red\"));\n";
+        assertEquals(expected, sb.toString());
+    }
+
     @Test
     void testFormatText() throws GenerationException {
         final var text = new ParsedTextImpl("text");
@@ -593,8 +714,11 @@ class TestObjectFormatter {
     }
 
     @Test
-    void testFormatConstructorNamedArgsPartial(@Mock final PropertyFormatter propertyFormatter) throws GenerationException {
+    void testFormatConstructorNamedArgsPartial(@Mock final PropertyFormatter propertyFormatter,
+                                               @Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
         when(helperProvider.getPropertyFormatter()).thenReturn(propertyFormatter);
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatConstant(anyString(), anyString())).then(i -> "constant(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
         when(valueClassGuesser.guess("2")).thenReturn(List.of(double.class));
         final var className = "javafx.geometry.Insets";
         final var attributes = Map.<String, ParsedProperty>of("left", new ParsedPropertyImpl("left", null, "2"));
@@ -602,7 +726,7 @@ class TestObjectFormatter {
         final var parsedObject = new ParsedObjectImpl(className, attributes, properties, List.of());
         when(reflectionHelper.getGenericTypes(parsedObject)).thenReturn("");
         objectFormatter.format(parsedObject, variableName);
-        final var expected = "startVarvariable = new javafx.geometry.Insets(0, 0, 0, 2);\n";
+        final var expected = "startVarvariable = constant(javafx.geometry.Insets, new javafx.geometry.Insets(0, 0, 0, 2));\n";
         assertEquals(expected, sb.toString());
         verify(compatibilityHelper).getStartVar(parsedObject);
         verify(reflectionHelper).getGenericTypes(parsedObject);
@@ -648,8 +772,9 @@ class TestObjectFormatter {
 
     @Test
     void testIllegal() {
-        assertThrows(NullPointerException.class, () -> new ObjectFormatter(null, request, sb));
-        assertThrows(NullPointerException.class, () -> new ObjectFormatter(helperProvider, null, sb));
-        assertThrows(NullPointerException.class, () -> new ObjectFormatter(helperProvider, request, null));
+        assertThrows(NullPointerException.class, () -> new ObjectFormatter(null, request, includeLoads, sb));
+        assertThrows(NullPointerException.class, () -> new ObjectFormatter(helperProvider, null, includeLoads, sb));
+        assertThrows(NullPointerException.class, () -> new ObjectFormatter(helperProvider, request, null, sb));
+        assertThrows(NullPointerException.class, () -> new ObjectFormatter(helperProvider, request, includeLoads, null));
     }
 }
\ No newline at end of file
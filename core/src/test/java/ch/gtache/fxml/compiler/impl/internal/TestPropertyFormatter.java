@@ -1,6 +1,8 @@
 package ch.gtache.fxml.compiler.impl.internal;
 
+import ch.gtache.fxml.compiler.ControllerFieldInfo;
 import ch.gtache.fxml.compiler.ControllerFieldInjectionType;
+import ch.gtache.fxml.compiler.ControllerInfo;
 import ch.gtache.fxml.compiler.GenerationException;
 import ch.gtache.fxml.compiler.GenerationParameters;
 import ch.gtache.fxml.compiler.GenerationRequest;
@@ -8,6 +10,7 @@ import ch.gtache.fxml.compiler.ResourceBundleInjectionType;
 import ch.gtache.fxml.compiler.parsing.ParsedDefine;
 import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import ch.gtache.fxml.compiler.parsing.ParsedProperty;
+import ch.gtache.fxml.compiler.parsing.impl.ParsedIncludeImpl;
 import ch.gtache.fxml.compiler.parsing.impl.ParsedObjectImpl;
 import ch.gtache.fxml.compiler.parsing.impl.ParsedPropertyImpl;
 import ch.gtache.fxml.compiler.parsing.impl.ParsedTextImpl;
@@ -26,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.SequencedCollection;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -206,6 +210,46 @@ class TestPropertyFormatter {
         verify(valueFormatter).getArg("%value", String.class);
     }
 
+    @Test
+    void testFormatStyleCompiled(@Mock final StyleFormatter styleFormatter) throws GenerationException {
+        when(helperProvider.getStyleFormatter()).thenReturn(styleFormatter);
+        when(parameters.compileStyles()).thenReturn(true);
+        when(rootObject.className()).thenReturn("javafx.scene.layout.HBox");
+        when(property.name()).thenReturn("style");
+        when(property.value()).thenReturn("-fx-padding: 4");
+        when(rootObject.attributes()).thenReturn(Map.of("style", property, "translateX", new ParsedPropertyImpl("translateX", null, "5")));
+        final var properties = new LinkedHashMap<ParsedProperty, SequencedCollection<ParsedObject>>();
+        properties.put(new ParsedPropertyImpl("padding", null, null), List.of());
+        when(rootObject.properties()).thenReturn(properties);
+        when(styleFormatter.formatStyle("-fx-padding: 4", HBox.class, variableName, Set.of("style", "translateX", "padding"))).thenReturn("compiled");
+        propertyFormatter.formatProperty(property, rootObject, variableName);
+        assertEquals("compiled", sb.toString());
+        verifyNoInteractions(valueFormatter);
+    }
+
+    @Test
+    void testFormatStyleResourceNotCompiled() throws GenerationException {
+        when(parameters.compileStyles()).thenReturn(true);
+        when(rootObject.className()).thenReturn("javafx.scene.control.Label");
+        when(property.name()).thenReturn("style");
+        when(property.value()).thenReturn("%value");
+        propertyFormatter.formatProperty(property, rootObject, variableName);
+        final var expected = "        " + variableName + ".setStyle(%value-" + String.class + ");\n";
+        assertEquals(expected, sb.toString());
+        verify(helperProvider, never()).getStyleFormatter();
+    }
+
+    @Test
+    void testFormatStyleDisabled() throws GenerationException {
+        when(rootObject.className()).thenReturn("javafx.scene.control.Label");
+        when(property.name()).thenReturn("style");
+        when(property.value()).thenReturn("-fx-padding: 4");
+        propertyFormatter.formatProperty(property, rootObject, variableName);
+        final var expected = "        " + variableName + ".setStyle(-fx-padding: 4-" + String.class + ");\n";
+        assertEquals(expected, sb.toString());
+        verify(helperProvider, never()).getStyleFormatter();
+    }
+
     @Test
     void testFormatGetProperty() throws GenerationException {
         when(rootObject.className()).thenReturn("javafx.scene.layout.HBox");
@@ -213,7 +257,7 @@ class TestPropertyFormatter {
         when(property.value()).thenReturn("value");
         propertyFormatter.formatProperty(property, rootObject, variableName);
         final var arg = "value-" + String.class;
-        final var expected = "        " + variableName + ".getChildren().addAll(listof(" + arg + "));\n";
+        final var expected = "        " + variableName + ".getChildren().add(" + arg + ");\n";
         assertEquals(expected, sb.toString());
         verify(valueFormatter).getArg("value", String.class);
     }
@@ -281,7 +325,7 @@ class TestPropertyFormatter {
         final var objects = List.of(child);
         doAnswer(i -> sb.append("object")).when(objectFormatter).format(child, "label");
         propertyFormatter.formatProperty(property, objects, parsedObject, variableName);
-        final var expected = "object        variable.getChildren().addAll(listof(label));\n";
+        final var expected = "object        variable.getChildren().add(label);\n";
         assertEquals(expected, sb.toString());
         verify(objectFormatter).format(child, "label");
     }
@@ -310,7 +354,7 @@ class TestPropertyFormatter {
         final var objects = List.of(child, child);
         doAnswer(i -> sb.append("object")).when(objectFormatter).format(child, "label");
         propertyFormatter.formatProperty(property, objects, parsedObject, variableName);
-        final var expected = "objectobject        variable.getChildren().addAll(listof(label, label));\n";
+        final var expected = "objectobject        variable.getChildren().addAll(label, label);\n";
         assertEquals(expected, sb.toString());
         verify(objectFormatter, times(2)).format(child, "label");
     }
@@ -359,6 +403,73 @@ class TestPropertyFormatter {
         verify(objectFormatter).format(child, "label");
     }
 
+    @Test
+    void testFormatLazyIncludeTab(@Mock final ObjectFormatter objectFormatter) throws GenerationException {
+        when(helperProvider.getObjectFormatter()).thenReturn(objectFormatter);
+        final var parsedObject = new ParsedObjectImpl("javafx.scene.control.Tab", Map.of(), new LinkedHashMap<>(), List.of());
+        when(property.name()).thenReturn("content");
+        final var include = new ParsedIncludeImpl(Map.of("source", new ParsedPropertyImpl("source", null, "source"),
+                "lazy", new ParsedPropertyImpl("lazy", null, "true")));
+        propertyFormatter.formatProperty(property, List.of(include), parsedObject, variableName);
+        verify(objectFormatter).formatLazyInclude(include, "parsedinclude", variableName, "selectedProperty()", "setContent");
+        verify(objectFormatter, never()).format(any(), any());
+    }
+
+    @Test
+    void testFormatLazyIncludeTitledPaneDefault(@Mock final ObjectFormatter objectFormatter) throws GenerationException {
+        when(helperProvider.getObjectFormatter()).thenReturn(objectFormatter);
+        when(parameters.lazyIncludes()).thenReturn(true);
+        final var parsedObject = new ParsedObjectImpl("javafx.scene.control.TitledPane", Map.of(), new LinkedHashMap<>(), List.of());
+        when(property.name()).thenReturn("content");
+        final var include = new ParsedIncludeImpl("source", null, null);
+        propertyFormatter.formatProperty(property, List.of(include), parsedObject, variableName);
+        verify(objectFormatter).formatLazyInclude(include, "parsedinclude", variableName, "expandedProperty()", "setContent");
+    }
+
+    @Test
+    void testFormatLazyIncludeDisabled(@Mock final ObjectFormatter objectFormatter) throws GenerationException {
+        when(helperProvider.getObjectFormatter()).thenReturn(objectFormatter);
+        when(parameters.lazyIncludes()).thenReturn(true);
+        final var parsedObject = new ParsedObjectImpl("javafx.scene.control.Tab", Map.of(), new LinkedHashMap<>(), List.of());
+        when(property.name()).thenReturn("content");
+        final var include = new ParsedIncludeImpl(Map.of("source", new ParsedPropertyImpl("source", null, "source"),
+                "lazy", new ParsedPropertyImpl("lazy", null, "false")));
+        doAnswer(i -> sb.append("include")).when(objectFormatter).format(include, "parsedinclude");
+        propertyFormatter.formatProperty(property, List.of(include), parsedObject, variableName);
+        assertEquals("include        variable.setContent(parsedinclude);\n", sb.toString());
+        verify(objectFormatter, never()).formatLazyInclude(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testFormatLazyIncludeUnsupportedParent(@Mock final ObjectFormatter objectFormatter) throws GenerationException {
+        when(helperProvider.getObjectFormatter()).thenReturn(objectFormatter);
+        when(parameters.lazyIncludes()).thenReturn(true);
+        final var parsedObject = new ParsedObjectImpl("javafx.scene.control.ScrollPane", Map.of(), new LinkedHashMap<>(), List.of());
+        when(property.name()).thenReturn("content");
+        final var include = new ParsedIncludeImpl("source", null, null);
+        doAnswer(i -> sb.append("include")).when(objectFormatter).format(include, "parsedinclude");
+        propertyFormatter.formatProperty(property, List.of(include), parsedObject, variableName);
+        assertEquals("include        variable.setContent(parsedinclude);\n", sb.toString());
+        verify(objectFormatter, never()).formatLazyInclude(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testFormatLazyIncludeFactoryInjection(@Mock final ObjectFormatter objectFormatter, @Mock final ControllerInfo controllerInfo,
+                                               @Mock final ControllerFieldInfo fieldInfo) throws GenerationException {
+        when(helperProvider.getObjectFormatter()).thenReturn(objectFormatter);
+        when(parameters.lazyIncludes()).thenReturn(true);
+        when(parameters.fieldInjectionType()).thenReturn(ControllerFieldInjectionType.FACTORY);
+        when(request.controllerInfo()).thenReturn(controllerInfo);
+        when(controllerInfo.fieldInfo("id")).thenReturn(fieldInfo);
+        final var parsedObject = new ParsedObjectImpl("javafx.scene.control.Tab", Map.of(), new LinkedHashMap<>(), List.of());
+        when(property.name()).thenReturn("content");
+        final var include = new ParsedIncludeImpl("source", null, "id");
+        doAnswer(i -> sb.append("include")).when(objectFormatter).format(include, "parsedinclude");
+        propertyFormatter.formatProperty(property, List.of(include), parsedObject, variableName);
+        assertEquals("include        variable.setContent(parsedinclude);\n", sb.toString());
+        verify(objectFormatter, never()).formatLazyInclude(any(), any(), any(), any(), any());
+    }
+
     @Test
     void testIllegal() {
         assertThrows(NullPointerException.class, () -> new PropertyFormatter(null, progress));
@@ -0,0 +1,129 @@
+package ch.gtache.fxml.compiler.impl.internal;
+
+import ch.gtache.fxml.compiler.GenerationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestReflectionCache {
+
+    private static final String FINGERPRINT = "fingerprint";
+
+    @BeforeEach
+    void beforeEach() {
+        ReflectionCache.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        ReflectionCache.clear();
+    }
+
+    @Test
+    void testSaveLoad(@TempDir final Path tempDir) throws IOException {
+        final var file = tempDir.resolve("sub").resolve("cache.txt");
+        ReflectionCache.load(file, FINGERPRINT);
+        ReflectionCache.put(ReflectionCache.Kind.DEFAULT_PROPERTY, "a", "b");
+        ReflectionCache.put(ReflectionCache.Kind.VALUE_OF, "c", "true");
+        ReflectionCache.put(ReflectionCache.Kind.METHOD, "d#e()", "");
+        ReflectionCache.save(file);
+        assertTrue(Files.exists(file));
+        ReflectionCache.clear();
+        assertNull(ReflectionCache.get(ReflectionCache.Kind.DEFAULT_PROPERTY, "a"));
+        ReflectionCache.load(file, FINGERPRINT);
+        assertEquals("b", ReflectionCache.get(ReflectionCache.Kind.DEFAULT_PROPERTY, "a"));
+        assertEquals("true", ReflectionCache.get(ReflectionCache.Kind.VALUE_OF, "c"));
+        assertEquals("", ReflectionCache.get(ReflectionCache.Kind.METHOD, "d#e()"));
+        assertNull(ReflectionCache.get(ReflectionCache.Kind.STATIC_METHOD, "d#e()"));
+    }
+
+    @Test
+    void testLoadDifferentFingerprint(@TempDir final Path tempDir) throws IOException {
+        final var file = tempDir.resolve("cache.txt");
+        ReflectionCache.load(file, FINGERPRINT);
+        ReflectionCache.put(ReflectionCache.Kind.DEFAULT_PROPERTY, "a", "b");
+        ReflectionCache.save(file);
+        ReflectionCache.load(file, "other");
+        assertNull(ReflectionCache.get(ReflectionCache.Kind.DEFAULT_PROPERTY, "a"));
+        ReflectionCache.save(file);
+        assertEquals(List.of("fingerprint\tother"), Files.readAllLines(file));
+    }
+
+    @Test
+    void testLoadInvalid(@TempDir final Path tempDir) throws IOException {
+        final var file = tempDir.resolve("cache.txt");
+        Files.write(file, List.of("fingerprint\t" + FINGERPRINT, "VALUE_OF\ta\ttrue", "invalid"));
+        ReflectionCache.load(file, FINGERPRINT);
+        assertNull(ReflectionCache.get(ReflectionCache.Kind.VALUE_OF, "a"));
+    }
+
+    @Test
+    void testLoadUnknownKind(@TempDir final Path tempDir) throws IOException {
+        final var file = tempDir.resolve("cache.txt");
+        Files.write(file, List.of("fingerprint\t" + FINGERPRINT, "UNKNOWN\ta\ttrue"));
+        ReflectionCache.load(file, FINGERPRINT);
+        assertNull(ReflectionCache.get(ReflectionCache.Kind.VALUE_OF, "a"));
+    }
+
+    @Test
+    void testLoadValueWithSeparator(@TempDir final Path tempDir) throws IOException {
+        final var file = tempDir.resolve("cache.txt");
+        Files.write(file, List.of("fingerprint\t" + FINGERPRINT, "METHOD\ta#b()\t!Not\tfound"));
+        ReflectionCache.load(file, FINGERPRINT);
+        assertEquals("!Not\tfound", ReflectionCache.get(ReflectionCache.Kind.METHOD, "a#b()"));
+    }
+
+    @Test
+    void testSaveNotModified(@TempDir final Path tempDir) throws IOException {
+        final var file = tempDir.resolve("cache.txt");
+        Files.write(file, List.of("fingerprint\t" + FINGERPRINT, "VALUE_OF\ta\ttrue"));
+        final var time = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(file, time);
+        ReflectionCache.load(file, FINGERPRINT);
+        ReflectionCache.put(ReflectionCache.Kind.VALUE_OF, "a", "true");
+        ReflectionCache.save(file);
+        assertEquals(time, Files.getLastModifiedTime(file));
+        ReflectionCache.put(ReflectionCache.Kind.VALUE_OF, "b", "false");
+        ReflectionCache.save(file);
+        assertNotEquals(time, Files.getLastModifiedTime(file));
+    }
+
+    @Test
+    void testReflectionHelperUsesCache() {
+        ReflectionCache.put(ReflectionCache.Kind.METHOD, Dummy.class.getName() + "#foo(java.lang.String)", "!Not found");
+        assertFalse(ReflectionHelper.hasMethod(Dummy.class, "foo", String.class));
+        final var exception = assertThrows(GenerationException.class, () -> ReflectionHelper.getStaticMethod(Dummy.class, "bar", (Class<?>) null));
+        assertEquals(exception.getMessage(), ReflectionCache.get(ReflectionCache.Kind.STATIC_METHOD, Dummy.class.getName() + "#bar(?)").substring(1));
+    }
+
+    @Test
+    void testReflectionHelperFillsCache() throws GenerationException {
+        final var method = ReflectionHelper.getMethod(Dummy.class, "baz", (Class<?>) null, int.class);
+        assertEquals("baz", method.getName());
+        assertEquals("java.lang.String,int", ReflectionCache.get(ReflectionCache.Kind.METHOD, Dummy.class.getName() + "#baz(?,int)"));
+    }
+
+    public static final class Dummy {
+
+        public void foo(final String s) {
+            //Used for testing
+        }
+
+        public void bar(final String s) {
+            //Used for testing
+        }
+
+        public void baz(final String s, final int i) {
+            //Used for testing
+        }
+    }
+}
@@ -5,6 +5,7 @@ import ch.gtache.fxml.compiler.parsing.ParsedDefine;
 import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import ch.gtache.fxml.compiler.parsing.ParsedProperty;
 import ch.gtache.fxml.compiler.parsing.impl.ParsedPropertyImpl;
+import javafx.scene.paint.Paint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +32,7 @@ class TestSceneFormatter {
     private final ObjectFormatter objectFormatter;
     private final GenerationCompatibilityHelper compatibilityHelper;
     private final URLFormatter urlFormatter;
+    private final ValueFormatter valueFormatter;
     private final VariableProvider variableProvider;
     private final StringBuilder sb;
     private final ParsedObject parsedObject;
@@ -42,11 +44,13 @@ class TestSceneFormatter {
 
     TestSceneFormatter(@Mock final HelperProvider helperProvider, @Mock final ObjectFormatter objectFormatter,
                        @Mock final GenerationCompatibilityHelper compatibilityHelper, @Mock final VariableProvider variableProvider,
-                       @Mock final URLFormatter urlFormatter, @Mock final ParsedObject parsedObject) {
+                       @Mock final URLFormatter urlFormatter, @Mock final ValueFormatter valueFormatter,
+                       @Mock final ParsedObject parsedObject) {
         this.helperProvider = Objects.requireNonNull(helperProvider);
         this.objectFormatter = Objects.requireNonNull(objectFormatter);
         this.compatibilityHelper = Objects.requireNonNull(compatibilityHelper);
         this.urlFormatter = Objects.requireNonNull(urlFormatter);
+        this.valueFormatter = Objects.requireNonNull(valueFormatter);
         this.variableProvider = Objects.requireNonNull(variableProvider);
         this.parsedObject = Objects.requireNonNull(parsedObject);
         this.children = new ArrayList<>();
@@ -62,12 +66,13 @@ class TestSceneFormatter {
         when(helperProvider.getObjectFormatter()).thenReturn(objectFormatter);
         when(helperProvider.getCompatibilityHelper()).thenReturn(compatibilityHelper);
         when(helperProvider.getURLFormatter()).thenReturn(urlFormatter);
+        when(helperProvider.getValueFormatter()).thenReturn(valueFormatter);
         when(helperProvider.getVariableProvider()).thenReturn(variableProvider);
         when(parsedObject.children()).thenReturn(children);
         when(parsedObject.properties()).thenReturn(properties);
         when(parsedObject.attributes()).thenReturn(attributes);
         when(compatibilityHelper.getStartVar(anyString())).then(i -> i.getArgument(0));
-        when(compatibilityHelper.getListOf()).thenReturn("listof(");
+        when(valueFormatter.getArg(anyString(), eq(Paint.class))).then(i -> "fill-" + i.getArgument(0));
         when(variableProvider.getNextVariableName(anyString())).then(i -> i.getArgument(0));
         doAnswer(i -> sb.append((String) i.getArgument(1))).when(objectFormatter).format(any(), any());
         doAnswer(i -> {
@@ -127,7 +132,7 @@ class TestSceneFormatter {
         final var define = mock(ParsedDefine.class);
         properties.put(new ParsedPropertyImpl("root", null, null), List.of(define, rootObject));
         sceneFormatter.formatScene(parsedObject, variableName);
-        final var expected = "definerootjavafx.scene.Scenevariable = new javafx.scene.Scene(root, -1.0, -1.0, javafx.scene.paint.Color.valueOf(\"0xffffffff\"));\n";
+        final var expected = "definerootjavafx.scene.Scenevariable = new javafx.scene.Scene(root, -1.0, -1.0, fill-0xffffffff);\n";
         assertEquals(expected, sb.toString());
         verify(objectFormatter).format(define, "define");
         verify(objectFormatter).format(rootObject, "root");
@@ -140,7 +145,7 @@ class TestSceneFormatter {
         children.add(define);
         children.add(rootObject);
         sceneFormatter.formatScene(parsedObject, variableName);
-        final var expected = "definerootjavafx.scene.Scenevariable = new javafx.scene.Scene(root, -1.0, -1.0, javafx.scene.paint.Color.valueOf(\"0xffffffff\"));\n";
+        final var expected = "definerootjavafx.scene.Scenevariable = new javafx.scene.Scene(root, -1.0, -1.0, fill-0xffffffff);\n";
         assertEquals(expected, sb.toString());
         verify(objectFormatter).format(define, "define");
         verify(objectFormatter).format(rootObject, "root");
@@ -156,9 +161,8 @@ class TestSceneFormatter {
         attributes.put("stylesheets", new ParsedPropertyImpl("stylesheets", null, "style.css"));
         sceneFormatter.formatScene(parsedObject, variableName);
         final var expected = """
-                rootjavafx.scene.Scenevariable = new javafx.scene.Scene(root, 100.0, 200.0, javafx.scene.paint.Color.valueOf("#FF0000"));
-                style.cssjava.util.List<String>stylesheets = variable.getStyleSheets();
-                        stylesheets.addAll(listof(1, 2));
+                rootjavafx.scene.Scenevariable = new javafx.scene.Scene(root, 100.0, 200.0, fill-#FF0000);
+                style.css        variable.getStylesheets().addAll(1.toString(), 2.toString());
                 """;
         assertEquals(expected, sb.toString());
         verify(objectFormatter).format(rootObject, "root");
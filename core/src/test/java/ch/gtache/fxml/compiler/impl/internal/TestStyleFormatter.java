@@ -0,0 +1,131 @@
+package ch.gtache.fxml.compiler.impl.internal;
+
+import ch.gtache.fxml.compiler.GenerationException;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TestStyleFormatter {
+
+    private final HelperProvider helperProvider;
+    private final HelperMethodsFormatter helperMethodsFormatter;
+    private final StyleFormatter styleFormatter;
+
+    TestStyleFormatter(@Mock final HelperProvider helperProvider, @Mock final HelperMethodsFormatter helperMethodsFormatter) {
+        this.helperProvider = Objects.requireNonNull(helperProvider);
+        this.helperMethodsFormatter = Objects.requireNonNull(helperMethodsFormatter);
+        this.styleFormatter = new StyleFormatter(helperProvider);
+    }
+
+    private void mockConstants() {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatConstant(anyString(), anyString())).then(i -> "C<" + i.getArgument(1) + ">");
+    }
+
+    @Test
+    void testFormatStyleAllCompiled() throws GenerationException {
+        mockConstants();
+        final var expected = """
+                        hbox.setSpacing(5.0);
+                        hbox.setPadding(C<new javafx.geometry.Insets(4.0, 2.0, 4.0, 2.5)>);
+                        hbox.setBackground(C<new javafx.scene.layout.Background(new javafx.scene.layout.BackgroundFill(C<new javafx.scene.paint.Color(1.0, 0.0, 0.0, 1.0)>, javafx.scene.layout.CornerRadii.EMPTY, javafx.geometry.Insets.EMPTY))>);
+                        hbox.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
+                        hbox.setOpacity(0.5);
+                        hbox.setPrefWidth(100.0);
+                """;
+        assertEquals(expected, styleFormatter.formatStyle("-fx-spacing: 5; -fx-padding: 4px 2 4 2.5;-fx-background-color: red;" +
+                " -FX-ALIGNMENT: center-left; -fx-opacity: .5; -fx-pref-width: 100px;", HBox.class, "hbox", Set.of()));
+    }
+
+    @Test
+    void testFormatStylePartiallyCompiled() throws GenerationException {
+        mockConstants();
+        final var expected = """
+                        label.setTextFill(C<new javafx.scene.paint.Color(0.0, 0.0, 1.0, 1.0)>);
+                        label.setStyle("-fx-font-size: 2em; -fx-spacing: 5; -fx-padding: 4 2; -fx-opacity: 1 !important");
+                """;
+        assertEquals(expected, styleFormatter.formatStyle("-fx-font-size: 2em; -fx-text-fill: #0000ff; -fx-spacing: 5; " +
+                "-fx-padding: 4 2; -fx-opacity: 1 !important", Label.class, "label", Set.of()));
+    }
+
+    @Test
+    void testFormatStyleRepeated() throws GenerationException {
+        final var expected = """
+                        pane.setOpacity(0.2);
+                        pane.setStyle("-fx-border-color: red");
+                """;
+        assertEquals(expected, styleFormatter.formatStyle("-fx-opacity: 0.5; -fx-border-color: red; -fx-opacity: 0.2", Pane.class, "pane", Set.of()));
+    }
+
+    @Test
+    void testFormatStyleBackgroundNotCompiled() throws GenerationException {
+        assertEquals("        pane.setStyle(\"-fx-background-color: red; -fx-background-radius: 4\");\n",
+                styleFormatter.formatStyle("-fx-background-color: red; -fx-background-radius: 4", Pane.class, "pane", Set.of()));
+        assertEquals("        button.setStyle(\"-fx-background-color: red\");\n",
+                styleFormatter.formatStyle("-fx-background-color: red", Button.class, "button", Set.of()));
+        assertEquals("        pane.setStyle(\"-fx-background-color: -fx-base; -fx-text-fill: red\");\n",
+                styleFormatter.formatStyle("-fx-background-color: -fx-base; -fx-text-fill: red", Pane.class, "pane", Set.of()));
+        assertEquals("        pane.setStyle(\"-fx-background-color: linear-gradient(red, blue)\");\n",
+                styleFormatter.formatStyle("-fx-background-color: linear-gradient(red, blue)", Pane.class, "pane", Set.of()));
+    }
+
+    @Test
+    void testFormatStyleUnsafe() throws GenerationException {
+        assertEquals("        pane.setStyle(\"-fx-opacity: 0.5; -fx-font-family: \\\"Arial\\\"\");\n",
+                styleFormatter.formatStyle("-fx-opacity: 0.5; -fx-font-family: \"Arial\"", Pane.class, "pane", Set.of()));
+        assertEquals("        pane.setStyle(\"-fx-opacity: 0.5; /* comment */\");\n",
+                styleFormatter.formatStyle("-fx-opacity: 0.5; /* comment */", Pane.class, "pane", Set.of()));
+        assertEquals("        pane.setStyle(\"-fx-opacity: 0.5; invalid\");\n",
+                styleFormatter.formatStyle("-fx-opacity: 0.5; invalid", Pane.class, "pane", Set.of()));
+        assertEquals("        pane.setStyle(\"-fx-opacity: 0.5; -fx-background-image: url(image.png)\");\n",
+                styleFormatter.formatStyle("-fx-opacity: 0.5; -fx-background-image: url(image.png)", Pane.class, "pane", Set.of()));
+        verifyNoInteractions(helperProvider);
+    }
+
+    @Test
+    void testFormatStyleSetProperties() throws GenerationException {
+        assertEquals("        label.setStyle(\"-fx-text-fill: red; -fx-translate-x: 10\");\n",
+                styleFormatter.formatStyle("-fx-text-fill: red; -fx-translate-x: 10", Label.class, "label", Set.of("textFill", "translateX")));
+        assertEquals("        pane.setStyle(\"-fx-background-color: red\");\n",
+                styleFormatter.formatStyle("-fx-background-color: red", Pane.class, "pane", Set.of("background")));
+        verifyNoInteractions(helperProvider);
+    }
+
+    @Test
+    void testFormatStyleNoSetter() throws GenerationException {
+        assertEquals("        rectangle.setStyle(\"-fx-spacing: 5; -fx-alignment: center\");\n",
+                styleFormatter.formatStyle("-fx-spacing: 5; -fx-alignment: center", Rectangle.class, "rectangle", Set.of()));
+    }
+
+    @Test
+    void testFormatStyleNotNode() throws GenerationException {
+        assertEquals("        object.setStyle(\"-fx-opacity: 0.5\");\n",
+                styleFormatter.formatStyle("-fx-opacity: 0.5", Object.class, "object", Set.of()));
+    }
+
+    @Test
+    void testFormatStyleEmpty() throws GenerationException {
+        assertEquals("", styleFormatter.formatStyle(" ; ", Pane.class, "pane", Set.of()));
+    }
+
+    @Test
+    void testIllegal() {
+        assertThrows(NullPointerException.class, () -> new StyleFormatter(null));
+    }
+}
@@ -19,6 +19,7 @@ import java.util.SequencedCollection;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.when;
 
@@ -100,7 +101,9 @@ class TestTriangleMeshFormatter {
     }
 
     @Test
-    void testAllAttributes() throws GenerationException {
+    void testAllAttributes(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatConstant(anyString(), anyString())).then(i -> "constant(" + i.getArgument(0) + ", " + i.getArgument(1) + ")");
         final var points = "3.0, 4.1, 5, 6f";
         final var texCoords = " 7 8  9.3   10.0f  ";
         final var normals = "  7 , 8f  9.3f";
@@ -125,16 +128,50 @@ class TestTriangleMeshFormatter {
         triangleMeshFormatter.formatTriangleMesh(parsedObject, variableName);
         final var expected = """
                 javafx.scene.shape.TriangleMeshvariable = new javafx.scene.shape.TriangleMesh();
-                        variable.getPoints().setAll(new float[]{3.0, 4.1, 5.0, 6.0});
-                        variable.getTexCoords().setAll(new float[]{7.0, 8.0, 9.3, 10.0});
-                        variable.getNormals().setAll(new float[]{7.0, 8.0, 9.3});
-                        variable.getFaces().setAll(new int[]{1, 2, 3, 4});
-                        variable.getFaceSmoothingGroups().setAll(new int[]{1, 22, 3});
+                        variable.getPoints().setAll(constant(float[], new float[]{3.0f, 4.1f, 5.0f, 6.0f}));
+                        variable.getTexCoords().setAll(constant(float[], new float[]{7.0f, 8.0f, 9.3f, 10.0f}));
+                        variable.getNormals().setAll(constant(float[], new float[]{7.0f, 8.0f, 9.3f}));
+                        variable.getFaces().setAll(constant(int[], new int[]{1, 2, 3, 4}));
+                        variable.getFaceSmoothingGroups().setAll(constant(int[], new int[]{1, 22, 3}));
                         variable.setVertexFormat(javafx.scene.shape.VertexFormat.POINT_TEXCOORD);
                 """;
         assertEquals(expected, sb.toString());
     }
 
+    @Test
+    void testLargeArrays(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatConstant(anyString(), anyString())).then(i -> "constant(" + i.getArgument(0) + ")");
+        when(helperMethodsFormatter.useResources()).thenReturn(true);
+        when(helperMethodsFormatter.formatResourceArray(any(float[].class))).then(i -> "floats(" + ((float[]) i.getArgument(0)).length + ")");
+        when(helperMethodsFormatter.formatResourceArray(any(int[].class))).then(i -> "ints(" + ((int[]) i.getArgument(0)).length + ")");
+        attributes.put("points", new ParsedPropertyImpl("points", null, "1.5 ".repeat(1025)));
+        attributes.put("texCoords", new ParsedPropertyImpl("texCoords", null, "1.5 ".repeat(1024)));
+        attributes.put("faces", new ParsedPropertyImpl("faces", null, "1 ".repeat(1025)));
+        triangleMeshFormatter.formatTriangleMesh(parsedObject, variableName);
+        final var expected = """
+                javafx.scene.shape.TriangleMeshvariable = new javafx.scene.shape.TriangleMesh();
+                        variable.getPoints().setAll(floats(1025));
+                        variable.getTexCoords().setAll(constant(float[]));
+                        variable.getFaces().setAll(ints(1025));
+                """;
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    void testLargeArraysNoResources(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatConstant(anyString(), anyString())).then(i -> "constant(" + i.getArgument(0) + ")");
+        when(helperMethodsFormatter.useResources()).thenReturn(false);
+        attributes.put("points", new ParsedPropertyImpl("points", null, "1.5 ".repeat(1025)));
+        triangleMeshFormatter.formatTriangleMesh(parsedObject, variableName);
+        final var expected = """
+                javafx.scene.shape.TriangleMeshvariable = new javafx.scene.shape.TriangleMesh();
+                        variable.getPoints().setAll(constant(float[]));
+                """;
+        assertEquals(expected, sb.toString());
+    }
+
     @Test
     void testIllegal() {
         assertThrows(NullPointerException.class, () -> new TriangleMeshFormatter(null, sb));
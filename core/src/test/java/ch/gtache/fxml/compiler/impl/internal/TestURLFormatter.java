@@ -27,17 +27,20 @@ class TestURLFormatter {
     private final HelperProvider helperProvider;
     private final GenerationCompatibilityHelper compatibilityHelper;
     private final VariableProvider variableProvider;
+    private final HelperMethodsFormatter helperMethodsFormatter;
     private final ParsedObject parsedObject;
     private final String variableName;
     private final StringBuilder sb;
     private final URLFormatter urlFormatter;
 
     TestURLFormatter(@Mock final HelperProvider helperProvider, @Mock final VariableProvider variableProvider,
-                     @Mock final GenerationCompatibilityHelper compatibilityHelper, @Mock final ParsedObject parsedObject) {
+                     @Mock final GenerationCompatibilityHelper compatibilityHelper, @Mock final ParsedObject parsedObject,
+                     @Mock final HelperMethodsFormatter helperMethodsFormatter) {
         this.helperProvider = Objects.requireNonNull(helperProvider);
         this.variableProvider = Objects.requireNonNull(variableProvider);
         this.compatibilityHelper = Objects.requireNonNull(compatibilityHelper);
         this.parsedObject = Objects.requireNonNull(parsedObject);
+        this.helperMethodsFormatter = Objects.requireNonNull(helperMethodsFormatter);
         this.sb = new StringBuilder();
         this.variableName = "variable";
         this.urlFormatter = new URLFormatter(helperProvider, sb);
@@ -47,6 +50,9 @@ class TestURLFormatter {
     void beforeEach() {
         when(helperProvider.getCompatibilityHelper()).thenReturn(compatibilityHelper);
         when(helperProvider.getVariableProvider()).thenReturn(variableProvider);
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatResourceURL(anyString())).then(i -> "resource(" + i.getArgument(0) + ")");
+        when(helperMethodsFormatter.formatAbsoluteURL(anyString())).then(i -> "absolute(" + i.getArgument(0) + ")");
         when(variableProvider.getNextVariableName("url")).thenReturn("url1", "url2");
         when(compatibilityHelper.getStartVar(anyString())).then(i -> i.getArgument(0));
         when(parsedObject.children()).thenReturn(List.of());
@@ -55,7 +61,7 @@ class TestURLFormatter {
 
     @Test
     void testFormatURLSheets() {
-        final var styleSheets = List.of("style1.css", "@style2.css");
+        final var styleSheets = List.of("style1.css", "@style2.css", "file:/style3.css");
         final var expected = """
                         final java.net.URL url1;
                         try {
@@ -63,9 +69,8 @@ class TestURLFormatter {
                         } catch (final java.net.MalformedURLException | java.net.URISyntaxException e) {
                             throw new RuntimeException("Couldn't parse url : style1.css", e);
                         }
-                java.net.URLurl2 = getClass().getResource("style2.css");
                 """;
-        assertEquals(List.of("url1", "url2"), urlFormatter.formatURL(styleSheets));
+        assertEquals(List.of("url1", "resource(style2.css)", "absolute(file:/style3.css)"), urlFormatter.formatURL(styleSheets));
         assertEquals(expected, sb.toString());
     }
 
@@ -99,7 +104,7 @@ class TestURLFormatter {
         when(parsedObject.attributes()).thenReturn(attributes);
 
         urlFormatter.formatURL(parsedObject, variableName);
-        final var expected = "java.net.URL" + variableName + " = getClass().getResource(\"key\");\n";
+        final var expected = "java.net.URL" + variableName + " = resource(key);\n";
         assertEquals(expected, sb.toString());
     }
 
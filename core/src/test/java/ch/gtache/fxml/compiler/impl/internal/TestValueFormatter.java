@@ -3,6 +3,9 @@ package ch.gtache.fxml.compiler.impl.internal;
 import ch.gtache.fxml.compiler.GenerationException;
 import ch.gtache.fxml.compiler.ResourceBundleInjectionType;
 import javafx.geometry.Pos;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.util.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,11 +13,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.URL;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -59,9 +66,29 @@ class TestValueFormatter {
     }
 
     @Test
-    void testGetArgRelativePath() throws GenerationException {
-        assertEquals("getClass().getResource(\"value\").toString()", formatter.getArg("@value", String.class));
-        assertEquals("getClass().getResource(\"value\").toString()", formatter.getArg("@value", URL.class));
+    void testGetArgRelativePath(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatResourceURL("value")).thenReturn("URLS.URL0");
+        assertEquals("URLS.URL0.toString()", formatter.getArg("@value", String.class));
+        assertEquals("URLS.URL0.toString()", formatter.getArg("@value", URL.class));
+    }
+
+    @Test
+    void testGetArgConstant(@Mock final HelperMethodsFormatter helperMethodsFormatter) throws GenerationException {
+        when(helperProvider.getHelperMethodsFormatter()).thenReturn(helperMethodsFormatter);
+        when(helperMethodsFormatter.formatConstant("javafx.scene.paint.Paint", "new javafx.scene.paint.Color(1.0, 0.0, 0.0, 1.0)")).thenReturn("CONSTANT");
+        assertEquals("CONSTANT", formatter.getArg("red", Paint.class));
+    }
+
+    @Test
+    void testIsConstantType() {
+        assertTrue(ValueFormatter.isConstantType(int.class));
+        assertTrue(ValueFormatter.isConstantType(Double.class));
+        assertTrue(ValueFormatter.isConstantType(String.class));
+        assertTrue(ValueFormatter.isConstantType(Pos.class));
+        assertTrue(ValueFormatter.isConstantType(Paint.class));
+        assertFalse(ValueFormatter.isConstantType(Object.class));
+        assertFalse(ValueFormatter.isConstantType(URL.class));
     }
 
     @Test
@@ -127,6 +154,46 @@ class TestValueFormatter {
         }
     }
 
+    @Test
+    void testToStringIntegerFolded() {
+        assertEquals("-1", ValueFormatter.toString("-1", int.class));
+        assertEquals("-1", ValueFormatter.toString("-1", Integer.class));
+        assertEquals("(byte) -1", ValueFormatter.toString("-1", byte.class));
+        assertEquals("(short) -1", ValueFormatter.toString("-1", Short.class));
+        assertEquals("-10000000000L", ValueFormatter.toString("-10000000000", long.class));
+        assertEquals("java.lang.Integer.valueOf(\"-10000000000\")", ValueFormatter.toString("-10000000000", int.class));
+    }
+
+    @Test
+    void testToStringDecimalFolded() {
+        assertEquals("-1.0", ValueFormatter.toString("-1", double.class));
+        assertEquals("1000.0", ValueFormatter.toString("1e3", Double.class));
+        assertEquals("-1.5f", ValueFormatter.toString("-1.5", float.class));
+        assertEquals("Double.POSITIVE_INFINITY", ValueFormatter.toString("Infinity", double.class));
+        assertEquals("Float.NaN", ValueFormatter.toString("NaN", Float.class));
+    }
+
+    @Test
+    void testToStringDate() {
+        assertEquals("java.time.LocalDate.of(2020, 1, 31)", ValueFormatter.toString("2020-01-31", LocalDate.class));
+        assertEquals("java.time.LocalDate.parse(\"value\")", ValueFormatter.toString("value", LocalDate.class));
+        assertEquals("java.time.LocalDateTime.of(2020, 1, 31, 10, 15, 30, 0)", ValueFormatter.toString("2020-01-31T10:15:30", LocalDateTime.class));
+        assertEquals("java.time.LocalDateTime.parse(\"value\")", ValueFormatter.toString("value", LocalDateTime.class));
+    }
+
+    @Test
+    void testToStringColor() {
+        assertEquals("new javafx.scene.paint.Color(1.0, 0.0, 0.0, 1.0)", ValueFormatter.toString("red", Color.class));
+        assertEquals("new javafx.scene.paint.Color(1.0, 0.5333333611488342, 0.0, 1.0)", ValueFormatter.toString("#ff8800", Paint.class));
+        assertEquals("javafx.scene.paint.Paint.valueOf(\"linear-gradient(red, blue)\")", ValueFormatter.toString("linear-gradient(red, blue)", Paint.class));
+    }
+
+    @Test
+    void testToStringDuration() {
+        assertEquals("javafx.util.Duration.millis(1500.0)", ValueFormatter.toString("1.5s", Duration.class));
+        assertEquals("javafx.util.Duration.valueOf(\"value\")", ValueFormatter.toString("value", Duration.class));
+    }
+
     @Test
     void testToStringValueOfEnum() {
         assertEquals("javafx.geometry.Pos.value", ValueFormatter.toString("value", Pos.class));
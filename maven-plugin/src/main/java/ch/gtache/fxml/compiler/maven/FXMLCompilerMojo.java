@@ -3,14 +3,28 @@ package ch.gtache.fxml.compiler.maven;
 import ch.gtache.fxml.compiler.ControllerFieldInjectionType;
 import ch.gtache.fxml.compiler.ControllerInjectionType;
 import ch.gtache.fxml.compiler.ControllerMethodsInjectionType;
+import ch.gtache.fxml.compiler.GenerationParameters;
 import ch.gtache.fxml.compiler.ResourceBundleInjectionType;
 import ch.gtache.fxml.compiler.compatibility.impl.GenerationCompatibilityImpl;
+import ch.gtache.fxml.compiler.impl.ClassesFinder;
 import ch.gtache.fxml.compiler.impl.GenerationParametersImpl;
+import ch.gtache.fxml.compiler.impl.GeneratorImpl;
+import ch.gtache.fxml.compiler.maven.internal.BuildManifest;
 import ch.gtache.fxml.compiler.maven.internal.CompilationInfo;
 import ch.gtache.fxml.compiler.maven.internal.CompilationInfoProvider;
 import ch.gtache.fxml.compiler.maven.internal.Compiler;
 import ch.gtache.fxml.compiler.maven.internal.ControllerProvider;
+import ch.gtache.fxml.compiler.maven.internal.ExecutionMode;
 import ch.gtache.fxml.compiler.maven.internal.FXMLProvider;
+import ch.gtache.fxml.compiler.maven.internal.ParserType;
+import ch.gtache.fxml.compiler.maven.internal.Scheduler;
+import ch.gtache.fxml.compiler.maven.internal.SchedulerReport;
+import ch.gtache.fxml.compiler.maven.internal.SourceInfoProvider;
+import ch.gtache.fxml.compiler.parsing.FXMLParser;
+import ch.gtache.fxml.compiler.parsing.ParseException;
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -18,14 +32,17 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.Executor;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
 
@@ -62,9 +79,46 @@ public class FXMLCompilerMojo extends AbstractMojo {
     @Parameter(property = "resource-map")
     private Map<String, String> resourceMap;
 
+    @Parameter(property = "max-load-method-size", defaultValue = "0", required = true)
+    private int maxLoadMethodSize;
+
+    @Parameter(property = "lazy-includes", defaultValue = "false", required = true)
+    private boolean lazyIncludes;
+
+    @Parameter(property = "async-load", defaultValue = "false", required = true)
+    private boolean asyncLoad;
+
+    @Parameter(property = "incremental-load", defaultValue = "false", required = true)
+    private boolean incrementalLoad;
+
+    @Parameter(property = "compile-styles", defaultValue = "false", required = true)
+    private boolean compileStyles;
+
+    @Parameter(property = "object-accessors", defaultValue = "false", required = true)
+    private boolean objectAccessors;
+
     @Parameter(property = "parallelism", defaultValue = "1", required = true)
     private int parallelism;
 
+    @Parameter(property = "execution-mode", defaultValue = "PLATFORM", required = true)
+    private ExecutionMode executionMode;
+
+    @Parameter(property = "incremental", defaultValue = "true", required = true)
+    private boolean incremental;
+
+    @Parameter(property = "manifest-file", defaultValue = "${project.build.directory}/fxml-compiler/manifest.txt", required = true)
+    private Path manifestFile;
+
+    @Parameter(property = "parser", defaultValue = "DOM", required = true)
+    private ParserType parserType;
+
+    @Parameter(property = "reflection-cache-file", defaultValue = "${project.build.directory}/fxml-compiler/reflection-cache.txt")
+    private Path reflectionCacheFile;
+
+    @Parameter(defaultValue = "${plugin.artifacts}", readonly = true)
+    private List<Artifact> pluginArtifacts;
+
+    private final Function<? super ParserType, ? extends FXMLParser> parserFactory;
     private final Compiler compiler;
     private final CompilationInfoProvider.Factory compilationInfoProviderFactory;
     private final ControllerProvider controllerProvider;
@@ -73,14 +127,17 @@ public class FXMLCompilerMojo extends AbstractMojo {
     /**
      * Instantiates a new MOJO with the given helpers (used for testing)
      *
+     * @param parserFactory                  The FXML parser factory
      * @param compiler                       The compiler
      * @param compilationInfoProviderFactory The compilation info provider
      * @param controllerProvider             The controller provider
      * @param fxmlProviderFactory            The FXML provider factory
      * @throws NullPointerException If any parameter is null
      */
-    FXMLCompilerMojo(final Compiler compiler, final CompilationInfoProvider.Factory compilationInfoProviderFactory,
+    FXMLCompilerMojo(final Function<? super ParserType, ? extends FXMLParser> parserFactory, final Compiler compiler,
+                     final CompilationInfoProvider.Factory compilationInfoProviderFactory,
                      final ControllerProvider controllerProvider, final FXMLProvider.Factory fxmlProviderFactory) {
+        this.parserFactory = requireNonNull(parserFactory);
         this.compiler = requireNonNull(compiler);
         this.compilationInfoProviderFactory = requireNonNull(compilationInfoProviderFactory);
         this.controllerProvider = requireNonNull(controllerProvider);
@@ -91,127 +148,235 @@ public class FXMLCompilerMojo extends AbstractMojo {
      * Instantiates a new MOJO
      */
     FXMLCompilerMojo() {
-        this(new Compiler(), CompilationInfoProvider::new, new ControllerProvider(), FXMLProvider::new);
+        this(ParserType::create, new Compiler(), CompilationInfoProvider::new, new ControllerProvider(), FXMLProvider::new);
     }
 
     @Override
     public void execute() throws MojoExecutionException {
         try {
-            if (fieldInjectionType == ControllerFieldInjectionType.FACTORY && controllerInjectionType != ControllerInjectionType.FACTORY) {
-                getLog().warn("Field injection is set to FACTORY : Forcing controller injection to FACTORY");
+            if ((fieldInjectionType == ControllerFieldInjectionType.FACTORY || fieldInjectionType == ControllerFieldInjectionType.TYPED_FACTORY)
+                    && controllerInjectionType != ControllerInjectionType.FACTORY) {
+                getLog().warn("Field injection is set to " + fieldInjectionType + " : Forcing controller injection to FACTORY");
                 controllerInjectionType = ControllerInjectionType.FACTORY;
             }
             final var fxmls = fxmlProviderFactory.create(project).getFXMLs();
             if (parallelism < 1) {
                 parallelism = Runtime.getRuntime().availableProcessors();
             }
-            if (parallelism > 1) {
-                try (final var executor = Executors.newFixedThreadPool(parallelism)) {
-                    final var controllerMapping = createControllerMapping(fxmls, executor);
-                    final var compilationInfoMapping = createCompilationInfoMapping(fxmls, controllerMapping, executor);
-                    compile(compilationInfoMapping, executor);
+            if (reflectionCacheFile != null) {
+                GeneratorImpl.loadReflectionCache(reflectionCacheFile, BuildManifest.hash(getClasspathFingerprint()));
+            }
+            final var manifestBuilder = incremental ? createManifestBuilder(fxmls.keySet()) : null;
+            final var stages = new MojoStages(parserFactory.apply(parserType), compilationInfoProviderFactory.create(project, outputDirectory),
+                    fxmls, manifestBuilder);
+            final var report = schedule(stages, fxmls.keySet());
+            final var compiled = stages.compiled();
+            final var written = stages.written();
+            getLog().info("Compiled " + compiled + " out of " + report.files() + " FXML files (" + written +
+                    " rewritten, " + (compiled - written) + " unchanged) in " + report.wallTime().toMillis() + " ms on " + report.threads() + " thread(s) (parallel efficiency : " +
+                    Math.round(report.efficiency() * 100) + "%)");
+            if (manifestBuilder != null) {
+                manifestBuilder.build().write(manifestFile);
+            }
+            if (reflectionCacheFile != null) {
+                try {
+                    GeneratorImpl.saveReflectionCache(reflectionCacheFile);
+                } catch (final IOException e) {
+                    getLog().warn("Error saving reflection cache to " + reflectionCacheFile, e);
                 }
-            } else {
-                final var controllerMapping = createControllerMapping(fxmls);
-                final var compilationInfoMapping = createCompilationInfoMapping(fxmls, controllerMapping);
-                compile(compilationInfoMapping);
             }
+            project.addCompileSourceRoot(outputDirectory.toAbsolutePath().toString());
+            project.addResource(getGeneratedResources());
         } catch (final RuntimeException e) {
             throw new MojoExecutionException(e);
+        } finally {
+            try {
+                ClassesFinder.clear();
+            } catch (final IOException e) {
+                getLog().warn("Error closing classpath index", e);
+            }
         }
     }
 
-    private Map<Path, String> createControllerMapping(final Map<? extends Path, ? extends Path> fxmls) throws MojoExecutionException {
-        final var mapping = new HashMap<Path, String>();
-        for (final var fxml : fxmls.keySet()) {
-            mapping.put(fxml, controllerProvider.getController(fxml));
-        }
-        return mapping;
+    private BuildManifest.Builder createManifestBuilder(final Collection<Path> fxmls) throws MojoExecutionException {
+        final var previous = BuildManifest.read(manifestFile);
+        deleteOutputs(previous.getRemovedOutputs(fxmls));
+        return new BuildManifest.Builder(getConfiguration(), previous);
     }
 
-    private Map<Path, CompilationInfo> createCompilationInfoMapping(final Map<? extends Path, ? extends Path> fxmls,
-                                                                    final Map<? extends Path, String> controllerMapping) throws MojoExecutionException {
-        final var mapping = new HashMap<Path, CompilationInfo>();
-        final var compilationInfoProvider = compilationInfoProviderFactory.create(project, outputDirectory);
-        for (final var entry : fxmls.entrySet()) {
-            final var info = compilationInfoProvider.getCompilationInfo(entry.getValue(), entry.getKey(), controllerMapping);
-            mapping.put(entry.getKey(), info);
-        }
-        return mapping;
+    /**
+     * Returns the resources read by the generated classes, which are written next to them and must be copied with the
+     * other resources of the project
+     *
+     * @return The resources
+     */
+    private Resource getGeneratedResources() {
+        final var resource = new Resource();
+        resource.setDirectory(outputDirectory.toAbsolutePath().toString());
+        resource.addExclude("**/*.java");
+        return resource;
     }
 
-    private void compile(final Map<Path, CompilationInfo> mapping) throws MojoExecutionException {
-        final var parameters = new GenerationParametersImpl(new GenerationCompatibilityImpl(targetVersion), useImageInputStreamConstructor, resourceMap,
-                controllerInjectionType, fieldInjectionType, methodInjectionType, resourceInjectionType);
-        compiler.compile(mapping, parameters);
-        project.addCompileSourceRoot(outputDirectory.toAbsolutePath().toString());
+    private GenerationParameters getParameters() {
+        return new GenerationParametersImpl(new GenerationCompatibilityImpl(targetVersion), useImageInputStreamConstructor, resourceMap,
+                controllerInjectionType, fieldInjectionType, methodInjectionType, resourceInjectionType, maxLoadMethodSize, lazyIncludes,
+                asyncLoad, incrementalLoad, compileStyles, objectAccessors);
     }
 
-    private Map<Path, String> createControllerMapping(final Map<? extends Path, ? extends Path> fxmls,
-                                                      final Executor executor) {
-        final var futures = new ArrayList<CompletableFuture<ControllerMapping>>(fxmls.size());
-        for (final var fxml : fxmls.keySet()) {
-            futures.add(CompletableFuture.supplyAsync(() -> {
-                try {
-                    final var controller = controllerProvider.getController(fxml);
-                    return new ControllerMapping(fxml, controller);
-                } catch (final MojoExecutionException e) {
-                    throw new CompletionException(e);
+    private String getConfiguration() {
+        final var sb = new StringBuilder();
+        sb.append(outputDirectory.toAbsolutePath()).append('\n');
+        sb.append(targetVersion).append('\n');
+        sb.append(useImageInputStreamConstructor).append('\n');
+        sb.append(controllerInjectionType).append('\n');
+        sb.append(fieldInjectionType).append('\n');
+        sb.append(methodInjectionType).append('\n');
+        sb.append(resourceInjectionType).append('\n');
+        sb.append(maxLoadMethodSize).append('\n');
+        sb.append(lazyIncludes).append('\n');
+        sb.append(asyncLoad).append('\n');
+        sb.append(incrementalLoad).append('\n');
+        sb.append(compileStyles).append('\n');
+        sb.append(objectAccessors).append('\n');
+        sb.append(resourceMap == null ? Map.of() : new TreeMap<>(resourceMap)).append('\n');
+        sb.append(getClasspathFingerprint());
+        return sb.toString();
+    }
+
+    private String getClasspathFingerprint() {
+        final var sb = new StringBuilder();
+        sb.append(Runtime.version()).append('\n');
+        if (pluginArtifacts != null) {
+            for (final var artifact : pluginArtifacts) {
+                sb.append(artifact.getId());
+                final var file = artifact.getFile();
+                if (file != null) {
+                    sb.append(':').append(file.length()).append(':').append(file.lastModified());
                 }
-            }, executor));
+                sb.append('\n');
+            }
         }
-        final var mapping = new HashMap<Path, String>();
-        futures.forEach(c -> {
-            final var joined = c.join();
-            mapping.put(joined.fxml(), joined.controller());
-        });
-        return mapping;
+        return sb.toString();
     }
 
-    private record ControllerMapping(Path fxml, String controller) {
+    private void deleteOutputs(final Iterable<Path> outputs) throws MojoExecutionException {
+        for (final var output : outputs) {
+            try {
+                for (final var resource : Compiler.getResources(output)) {
+                    Files.delete(resource);
+                    getLog().info("Deleted " + resource);
+                }
+                if (Files.deleteIfExists(output)) {
+                    getLog().info("Deleted " + output);
+                }
+            } catch (final IOException e) {
+                throw new MojoExecutionException("Error deleting " + output, e);
+            }
+        }
     }
 
-    private Map<Path, CompilationInfo> createCompilationInfoMapping(final Map<? extends Path, ? extends Path> fxmls,
-                                                                    final Map<? extends Path, String> controllerMapping,
-                                                                    final Executor executor) {
-        final var compilationInfoProvider = compilationInfoProviderFactory.create(project, outputDirectory);
-        final var futures = new ArrayList<CompletableFuture<CompilationInfoMapping>>(fxmls.size());
-        for (final var entry : fxmls.entrySet()) {
-            futures.add(CompletableFuture.supplyAsync(() -> {
-                try {
-                    final var info = compilationInfoProvider.getCompilationInfo(entry.getValue(), entry.getKey(),
-                            controllerMapping);
-                    return new CompilationInfoMapping(entry.getKey(), info);
-                } catch (final MojoExecutionException e) {
-                    throw new CompletionException(e);
-                }
-            }, executor));
+    /**
+     * Compiles the given files using executors chosen from the execution mode and the parallelism.
+     * With {@link ExecutionMode#VIRTUAL}, the I/O-bound stages run on virtual threads and the generation on a pool of
+     * platform threads sized to the available cores. Otherwise, every stage runs on a pool of {@code parallelism}
+     * platform threads, or on the calling thread if the parallelism is 1.
+     * The executors are shut down once all the files are compiled
+     *
+     * @param stages The stages of the compilation of a single file
+     * @param fxmls  The files to compile
+     * @return The report of the compilation
+     * @throws MojoExecutionException If an error occurs in any stage
+     */
+    private SchedulerReport schedule(final Scheduler.Stages stages, final Collection<Path> fxmls) throws MojoExecutionException {
+        if (executionMode == ExecutionMode.VIRTUAL) {
+            final var cores = Runtime.getRuntime().availableProcessors();
+            try (final var ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
+                 final var cpuExecutor = Executors.newFixedThreadPool(cores)) {
+                return new Scheduler(stages, ioExecutor, cpuExecutor, cores).run(fxmls);
+            }
+        } else if (parallelism > 1) {
+            try (final var executor = Executors.newFixedThreadPool(parallelism)) {
+                return new Scheduler(stages, executor, parallelism).run(fxmls);
+            }
+        } else {
+            return new Scheduler(stages, Runnable::run, 1).run(fxmls);
         }
-        final var mapping = new HashMap<Path, CompilationInfo>();
-        futures.forEach(c -> {
-            final var joined = c.join();
-            mapping.put(joined.fxml(), joined.info());
-        });
-        return mapping;
     }
 
-    private record CompilationInfoMapping(Path fxml, CompilationInfo info) {
+    /**
+     * The stages of the compilation of a single file
+     */
+    private final class MojoStages implements Scheduler.Stages {
 
-    }
+        private final FXMLParser parser;
+        private final CompilationInfoProvider compilationInfoProvider;
+        private final Map<? extends Path, ? extends Path> fxmls;
+        private final BuildManifest.Builder manifestBuilder;
+        private final GenerationParameters parameters;
+        private final SourceInfoProvider sourceInfoProvider;
+        private final AtomicInteger compiled;
+        private final AtomicInteger written;
 
-    private void compile(final Map<Path, CompilationInfo> mapping, final Executor executor) {
-        final var parameters = new GenerationParametersImpl(new GenerationCompatibilityImpl(targetVersion),
-                useImageInputStreamConstructor, resourceMap, controllerInjectionType, fieldInjectionType,
-                methodInjectionType, resourceInjectionType);
-        final var futures = new ArrayList<CompletableFuture<Void>>(mapping.size());
-        mapping.forEach((p, i) -> futures.add(CompletableFuture.runAsync(() -> {
+        private MojoStages(final FXMLParser parser, final CompilationInfoProvider compilationInfoProvider,
+                           final Map<? extends Path, ? extends Path> fxmls, final BuildManifest.Builder manifestBuilder) {
+            this.parser = requireNonNull(parser);
+            this.compilationInfoProvider = requireNonNull(compilationInfoProvider);
+            this.fxmls = requireNonNull(fxmls);
+            this.manifestBuilder = manifestBuilder;
+            this.parameters = getParameters();
+            this.sourceInfoProvider = new SourceInfoProvider();
+            this.compiled = new AtomicInteger();
+            this.written = new AtomicInteger();
+        }
+
+        @Override
+        public ParsedObject parse(final Path fxml) throws MojoExecutionException {
             try {
-                compiler.compile(p, i, mapping, parameters);
-            } catch (final MojoExecutionException e) {
-                throw new CompletionException(e);
+                getLog().info("Parsing " + fxml + " with " + parser.getClass().getSimpleName());
+                return parser.parse(fxml);
+            } catch (final ParseException | RuntimeException e) {
+                throw new MojoExecutionException("Error parsing fxml at " + fxml, e);
             }
-        }, executor)));
-        futures.forEach(CompletableFuture::join);
-        project.addCompileSourceRoot(outputDirectory.toAbsolutePath().toString());
+        }
+
+        @Override
+        public String getController(final Path fxml, final ParsedObject root) throws MojoExecutionException {
+            return controllerProvider.getController(fxml, root);
+        }
+
+        @Override
+        public Set<Path> getIncludes(final Path fxml, final ParsedObject root) {
+            return compilationInfoProvider.getIncludes(fxml, root);
+        }
+
+        @Override
+        public CompilationInfo getCompilationInfo(final Path fxml, final ParsedObject root,
+                                                  final Map<Path, String> controllerMapping) throws MojoExecutionException {
+            return compilationInfoProvider.getCompilationInfo(fxmls.get(fxml), fxml, root, controllerMapping);
+        }
+
+        @Override
+        public void compile(final Path fxml, final CompilationInfo info, final Map<Path, CompilationInfo> mapping) throws MojoExecutionException {
+            if (manifestBuilder == null || manifestBuilder.isStale(fxml, mapping)) {
+                if (compiler.compile(fxml, info, mapping, sourceInfoProvider, parameters)) {
+                    written.incrementAndGet();
+                }
+                compiled.incrementAndGet();
+            }
+        }
+
+        /**
+         * @return The number of files compiled
+         */
+        int compiled() {
+            return compiled.get();
+        }
+
+        /**
+         * @return The number of compiled files whose output was rewritten
+         */
+        int written() {
+            return written.get();
+        }
     }
 }
@@ -0,0 +1,234 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.maven.plugin.MojoExecutionException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * State of a build, used to only compile the FXML files that changed since the previous build
+ *
+ * @param configuration The hash of the build configuration (parameters, classpath)
+ * @param entries       The mapping of FXML file to manifest entry
+ */
+public record BuildManifest(String configuration, Map<Path, ManifestEntry> entries) {
+
+    private static final Logger logger = LogManager.getLogger(BuildManifest.class);
+    private static final String CONFIGURATION_PREFIX = "configuration\t";
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * Instantiates a new manifest
+     *
+     * @param configuration The hash of the build configuration (parameters, classpath)
+     * @param entries       The mapping of FXML file to manifest entry
+     * @throws NullPointerException if any parameter is null
+     */
+    public BuildManifest {
+        Objects.requireNonNull(configuration);
+        entries = Map.copyOf(entries);
+    }
+
+    /**
+     * Reads a manifest from the given file. Returns an empty manifest if the file doesn't exist or can't be read
+     *
+     * @param file The manifest file
+     * @return The manifest
+     */
+    public static BuildManifest read(final Path file) {
+        if (Files.isRegularFile(file)) {
+            try {
+                final var lines = Files.readAllLines(file);
+                if (!lines.isEmpty() && lines.getFirst().startsWith(CONFIGURATION_PREFIX)) {
+                    final var configuration = lines.getFirst().substring(CONFIGURATION_PREFIX.length());
+                    final var entries = new HashMap<Path, ManifestEntry>();
+                    for (final var line : lines.subList(1, lines.size())) {
+                        final var split = line.split(SEPARATOR);
+                        if (split.length == 4) {
+                            entries.put(Path.of(split[0]), new ManifestEntry(Path.of(split[1]), split[2], split[3]));
+                        } else {
+                            logger.warn("Invalid manifest line {} in {}, ignoring manifest", line, file);
+                            return empty();
+                        }
+                    }
+                    return new BuildManifest(configuration, entries);
+                } else {
+                    logger.warn("Invalid manifest {}, ignoring", file);
+                }
+            } catch (final IOException | RuntimeException e) {
+                logger.warn("Error reading manifest {}, ignoring", file, e);
+            }
+        }
+        return empty();
+    }
+
+    private static BuildManifest empty() {
+        return new BuildManifest("", Map.of());
+    }
+
+    /**
+     * Writes this manifest to the given file
+     *
+     * @param file The manifest file
+     * @throws MojoExecutionException If an error occurs
+     */
+    public void write(final Path file) throws MojoExecutionException {
+        final var lines = new ArrayList<String>(entries.size() + 1);
+        lines.add(CONFIGURATION_PREFIX + configuration);
+        entries.forEach((k, v) -> lines.add(k + SEPARATOR + v.outputFile() + SEPARATOR + v.fxmlHash() + SEPARATOR + v.controllerHash()));
+        try {
+            final var parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Files.write(file, lines);
+        } catch (final IOException e) {
+            throw new MojoExecutionException("Error writing manifest " + file, e);
+        }
+    }
+
+    /**
+     * Computes the outputs of the files that were compiled in this (previous) build but don't exist anymore
+     *
+     * @param files The files of the current build
+     * @return The outputs to remove
+     */
+    public Set<Path> getRemovedOutputs(final Collection<Path> files) {
+        final var outputs = new HashSet<Path>();
+        entries.forEach((path, entry) -> {
+            if (!files.contains(path)) {
+                outputs.add(entry.outputFile());
+            }
+        });
+        return outputs;
+    }
+
+    /**
+     * Builds a manifest file by file, as soon as the compilation info of each file is known. This class is thread-safe
+     */
+    public static final class Builder {
+
+        private final String configuration;
+        private final BuildManifest previous;
+        private final boolean changedConfiguration;
+        private final Map<Path, String> hashes;
+        private final Map<Path, ManifestEntry> entries;
+
+        /**
+         * Instantiates a new builder
+         *
+         * @param configuration The build configuration
+         * @param previous      The manifest of the previous build
+         * @throws NullPointerException If any parameter is null
+         */
+        public Builder(final String configuration, final BuildManifest previous) {
+            this.configuration = hash(configuration);
+            this.previous = Objects.requireNonNull(previous);
+            this.changedConfiguration = !this.configuration.equals(previous.configuration());
+            this.hashes = new ConcurrentHashMap<>();
+            this.entries = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Adds the given file to the manifest and checks if it needs to be compiled compared to the previous build.
+         * A file is stale if it is new, if it or its controller changed, if its output is missing or if the
+         * configuration changed. A file is also stale if one of its (transitive) includes is stale, so the mapping must
+         * contain the compilation info of all of them.
+         *
+         * @param file    The file
+         * @param mapping The mapping of file to compilation info
+         * @return True if the file is stale
+         * @throws MojoExecutionException If an error occurs
+         */
+        public boolean isStale(final Path file, final Map<Path, CompilationInfo> mapping) throws MojoExecutionException {
+            var stale = changedConfiguration;
+            final var visited = new HashSet<Path>();
+            final var queue = new ArrayDeque<Path>();
+            visited.add(file);
+            queue.add(file);
+            while (!queue.isEmpty()) {
+                final var current = queue.poll();
+                final var info = mapping.get(current);
+                if (info != null) {
+                    final var entry = getEntry(current, info);
+                    if (!entry.equals(previous.entries().get(current)) || !Files.exists(entry.outputFile())) {
+                        stale = true;
+                    }
+                    for (final var inclusion : info.includes().values()) {
+                        if (visited.add(inclusion.path())) {
+                            queue.add(inclusion.path());
+                        }
+                    }
+                }
+            }
+            return stale;
+        }
+
+        private ManifestEntry getEntry(final Path file, final CompilationInfo info) throws MojoExecutionException {
+            final var existing = entries.get(file);
+            if (existing == null) {
+                final var entry = new ManifestEntry(info.outputFile(), getHash(file, hashes), getHash(info.controllerFile(), hashes));
+                entries.put(file, entry);
+                return entry;
+            } else {
+                return existing;
+            }
+        }
+
+        /**
+         * Builds the manifest of the files added with {@link #isStale(Path, Map)}
+         *
+         * @return The manifest
+         */
+        public BuildManifest build() {
+            return new BuildManifest(configuration, entries);
+        }
+    }
+
+    private static String getHash(final Path path, final Map<Path, String> hashes) throws MojoExecutionException {
+        final var existing = hashes.get(path);
+        if (existing == null) {
+            try {
+                final var hash = hash(Files.readAllBytes(path));
+                hashes.put(path, hash);
+                return hash;
+            } catch (final IOException e) {
+                throw new MojoExecutionException("Error reading " + path, e);
+            }
+        } else {
+            return existing;
+        }
+    }
+
+    /**
+     * Computes the hash of the given string
+     *
+     * @param value The string
+     * @return The hexadecimal SHA-256 hash
+     */
+    public static String hash(final String value) {
+        return hash(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hash(final byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
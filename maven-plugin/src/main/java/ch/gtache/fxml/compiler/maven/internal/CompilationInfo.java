@@ -1,5 +1,7 @@
 package ch.gtache.fxml.compiler.maven.internal;
 
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
+
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -19,10 +21,11 @@ import java.util.Set;
  * @param injectedMethods        The injected methods
  * @param includes               The FXML inclusions
  * @param requiresResourceBundle True if the file requires a resource bundle
+ * @param root                   The parsed root object of the file
  */
 public record CompilationInfo(Path inputFile, Path outputFile, String outputClass, Path controllerFile,
                               String controllerClass, Set<FieldInfo> injectedFields, Set<String> injectedMethods,
-                              Map<String, Inclusion> includes, boolean requiresResourceBundle) {
+                              Map<String, Inclusion> includes, boolean requiresResourceBundle, ParsedObject root) {
 
     /**
      * Instantiates a new info
@@ -36,6 +39,7 @@ public record CompilationInfo(Path inputFile, Path outputFile, String outputClas
      * @param injectedMethods        The injected methods
      * @param includes               The FXML inclusions
      * @param requiresResourceBundle True if the file requires a resource bundle
+     * @param root                   The parsed root object of the file
      * @throws NullPointerException if any parameter is null
      */
     public CompilationInfo {
@@ -47,6 +51,7 @@ public record CompilationInfo(Path inputFile, Path outputFile, String outputClas
         injectedFields = Set.copyOf(injectedFields);
         injectedMethods = Set.copyOf(injectedMethods);
         includes = Map.copyOf(includes);
+        Objects.requireNonNull(root);
     }
 
     /**
@@ -60,6 +65,7 @@ public record CompilationInfo(Path inputFile, Path outputFile, String outputClas
         private Path controllerFile;
         private String controllerClass;
         private boolean requiresResourceBundle;
+        private ParsedObject root;
         private final Set<FieldInfo> injectedFields;
         private final Set<String> injectedMethods;
         private final Map<String, Inclusion> includes;
@@ -126,8 +132,13 @@ public record CompilationInfo(Path inputFile, Path outputFile, String outputClas
             return this;
         }
 
+        Builder root(final ParsedObject root) {
+            this.root = root;
+            return this;
+        }
+
         CompilationInfo build() {
-            return new CompilationInfo(inputFile, outputFile, outputClass, controllerFile, controllerClass, injectedFields, injectedMethods, includes, requiresResourceBundle);
+            return new CompilationInfo(inputFile, outputFile, outputClass, controllerFile, controllerClass, injectedFields, injectedMethods, includes, requiresResourceBundle, root);
         }
     }
 }
@@ -1,21 +1,22 @@
 package ch.gtache.fxml.compiler.maven.internal;
 
 import ch.gtache.fxml.compiler.maven.FXMLCompilerMojo;
+import ch.gtache.fxml.compiler.parsing.ParsedFactory;
+import ch.gtache.fxml.compiler.parsing.ParsedInclude;
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import javafx.event.EventHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
-import org.w3c.dom.Node;
-import org.xml.sax.SAXException;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import static java.util.Objects.requireNonNull;
@@ -26,7 +27,7 @@ import static java.util.Objects.requireNonNull;
 public final class CompilationInfoProvider {
 
     private static final Logger logger = LogManager.getLogger(CompilationInfoProvider.class);
-    private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
+    private static final String SOURCE = "source";
     private static final Pattern START_DOT_PATTERN = Pattern.compile("^\\.");
 
     private final MavenProject project;
@@ -49,30 +50,61 @@ public final class CompilationInfoProvider {
      *
      * @param root              The root path for the input
      * @param inputPath         The input path
+     * @param parsedObject      The parsed input
      * @param controllerMapping The controller mapping
      * @return The compilation info
      * @throws MojoExecutionException If an error occurs
      */
-    public CompilationInfo getCompilationInfo(final Path root, final Path inputPath, final Map<? extends Path, String> controllerMapping) throws MojoExecutionException {
-        logger.info("Parsing {}", inputPath);
-        try {
-            final var documentBuilder = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
-            final var document = documentBuilder.parse(inputPath.toFile());
-            document.getDocumentElement().normalize();
-            final var builder = new CompilationInfo.Builder();
-            builder.inputFile(inputPath);
-            final var inputFilename = inputPath.getFileName().toString();
-            final var outputFilename = getOutputFilename(inputFilename);
-            final var outputClass = getOutputClass(root, inputPath, outputFilename);
-            final var replacedPrefixPath = inputPath.toString().replace(root.toString(), outputDirectory.toString());
-            final var targetPath = Path.of(replacedPrefixPath.replace(inputFilename, outputFilename));
-            builder.outputFile(targetPath);
-            builder.outputClass(outputClass);
-            handleNode(document.getDocumentElement(), builder, controllerMapping, project);
-            logger.info("{} will be compiled to {}", inputPath, targetPath);
-            return builder.build();
-        } catch (final SAXException | IOException | ParserConfigurationException e) {
-            throw new MojoExecutionException("Error parsing fxml at " + inputPath, e);
+    public CompilationInfo getCompilationInfo(final Path root, final Path inputPath, final ParsedObject parsedObject,
+                                              final Map<? extends Path, String> controllerMapping) throws MojoExecutionException {
+        logger.info("Computing compilation info for {}", inputPath);
+        final var builder = new CompilationInfo.Builder();
+        builder.inputFile(inputPath);
+        builder.root(parsedObject);
+        final var inputFilename = inputPath.getFileName().toString();
+        final var outputFilename = getOutputFilename(inputFilename);
+        final var outputClass = getOutputClass(root, inputPath, outputFilename);
+        final var replacedPrefixPath = inputPath.toString().replace(root.toString(), outputDirectory.toString());
+        final var targetPath = Path.of(replacedPrefixPath.replace(inputFilename, outputFilename));
+        builder.outputFile(targetPath);
+        builder.outputClass(outputClass);
+        handleObject(parsedObject, builder, controllerMapping, project);
+        logger.info("{} will be compiled to {}", inputPath, targetPath);
+        return builder.build();
+    }
+
+    /**
+     * Gets the files directly included by the given input
+     *
+     * @param inputPath    The input path
+     * @param parsedObject The parsed input
+     * @return The included files
+     */
+    public Set<Path> getIncludes(final Path inputPath, final ParsedObject parsedObject) {
+        final var includes = new HashSet<Path>();
+        collectIncludes(inputPath, parsedObject, includes);
+        return includes;
+    }
+
+    private static void collectIncludes(final Path inputPath, final ParsedObject parsedObject, final Collection<? super Path> includes) {
+        if (parsedObject instanceof final ParsedInclude include) {
+            final var sourceAttr = include.attributes().get(SOURCE);
+            if (sourceAttr != null) {
+                includes.add(getRelativePath(inputPath, sourceAttr.value()));
+            }
+        }
+        for (final var child : parsedObject.children()) {
+            collectIncludes(inputPath, child, includes);
+        }
+        for (final var objects : parsedObject.properties().values()) {
+            for (final var object : objects) {
+                collectIncludes(inputPath, object, includes);
+            }
+        }
+        if (parsedObject instanceof final ParsedFactory factory) {
+            for (final var argument : factory.arguments()) {
+                collectIncludes(inputPath, argument, includes);
+            }
         }
     }
 
@@ -100,28 +132,23 @@ public final class CompilationInfoProvider {
         return builder.toString().replace(".fxml", ".java");
     }
 
-    private static void handleNode(final Node node, final CompilationInfo.Builder builder, final Map<? extends Path, String> controllerMapping, final MavenProject project) throws MojoExecutionException {
-        if (node.getNodeName().equals("fx:include")) {
-            handleInclude(node, builder);
+    private static void handleObject(final ParsedObject parsedObject, final CompilationInfo.Builder builder, final Map<? extends Path, String> controllerMapping, final MavenProject project) throws MojoExecutionException {
+        if (parsedObject instanceof final ParsedInclude include) {
+            handleInclude(include, builder);
         }
-        handleAttributes(node, builder, controllerMapping, project);
-        handleChildren(node, builder, controllerMapping, project);
+        handleAttributes(parsedObject, builder, controllerMapping, project);
+        handleChildren(parsedObject, builder, controllerMapping, project);
     }
 
-    private static void handleInclude(final Node node, final CompilationInfo.Builder builder) throws MojoExecutionException {
-        final var map = node.getAttributes();
-        if (map == null) {
-            throw new MojoExecutionException("Missing attributes for include");
+    private static void handleInclude(final ParsedInclude include, final CompilationInfo.Builder builder) throws MojoExecutionException {
+        final var sourceAttr = include.attributes().get(SOURCE);
+        if (sourceAttr == null) {
+            throw new MojoExecutionException("Missing source for include");
         } else {
-            final var sourceAttr = map.getNamedItem("source");
-            if (sourceAttr == null) {
-                throw new MojoExecutionException("Missing source for include");
-            } else {
-                final var source = sourceAttr.getNodeValue();
-                final var path = getRelativePath(builder.inputFile(), source);
-                logger.info("Found include {}", source);
-                builder.addInclude(source, path);
-            }
+            final var source = sourceAttr.value();
+            final var path = getRelativePath(builder.inputFile(), source);
+            logger.info("Found include {}", source);
+            builder.addInclude(source, path);
         }
     }
 
@@ -129,50 +156,55 @@ public final class CompilationInfoProvider {
         return base.getParent().resolve(relative).normalize();
     }
 
-    private static void handleChildren(final Node node, final CompilationInfo.Builder builder, final Map<? extends Path, String> controllerMapping, final MavenProject project) throws MojoExecutionException {
-        final var nl = node.getChildNodes();
-        for (var i = 0; i < nl.getLength(); i++) {
-            handleNode(nl.item(i), builder, controllerMapping, project);
+    private static void handleChildren(final ParsedObject parsedObject, final CompilationInfo.Builder builder, final Map<? extends Path, String> controllerMapping, final MavenProject project) throws MojoExecutionException {
+        for (final var child : parsedObject.children()) {
+            handleObject(child, builder, controllerMapping, project);
+        }
+        for (final var objects : parsedObject.properties().values()) {
+            for (final var object : objects) {
+                handleObject(object, builder, controllerMapping, project);
+            }
+        }
+        if (parsedObject instanceof final ParsedFactory factory) {
+            for (final var argument : factory.arguments()) {
+                handleObject(argument, builder, controllerMapping, project);
+            }
         }
     }
 
-    private static void handleAttributes(final Node node, final CompilationInfo.Builder builder, final Map<? extends Path, String> controllerMapping, final MavenProject project) throws MojoExecutionException {
-        final var map = node.getAttributes();
-        if (map != null) {
-            for (var i = 0; i < map.getLength(); i++) {
-                final var item = map.item(i);
-                final var name = item.getNodeName();
-                final var value = item.getNodeValue();
-                if (name.startsWith("on")) {
-                    if (value.startsWith("#")) {
-                        final var methodName = value.replace("#", "");
-                        logger.debug("Found injected method {}", methodName);
-                        builder.addInjectedMethod(methodName);
-                    } else if (value.startsWith("$controller.")) {
-                        final var fieldName = value.replace("$controller.", "");
-                        logger.debug("Found injected field {}", fieldName);
-                        builder.addInjectedField(fieldName, EventHandler.class.getName());
-                    } else {
-                        throw new MojoExecutionException("Unexpected attribute " + name + " with value " + value);
+    private static void handleAttributes(final ParsedObject parsedObject, final CompilationInfo.Builder builder, final Map<? extends Path, String> controllerMapping, final MavenProject project) throws MojoExecutionException {
+        for (final var attribute : parsedObject.attributes().values()) {
+            final var name = attribute.name();
+            final var value = attribute.value();
+            if (name.startsWith("on")) {
+                if (value.startsWith("#")) {
+                    final var methodName = value.replace("#", "");
+                    logger.debug("Found injected method {}", methodName);
+                    builder.addInjectedMethod(methodName);
+                } else if (value.startsWith("$controller.")) {
+                    final var fieldName = value.replace("$controller.", "");
+                    logger.debug("Found injected field {}", fieldName);
+                    builder.addInjectedField(fieldName, EventHandler.class.getName());
+                } else {
+                    throw new MojoExecutionException("Unexpected attribute " + name + " with value " + value);
+                }
+            } else if (name.equals("fx:controller")) {
+                handleController(value, builder, project);
+            } else if (name.equals("fx:id")) {
+                if (parsedObject instanceof final ParsedInclude include) {
+                    final var path = getRelativePath(builder.inputFile(), include.source());
+                    final var controllerClass = controllerMapping.get(path);
+                    if (controllerClass == null) {
+                        throw new MojoExecutionException("Cannot find controller for " + path);
                     }
-                } else if (name.equals("fx:controller")) {
-                    handleController(value, builder, project);
-                } else if (name.equals("fx:id")) {
-                    final var type = node.getNodeName();
+                    builder.addInjectedField(value + "Controller", controllerClass);
+                } else {
+                    final var type = parsedObject.className();
                     logger.debug("Found injected field {} of type {}", value, type);
-                    if (type.equals("fx:include")) {
-                        final var path = getRelativePath(builder.inputFile(), map.getNamedItem("source").getNodeValue()).normalize();
-                        final var controllerClass = controllerMapping.get(path);
-                        if (controllerClass == null) {
-                            throw new MojoExecutionException("Cannot find controller for " + path);
-                        }
-                        builder.addInjectedField(value + "Controller", controllerClass);
-                    } else {
-                        builder.addInjectedField(value, type);
-                    }
-                } else if (value.startsWith("%")) {
-                    builder.requiresResourceBundle();
+                    builder.addInjectedField(value, type);
                 }
+            } else if (value != null && value.startsWith("%")) {
+                builder.requiresResourceBundle();
             }
         }
     }
@@ -5,16 +5,16 @@ import ch.gtache.fxml.compiler.GenerationParameters;
 import ch.gtache.fxml.compiler.Generator;
 import ch.gtache.fxml.compiler.impl.GenerationRequestImpl;
 import ch.gtache.fxml.compiler.impl.GeneratorImpl;
-import ch.gtache.fxml.compiler.parsing.FXMLParser;
-import ch.gtache.fxml.compiler.parsing.ParseException;
-import ch.gtache.fxml.compiler.parsing.xml.DOMFXMLParser;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.maven.plugin.MojoExecutionException;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -25,66 +25,119 @@ public final class Compiler {
 
     private static final Logger logger = LogManager.getLogger(Compiler.class);
 
-    private final FXMLParser parser;
     private final Generator generator;
+    private final ControllerInfoProvider controllerInfoProvider;
 
     /**
      * Instantiates a new compiler
      *
-     * @param parser    The parser to use
      * @param generator The generator to use
      * @throws NullPointerException If any parameter is null
      */
-    Compiler(final FXMLParser parser, final Generator generator) {
-        this.parser = Objects.requireNonNull(parser);
+    Compiler(final Generator generator) {
         this.generator = Objects.requireNonNull(generator);
+        this.controllerInfoProvider = new ControllerInfoProvider();
     }
 
     /**
      * Instantiates a new compiler
      */
     public Compiler() {
-        this(new DOMFXMLParser(), new GeneratorImpl());
-    }
-
-    /**
-     * Compiles the given files
-     *
-     * @param mapping    The mapping of file to compile to compilation info
-     * @param parameters The generation parameters
-     * @throws MojoExecutionException If an error occurs
-     */
-    public void compile(final Map<Path, CompilationInfo> mapping, final GenerationParameters parameters) throws MojoExecutionException {
-        for (final var entry : mapping.entrySet()) {
-            compile(entry.getKey(), entry.getValue(), mapping, parameters);
-        }
+        this(new GeneratorImpl());
     }
 
     /**
      * Compiles the given file
      *
-     * @param inputPath  The input path
-     * @param info       The compilation info
-     * @param mapping    The mapping of file to compile to compilation info
-     * @param parameters The generation parameters
+     * @param inputPath          The input path
+     * @param info               The compilation info
+     * @param mapping            The mapping of file to compile to compilation info
+     * @param sourceInfoProvider The source info provider of the current build
+     * @param parameters         The generation parameters
+     * @return True if the output file was written, false if it already had the generated content
      * @throws MojoExecutionException If an error occurs
      */
-    public void compile(final Path inputPath, final CompilationInfo info, final Map<Path, CompilationInfo> mapping, final GenerationParameters parameters) throws MojoExecutionException {
+    public boolean compile(final Path inputPath, final CompilationInfo info, final Map<Path, CompilationInfo> mapping,
+                           final SourceInfoProvider sourceInfoProvider, final GenerationParameters parameters) throws MojoExecutionException {
         try {
-            logger.info("Parsing {} with {}", inputPath, parser.getClass().getSimpleName());
-            final var root = parser.parse(inputPath);
-            final var controllerInfo = ControllerInfoProvider.getControllerInfo(info);
+            final var root = info.root();
+            final var controllerInfo = controllerInfoProvider.getControllerInfo(info);
             final var output = info.outputFile();
-            final var sourceInfo = SourceInfoProvider.getSourceInfo(info, mapping);
+            final var sourceInfo = sourceInfoProvider.getSourceInfo(info, mapping);
             final var request = new GenerationRequestImpl(parameters, controllerInfo, sourceInfo, root, info.outputClass());
             logger.info("Compiling {}", inputPath);
-            final var content = generator.generate(request);
-            final var outputDir = output.getParent();
-            Files.createDirectories(outputDir);
-            Files.writeString(output, content);
-            logger.info("Compiled {} to {}", inputPath, output);
-        } catch (final IOException | RuntimeException | ParseException | GenerationException e) {
+            final var result = generator.generateWithResources(request);
+            final var resourcesWritten = writeResources(output, result.resources());
+            if (writeIfChanged(output, result.javaCode().getBytes(StandardCharsets.UTF_8)) || resourcesWritten) {
+                logger.info("Compiled {} to {}", inputPath, output);
+                return true;
+            } else {
+                logger.info("Compiled {} : {} is unchanged", inputPath, output);
+                return false;
+            }
+        } catch (final IOException | RuntimeException | GenerationException e) {
             throw new MojoExecutionException("Error compiling fxml", e);
         }
     }
+
+    /**
+     * Writes the resources of the generated class next to it, and deletes the ones of a previous generation which aren't
+     * used anymore
+     *
+     * @param output    The generated class file
+     * @param resources The mapping of resource name to content
+     * @return True if any resource was written or deleted
+     * @throws IOException If an error occurs
+     */
+    private static boolean writeResources(final Path output, final Map<String, byte[]> resources) throws IOException {
+        var changed = false;
+        for (final var resource : getResources(output)) {
+            if (!resources.containsKey(resource.getFileName().toString())) {
+                Files.delete(resource);
+                changed = true;
+            }
+        }
+        for (final var entry : resources.entrySet()) {
+            changed |= writeIfChanged(output.resolveSibling(entry.getKey()), entry.getValue());
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the resources of the given generated class, named after its simple name followed by '-'
+     *
+     * @param output The generated class file
+     * @return The existing resource files
+     * @throws IOException If an error occurs
+     */
+    public static List<Path> getResources(final Path output) throws IOException {
+        final var directory = output.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        final var fileName = output.getFileName().toString();
+        final var prefix = fileName.substring(0, fileName.lastIndexOf('.')) + "-";
+        try (final var stream = Files.list(directory)) {
+            return stream.filter(p -> p.getFileName().toString().startsWith(prefix)).toList();
+        }
+    }
+
+    /**
+     * Writes the given content to the given file, unless the file already has this exact content. Keeping the file
+     * untouched preserves its modification time, so that it isn't recompiled by javac
+     *
+     * @param output  The output file
+     * @param content The content
+     * @return True if the file was written
+     * @throws IOException If an error occurs
+     */
+    private static boolean writeIfChanged(final Path output, final byte[] content) throws IOException {
+        if (Files.isRegularFile(output) && Files.size(output) == content.length &&
+                Arrays.equals(Files.readAllBytes(output), content)) {
+            return false;
+        }
+        Files.createDirectories(output.getParent());
+        Files.write(output, content);
+        return true;
+    }
 }
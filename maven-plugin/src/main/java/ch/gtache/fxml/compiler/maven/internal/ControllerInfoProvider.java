@@ -12,24 +12,29 @@ import org.apache.maven.plugin.MojoExecutionException;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Helper class for {@link FXMLCompilerMojo} to provides {@link ControllerInfo}
+ * Helper class for {@link FXMLCompilerMojo} to provides {@link ControllerInfo}.
+ * Each controller file is indexed once by a {@link ControllerLexer}, and the result is reused for all the FXML files
+ * using it as long as the file doesn't change. This class is thread-safe.
  */
 final class ControllerInfoProvider {
 
     private static final Logger logger = LogManager.getLogger(ControllerInfoProvider.class);
-    private static final Pattern IMPORT_PATTERN = Pattern.compile("import\\s+(?:static\\s+)?(?<import>[^;]+);");
-    private static final Pattern INITIALIZE_PATTERN = Pattern.compile("void\\s+initialize\\s*\\(\\s*\\)\\s*");
 
+    private final Map<Path, CachedSource> sources;
 
-    private ControllerInfoProvider() {
+    /**
+     * Instantiates a new provider
+     */
+    ControllerInfoProvider() {
+        this.sources = new ConcurrentHashMap<>();
     }
 
     /**
@@ -39,59 +44,62 @@ final class ControllerInfoProvider {
      * @return The controller info
      * @throws MojoExecutionException If an error occurs
      */
-    static ControllerInfo getControllerInfo(final CompilationInfo info) throws MojoExecutionException {
-        try {
-            final var content = Files.readString(info.controllerFile());
-            final var imports = getImports(content);
-            final var propertyGenericTypes = new HashMap<String, ControllerFieldInfo>();
-            for (final var fieldInfo : info.injectedFields()) {
-                final var name = fieldInfo.name();
-                final var type = fieldInfo.type();
-                if (fillFieldInfo(type, name, content, imports, propertyGenericTypes)) {
-                    logger.debug("Found injected field {} of type {} with generic types {} in controller {}", name, type, propertyGenericTypes.get(name).genericTypes(), info.controllerFile());
-                } else if (type.contains(".")) {
-                    final var simpleName = type.substring(type.lastIndexOf('.') + 1);
-                    if (fillFieldInfo(simpleName, name, content, imports, propertyGenericTypes)) {
-                        logger.debug("Found injected field {} of type {} with generic types {} in controller {}", name, simpleName, propertyGenericTypes.get(name).genericTypes(), info.controllerFile());
-                    }
+    ControllerInfo getControllerInfo(final CompilationInfo info) throws MojoExecutionException {
+        final var controllerFile = info.controllerFile();
+        final var source = getSource(controllerFile);
+        final var imports = getImports(source.imports());
+        final var propertyGenericTypes = new HashMap<String, ControllerFieldInfo>();
+        for (final var fieldInfo : info.injectedFields()) {
+            final var name = fieldInfo.name();
+            final var type = fieldInfo.type();
+            final var declaration = source.fields().get(name);
+            if (declaration != null && declaration.simpleType().equals(type.substring(type.lastIndexOf('.') + 1))) {
+                final var genericTypes = declaration.genericTypes();
+                if (genericTypes.isEmpty()) {
+                    propertyGenericTypes.put(name, new ControllerFieldInfoImpl(name, List.of()));
                 } else {
-                    logger.info("Field {}({}) not found in controller {}", name, type, info.controllerFile());
+                    propertyGenericTypes.put(name, new ControllerFieldInfoImpl(name, new GenericParser(genericTypes, imports).parse()));
                 }
+                logger.debug("Found injected field {} of type {} with generic types {} in controller {}", name, declaration.type(), genericTypes, controllerFile);
+            } else {
+                logger.info("Field {}({}) not found in controller {}", name, type, controllerFile);
             }
-            final var handlerHasArgument = new HashMap<String, Boolean>();
-            for (final var name : info.injectedMethods()) {
-                final var pattern = Pattern.compile("void\\s+" + Pattern.quote(name) + "\\s*\\((?<arg>[^)]*)\\)");
-                final var matcher = pattern.matcher(content);
-                if (matcher.find()) {
-                    final var arg = matcher.group("arg");
-                    handlerHasArgument.put(name, arg != null && !arg.isBlank());
-                    logger.debug("Found injected method {} with argument {} in controller {}", name, arg, info.controllerFile());
-                } else {
-                    throw new MojoExecutionException("Cannot find method " + name + " in controller " + info.controllerFile());
-                }
+        }
+        final var handlerHasArgument = new HashMap<String, Boolean>();
+        for (final var name : info.injectedMethods()) {
+            final var parameters = source.methods().get(name);
+            if (parameters == null) {
+                throw new MojoExecutionException("Cannot find method " + name + " in controller " + controllerFile);
+            } else {
+                handlerHasArgument.put(name, parameters > 0);
+                logger.debug("Found injected method {} with {} parameter(s) in controller {}", name, parameters, controllerFile);
+            }
+        }
+        return new ControllerInfoImpl(info.controllerClass(), handlerHasArgument, propertyGenericTypes, source.hasInitialize());
+    }
+
+    private ControllerSource getSource(final Path controllerFile) throws MojoExecutionException {
+        try {
+            final var lastModified = Files.getLastModifiedTime(controllerFile);
+            final var cached = sources.get(controllerFile);
+            if (cached != null && cached.lastModified().equals(lastModified)) {
+                return cached.source();
             }
-            final var hasInitialize = INITIALIZE_PATTERN.matcher(content).find();
-            return new ControllerInfoImpl(info.controllerClass(), handlerHasArgument, propertyGenericTypes, hasInitialize);
+            final var source = new ControllerLexer(Files.readString(controllerFile)).lex();
+            sources.put(controllerFile, new CachedSource(lastModified, source));
+            return source;
         } catch (final IOException e) {
-            throw new MojoExecutionException("Error reading controller " + info.controllerFile(), e);
+            throw new MojoExecutionException("Error reading controller " + controllerFile, e);
         }
     }
 
-    private static Imports getImports(final CharSequence content) throws MojoExecutionException {
+    private static Map<String, String> getImports(final Iterable<String> imports) throws MojoExecutionException {
         final var resolved = new HashMap<String, String>();
-        final var unresolved = new HashSet<String>();
-        final var matcher = IMPORT_PATTERN.matcher(content);
-        while (matcher.find()) {
-            final var value = matcher.group("import");
+        for (final var value : imports) {
             if (value.endsWith(".*")) {
                 final var packagePath = value.substring(0, value.length() - 2);
                 try {
-                    final var classes = ClassesFinder.getClasses(packagePath);
-                    if (classes.isEmpty()) {
-                        unresolved.add(packagePath);
-                    } else {
-                        classes.forEach(s -> resolved.put(s.substring(packagePath.length() + 1), s));
-                    }
+                    resolved.putAll(ClassesFinder.getClassMap(packagePath));
                 } catch (final IOException e) {
                     throw new MojoExecutionException("Error reading package " + packagePath, e);
                 }
@@ -100,27 +108,10 @@ final class ControllerInfoProvider {
                 resolved.put(simpleName, value);
             }
         }
-        return new Imports(resolved, unresolved);
-    }
-
-    private static boolean fillFieldInfo(final String type, final String name, final CharSequence content, final Imports imports, final Map<? super String, ? super ControllerFieldInfo> fieldInfos) throws MojoExecutionException {
-        final var pattern = Pattern.compile(Pattern.quote(type) + "\\s*(?<type><.+>)?\\s*" + Pattern.quote(name) + "\\s*;");
-        final var matcher = pattern.matcher(content);
-        if (matcher.find()) {
-            final var genericTypes = matcher.group("type");
-            if (genericTypes != null && !genericTypes.isBlank()) {
-                final var parsed = new GenericParser(genericTypes, imports.imports()).parse();
-                fieldInfos.put(name, new ControllerFieldInfoImpl(name, parsed));
-            } else {
-                fieldInfos.put(name, new ControllerFieldInfoImpl(name, List.of()));
-            }
-            return true;
-        } else {
-            return false;
-        }
+        return resolved;
     }
 
-    private record Imports(Map<String, String> imports, Set<String> packages) {
+    private record CachedSource(FileTime lastModified, ControllerSource source) {
 
     }
 }
@@ -0,0 +1,394 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Single-pass indexer of a controller source file.
+ * The source is split into tokens (comments and literals are skipped), then the members of the first top-level type
+ * are read to build a {@link ControllerSource}. Nested types, method bodies and initializers are skipped.
+ */
+final class ControllerLexer {
+
+    private static final Set<String> MODIFIERS = Set.of("public", "protected", "private", "static", "final",
+            "transient", "volatile", "abstract", "synchronized", "native", "strictfp", "default", "sealed", "non-sealed");
+    private static final Set<String> TYPE_KEYWORDS = Set.of("class", "interface", "enum", "record");
+
+    private final String content;
+    private final List<Token> tokens;
+    private final List<String> imports;
+    private final Map<String, ControllerSource.FieldDeclaration> fields;
+    private final Map<String, Integer> methods;
+    private boolean hasInitialize;
+    private int index;
+
+    /**
+     * Instantiates a new lexer
+     *
+     * @param content The controller source
+     * @throws NullPointerException if content is null
+     */
+    ControllerLexer(final String content) {
+        this.content = Objects.requireNonNull(content);
+        this.tokens = new ArrayList<>();
+        this.imports = new ArrayList<>();
+        this.fields = new HashMap<>();
+        this.methods = new HashMap<>();
+    }
+
+    /**
+     * Indexes the source
+     *
+     * @return The controller source
+     */
+    ControllerSource lex() {
+        tokenize();
+        parseCompilationUnit();
+        return new ControllerSource(imports, fields, methods, hasInitialize);
+    }
+
+    private void tokenize() {
+        var i = 0;
+        final var length = content.length();
+        while (i < length) {
+            final var c = content.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (content.startsWith("//", i)) {
+                i = skipUntil(i + 2, "\n");
+            } else if (content.startsWith("/*", i)) {
+                i = skipUntil(i + 2, "*/");
+            } else if (content.startsWith("\"\"\"", i)) {
+                i = skipTextBlock(i + 3);
+            } else if (c == '"' || c == '\'') {
+                i = skipLiteral(i + 1, c);
+            } else if (Character.isJavaIdentifierPart(c)) {
+                final var start = i;
+                while (i < length && Character.isJavaIdentifierPart(content.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(content.substring(start, i), true));
+            } else {
+                tokens.add(new Token(String.valueOf(c), false));
+                i++;
+            }
+        }
+    }
+
+    private int skipUntil(final int start, final String end) {
+        final var found = content.indexOf(end, start);
+        return found < 0 ? content.length() : found + end.length();
+    }
+
+    private int skipTextBlock(final int start) {
+        var i = start;
+        while (i < content.length() && !content.startsWith("\"\"\"", i)) {
+            i += content.charAt(i) == '\\' ? 2 : 1;
+        }
+        return Math.min(content.length(), i + 3);
+    }
+
+    private int skipLiteral(final int start, final char quote) {
+        var i = start;
+        while (i < content.length() && content.charAt(i) != quote && content.charAt(i) != '\n') {
+            i += content.charAt(i) == '\\' ? 2 : 1;
+        }
+        return Math.min(content.length(), i + 1);
+    }
+
+    private void parseCompilationUnit() {
+        var parens = 0;
+        while (index < tokens.size()) {
+            final var token = tokens.get(index);
+            if (parens == 0 && token.is("import")) {
+                parseImport();
+            } else if (token.is("(")) {
+                parens++;
+                index++;
+            } else if (token.is(")")) {
+                parens--;
+                index++;
+            } else if (parens == 0 && token.is("{")) {
+                index++;
+                parseClassBody();
+                return;
+            } else {
+                index++;
+            }
+        }
+    }
+
+    private void parseImport() {
+        index++;
+        if (peekIs("static")) {
+            index++;
+        }
+        final var sb = new StringBuilder();
+        while (index < tokens.size() && !peekIs(";")) {
+            sb.append(tokens.get(index++).text());
+        }
+        index++;
+        imports.add(sb.toString());
+    }
+
+    private void parseClassBody() {
+        while (index < tokens.size()) {
+            skipAnnotations();
+            if (index >= tokens.size() || peekIs("}")) {
+                return;
+            } else if (peekIs(";")) {
+                index++;
+            } else if (peekIs("{")) {
+                skipBalanced("{", "}");
+            } else {
+                parseMember();
+            }
+        }
+    }
+
+    private void parseMember() {
+        final var declaration = new ArrayList<Token>();
+        var angles = 0;
+        while (index < tokens.size()) {
+            final var token = tokens.get(index);
+            if (token.is("@")) {
+                skipAnnotations();
+                continue;
+            } else if (angles == 0 && isNestedType(token)) {
+                skipNestedType();
+                return;
+            } else if (token.is("<")) {
+                angles++;
+            } else if (token.is(">")) {
+                angles--;
+            } else if (angles == 0 && token.is("(")) {
+                parseMethod(declaration);
+                return;
+            } else if (angles == 0 && (token.is("=") || token.is(";") || token.is(","))) {
+                parseField(declaration);
+                return;
+            } else if (angles == 0 && (token.is("{") || token.is("}"))) {
+                //Unexpected, e.g. enum constants
+                if (token.is("{")) {
+                    skipBalanced("{", "}");
+                }
+                return;
+            }
+            declaration.add(token);
+            index++;
+        }
+    }
+
+    private void parseMethod(final List<Token> declaration) {
+        final var nameIndex = declaration.size() - 1;
+        final var isVoid = nameIndex > 0 && declaration.get(nameIndex - 1).is("void");
+        final var name = nameIndex >= 0 ? declaration.get(nameIndex).text() : "";
+        index++;
+        var depth = 0;
+        var angles = 0;
+        var parameters = 0;
+        var empty = true;
+        while (index < tokens.size()) {
+            final var token = tokens.get(index++);
+            if (token.is("(")) {
+                depth++;
+            } else if (token.is(")")) {
+                if (depth == 0) {
+                    break;
+                }
+                depth--;
+            } else if (token.is("<")) {
+                angles++;
+            } else if (token.is(">")) {
+                angles--;
+            } else if (depth == 0 && angles == 0 && token.is(",")) {
+                parameters++;
+            }
+            empty = false;
+        }
+        if (!empty) {
+            parameters++;
+        }
+        while (index < tokens.size() && !peekIs("{") && !peekIs(";")) {
+            index++;
+        }
+        if (peekIs("{")) {
+            skipBalanced("{", "}");
+        } else {
+            index++;
+        }
+        if (isVoid) {
+            methods.putIfAbsent(name, parameters);
+            if (name.equals("initialize") && parameters == 0) {
+                hasInitialize = true;
+            }
+        }
+    }
+
+    private void parseField(final List<Token> declaration) {
+        var start = 0;
+        while (start < declaration.size() && MODIFIERS.contains(declaration.get(start).text())) {
+            start++;
+        }
+        if (declaration.size() - start < 2) {
+            skipDeclarators();
+            return;
+        }
+        final var typeTokens = declaration.subList(start, declaration.size() - 1);
+        final var type = new StringBuilder();
+        var generic = "";
+        for (var i = 0; i < typeTokens.size(); i++) {
+            final var token = typeTokens.get(i);
+            if (token.is("<")) {
+                generic = joinGeneric(typeTokens.subList(i, typeTokens.size()));
+                break;
+            } else if (token.is("[")) {
+                break;
+            }
+            type.append(token.text());
+        }
+        var name = declaration.getLast();
+        while (true) {
+            if (name.identifier()) {
+                fields.putIfAbsent(name.text(), new ControllerSource.FieldDeclaration(type.toString(), generic));
+            }
+            if (!skipToNextDeclarator()) {
+                return;
+            }
+            name = tokens.get(index);
+            index++;
+            if (!peekIs(",") && !peekIs(";") && !peekIs("=") && !peekIs("[")) {
+                skipDeclarators();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Skips the current declarator (including its initializer)
+     *
+     * @return True if another declarator follows, false if the declaration ended
+     */
+    private boolean skipToNextDeclarator() {
+        var depth = 0;
+        var angles = 0;
+        while (index < tokens.size()) {
+            final var previous = tokens.get(index - 1);
+            final var token = tokens.get(index++);
+            if (token.is("(") || token.is("{") || token.is("[")) {
+                depth++;
+            } else if (token.is(")") || token.is("}") || token.is("]")) {
+                depth--;
+            } else if (token.is("<") && isTypeName(previous)) {
+                angles++;
+            } else if (token.is(">") && angles > 0 && !previous.is("-")) {
+                angles--;
+            } else if (depth == 0 && angles == 0 && token.is(",")) {
+                return index < tokens.size();
+            } else if (depth == 0 && token.is(";")) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the given token, followed by {@code <}, starts generic types rather than a comparison
+     * (e.g. {@code new HashMap<A, B>()} vs {@code a < b})
+     *
+     * @param token The token
+     * @return True if the token is likely a type name
+     */
+    private static boolean isTypeName(final Token token) {
+        return token.is(".") || (token.identifier() && Character.isUpperCase(token.text().charAt(0)));
+    }
+
+    private void skipDeclarators() {
+        while (skipToNextDeclarator()) {
+            //Skip everything
+        }
+    }
+
+    private static String joinGeneric(final List<Token> generic) {
+        final var sb = new StringBuilder();
+        var angles = 0;
+        Token previous = null;
+        for (final var token : generic) {
+            if (previous != null && isWord(previous) && isWord(token)) {
+                sb.append(' ');
+            }
+            sb.append(token.text());
+            if (token.is("<")) {
+                angles++;
+            } else if (token.is(">") && --angles == 0) {
+                break;
+            }
+            previous = token;
+        }
+        return sb.toString();
+    }
+
+    private static boolean isWord(final Token token) {
+        return token.identifier() || token.is("?");
+    }
+
+    private boolean isNestedType(final Token token) {
+        return TYPE_KEYWORDS.contains(token.text()) && index + 1 < tokens.size() && tokens.get(index + 1).identifier();
+    }
+
+    private void skipNestedType() {
+        while (index < tokens.size() && !peekIs("{")) {
+            if (peekIs("(")) {
+                skipBalanced("(", ")");
+            } else {
+                index++;
+            }
+        }
+        skipBalanced("{", "}");
+    }
+
+    private void skipAnnotations() {
+        while (peekIs("@") && index + 1 < tokens.size() && !tokens.get(index + 1).is("interface")) {
+            index += 2;
+            while (peekIs(".") && index + 1 < tokens.size()) {
+                index += 2;
+            }
+            if (peekIs("(")) {
+                skipBalanced("(", ")");
+            }
+        }
+    }
+
+    private void skipBalanced(final String open, final String close) {
+        var depth = 0;
+        while (index < tokens.size()) {
+            final var token = tokens.get(index++);
+            if (token.is(open)) {
+                depth++;
+            } else if (token.is(close) && --depth == 0) {
+                return;
+            }
+        }
+    }
+
+    private boolean peekIs(final String text) {
+        return index < tokens.size() && tokens.get(index).is(text);
+    }
+
+    /**
+     * A token of the source
+     *
+     * @param text       The text
+     * @param identifier True if the token is an identifier, a keyword or a number
+     */
+    private record Token(String text, boolean identifier) {
+
+        boolean is(final String value) {
+            return text.equals(value);
+        }
+    }
+}
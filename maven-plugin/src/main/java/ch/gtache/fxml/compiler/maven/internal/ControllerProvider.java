@@ -1,12 +1,8 @@
 package ch.gtache.fxml.compiler.maven.internal;
 
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import org.apache.maven.plugin.MojoExecutionException;
-import org.xml.sax.SAXException;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import java.io.IOException;
 import java.nio.file.Path;
 
 /**
@@ -14,40 +10,28 @@ import java.nio.file.Path;
  */
 public final class ControllerProvider {
 
-    private final DocumentBuilder documentBuilder;
+    private static final String FX_CONTROLLER = "fx:controller";
 
     /**
      * Instantiates a new provider
      */
     public ControllerProvider() {
-        final var factory = DocumentBuilderFactory.newInstance();
-        try {
-            this.documentBuilder = factory.newDocumentBuilder();
-        } catch (final ParserConfigurationException e) {
-            throw new RuntimeException(e);
-        }
     }
 
     /**
      * Gets the controller class for the given FXML
      *
      * @param fxml The FXML
+     * @param root The parsed root object of the FXML
      * @return The controller class
      * @throws MojoExecutionException If an error occurs
      */
-    public String getController(final Path fxml) throws MojoExecutionException {
-        try {
-            final var document = documentBuilder.parse(fxml.toFile());
-            document.getDocumentElement().normalize();
-
-            final var controller = document.getDocumentElement().getAttribute("fx:controller");
-            if (controller.isBlank()) {
-                throw new MojoExecutionException("Missing controller attribute for " + fxml);
-            } else {
-                return controller;
-            }
-        } catch (final SAXException | IOException e) {
-            throw new MojoExecutionException("Error parsing fxml at " + fxml, e);
+    public String getController(final Path fxml, final ParsedObject root) throws MojoExecutionException {
+        final var controller = root.attributes().get(FX_CONTROLLER);
+        if (controller == null || controller.value() == null || controller.value().isBlank()) {
+            throw new MojoExecutionException("Missing controller attribute for " + fxml);
+        } else {
+            return controller.value();
         }
     }
 }
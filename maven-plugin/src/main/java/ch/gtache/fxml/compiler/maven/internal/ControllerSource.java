@@ -0,0 +1,60 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Symbol table of a controller source file
+ *
+ * @param imports       The imports (e.g. javafx.scene.control.Button or javafx.scene.control.*)
+ * @param fields        The mapping of field name to field declaration
+ * @param methods       The mapping of void method name to number of parameters (first declaration only)
+ * @param hasInitialize True if the controller declares a void initialize() method
+ */
+record ControllerSource(List<String> imports, Map<String, FieldDeclaration> fields, Map<String, Integer> methods,
+                        boolean hasInitialize) {
+
+    /**
+     * Instantiates a new controller source
+     *
+     * @param imports       The imports
+     * @param fields        The mapping of field name to field declaration
+     * @param methods       The mapping of void method name to number of parameters
+     * @param hasInitialize True if the controller declares a void initialize() method
+     * @throws NullPointerException if any parameter is null
+     */
+    ControllerSource {
+        imports = List.copyOf(imports);
+        fields = Map.copyOf(fields);
+        methods = Map.copyOf(methods);
+    }
+
+    /**
+     * Declaration of a field
+     *
+     * @param type         The declared type, as written in the source (simple or fully qualified name)
+     * @param genericTypes The generic types, as written in the source (e.g. {@code <String>}), or empty if none
+     */
+    record FieldDeclaration(String type, String genericTypes) {
+
+        /**
+         * Instantiates a new field declaration
+         *
+         * @param type         The declared type
+         * @param genericTypes The generic types
+         * @throws NullPointerException if any parameter is null
+         */
+        FieldDeclaration {
+            Objects.requireNonNull(type);
+            Objects.requireNonNull(genericTypes);
+        }
+
+        /**
+         * @return The simple name of the declared type
+         */
+        String simpleType() {
+            return type.substring(type.lastIndexOf('.') + 1);
+        }
+    }
+}
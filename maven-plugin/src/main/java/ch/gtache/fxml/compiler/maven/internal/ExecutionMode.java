@@ -0,0 +1,16 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+/**
+ * Available execution modes of the {@link Scheduler}
+ */
+public enum ExecutionMode {
+    /**
+     * Every stage runs on a fixed pool of platform threads, sized by the parallelism parameter
+     */
+    PLATFORM,
+    /**
+     * The I/O-bound stages (parsing, controller and compilation info lookups) run on virtual threads, and the
+     * CPU-bound generation runs on a fixed pool of platform threads sized to the available cores
+     */
+    VIRTUAL
+}
@@ -0,0 +1,28 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Represents the state of an FXML file at the time it was compiled
+ *
+ * @param outputFile     The output file
+ * @param fxmlHash       The hash of the FXML file
+ * @param controllerHash The hash of the controller file
+ */
+record ManifestEntry(Path outputFile, String fxmlHash, String controllerHash) {
+
+    /**
+     * Instantiates a new entry
+     *
+     * @param outputFile     The output file
+     * @param fxmlHash       The hash of the FXML file
+     * @param controllerHash The hash of the controller file
+     * @throws NullPointerException if any parameter is null
+     */
+    ManifestEntry {
+        Objects.requireNonNull(outputFile);
+        Objects.requireNonNull(fxmlHash);
+        Objects.requireNonNull(controllerHash);
+    }
+}
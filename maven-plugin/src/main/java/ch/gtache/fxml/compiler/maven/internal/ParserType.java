@@ -0,0 +1,36 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import ch.gtache.fxml.compiler.parsing.FXMLParser;
+import ch.gtache.fxml.compiler.parsing.xml.DOMFXMLParser;
+import ch.gtache.fxml.compiler.parsing.xml.StAXFXMLParser;
+
+import java.util.function.Supplier;
+
+/**
+ * Available FXML parsers
+ */
+public enum ParserType {
+    /**
+     * Builds a DOM of the document, then walks it
+     */
+    DOM(DOMFXMLParser::new),
+    /**
+     * Streams the document, without building an intermediate tree
+     */
+    STAX(StAXFXMLParser::new);
+
+    private final Supplier<FXMLParser> supplier;
+
+    ParserType(final Supplier<FXMLParser> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Creates a new parser of this type
+     *
+     * @return The parser
+     */
+    public FXMLParser create() {
+        return supplier.get();
+    }
+}
@@ -0,0 +1,303 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.maven.plugin.MojoExecutionException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Schedules the processing of FXML files. Each file goes through its stages as soon as its own inputs are ready,
+ * without waiting for the other files :
+ * <ul>
+ *     <li>The files are parsed, the largest first</li>
+ *     <li>The compilation info of a file is computed once the file and the files it includes are parsed</li>
+ *     <li>A file is compiled once the compilation infos of the file and of its (transitive) includes are known</li>
+ * </ul>
+ */
+public final class Scheduler {
+
+    private static final Logger logger = LogManager.getLogger(Scheduler.class);
+
+    private final Stages stages;
+    private final Executor ioExecutor;
+    private final Executor cpuExecutor;
+    private final int threads;
+
+    /**
+     * Instantiates a new scheduler running all the stages on the same executor
+     *
+     * @param stages   The stages
+     * @param executor The executor running the stages
+     * @param threads  The number of threads of the executor
+     * @throws NullPointerException     If any parameter is null
+     * @throws IllegalArgumentException If threads is not positive
+     */
+    public Scheduler(final Stages stages, final Executor executor, final int threads) {
+        this(stages, executor, executor, threads);
+    }
+
+    /**
+     * Instantiates a new scheduler
+     *
+     * @param stages      The stages
+     * @param ioExecutor  The executor running the I/O-bound stages (parsing, controller and compilation info)
+     * @param cpuExecutor The executor running the CPU-bound stage (compilation)
+     * @param threads     The number of threads of the CPU executor
+     * @throws NullPointerException     If any parameter is null
+     * @throws IllegalArgumentException If threads is not positive
+     */
+    public Scheduler(final Stages stages, final Executor ioExecutor, final Executor cpuExecutor, final int threads) {
+        this.stages = requireNonNull(stages);
+        this.ioExecutor = requireNonNull(ioExecutor);
+        this.cpuExecutor = requireNonNull(cpuExecutor);
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be > 0");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Processes the given files
+     *
+     * @param fxmls The files
+     * @return The report of the run
+     * @throws MojoExecutionException If an error occurs in any stage
+     */
+    public SchedulerReport run(final Collection<Path> fxmls) throws MojoExecutionException {
+        return new Run(fxmls).run();
+    }
+
+    /**
+     * State of a single run
+     */
+    private final class Run {
+
+        private final Collection<Path> fxmls;
+        private final LongAdder busyTime;
+        private final Map<Path, CompletableFuture<ParsedObject>> parsed;
+        private final Map<Path, CompletableFuture<String>> controllers;
+        private final Map<Path, CompletableFuture<CompilationInfo>> infos;
+        private final Map<Path, CompilationInfo> infoMapping;
+
+        private Run(final Collection<Path> fxmls) {
+            this.fxmls = requireNonNull(fxmls);
+            this.busyTime = new LongAdder();
+            this.parsed = HashMap.newHashMap(fxmls.size());
+            this.controllers = HashMap.newHashMap(fxmls.size());
+            this.infos = HashMap.newHashMap(fxmls.size());
+            this.infoMapping = new ConcurrentHashMap<>();
+        }
+
+        private SchedulerReport run() throws MojoExecutionException {
+            final var start = System.nanoTime();
+            //The whole graph is built before any task is started
+            for (final var fxml : fxmls) {
+                final var parse = new CompletableFuture<ParsedObject>();
+                parsed.put(fxml, parse);
+                controllers.put(fxml, parse.thenApply(root -> timed(() -> stages.getController(fxml, root))));
+            }
+            for (final var fxml : fxmls) {
+                infos.put(fxml, parsed.get(fxml).thenCompose(root -> computeInfo(fxml, root)));
+            }
+            final var compilations = new ArrayList<CompletableFuture<Void>>(fxmls.size());
+            for (final var fxml : fxmls) {
+                compilations.add(infos.get(fxml).thenCompose(info -> {
+                    final var visited = ConcurrentHashMap.<Path>newKeySet();
+                    visited.add(fxml);
+                    return awaitIncludes(info, visited).thenRunAsync(() -> timed(() -> {
+                        stages.compile(fxml, info, infoMapping);
+                        return null;
+                    }), cpuExecutor);
+                }));
+            }
+            for (final var fxml : sortBySize(fxmls)) {
+                final var parse = parsed.get(fxml);
+                ioExecutor.execute(() -> {
+                    try {
+                        parse.complete(timed(() -> stages.parse(fxml)));
+                    } catch (final RuntimeException e) {
+                        parse.completeExceptionally(e);
+                    }
+                });
+            }
+            try {
+                CompletableFuture.allOf(compilations.toArray(CompletableFuture[]::new)).join();
+            } catch (final CompletionException e) {
+                final var cause = unwrap(e);
+                if (cause instanceof final MojoExecutionException mojoException) {
+                    throw mojoException;
+                } else {
+                    throw new MojoExecutionException(cause);
+                }
+            }
+            final var report = new SchedulerReport(fxmls.size(), threads, Duration.ofNanos(System.nanoTime() - start),
+                    Duration.ofNanos(busyTime.sum()));
+            logger.debug("Scheduler report : {}", report);
+            return report;
+        }
+
+        private CompletableFuture<CompilationInfo> computeInfo(final Path fxml, final ParsedObject root) {
+            final var includes = timed(() -> stages.getIncludes(fxml, root));
+            final var dependencies = new ArrayList<CompletableFuture<String>>(includes.size() + 1);
+            dependencies.add(controllers.get(fxml));
+            for (final var include : includes) {
+                final var controller = controllers.get(include);
+                if (controller != null) {
+                    dependencies.add(controller);
+                }
+            }
+            return CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new)).thenApplyAsync(v -> {
+                final var controllerMapping = new HashMap<Path, String>();
+                controllerMapping.put(fxml, controllers.get(fxml).join());
+                for (final var include : includes) {
+                    final var controller = controllers.get(include);
+                    if (controller != null) {
+                        controllerMapping.put(include, controller.join());
+                    }
+                }
+                final var info = timed(() -> stages.getCompilationInfo(fxml, root, controllerMapping));
+                infoMapping.put(fxml, info);
+                return info;
+            }, ioExecutor);
+        }
+
+        private CompletableFuture<Void> awaitIncludes(final CompilationInfo info, final Set<Path> visited) {
+            final var futures = new ArrayList<CompletableFuture<Void>>();
+            for (final var inclusion : info.includes().values()) {
+                final var path = inclusion.path();
+                final var future = infos.get(path);
+                if (future != null && visited.add(path)) {
+                    futures.add(future.thenCompose(i -> awaitIncludes(i, visited)));
+                }
+            }
+            return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+        }
+
+        private <T> T timed(final Task<T> task) {
+            final var start = System.nanoTime();
+            try {
+                return task.call();
+            } catch (final MojoExecutionException e) {
+                throw new CompletionException(e);
+            } finally {
+                busyTime.add(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        var current = throwable;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private static Collection<Path> sortBySize(final Collection<Path> fxmls) {
+        final var sizes = HashMap.<Path, Long>newHashMap(fxmls.size());
+        for (final var fxml : fxmls) {
+            sizes.put(fxml, getSize(fxml));
+        }
+        return fxmls.stream().sorted(Comparator.comparing(sizes::get, Comparator.reverseOrder())).toList();
+    }
+
+    private static long getSize(final Path fxml) {
+        try {
+            return Files.size(fxml);
+        } catch (final IOException e) {
+            logger.debug("Couldn't get size of {}", fxml, e);
+            return 0;
+        }
+    }
+
+    /**
+     * A task that can throw a {@link MojoExecutionException}
+     *
+     * @param <T> The result type
+     */
+    @FunctionalInterface
+    private interface Task<T> {
+
+        /**
+         * Runs the task
+         *
+         * @return The result
+         * @throws MojoExecutionException If an error occurs
+         */
+        T call() throws MojoExecutionException;
+    }
+
+    /**
+     * The stages an FXML file goes through
+     */
+    public interface Stages {
+
+        /**
+         * Parses the given file
+         *
+         * @param fxml The file
+         * @return The parsed root object
+         * @throws MojoExecutionException If an error occurs
+         */
+        ParsedObject parse(final Path fxml) throws MojoExecutionException;
+
+        /**
+         * Gets the controller class of the given file
+         *
+         * @param fxml The file
+         * @param root The parsed root object of the file
+         * @return The controller class
+         * @throws MojoExecutionException If an error occurs
+         */
+        String getController(final Path fxml, final ParsedObject root) throws MojoExecutionException;
+
+        /**
+         * Gets the files directly included by the given file
+         *
+         * @param fxml The file
+         * @param root The parsed root object of the file
+         * @return The included files
+         */
+        Set<Path> getIncludes(final Path fxml, final ParsedObject root);
+
+        /**
+         * Gets the compilation info of the given file
+         *
+         * @param fxml              The file
+         * @param root              The parsed root object of the file
+         * @param controllerMapping The controllers of the file and of the files it includes
+         * @return The compilation info
+         * @throws MojoExecutionException If an error occurs
+         */
+        CompilationInfo getCompilationInfo(final Path fxml, final ParsedObject root,
+                                           final Map<Path, String> controllerMapping) throws MojoExecutionException;
+
+        /**
+         * Compiles the given file
+         *
+         * @param fxml    The file
+         * @param info    The compilation info of the file
+         * @param mapping The compilation infos available, containing at least the file and its (transitive) includes
+         * @throws MojoExecutionException If an error occurs
+         */
+        void compile(final Path fxml, final CompilationInfo info, final Map<Path, CompilationInfo> mapping) throws MojoExecutionException;
+    }
+}
@@ -0,0 +1,50 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Statistics of a {@link Scheduler} run
+ *
+ * @param files    The number of files processed
+ * @param threads  The number of threads available
+ * @param wallTime The elapsed time
+ * @param busyTime The total time spent in the stages, summed over all threads
+ */
+public record SchedulerReport(int files, int threads, Duration wallTime, Duration busyTime) {
+
+    /**
+     * Instantiates a new report
+     *
+     * @param files    The number of files processed
+     * @param threads  The number of threads available
+     * @param wallTime The elapsed time
+     * @param busyTime The total time spent in the stages, summed over all threads
+     * @throws NullPointerException     If any parameter is null
+     * @throws IllegalArgumentException If files is negative or threads is not positive
+     */
+    public SchedulerReport {
+        if (files < 0) {
+            throw new IllegalArgumentException("files must be >= 0");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be > 0");
+        }
+        Objects.requireNonNull(wallTime);
+        Objects.requireNonNull(busyTime);
+    }
+
+    /**
+     * Returns the parallel efficiency, i.e. the fraction of the available thread time that was spent doing work
+     *
+     * @return The efficiency, between 0 and 1 (1 if nothing was done)
+     */
+    public double efficiency() {
+        final var available = (double) wallTime.toNanos() * threads;
+        if (available <= 0) {
+            return 1;
+        } else {
+            return Math.min(1, busyTime.toNanos() / available);
+        }
+    }
+}
@@ -3,18 +3,31 @@ package ch.gtache.fxml.compiler.maven.internal;
 import ch.gtache.fxml.compiler.SourceInfo;
 import ch.gtache.fxml.compiler.impl.SourceInfoImpl;
 import ch.gtache.fxml.compiler.maven.FXMLCompilerMojo;
+import org.apache.maven.plugin.MojoExecutionException;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.SequencedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
- * Helper class for {@link FXMLCompilerMojo} to provides {@link SourceInfo}
+ * Helper class for {@link FXMLCompilerMojo} to provides {@link SourceInfo}.
+ * The source infos are memoized by file : an include shared by multiple files is only built once. An instance must
+ * therefore only be used for a single build. This class is thread-safe.
  */
-final class SourceInfoProvider {
+public final class SourceInfoProvider {
 
-    private SourceInfoProvider() {
+    private final Map<Path, SourceInfo> sourceInfos;
+
+    /**
+     * Instantiates a new provider
+     */
+    public SourceInfoProvider() {
+        this.sourceInfos = new ConcurrentHashMap<>();
     }
 
     /**
@@ -23,21 +36,55 @@ final class SourceInfoProvider {
      * @param info    The compilation info
      * @param mapping The mapping of file to compilation info
      * @return The source info
+     * @throws MojoExecutionException If an include is missing from the mapping or if the includes form a cycle
      */
-    static SourceInfo getSourceInfo(final CompilationInfo info, final Map<Path, CompilationInfo> mapping) {
-        final var outputClass = info.outputClass();
-        final var controllerClass = info.controllerClass();
+    public SourceInfo getSourceInfo(final CompilationInfo info, final Map<Path, CompilationInfo> mapping) throws MojoExecutionException {
+        return getSourceInfo(info, mapping, new LinkedHashSet<>());
+    }
+
+    private SourceInfo getSourceInfo(final CompilationInfo info, final Map<Path, CompilationInfo> mapping,
+                                     final SequencedSet<Path> visiting) throws MojoExecutionException {
         final var inputFile = info.inputFile();
+        final var existing = sourceInfos.get(inputFile);
+        if (existing != null) {
+            return existing;
+        }
+        if (!visiting.add(inputFile)) {
+            throw new MojoExecutionException("Include cycle detected : " + formatCycle(visiting, inputFile));
+        }
         final var includes = info.includes();
-        final var requiresResourceBundle = info.requiresResourceBundle();
-        final var includesMapping = new HashMap<String, SourceInfo>();
-        includes.forEach((k, v) -> includesMapping.put(k, getSourceInfo(mapping.get(v.path()), mapping)));
+        final var includesMapping = HashMap.<String, SourceInfo>newHashMap(includes.size());
+        for (final var entry : includes.entrySet()) {
+            final var path = entry.getValue().path();
+            final var includeInfo = mapping.get(path);
+            if (includeInfo == null) {
+                throw new MojoExecutionException("Missing compilation info for " + path + " included in " + inputFile);
+            }
+            includesMapping.put(entry.getKey(), getSourceInfo(includeInfo, mapping, visiting));
+        }
+        visiting.removeLast();
         final var includesSources = new ArrayList<SourceInfo>();
         includes.forEach((key, value) -> {
             for (var i = 0; i < value.count(); ++i) {
                 includesSources.add(includesMapping.get(key));
             }
         });
-        return new SourceInfoImpl(outputClass, controllerClass, inputFile, includesSources, includesMapping, requiresResourceBundle);
+        final var sourceInfo = new SourceInfoImpl(info.outputClass(), info.controllerClass(), inputFile, includesSources,
+                includesMapping, info.requiresResourceBundle());
+        final var previous = sourceInfos.putIfAbsent(inputFile, sourceInfo);
+        return previous == null ? sourceInfo : previous;
+    }
+
+    private static String formatCycle(final SequencedSet<Path> visiting, final Path inputFile) {
+        final var cycle = new ArrayList<Path>();
+        var inCycle = false;
+        for (final var path : visiting) {
+            inCycle |= path.equals(inputFile);
+            if (inCycle) {
+                cycle.add(path);
+            }
+        }
+        cycle.add(inputFile);
+        return cycle.stream().map(Path::toString).collect(Collectors.joining(" -> "));
     }
 }
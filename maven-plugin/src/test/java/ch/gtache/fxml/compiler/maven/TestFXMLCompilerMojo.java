@@ -10,27 +10,41 @@ import ch.gtache.fxml.compiler.maven.internal.CompilationInfo;
 import ch.gtache.fxml.compiler.maven.internal.CompilationInfoProvider;
 import ch.gtache.fxml.compiler.maven.internal.Compiler;
 import ch.gtache.fxml.compiler.maven.internal.ControllerProvider;
+import ch.gtache.fxml.compiler.maven.internal.ExecutionMode;
 import ch.gtache.fxml.compiler.maven.internal.FXMLProvider;
+import ch.gtache.fxml.compiler.maven.internal.ParserType;
+import ch.gtache.fxml.compiler.maven.internal.SourceInfoProvider;
+import ch.gtache.fxml.compiler.parsing.FXMLParser;
+import ch.gtache.fxml.compiler.parsing.ParseException;
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TestFXMLCompilerMojo {
 
+    private final FXMLParser parser;
+    private final ParsedObject parsedObject;
     private final Compiler compiler;
     private final CompilationInfoProvider compilationInfoProvider;
     private final ControllerProvider controllerProvider;
@@ -39,6 +53,12 @@ class TestFXMLCompilerMojo {
     private final Path outputDirectory;
     private final int targetVersion;
     private final boolean useImageInputStreamConstructor;
+    private final int maxLoadMethodSize;
+    private final boolean lazyIncludes;
+    private final boolean asyncLoad;
+    private final boolean incrementalLoad;
+    private final boolean compileStyles;
+    private final boolean objectAccessors;
     private final ControllerInjectionType controllerInjectionType;
     private final ControllerFieldInjectionType controllerFieldInjectionType;
     private final ControllerMethodsInjectionType controllerMethodsInjectionType;
@@ -48,7 +68,7 @@ class TestFXMLCompilerMojo {
     private final CompilationInfo compilationInfo;
     private final FXMLCompilerMojo mojo;
 
-    TestFXMLCompilerMojo(@Mock final Compiler compiler, @Mock final CompilationInfoProvider compilationInfoProvider,
+    TestFXMLCompilerMojo(@Mock final FXMLParser parser, @Mock final ParsedObject parsedObject, @Mock final Compiler compiler, @Mock final CompilationInfoProvider compilationInfoProvider,
                          @Mock final ControllerProvider controllerProvider, @Mock final FXMLProvider fxmlProvider,
                          @Mock final MavenProject mavenProject,
                          @Mock final ControllerInjectionType controllerInjectionType,
@@ -56,6 +76,8 @@ class TestFXMLCompilerMojo {
                          @Mock final ControllerMethodsInjectionType controllerMethodsInjectionType,
                          @Mock final ResourceBundleInjectionType resourceBundleInjectionType,
                          @Mock final CompilationInfo compilationInfo) {
+        this.parser = Objects.requireNonNull(parser);
+        this.parsedObject = Objects.requireNonNull(parsedObject);
         this.compiler = Objects.requireNonNull(compiler);
         this.compilationInfoProvider = Objects.requireNonNull(compilationInfoProvider);
         this.controllerProvider = Objects.requireNonNull(controllerProvider);
@@ -64,6 +86,12 @@ class TestFXMLCompilerMojo {
         this.outputDirectory = Path.of("output");
         this.targetVersion = 11;
         this.useImageInputStreamConstructor = true;
+        this.maxLoadMethodSize = 8000;
+        this.lazyIncludes = true;
+        this.asyncLoad = true;
+        this.incrementalLoad = true;
+        this.compileStyles = true;
+        this.objectAccessors = true;
         this.controllerInjectionType = Objects.requireNonNull(controllerInjectionType);
         this.controllerFieldInjectionType = Objects.requireNonNull(controllerFieldInjectionType);
         this.controllerMethodsInjectionType = Objects.requireNonNull(controllerMethodsInjectionType);
@@ -71,7 +99,7 @@ class TestFXMLCompilerMojo {
         this.resourceMap = Map.of("a", "b", "c", "d");
         this.compilationInfo = Objects.requireNonNull(compilationInfo);
         this.fxmls = new HashMap<>();
-        this.mojo = new FXMLCompilerMojo(compiler, (p, o) -> compilationInfoProvider, controllerProvider,
+        this.mojo = new FXMLCompilerMojo(Map.of(ParserType.STAX, parser)::get, compiler, (p, o) -> compilationInfoProvider, controllerProvider,
                 p -> fxmlProvider);
     }
 
@@ -86,9 +114,18 @@ class TestFXMLCompilerMojo {
         setValue("methodInjectionType", controllerMethodsInjectionType);
         setValue("resourceInjectionType", resourceBundleInjectionType);
         setValue("resourceMap", resourceMap);
+        setIntValue("maxLoadMethodSize", maxLoadMethodSize);
+        setBooleanValue("lazyIncludes", lazyIncludes);
+        setBooleanValue("asyncLoad", asyncLoad);
+        setBooleanValue("incrementalLoad", incrementalLoad);
+        setBooleanValue("compileStyles", compileStyles);
+        setBooleanValue("objectAccessors", objectAccessors);
+        setValue("parserType", ParserType.STAX);
+        setValue("executionMode", ExecutionMode.PLATFORM);
         when(fxmlProvider.getFXMLs()).thenReturn(fxmls);
-        when(controllerProvider.getController(any())).then(i -> ((Path) i.getArgument(0)).toString());
-        when(compilationInfoProvider.getCompilationInfo(any(), any(), anyMap())).thenReturn(compilationInfo);
+        when(parser.parse((Path) any())).thenReturn(parsedObject);
+        when(controllerProvider.getController(any(), any())).then(i -> ((Path) i.getArgument(0)).toString());
+        when(compilationInfoProvider.getCompilationInfo(any(), any(), any(), anyMap())).thenReturn(compilationInfo);
         fxmls.put(Path.of("a"), Path.of("b"));
         fxmls.put(Path.of("c"), Path.of("d"));
     }
@@ -100,18 +137,21 @@ class TestFXMLCompilerMojo {
         setIntValue("parallelism", 4);
         mojo.execute();
         for (final var p : fxmls.keySet()) {
-            verify(controllerProvider).getController(p);
+            verify(parser).parse(p);
+            verify(controllerProvider).getController(p, parsedObject);
         }
-        final var controllerMapping = Map.of(pathA, "a", pathC, "c");
         for (final var e : fxmls.entrySet()) {
-            verify(compilationInfoProvider).getCompilationInfo(e.getValue(), e.getKey(), controllerMapping);
+            verify(compilationInfoProvider).getCompilationInfo(e.getValue(), e.getKey(), parsedObject, Map.of(e.getKey(), e.getKey().toString()));
         }
         final var parameters = new GenerationParametersImpl(new GenerationCompatibilityImpl(targetVersion), useImageInputStreamConstructor, resourceMap,
-                controllerInjectionType, controllerFieldInjectionType, controllerMethodsInjectionType, resourceBundleInjectionType);
+                controllerInjectionType, controllerFieldInjectionType, controllerMethodsInjectionType, resourceBundleInjectionType, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors);
         final var compilationInfoMapping = Map.of(pathA, compilationInfo, pathC, compilationInfo);
         for (final var entry : compilationInfoMapping.entrySet()) {
-            verify(compiler).compile(entry.getKey(), entry.getValue(), compilationInfoMapping, parameters);
+            verify(compiler).compile(eq(entry.getKey()), eq(entry.getValue()), eq(compilationInfoMapping), any(SourceInfoProvider.class), eq(parameters));
         }
+        verify(mavenProject).addCompileSourceRoot(outputDirectory.toAbsolutePath().toString());
+        verify(mavenProject).addResource(argThat(r -> r.getDirectory().equals(outputDirectory.toAbsolutePath().toString())
+                && r.getExcludes().equals(List.of("**/*.java"))));
     }
 
     @Test
@@ -122,38 +162,54 @@ class TestFXMLCompilerMojo {
         mojo.execute();
         assertEquals(Runtime.getRuntime().availableProcessors(), getValue("parallelism"));
         for (final var p : fxmls.keySet()) {
-            verify(controllerProvider).getController(p);
+            verify(parser).parse(p);
+            verify(controllerProvider).getController(p, parsedObject);
         }
-        final var controllerMapping = Map.of(pathA, "a", pathC, "c");
         for (final var e : fxmls.entrySet()) {
-            verify(compilationInfoProvider).getCompilationInfo(e.getValue(), e.getKey(), controllerMapping);
+            verify(compilationInfoProvider).getCompilationInfo(e.getValue(), e.getKey(), parsedObject, Map.of(e.getKey(), e.getKey().toString()));
         }
         final var parameters = new GenerationParametersImpl(new GenerationCompatibilityImpl(targetVersion), useImageInputStreamConstructor, resourceMap,
-                controllerInjectionType, controllerFieldInjectionType, controllerMethodsInjectionType, resourceBundleInjectionType);
+                controllerInjectionType, controllerFieldInjectionType, controllerMethodsInjectionType, resourceBundleInjectionType, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors);
         final var compilationInfoMapping = Map.of(pathA, compilationInfo, pathC, compilationInfo);
         for (final var entry : compilationInfoMapping.entrySet()) {
-            verify(compiler).compile(entry.getKey(), entry.getValue(), compilationInfoMapping, parameters);
+            verify(compiler).compile(eq(entry.getKey()), eq(entry.getValue()), eq(compilationInfoMapping), any(SourceInfoProvider.class), eq(parameters));
         }
     }
 
     @Test
     void testControllerProviderException() throws Exception {
         setIntValue("parallelism", 4);
-        doThrow(MojoExecutionException.class).when(controllerProvider).getController(any());
+        doThrow(MojoExecutionException.class).when(controllerProvider).getController(any(), any());
         assertThrows(MojoExecutionException.class, mojo::execute);
     }
 
+    @Test
+    void testParserException() throws Exception {
+        setIntValue("parallelism", 4);
+        doThrow(ParseException.class).when(parser).parse((Path) any());
+        assertThrows(MojoExecutionException.class, mojo::execute);
+        verifyNoInteractions(compiler);
+    }
+
+    @Test
+    void testParserExceptionSingleCore() throws Exception {
+        setIntValue("parallelism", 1);
+        doThrow(ParseException.class).when(parser).parse((Path) any());
+        assertThrows(MojoExecutionException.class, mojo::execute);
+        verifyNoInteractions(compiler);
+    }
+
     @Test
     void testCompilationInfoProviderException() throws Exception {
         setIntValue("parallelism", 4);
-        doThrow(MojoExecutionException.class).when(compilationInfoProvider).getCompilationInfo(any(), any(), anyMap());
+        doThrow(MojoExecutionException.class).when(compilationInfoProvider).getCompilationInfo(any(), any(), any(), anyMap());
         assertThrows(MojoExecutionException.class, mojo::execute);
     }
 
     @Test
     void testCompilerException() throws Exception {
         setIntValue("parallelism", 4);
-        doThrow(MojoExecutionException.class).when(compiler).compile(any(), any(), anyMap(), any());
+        doThrow(MojoExecutionException.class).when(compiler).compile(any(), any(), anyMap(), any(SourceInfoProvider.class), any());
         assertThrows(MojoExecutionException.class, mojo::execute);
     }
 
@@ -164,16 +220,91 @@ class TestFXMLCompilerMojo {
         setIntValue("parallelism", 1);
         mojo.execute();
         for (final var p : fxmls.keySet()) {
-            verify(controllerProvider).getController(p);
+            verify(parser).parse(p);
+            verify(controllerProvider).getController(p, parsedObject);
         }
-        final var controllerMapping = Map.of(pathA, "a", pathC, "c");
         for (final var e : fxmls.entrySet()) {
-            verify(compilationInfoProvider).getCompilationInfo(e.getValue(), e.getKey(), controllerMapping);
+            verify(compilationInfoProvider).getCompilationInfo(e.getValue(), e.getKey(), parsedObject, Map.of(e.getKey(), e.getKey().toString()));
         }
         final var parameters = new GenerationParametersImpl(new GenerationCompatibilityImpl(targetVersion), useImageInputStreamConstructor, resourceMap,
-                controllerInjectionType, controllerFieldInjectionType, controllerMethodsInjectionType, resourceBundleInjectionType);
+                controllerInjectionType, controllerFieldInjectionType, controllerMethodsInjectionType, resourceBundleInjectionType, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors);
         final var compilationInfoMapping = Map.of(pathA, compilationInfo, pathC, compilationInfo);
-        verify(compiler).compile(compilationInfoMapping, parameters);
+        for (final var entry : compilationInfoMapping.entrySet()) {
+            verify(compiler).compile(eq(entry.getKey()), eq(entry.getValue()), eq(compilationInfoMapping), any(SourceInfoProvider.class), eq(parameters));
+        }
+    }
+
+    @Test
+    void testExecuteVirtual() throws Exception {
+        final var pathA = Path.of("a");
+        final var pathC = Path.of("c");
+        setValue("executionMode", ExecutionMode.VIRTUAL);
+        mojo.execute();
+        for (final var p : fxmls.keySet()) {
+            verify(parser).parse(p);
+            verify(controllerProvider).getController(p, parsedObject);
+        }
+        for (final var e : fxmls.entrySet()) {
+            verify(compilationInfoProvider).getCompilationInfo(e.getValue(), e.getKey(), parsedObject, Map.of(e.getKey(), e.getKey().toString()));
+        }
+        final var parameters = new GenerationParametersImpl(new GenerationCompatibilityImpl(targetVersion), useImageInputStreamConstructor, resourceMap,
+                controllerInjectionType, controllerFieldInjectionType, controllerMethodsInjectionType, resourceBundleInjectionType, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors);
+        final var compilationInfoMapping = Map.of(pathA, compilationInfo, pathC, compilationInfo);
+        for (final var entry : compilationInfoMapping.entrySet()) {
+            verify(compiler).compile(eq(entry.getKey()), eq(entry.getValue()), eq(compilationInfoMapping), any(SourceInfoProvider.class), eq(parameters));
+        }
+    }
+
+    @Test
+    void testExecuteVirtualException() throws Exception {
+        setValue("executionMode", ExecutionMode.VIRTUAL);
+        doThrow(ParseException.class).when(parser).parse((Path) any());
+        assertThrows(MojoExecutionException.class, mojo::execute);
+        verifyNoInteractions(compiler);
+    }
+
+    @Test
+    void testExecuteIncremental(@TempDir final Path tempDir) throws Exception {
+        final var fxml = tempDir.resolve("view.fxml");
+        final var controller = tempDir.resolve("Controller.java");
+        final var output = tempDir.resolve("View.java");
+        Files.writeString(fxml, "fxml");
+        Files.writeString(controller, "controller");
+        Files.writeString(output, "output");
+        final var info = new CompilationInfo(fxml, output, "View", controller, "Controller", Set.of(), Set.of(), Map.of(), false, parsedObject);
+        fxmls.clear();
+        fxmls.put(fxml, tempDir);
+        when(compilationInfoProvider.getCompilationInfo(any(), any(), any(), anyMap())).thenReturn(info);
+        setIntValue("parallelism", 1);
+        setBooleanValue("incremental", true);
+        setValue("manifestFile", tempDir.resolve("manifest").resolve("manifest.txt"));
+        final var parameters = new GenerationParametersImpl(new GenerationCompatibilityImpl(targetVersion), useImageInputStreamConstructor, resourceMap,
+                controllerInjectionType, controllerFieldInjectionType, controllerMethodsInjectionType, resourceBundleInjectionType, maxLoadMethodSize, lazyIncludes, asyncLoad, incrementalLoad, compileStyles, objectAccessors);
+        final var mapping = Map.of(fxml, info);
+
+        mojo.execute();
+        verify(compiler).compile(eq(fxml), eq(info), eq(mapping), any(SourceInfoProvider.class), eq(parameters));
+
+        mojo.execute();
+        verify(compiler).compile(eq(fxml), eq(info), eq(mapping), any(SourceInfoProvider.class), eq(parameters));
+
+        Files.writeString(controller, "changed");
+        mojo.execute();
+        verify(compiler, times(2)).compile(eq(fxml), eq(info), eq(mapping), any(SourceInfoProvider.class), eq(parameters));
+
+        fxmls.clear();
+        mojo.execute();
+        verify(compiler, times(2)).compile(any(), any(), anyMap(), any(SourceInfoProvider.class), any());
+        assertFalse(Files.exists(output));
+    }
+
+    @Test
+    void testExecuteReflectionCache(@TempDir final Path tempDir) throws Exception {
+        final var cacheFile = tempDir.resolve("cache").resolve("reflection-cache.txt");
+        setIntValue("parallelism", 1);
+        setValue("reflectionCacheFile", cacheFile);
+        mojo.execute();
+        assertTrue(Files.exists(cacheFile));
     }
 
     @Test
@@ -183,6 +314,13 @@ class TestFXMLCompilerMojo {
         assertEquals(ControllerInjectionType.FACTORY, getValue("controllerInjectionType"));
     }
 
+    @Test
+    void testOverrideControllerInjectionTypeTypedFactory() throws Exception {
+        setValue("fieldInjectionType", ControllerFieldInjectionType.TYPED_FACTORY);
+        mojo.execute();
+        assertEquals(ControllerInjectionType.FACTORY, getValue("controllerInjectionType"));
+    }
+
     private Object getValue(final String name) throws Exception {
         final var field = FXMLCompilerMojo.class.getDeclaredField(name);
         field.setAccessible(true);
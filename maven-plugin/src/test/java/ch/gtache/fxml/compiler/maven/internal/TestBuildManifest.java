@@ -0,0 +1,179 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import ch.gtache.fxml.compiler.parsing.impl.ParsedObjectImpl;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TestBuildManifest {
+
+    private static final BuildManifest EMPTY = new BuildManifest("", Map.of());
+
+    @TempDir
+    private Path tempDir;
+    private Path parent;
+    private Path child;
+    private Path other;
+    private Path controller;
+    private Map<Path, CompilationInfo> mapping;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        parent = tempDir.resolve("parent.fxml");
+        child = tempDir.resolve("child.fxml");
+        other = tempDir.resolve("other.fxml");
+        controller = tempDir.resolve("Controller.java");
+        Files.writeString(parent, "parent");
+        Files.writeString(child, "child");
+        Files.writeString(other, "other");
+        Files.writeString(controller, "controller");
+        mapping = new HashMap<>();
+        mapping.put(parent, createInfo(parent, "Parent", Map.of("child.fxml", new Inclusion(child, 1))));
+        mapping.put(child, createInfo(child, "Child", Map.of()));
+        mapping.put(other, createInfo(other, "Other", Map.of()));
+        for (final var info : mapping.values()) {
+            Files.writeString(info.outputFile(), "output");
+        }
+    }
+
+    private CompilationInfo createInfo(final Path input, final String outputClass, final Map<String, Inclusion> includes) {
+        return new CompilationInfo(input, tempDir.resolve(outputClass + ".java"), outputClass, controller, "Controller",
+                Set.of(), Set.of(), includes, false, new ParsedObjectImpl(outputClass, Map.of(), new LinkedHashMap<>(), List.of()));
+    }
+
+    private BuildManifest create(final String configuration) throws MojoExecutionException {
+        final var builder = new BuildManifest.Builder(configuration, EMPTY);
+        getStaleFiles(builder);
+        return builder.build();
+    }
+
+    private Set<Path> getStaleFiles(final BuildManifest.Builder builder) throws MojoExecutionException {
+        final var stale = new HashSet<Path>();
+        for (final var file : mapping.keySet()) {
+            if (builder.isStale(file, mapping)) {
+                stale.add(file);
+            }
+        }
+        return stale;
+    }
+
+    @Test
+    void testNoPrevious() throws Exception {
+        final var previous = BuildManifest.read(tempDir.resolve("missing.txt"));
+        assertEquals(EMPTY, previous);
+        final var builder = new BuildManifest.Builder("configuration", previous);
+        assertEquals(mapping.keySet(), getStaleFiles(builder));
+        assertEquals(mapping.keySet(), builder.build().entries().keySet());
+        assertEquals(Set.of(), previous.getRemovedOutputs(mapping.keySet()));
+    }
+
+    @Test
+    void testWriteRead() throws Exception {
+        final var manifest = create("configuration");
+        final var file = tempDir.resolve("sub").resolve("manifest.txt");
+        manifest.write(file);
+        final var read = BuildManifest.read(file);
+        assertEquals(manifest, read);
+        final var builder = new BuildManifest.Builder("configuration", read);
+        assertEquals(Set.of(), getStaleFiles(builder));
+        assertEquals(manifest, builder.build());
+    }
+
+    @Test
+    void testReadInvalid() throws Exception {
+        final var file = tempDir.resolve("manifest.txt");
+        Files.writeString(file, "invalid");
+        assertEquals(EMPTY, BuildManifest.read(file));
+        Files.writeString(file, "configuration\tabc\ninvalid");
+        assertEquals(EMPTY, BuildManifest.read(file));
+    }
+
+    @Test
+    void testChangedInclude() throws Exception {
+        final var previous = create("configuration");
+        Files.writeString(child, "changed");
+        assertEquals(Set.of(parent, child), getStaleFiles(new BuildManifest.Builder("configuration", previous)));
+    }
+
+    @Test
+    void testChangedParent() throws Exception {
+        final var previous = create("configuration");
+        Files.writeString(parent, "changed");
+        assertEquals(Set.of(parent), getStaleFiles(new BuildManifest.Builder("configuration", previous)));
+    }
+
+    @Test
+    void testChangedController() throws Exception {
+        final var previous = create("configuration");
+        Files.writeString(controller, "changed");
+        assertEquals(mapping.keySet(), getStaleFiles(new BuildManifest.Builder("configuration", previous)));
+    }
+
+    @Test
+    void testMissingOutput() throws Exception {
+        final var previous = create("configuration");
+        Files.delete(mapping.get(other).outputFile());
+        assertEquals(Set.of(other), getStaleFiles(new BuildManifest.Builder("configuration", previous)));
+    }
+
+    @Test
+    void testMissingIncludeOutput() throws Exception {
+        final var previous = create("configuration");
+        Files.delete(mapping.get(child).outputFile());
+        assertEquals(Set.of(parent, child), getStaleFiles(new BuildManifest.Builder("configuration", previous)));
+    }
+
+    @Test
+    void testChangedConfiguration() throws Exception {
+        final var previous = create("configuration");
+        assertEquals(mapping.keySet(), getStaleFiles(new BuildManifest.Builder("other", previous)));
+    }
+
+    @Test
+    void testIncludeCycle() throws Exception {
+        mapping.put(child, createInfo(child, "Child", Map.of("parent.fxml", new Inclusion(parent, 1))));
+        final var previous = create("configuration");
+        Files.writeString(child, "changed");
+        assertEquals(Set.of(parent, child), getStaleFiles(new BuildManifest.Builder("configuration", previous)));
+    }
+
+    @Test
+    void testRemovedOutputs() throws Exception {
+        final var previous = create("configuration");
+        final var otherOutput = mapping.get(other).outputFile();
+        mapping.remove(other);
+        assertEquals(Set.of(otherOutput), previous.getRemovedOutputs(mapping.keySet()));
+        final var builder = new BuildManifest.Builder("configuration", previous);
+        assertEquals(Set.of(), getStaleFiles(builder));
+        assertEquals(Set.of(parent, child), builder.build().entries().keySet());
+    }
+
+    @Test
+    void testMissingFile() {
+        final var missing = tempDir.resolve("missing.fxml");
+        mapping.put(missing, createInfo(missing, "Missing", Map.of()));
+        final var builder = new BuildManifest.Builder("configuration", EMPTY);
+        assertThrows(MojoExecutionException.class, () -> builder.isStale(missing, mapping));
+    }
+
+    @Test
+    void testIllegal() {
+        assertThrows(NullPointerException.class, () -> new BuildManifest.Builder(null, EMPTY));
+        assertThrows(NullPointerException.class, () -> new BuildManifest.Builder("", null));
+        assertThrows(NullPointerException.class, () -> new BuildManifest(null, Map.of()));
+        assertThrows(NullPointerException.class, () -> new BuildManifest("", null));
+    }
+}
@@ -1,5 +1,6 @@
 package ch.gtache.fxml.compiler.maven.internal;
 
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -22,9 +23,10 @@ class TestCompilationInfoBuilder {
     private final Set<FieldInfo> injectedFields;
     private final Set<String> injectedMethods;
     private final Map<String, Inclusion> includes;
+    private final ParsedObject root;
     private final CompilationInfo info;
 
-    TestCompilationInfoBuilder(@Mock final Path inputFile, @Mock final Path outputFile, @Mock final Path controllerFile) {
+    TestCompilationInfoBuilder(@Mock final Path inputFile, @Mock final Path outputFile, @Mock final Path controllerFile, @Mock final ParsedObject root) {
         this.inputFile = Objects.requireNonNull(inputFile);
         this.outputFile = Objects.requireNonNull(outputFile);
         this.outputClass = "outputClass";
@@ -33,7 +35,8 @@ class TestCompilationInfoBuilder {
         this.injectedFields = Set.of(new FieldInfo("type", "name"));
         this.injectedMethods = Set.of("one", "two");
         this.includes = Map.of("one", new Inclusion(inputFile, 1));
-        this.info = new CompilationInfo(inputFile, outputFile, outputClass, controllerFile, controllerClass, injectedFields, injectedMethods, includes, true);
+        this.root = Objects.requireNonNull(root);
+        this.info = new CompilationInfo(inputFile, outputFile, outputClass, controllerFile, controllerClass, injectedFields, injectedMethods, includes, true, root);
     }
 
     @Test
@@ -49,12 +52,13 @@ class TestCompilationInfoBuilder {
         injectedMethods.forEach(builder::addInjectedMethod);
         builder.addInclude("one", inputFile);
         builder.requiresResourceBundle();
+        builder.root(root);
         final var actual = builder.build();
         assertEquals(info, actual);
 
         builder.addInclude("one", inputFile);
         final var newIncludes = Map.of("one", new Inclusion(inputFile, 2));
-        final var newInfo = new CompilationInfo(inputFile, outputFile, outputClass, controllerFile, controllerClass, injectedFields, injectedMethods, newIncludes, true);
+        final var newInfo = new CompilationInfo(inputFile, outputFile, outputClass, controllerFile, controllerClass, injectedFields, injectedMethods, newIncludes, true, root);
         assertEquals(newInfo, builder.build());
     }
 }
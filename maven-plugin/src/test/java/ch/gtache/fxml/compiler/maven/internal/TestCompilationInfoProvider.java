@@ -1,6 +1,10 @@
 package ch.gtache.fxml.compiler.maven.internal;
 
-
+import ch.gtache.fxml.compiler.parsing.ParseException;
+import ch.gtache.fxml.compiler.parsing.ParsedInclude;
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
+import ch.gtache.fxml.compiler.parsing.impl.ParsedPropertyImpl;
+import ch.gtache.fxml.compiler.parsing.xml.DOMFXMLParser;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
 import org.junit.jupiter.api.Test;
@@ -12,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -37,16 +42,36 @@ class TestCompilationInfoProvider {
         final var controllerClass = "ch.gtache.fxml.compiler.maven.internal.InfoController";
         Files.createFile(controllerPath);
         when(project.getCompileSourceRoots()).thenReturn(List.of(tempDir.toString()));
+        final var parsed = parse(path);
         final var expected = new CompilationInfo(path, path.getParent().resolve("InfoView.java"),
                 "ch.gtache.fxml.compiler.maven.internal.InfoView", controllerPath, controllerClass,
-                Set.of(new FieldInfo("javafx.event.EventHandler", "onContextMenuRequested"), new FieldInfo("Button", "button"),
+                Set.of(new FieldInfo("javafx.event.EventHandler", "onContextMenuRequested"), new FieldInfo("javafx.scene.control.Button", "button"),
                         new FieldInfo("ch.gtache.fxml.compiler.maven.internal.IncludeController", "includeViewController")),
-                Set.of("onAction"), Map.of("includeView.fxml", new Inclusion(path.getParent().resolve("includeView.fxml"), 1)), true);
+                Set.of("onAction"), Map.of("includeView.fxml", new Inclusion(path.getParent().resolve("includeView.fxml"), 1)), true, parsed);
         final var compilationInfoProvider = new CompilationInfoProvider(project, tempDir);
-        final var actual = compilationInfoProvider.getCompilationInfo(tempDir, path, Map.of(includedPath, "ch.gtache.fxml.compiler.maven.internal.IncludeController"));
+        final var actual = compilationInfoProvider.getCompilationInfo(tempDir, path, parsed, Map.of(includedPath, "ch.gtache.fxml.compiler.maven.internal.IncludeController"));
         assertEquals(expected, actual);
     }
 
+    @Test
+    void testGetIncludes(@TempDir final Path tempDir) throws Exception {
+        final var path = copyFile("infoView.fxml", tempDir);
+        final var compilationInfoProvider = new CompilationInfoProvider(project, tempDir);
+        assertEquals(Set.of(path.getParent().resolve("includeView.fxml")), compilationInfoProvider.getIncludes(path, parse(path)));
+    }
+
+    @Test
+    void testGetIncludesNoSource(@Mock final ParsedObject parsedObject, @Mock final ParsedInclude include, @TempDir final Path tempDir) {
+        final var path = tempDir.resolve("missingSource.fxml");
+        when(parsedObject.children()).thenReturn(List.of(include));
+        when(parsedObject.properties()).thenReturn(new LinkedHashMap<>());
+        when(include.attributes()).thenReturn(Map.of());
+        when(include.children()).thenReturn(List.of());
+        when(include.properties()).thenReturn(new LinkedHashMap<>());
+        final var compilationInfoProvider = new CompilationInfoProvider(project, tempDir);
+        assertEquals(Set.of(), compilationInfoProvider.getIncludes(path, parsedObject));
+    }
+
     @Test
     void testComplexFilename(@TempDir final Path tempDir) throws Exception {
         final var path = copyFile("com_plex-view.fxml", tempDir);
@@ -54,11 +79,12 @@ class TestCompilationInfoProvider {
         final var controllerClass = "ch.gtache.fxml.compiler.maven.internal.InfoController";
         Files.createFile(controllerPath);
         when(project.getCompileSourceRoots()).thenReturn(List.of(tempDir.toString()));
+        final var parsed = parse(path);
         final var expected = new CompilationInfo(path, path.getParent().resolve("ComPlexView.java"),
                 "ch.gtache.fxml.compiler.maven.internal.ComPlexView", controllerPath, controllerClass,
-                Set.of(), Set.of(), Map.of(), false);
+                Set.of(), Set.of(), Map.of(), false, parsed);
         final var compilationInfoProvider = new CompilationInfoProvider(project, tempDir);
-        final var actual = compilationInfoProvider.getCompilationInfo(tempDir, path, Map.of());
+        final var actual = compilationInfoProvider.getCompilationInfo(tempDir, path, parsed, Map.of());
         assertEquals(expected, actual);
     }
 
@@ -69,18 +95,18 @@ class TestCompilationInfoProvider {
         Files.createFile(controllerPath);
         when(project.getCompileSourceRoots()).thenReturn(List.of(tempDir.toString()));
         final var compilationInfoProvider = new CompilationInfoProvider(project, tempDir);
-        assertThrows(MojoExecutionException.class, () -> compilationInfoProvider.getCompilationInfo(tempDir, path, Map.of()));
+        final var parsed = parse(path);
+        assertThrows(MojoExecutionException.class, () -> compilationInfoProvider.getCompilationInfo(tempDir, path, parsed, Map.of()));
     }
 
     @Test
-    void testIncludeNoSource(@TempDir final Path tempDir) throws Exception {
-        final var path = copyFile("missingSource.fxml", tempDir);
-        final var includedPath = path.getParent().resolve("includeView.fxml");
-        final var controllerPath = path.getParent().resolve("InfoController.java");
-        Files.createFile(controllerPath);
-        when(project.getCompileSourceRoots()).thenReturn(List.of(tempDir.toString()));
+    void testIncludeNoSource(@Mock final ParsedObject parsedObject, @Mock final ParsedInclude include, @TempDir final Path tempDir) {
+        final var path = tempDir.resolve("missingSource.fxml");
+        when(parsedObject.attributes()).thenReturn(Map.of());
+        when(parsedObject.children()).thenReturn(List.of(include));
+        when(include.attributes()).thenReturn(Map.of("fx:id", new ParsedPropertyImpl("fx:id", null, "includeView")));
         final var compilationInfoProvider = new CompilationInfoProvider(project, tempDir);
-        assertThrows(MojoExecutionException.class, () -> compilationInfoProvider.getCompilationInfo(tempDir, path, Map.of(includedPath, "ch.gtache.fxml.compiler.maven.internal.IncludeController")));
+        assertThrows(MojoExecutionException.class, () -> compilationInfoProvider.getCompilationInfo(tempDir, path, parsedObject, Map.of()));
     }
 
     @Test
@@ -91,7 +117,8 @@ class TestCompilationInfoProvider {
         Files.createFile(controllerPath);
         when(project.getCompileSourceRoots()).thenReturn(List.of());
         final var compilationInfoProvider = new CompilationInfoProvider(project, tempDir);
-        assertThrows(MojoExecutionException.class, () -> compilationInfoProvider.getCompilationInfo(tempDir, path, Map.of(includedPath, "ch.gtache.fxml.compiler.maven.internal.IncludeController")));
+        final var parsed = parse(path);
+        assertThrows(MojoExecutionException.class, () -> compilationInfoProvider.getCompilationInfo(tempDir, path, parsed, Map.of(includedPath, "ch.gtache.fxml.compiler.maven.internal.IncludeController")));
     }
 
     @Test
@@ -101,7 +128,8 @@ class TestCompilationInfoProvider {
         Files.createFile(controllerPath);
         when(project.getCompileSourceRoots()).thenReturn(List.of(tempDir.toString()));
         final var compilationInfoProvider = new CompilationInfoProvider(project, tempDir);
-        assertThrows(MojoExecutionException.class, () -> compilationInfoProvider.getCompilationInfo(tempDir, path, Map.of()));
+        final var parsed = parse(path);
+        assertThrows(MojoExecutionException.class, () -> compilationInfoProvider.getCompilationInfo(tempDir, path, parsed, Map.of()));
     }
 
     @Test
@@ -112,13 +140,14 @@ class TestCompilationInfoProvider {
         final var controllerClass = "ch.gtache.fxml.compiler.maven.internal.InfoController";
         Files.createFile(controllerPath);
         when(project.getCompileSourceRoots()).thenReturn(List.of(tempDir.toString()));
+        final var parsed = parse(path);
         final var expected = new CompilationInfo(path, path.getParent().resolve("NoResourceBundle.java"),
                 "ch.gtache.fxml.compiler.maven.internal.NoResourceBundle", controllerPath, controllerClass,
-                Set.of(new FieldInfo("javafx.event.EventHandler", "onContextMenuRequested"), new FieldInfo("Button", "button"),
+                Set.of(new FieldInfo("javafx.event.EventHandler", "onContextMenuRequested"), new FieldInfo("javafx.scene.control.Button", "button"),
                         new FieldInfo("ch.gtache.fxml.compiler.maven.internal.IncludeController", "includeViewController")),
-                Set.of("onAction"), Map.of("includeView.fxml", new Inclusion(path.getParent().resolve("includeView.fxml"), 1)), false);
+                Set.of("onAction"), Map.of("includeView.fxml", new Inclusion(path.getParent().resolve("includeView.fxml"), 1)), false, parsed);
         final var compilationInfoProvider = new CompilationInfoProvider(project, tempDir);
-        final var actual = compilationInfoProvider.getCompilationInfo(tempDir, path, Map.of(includedPath, "ch.gtache.fxml.compiler.maven.internal.IncludeController"));
+        final var actual = compilationInfoProvider.getCompilationInfo(tempDir, path, parsed, Map.of(includedPath, "ch.gtache.fxml.compiler.maven.internal.IncludeController"));
         assertEquals(expected, actual);
     }
 
@@ -129,7 +158,12 @@ class TestCompilationInfoProvider {
         Files.createFile(controllerPath);
         when(project.getCompileSourceRoots()).thenReturn(List.of(tempDir.toString()));
         final var compilationInfoProvider = new CompilationInfoProvider(project, tempDir);
-        assertThrows(MojoExecutionException.class, () -> compilationInfoProvider.getCompilationInfo(tempDir, path, Map.of()));
+        final var parsed = parse(path);
+        assertThrows(MojoExecutionException.class, () -> compilationInfoProvider.getCompilationInfo(tempDir, path, parsed, Map.of()));
+    }
+
+    private static ParsedObject parse(final Path path) throws ParseException {
+        return new DOMFXMLParser().parse(path);
     }
 
     private Path copyFile(final String source, final Path tempDir) throws IOException {
@@ -4,8 +4,7 @@ import ch.gtache.fxml.compiler.GenerationException;
 import ch.gtache.fxml.compiler.GenerationParameters;
 import ch.gtache.fxml.compiler.Generator;
 import ch.gtache.fxml.compiler.impl.GenerationRequestImpl;
-import ch.gtache.fxml.compiler.parsing.FXMLParser;
-import ch.gtache.fxml.compiler.parsing.ParseException;
+import ch.gtache.fxml.compiler.impl.GenerationResultImpl;
 import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,17 +17,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TestCompiler {
 
-    private final FXMLParser fxmlParser;
     private final Generator generator;
     private final CompilationInfo compilationInfo;
     private final ParsedObject object;
@@ -36,21 +39,20 @@ class TestCompiler {
     private final GenerationParameters parameters;
     private final Compiler compiler;
 
-    TestCompiler(@Mock final FXMLParser fxmlParser, @Mock final CompilationInfo compilationInfo, @Mock final ParsedObject object,
+    TestCompiler(@Mock final CompilationInfo compilationInfo, @Mock final ParsedObject object,
                  @Mock final GenerationParameters parameters, @Mock final Generator generator) {
-        this.fxmlParser = Objects.requireNonNull(fxmlParser);
         this.compilationInfo = Objects.requireNonNull(compilationInfo);
         this.object = Objects.requireNonNull(object);
         this.content = "content";
         this.parameters = Objects.requireNonNull(parameters);
         this.generator = Objects.requireNonNull(generator);
-        this.compiler = new Compiler(fxmlParser, generator);
+        this.compiler = new Compiler(generator);
     }
 
     @BeforeEach
-    void beforeEach() throws GenerationException, ParseException {
-        when(fxmlParser.parse((Path) any())).thenReturn(object);
-        when(generator.generate(any())).thenReturn(content);
+    void beforeEach() throws GenerationException {
+        when(compilationInfo.root()).thenReturn(object);
+        when(generator.generateWithResources(any())).thenReturn(new GenerationResultImpl(content, Map.of()));
         when(compilationInfo.outputClass()).thenReturn("outputClass");
         when(compilationInfo.controllerClass()).thenReturn("controllerClass");
         when(compilationInfo.includes()).thenReturn(Map.of());
@@ -65,16 +67,69 @@ class TestCompiler {
         when(compilationInfo.outputFile()).thenReturn(outputPath);
         when(compilationInfo.inputFile()).thenReturn(path);
         when(compilationInfo.controllerFile()).thenReturn(path);
-        final var controllerInfo = ControllerInfoProvider.getControllerInfo(compilationInfo);
-        final var sourceInfo = SourceInfoProvider.getSourceInfo(compilationInfo, Map.of());
+        final var controllerInfo = new ControllerInfoProvider().getControllerInfo(compilationInfo);
+        final var sourceInfo = new SourceInfoProvider().getSourceInfo(compilationInfo, Map.of());
         final var mapping = Map.of(path, compilationInfo);
         final var request = new GenerationRequestImpl(parameters, controllerInfo, sourceInfo, object, outputClass);
-        compiler.compile(mapping, parameters);
-        verify(fxmlParser).parse(path);
-        verify(generator).generate(request);
+        compiler.compile(path, compilationInfo, mapping, new SourceInfoProvider(), parameters);
+        verify(generator).generateWithResources(request);
         assertEquals(content, Files.readString(outputPath));
     }
 
+    @Test
+    void testCompileUnchanged(@TempDir final Path tempDir) throws Exception {
+        final var path = tempDir.resolve("fxml1.fxml");
+        Files.createFile(path);
+        final var outputPath = tempDir.resolve("fxml1.java");
+        Files.writeString(outputPath, content);
+        final var lastModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(outputPath, lastModified);
+        when(compilationInfo.outputFile()).thenReturn(outputPath);
+        when(compilationInfo.inputFile()).thenReturn(path);
+        when(compilationInfo.controllerFile()).thenReturn(path);
+        final var mapping = Map.of(path, compilationInfo);
+        assertFalse(compiler.compile(path, compilationInfo, mapping, new SourceInfoProvider(), parameters));
+        assertEquals(lastModified, Files.getLastModifiedTime(outputPath));
+        assertEquals(content, Files.readString(outputPath));
+    }
+
+    @Test
+    void testCompileChanged(@TempDir final Path tempDir) throws Exception {
+        final var path = tempDir.resolve("fxml1.fxml");
+        Files.createFile(path);
+        final var outputPath = tempDir.resolve("fxml1.java");
+        Files.writeString(outputPath, "contenu");
+        when(compilationInfo.outputFile()).thenReturn(outputPath);
+        when(compilationInfo.inputFile()).thenReturn(path);
+        when(compilationInfo.controllerFile()).thenReturn(path);
+        final var mapping = Map.of(path, compilationInfo);
+        assertTrue(compiler.compile(path, compilationInfo, mapping, new SourceInfoProvider(), parameters));
+        assertEquals(content, Files.readString(outputPath));
+    }
+
+    @Test
+    void testCompileResources(@TempDir final Path tempDir) throws Exception {
+        final var path = tempDir.resolve("fxml1.fxml");
+        Files.createFile(path);
+        final var outputPath = tempDir.resolve("fxml1.java");
+        Files.writeString(outputPath, content);
+        final var staleResource = tempDir.resolve("fxml1-array1.bin");
+        Files.write(staleResource, new byte[]{1});
+        final var otherResource = tempDir.resolve("fxml2-array1.bin");
+        Files.write(otherResource, new byte[]{1});
+        when(generator.generateWithResources(any())).thenReturn(new GenerationResultImpl(content, Map.of("fxml1-array0.bin", new byte[]{1, 2})));
+        when(compilationInfo.outputFile()).thenReturn(outputPath);
+        when(compilationInfo.inputFile()).thenReturn(path);
+        when(compilationInfo.controllerFile()).thenReturn(path);
+        final var mapping = Map.of(path, compilationInfo);
+        assertTrue(compiler.compile(path, compilationInfo, mapping, new SourceInfoProvider(), parameters));
+        assertArrayEquals(new byte[]{1, 2}, Files.readAllBytes(tempDir.resolve("fxml1-array0.bin")));
+        assertFalse(Files.exists(staleResource));
+        assertTrue(Files.exists(otherResource));
+        assertEquals(List.of(tempDir.resolve("fxml1-array0.bin")), Compiler.getResources(outputPath));
+        assertFalse(compiler.compile(path, compilationInfo, mapping, new SourceInfoProvider(), parameters));
+    }
+
     @Test
     @Disabled("Need cross-platform unwritable path")
     void testCompileIOException(@TempDir final Path tempDir) throws Exception {
@@ -86,12 +141,11 @@ class TestCompiler {
         when(compilationInfo.inputFile()).thenReturn(path);
         when(compilationInfo.controllerFile()).thenReturn(path);
         final var mapping = Map.of(path, compilationInfo);
-        final var controllerInfo = ControllerInfoProvider.getControllerInfo(compilationInfo);
-        final var sourceInfo = SourceInfoProvider.getSourceInfo(compilationInfo, Map.of());
+        final var controllerInfo = new ControllerInfoProvider().getControllerInfo(compilationInfo);
+        final var sourceInfo = new SourceInfoProvider().getSourceInfo(compilationInfo, Map.of());
         final var request = new GenerationRequestImpl(parameters, controllerInfo, sourceInfo, object, outputClass);
-        assertThrows(MojoExecutionException.class, () -> compiler.compile(mapping, parameters));
-        verify(fxmlParser).parse(path);
-        verify(generator).generate(request);
+        assertThrows(MojoExecutionException.class, () -> compiler.compile(path, compilationInfo, mapping, new SourceInfoProvider(), parameters));
+        verify(generator).generateWithResources(request);
     }
 
     @Test
@@ -104,23 +158,12 @@ class TestCompiler {
         when(compilationInfo.inputFile()).thenReturn(path);
         when(compilationInfo.controllerFile()).thenReturn(path);
         final var mapping = Map.of(path, compilationInfo);
-        final var controllerInfo = ControllerInfoProvider.getControllerInfo(compilationInfo);
-        final var sourceInfo = SourceInfoProvider.getSourceInfo(compilationInfo, Map.of());
+        final var controllerInfo = new ControllerInfoProvider().getControllerInfo(compilationInfo);
+        final var sourceInfo = new SourceInfoProvider().getSourceInfo(compilationInfo, Map.of());
         final var request = new GenerationRequestImpl(parameters, controllerInfo, sourceInfo, object, outputClass);
-        when(generator.generate(request)).thenThrow(RuntimeException.class);
-        assertThrows(MojoExecutionException.class, () -> compiler.compile(mapping, parameters));
-        verify(fxmlParser).parse(path);
-        verify(generator).generate(request);
-    }
-
-    @Test
-    void testCompileParseException(@TempDir final Path tempDir) throws Exception {
-        when(fxmlParser.parse((Path) any())).thenThrow(ParseException.class);
-        final var path = tempDir.resolve("fxml1.fxml");
-        final var mapping = Map.of(path, compilationInfo);
-        assertThrows(MojoExecutionException.class, () -> compiler.compile(mapping, parameters));
-        verify(fxmlParser).parse(path);
-        verifyNoInteractions(generator);
+        when(generator.generateWithResources(request)).thenThrow(RuntimeException.class);
+        assertThrows(MojoExecutionException.class, () -> compiler.compile(path, compilationInfo, mapping, new SourceInfoProvider(), parameters));
+        verify(generator).generateWithResources(request);
     }
 
     @Test
@@ -133,12 +176,11 @@ class TestCompiler {
         when(compilationInfo.inputFile()).thenReturn(path);
         when(compilationInfo.controllerFile()).thenReturn(path);
         final var mapping = Map.of(path, compilationInfo);
-        final var controllerInfo = ControllerInfoProvider.getControllerInfo(compilationInfo);
-        final var sourceInfo = SourceInfoProvider.getSourceInfo(compilationInfo, Map.of());
+        final var controllerInfo = new ControllerInfoProvider().getControllerInfo(compilationInfo);
+        final var sourceInfo = new SourceInfoProvider().getSourceInfo(compilationInfo, Map.of());
         final var request = new GenerationRequestImpl(parameters, controllerInfo, sourceInfo, object, outputClass);
-        when(generator.generate(request)).thenThrow(GenerationException.class);
-        assertThrows(MojoExecutionException.class, () -> compiler.compile(mapping, parameters));
-        verify(fxmlParser).parse(path);
-        verify(generator).generate(request);
+        when(generator.generateWithResources(request)).thenThrow(GenerationException.class);
+        assertThrows(MojoExecutionException.class, () -> compiler.compile(path, compilationInfo, mapping, new SourceInfoProvider(), parameters));
+        verify(generator).generateWithResources(request);
     }
 }
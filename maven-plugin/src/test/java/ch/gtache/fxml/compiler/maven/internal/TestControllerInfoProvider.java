@@ -12,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -77,10 +78,39 @@ class TestControllerInfoProvider {
                 "rawBox", new ControllerFieldInfoImpl("rawBox", List.of()), "fullBox", new ControllerFieldInfoImpl("fullBox", List.of(new GenericTypesImpl("Integer", List.of()))),
                 "tableColumn", new ControllerFieldInfoImpl("tableColumn", List.of(new GenericTypesImpl("Integer", List.of()),
                         new GenericTypesImpl("javafx.scene.control.ComboBox", List.of(new GenericTypesImpl("String", List.of())))))), true);
-        final var actual = ControllerInfoProvider.getControllerInfo(compilationInfo);
+        final var actual = new ControllerInfoProvider().getControllerInfo(compilationInfo);
         assertEquals(expectedInfo, actual);
     }
 
+    @Test
+    void testGetControllerInfoCached(@TempDir final Path tempDir) throws Exception {
+        final var controller = tempDir.resolve("Controller.java");
+        Files.writeString(controller, """
+                public class Controller {
+                    private void onClick() {
+                    }
+                }
+                """);
+        when(compilationInfo.controllerFile()).thenReturn(controller);
+        when(compilationInfo.controllerClass()).thenReturn("Controller");
+        when(compilationInfo.injectedFields()).thenReturn(Set.of());
+        when(compilationInfo.injectedMethods()).thenReturn(Set.of("onClick"));
+        final var provider = new ControllerInfoProvider();
+        final var expected = new ControllerInfoImpl("Controller", Map.of("onClick", false), Map.of(), false);
+        assertEquals(expected, provider.getControllerInfo(compilationInfo));
+        final var lastModified = Files.getLastModifiedTime(controller);
+        Files.writeString(controller, """
+                public class Controller {
+                    private void onClick(final ActionEvent event) {
+                    }
+                }
+                """);
+        Files.setLastModifiedTime(controller, lastModified);
+        assertEquals(expected, provider.getControllerInfo(compilationInfo));
+        Files.setLastModifiedTime(controller, FileTime.fromMillis(lastModified.toMillis() + 1000));
+        assertEquals(new ControllerInfoImpl("Controller", Map.of("onClick", true), Map.of(), false), provider.getControllerInfo(compilationInfo));
+    }
+
     @Test
     void testGetControllerInfoMethodNotFound(@TempDir final Path tempDir) throws Exception {
         final var fxml = tempDir.resolve("fxml.fxml");
@@ -99,12 +129,12 @@ class TestControllerInfoProvider {
         when(compilationInfo.controllerClass()).thenReturn("ch.gtache.fxml.compiler.maven.internal.LoadController");
         when(compilationInfo.injectedFields()).thenReturn(Set.of());
         when(compilationInfo.injectedMethods()).thenReturn(Set.of("onClick"));
-        assertThrows(MojoExecutionException.class, () -> ControllerInfoProvider.getControllerInfo(compilationInfo));
+        assertThrows(MojoExecutionException.class, () -> new ControllerInfoProvider().getControllerInfo(compilationInfo));
     }
 
     @Test
     void testGetControllerInfoException() {
         when(compilationInfo.controllerFile()).thenReturn(Path.of("/in/a/b/c/whatever"));
-        assertThrows(MojoExecutionException.class, () -> ControllerInfoProvider.getControllerInfo(compilationInfo));
+        assertThrows(MojoExecutionException.class, () -> new ControllerInfoProvider().getControllerInfo(compilationInfo));
     }
 }
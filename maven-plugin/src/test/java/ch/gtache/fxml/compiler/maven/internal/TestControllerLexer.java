@@ -0,0 +1,157 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TestControllerLexer {
+
+    @Test
+    void testLex() {
+        final var content = """
+                package ch.gtache.fxml.compiler.maven.internal;
+                
+                import javafx.event.EventHandler;
+                import static java.util.Objects.requireNonNull;
+                import javafx.scene.control.*;
+                
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                public class LoadController extends Base<String> implements Runnable {
+                
+                    private static final String CONSTANT = "void fake(int a, int b) { String notAField; }";
+                    // private Button commented;
+                    /* private Button blockCommented; */
+                    @FXML
+                    private EventHandler<KeyEvent> keyEventHandler;
+                    @FXML private javafx.scene.control.ComboBox<Map<String, List<? extends Number>>> comboBox;
+                    private final Map<String, Integer> initialized = new HashMap<String, Integer>(), second, third = Map.of("a", 1);
+                    private int[] array;
+                    private Runnable runnable = () -> {
+                        final var local = 0;
+                    };
+                    private char c = '}';
+                
+                    static {
+                        final var staticLocal = 0;
+                    }
+                
+                    public LoadController(final String a, final int b) {
+                        final var constructorLocal = 0;
+                    }
+                
+                    @FXML
+                    void initialize() {
+                    }
+                
+                    @FXML
+                    private void onClick() {
+                        void inner;
+                    }
+                
+                    @FXML
+                    private void onOtherClick(@Named("x, y") final Map<String, Integer> map, final KeyEvent event) throws IOException {
+                    }
+                
+                    private void onClick(final ActionEvent event) {
+                    }
+                
+                    public <T> void generic(final T t) {
+                    }
+                
+                    public String notVoid(final int a) {
+                        return "";
+                    }
+                
+                    abstract void noBody(int a, int b, int c);
+                
+                    private static final class Nested {
+                        private Button nestedField;
+                
+                        void nestedMethod() {
+                        }
+                    }
+                
+                    private record Rec(int a, int b) {
+                        void recordMethod() {
+                        }
+                    }
+                
+                    private enum Enum {
+                        A, B;
+                
+                        void enumMethod() {
+                        }
+                    }
+                
+                    private String record;
+                }
+                
+                class Other {
+                    private Button otherField;
+                }
+                """;
+        final var expected = new ControllerSource(
+                List.of("javafx.event.EventHandler", "java.util.Objects.requireNonNull", "javafx.scene.control.*"),
+                Map.of("CONSTANT", new ControllerSource.FieldDeclaration("String", ""),
+                        "keyEventHandler", new ControllerSource.FieldDeclaration("EventHandler", "<KeyEvent>"),
+                        "comboBox", new ControllerSource.FieldDeclaration("javafx.scene.control.ComboBox", "<Map<String,List<? extends Number>>>"),
+                        "initialized", new ControllerSource.FieldDeclaration("Map", "<String,Integer>"),
+                        "second", new ControllerSource.FieldDeclaration("Map", "<String,Integer>"),
+                        "third", new ControllerSource.FieldDeclaration("Map", "<String,Integer>"),
+                        "array", new ControllerSource.FieldDeclaration("int", ""),
+                        "runnable", new ControllerSource.FieldDeclaration("Runnable", ""),
+                        "c", new ControllerSource.FieldDeclaration("char", ""),
+                        "record", new ControllerSource.FieldDeclaration("String", "")),
+                Map.of("initialize", 0, "onClick", 0, "onOtherClick", 2, "generic", 1, "noBody", 3),
+                true);
+        assertEquals(expected, new ControllerLexer(content).lex());
+    }
+
+    @Test
+    void testLexNoInitialize() {
+        final var content = """
+                public class Controller {
+                    void initialize(int a) {
+                    }
+                
+                    public void initializeOther() {
+                    }
+                }
+                """;
+        final var source = new ControllerLexer(content).lex();
+        assertFalse(source.hasInitialize());
+        assertEquals(Map.of("initialize", 1, "initializeOther", 0), source.methods());
+    }
+
+    @Test
+    void testLexTextBlock() {
+        final var content = "public class Controller {\n" +
+                "    private String text = \"\"\"\n" +
+                "            private Button fake;\n" +
+                "            \\\"\"\" }\n" +
+                "            \"\"\";\n" +
+                "    private Button button;\n" +
+                "}\n";
+        final var source = new ControllerLexer(content).lex();
+        assertEquals(Map.of("text", new ControllerSource.FieldDeclaration("String", ""),
+                "button", new ControllerSource.FieldDeclaration("Button", "")), source.fields());
+    }
+
+    @Test
+    void testLexIncomplete() {
+        final var source = new ControllerLexer("public class Controller {\n    private Button button;\n    void method(").lex();
+        assertEquals(Map.of("button", new ControllerSource.FieldDeclaration("Button", "")), source.fields());
+        assertEquals(Map.of("method", 0), source.methods());
+        assertEquals(new ControllerSource(List.of(), Map.of(), Map.of(), false), new ControllerLexer("").lex());
+    }
+
+    @Test
+    void testIllegal() {
+        assertThrows(NullPointerException.class, () -> new ControllerLexer(null));
+    }
+}
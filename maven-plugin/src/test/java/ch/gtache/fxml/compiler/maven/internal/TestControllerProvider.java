@@ -1,47 +1,49 @@
 package ch.gtache.fxml.compiler.maven.internal;
 
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
+import ch.gtache.fxml.compiler.parsing.impl.ParsedPropertyImpl;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TestControllerProvider {
 
+    private final ParsedObject root;
+    private final Path fxml;
     private final ControllerProvider controllerProvider;
 
-    TestControllerProvider() {
+    TestControllerProvider(@Mock final ParsedObject root) {
+        this.root = Objects.requireNonNull(root);
+        this.fxml = Path.of("fxml.fxml");
         this.controllerProvider = new ControllerProvider();
     }
 
     @Test
-    void testGetController(@TempDir final Path tempDir) throws Exception {
-        final var fxml = tempDir.resolve("fxml.fxml");
-        Files.writeString(fxml, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
-                "<BorderPane xmlns=\"http://javafx.com/javafx/22\" xmlns:fx=\"http://javafx.com/fxml/1\"" +
-                "            fx:controller=\"LoadController\">" +
-                "</BorderPane>\n");
-        assertEquals("LoadController", controllerProvider.getController(fxml));
+    void testGetController() throws Exception {
+        when(root.attributes()).thenReturn(Map.of("fx:controller", new ParsedPropertyImpl("fx:controller", null, "LoadController")));
+        assertEquals("LoadController", controllerProvider.getController(fxml, root));
     }
 
     @Test
-    void testGetControllerBlank(@TempDir final Path tempDir) throws Exception {
-        final var fxml = tempDir.resolve("fxml.fxml");
-        Files.writeString(fxml, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
-                "<BorderPane xmlns=\"http://javafx.com/javafx/22\" xmlns:fx=\"http://javafx.com/fxml/1\">" +
-                "</BorderPane>\n");
-        assertThrows(MojoExecutionException.class, () -> controllerProvider.getController(fxml));
+    void testGetControllerBlank() {
+        when(root.attributes()).thenReturn(Map.of("fx:controller", new ParsedPropertyImpl("fx:controller", null, " ")));
+        assertThrows(MojoExecutionException.class, () -> controllerProvider.getController(fxml, root));
     }
 
     @Test
-    void testGetControllerError() {
-        assertThrows(MojoExecutionException.class, () -> controllerProvider.getController(Path.of("fxml.fxml")));
+    void testGetControllerMissing() {
+        when(root.attributes()).thenReturn(Map.of());
+        assertThrows(MojoExecutionException.class, () -> controllerProvider.getController(fxml, root));
     }
 }
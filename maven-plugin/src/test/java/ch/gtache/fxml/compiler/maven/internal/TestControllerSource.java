@@ -0,0 +1,72 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestControllerSource {
+
+    private final List<String> imports;
+    private final Map<String, ControllerSource.FieldDeclaration> fields;
+    private final Map<String, Integer> methods;
+    private final ControllerSource source;
+
+    TestControllerSource() {
+        this.imports = new ArrayList<>(List.of("javafx.scene.control.*"));
+        this.fields = new HashMap<>(Map.of("button", new ControllerSource.FieldDeclaration("javafx.scene.control.Button", "")));
+        this.methods = new HashMap<>(Map.of("onAction", 1));
+        this.source = new ControllerSource(imports, fields, methods, true);
+    }
+
+    @Test
+    void testGetters() {
+        assertEquals(imports, source.imports());
+        assertEquals(fields, source.fields());
+        assertEquals(methods, source.methods());
+        assertTrue(source.hasInitialize());
+    }
+
+    @Test
+    void testCopy() {
+        final var expected = new ControllerSource(List.copyOf(imports), Map.copyOf(fields), Map.copyOf(methods), true);
+        imports.clear();
+        fields.clear();
+        methods.clear();
+        assertEquals(expected, source);
+    }
+
+    @Test
+    void testUnmodifiable() {
+        final var sourceImports = source.imports();
+        final var sourceFields = source.fields();
+        final var sourceMethods = source.methods();
+        assertThrows(UnsupportedOperationException.class, sourceImports::clear);
+        assertThrows(UnsupportedOperationException.class, sourceFields::clear);
+        assertThrows(UnsupportedOperationException.class, sourceMethods::clear);
+    }
+
+    @Test
+    void testFieldDeclaration() {
+        final var declaration = new ControllerSource.FieldDeclaration("javafx.scene.control.ComboBox", "<String>");
+        assertEquals("javafx.scene.control.ComboBox", declaration.type());
+        assertEquals("<String>", declaration.genericTypes());
+        assertEquals("ComboBox", declaration.simpleType());
+        assertEquals("ComboBox", new ControllerSource.FieldDeclaration("ComboBox", "").simpleType());
+    }
+
+    @Test
+    void testIllegal() {
+        assertThrows(NullPointerException.class, () -> new ControllerSource(null, fields, methods, true));
+        assertThrows(NullPointerException.class, () -> new ControllerSource(imports, null, methods, true));
+        assertThrows(NullPointerException.class, () -> new ControllerSource(imports, fields, null, true));
+        assertThrows(NullPointerException.class, () -> new ControllerSource.FieldDeclaration(null, ""));
+        assertThrows(NullPointerException.class, () -> new ControllerSource.FieldDeclaration("type", null));
+    }
+}
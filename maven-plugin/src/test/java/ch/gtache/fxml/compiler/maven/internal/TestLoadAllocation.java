@@ -0,0 +1,180 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import ch.gtache.fxml.compiler.ControllerFieldInfo;
+import ch.gtache.fxml.compiler.ControllerFieldInjectionType;
+import ch.gtache.fxml.compiler.ControllerInjectionType;
+import ch.gtache.fxml.compiler.ControllerMethodsInjectionType;
+import ch.gtache.fxml.compiler.ResourceBundleInjectionType;
+import ch.gtache.fxml.compiler.compatibility.impl.GenerationCompatibilityImpl;
+import ch.gtache.fxml.compiler.impl.ControllerFieldInfoImpl;
+import ch.gtache.fxml.compiler.impl.ControllerInfoImpl;
+import ch.gtache.fxml.compiler.impl.GenerationParametersImpl;
+import ch.gtache.fxml.compiler.impl.GenerationRequestImpl;
+import ch.gtache.fxml.compiler.impl.GeneratorImpl;
+import ch.gtache.fxml.compiler.impl.SourceInfoImpl;
+import ch.gtache.fxml.compiler.parsing.xml.DOMFXMLParser;
+import javafx.beans.Observable;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.net.URISyntaxException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compiles a reference view and checks that its load method doesn't allocate more than the same view written by hand
+ */
+class TestLoadAllocation {
+
+    private static final String PACKAGE = "allocation";
+    private static final String VIEW_CLASS = PACKAGE + ".AllocationView";
+    private static final String CONTROLLER_CLASS = PACKAGE + ".AllocationController";
+    private static final String CONTROLLER_SOURCE = """
+            package allocation;
+
+            public final class AllocationController {
+
+                public static final java.util.function.Function<java.util.Map<String, Object>, AllocationController> FACTORY = AllocationController::new;
+
+                private final java.util.Map<String, Object> fields;
+
+                private AllocationController(final java.util.Map<String, Object> fields) {
+                    this.fields = fields;
+                }
+            }
+            """;
+    private static final String LOADER_CLASS = PACKAGE + ".AllocationLoader";
+    private static final String LOADER_SOURCE = """
+            package allocation;
+
+            public final class AllocationLoader implements java.util.function.Supplier<Object> {
+
+                @Override
+                public Object get() {
+                    return new AllocationView(AllocationController.FACTORY).load();
+                }
+            }
+            """;
+    private static final List<String> FIELDS = List.of("row0", "row1", "row2", "region0", "region1", "region2");
+    /**
+     * Kept below the C2 compilation threshold : escape analysis would otherwise remove some allocations depending on
+     * the inlining decisions, which vary with the other tests run by the JVM
+     */
+    private static final int WARMUP = 100;
+    private static final int ITERATIONS = 100;
+    /**
+     * The generated view instance itself, which the handwritten view doesn't need
+     */
+    private static final long TOLERANCE = 32;
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private Object sink;
+
+    TestLoadAllocation() {
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    @Test
+    void testLoadAllocation(@TempDir final Path tempDir) throws Exception {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+        final var classLoader = compile(tempDir);
+        final var factory = (Function<Map<String, Object>, ?>) classLoader.loadClass(CONTROLLER_CLASS).getField("FACTORY").get(null);
+        final var loader = (Supplier<Object>) classLoader.loadClass(LOADER_CLASS).getConstructor().newInstance();
+        final var root = (VBox) loader.get();
+        assertEquals(3, root.getChildren().size());
+
+        final var generated = measure(loader);
+        final var handwritten = measure(() -> loadByHand(factory));
+        assertNotNull(sink);
+        assertTrue(generated <= handwritten + TOLERANCE, "Generated load allocates " + generated + " bytes, handwritten " + handwritten);
+    }
+
+    private long measure(final Supplier<Object> loader) {
+        for (var i = 0; i < WARMUP; i++) {
+            sink = loader.get();
+        }
+        final var start = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (var i = 0; i < ITERATIONS; i++) {
+            sink = loader.get();
+        }
+        return (threadMXBean.getCurrentThreadAllocatedBytes() - start) / ITERATIONS;
+    }
+
+    /**
+     * The reference view written by hand
+     *
+     * @param factory The controller factory
+     * @return The root node
+     */
+    private Object loadByHand(final Function<Map<String, Object>, ?> factory) {
+        final var fieldMap = new HashMap<String, Object>(8);
+        final var vbox = new VBox();
+        vbox.setSpacing(5.0);
+        vbox.getChildren().addAll(row(fieldMap, "row0", "region0"), row(fieldMap, "row1", "region1"),
+                row(fieldMap, "row2", "region2"));
+        sink = factory.apply(fieldMap);
+        return vbox;
+    }
+
+    private static HBox row(final Map<String, Object> fieldMap, final String rowId, final String regionId) {
+        final var hbox = new HBox();
+        fieldMap.put(rowId, hbox);
+        final var region = new Region();
+        fieldMap.put(regionId, region);
+        region.setPrefWidth(10.0);
+        hbox.getChildren().addAll(region, new Pane(), new Region());
+        return hbox;
+    }
+
+    private static URLClassLoader compile(final Path tempDir) throws Exception {
+        final var fxml = new String(Objects.requireNonNull(TestLoadAllocation.class.getResourceAsStream("allocationView.fxml")).readAllBytes());
+        final var root = new DOMFXMLParser().parse(fxml);
+        final var parameters = new GenerationParametersImpl(new GenerationCompatibilityImpl(21), true, Map.of(),
+                ControllerInjectionType.FACTORY, ControllerFieldInjectionType.FACTORY, ControllerMethodsInjectionType.REFERENCE,
+                ResourceBundleInjectionType.GET_BUNDLE, 0, false, false, false, false, false);
+        final var fields = new HashMap<String, ControllerFieldInfo>();
+        FIELDS.forEach(f -> fields.put(f, new ControllerFieldInfoImpl(f, List.of())));
+        final var controllerInfo = new ControllerInfoImpl(CONTROLLER_CLASS, Map.of(), fields, false);
+        final var sourceInfo = new SourceInfoImpl(VIEW_CLASS, CONTROLLER_CLASS, tempDir.resolve("allocationView.fxml"),
+                List.of(), Map.of(), false);
+        final var request = new GenerationRequestImpl(parameters, controllerInfo, sourceInfo, root, VIEW_CLASS);
+        final var sources = tempDir.resolve(PACKAGE);
+        Files.createDirectories(sources);
+        final var viewFile = sources.resolve("AllocationView.java");
+        final var controllerFile = sources.resolve("AllocationController.java");
+        final var loaderFile = sources.resolve("AllocationLoader.java");
+        Files.writeString(viewFile, new GeneratorImpl().generate(request));
+        Files.writeString(controllerFile, CONTROLLER_SOURCE);
+        Files.writeString(loaderFile, LOADER_SOURCE);
+        final var classes = tempDir.resolve("classes");
+        final var classPath = getLocation(Observable.class) + File.pathSeparator + getLocation(VBox.class);
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(compiler != null);
+        assertEquals(0, compiler.run(null, null, null, "-nowarn", "-cp", classPath, "-d", classes.toString(),
+                viewFile.toString(), controllerFile.toString(), loaderFile.toString()));
+        return new URLClassLoader(new java.net.URL[]{classes.toUri().toURL()}, TestLoadAllocation.class.getClassLoader());
+    }
+
+    private static String getLocation(final Class<?> clazz) throws URISyntaxException {
+        return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+}
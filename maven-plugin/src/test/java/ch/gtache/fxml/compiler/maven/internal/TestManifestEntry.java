@@ -0,0 +1,42 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class TestManifestEntry {
+
+    private final Path outputFile;
+    private final String fxmlHash;
+    private final String controllerHash;
+    private final ManifestEntry entry;
+
+    TestManifestEntry(@Mock final Path outputFile) {
+        this.outputFile = Objects.requireNonNull(outputFile);
+        this.fxmlHash = "fxmlHash";
+        this.controllerHash = "controllerHash";
+        this.entry = new ManifestEntry(outputFile, fxmlHash, controllerHash);
+    }
+
+    @Test
+    void testGetters() {
+        assertEquals(outputFile, entry.outputFile());
+        assertEquals(fxmlHash, entry.fxmlHash());
+        assertEquals(controllerHash, entry.controllerHash());
+    }
+
+    @Test
+    void testIllegal() {
+        assertThrows(NullPointerException.class, () -> new ManifestEntry(null, fxmlHash, controllerHash));
+        assertThrows(NullPointerException.class, () -> new ManifestEntry(outputFile, null, controllerHash));
+        assertThrows(NullPointerException.class, () -> new ManifestEntry(outputFile, fxmlHash, null));
+    }
+}
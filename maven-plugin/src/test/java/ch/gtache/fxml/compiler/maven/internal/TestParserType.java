@@ -0,0 +1,26 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import ch.gtache.fxml.compiler.parsing.xml.DOMFXMLParser;
+import ch.gtache.fxml.compiler.parsing.xml.StAXFXMLParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class TestParserType {
+
+    @Test
+    void testCreateDOM() {
+        assertInstanceOf(DOMFXMLParser.class, ParserType.DOM.create());
+    }
+
+    @Test
+    void testCreateStAX() {
+        assertInstanceOf(StAXFXMLParser.class, ParserType.STAX.create());
+    }
+
+    @Test
+    void testCreateNewInstance() {
+        assertNotSame(ParserType.STAX.create(), ParserType.STAX.create());
+    }
+}
@@ -0,0 +1,227 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
+import ch.gtache.fxml.compiler.parsing.impl.ParsedObjectImpl;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestScheduler {
+
+    private static final Path A = Path.of("a.fxml");
+    private static final Path B = Path.of("b.fxml");
+    private static final Path C = Path.of("c.fxml");
+
+    @Test
+    void testRunSingleThread() throws MojoExecutionException {
+        final var stages = new FakeStages(Map.of(A, Set.of(B), B, Set.of(C), C, Set.of()));
+        final var report = new Scheduler(stages, Runnable::run, 1).run(List.of(A, B, C));
+        assertEquals(3, report.files());
+        assertEquals(1, report.threads());
+        stages.verify();
+    }
+
+    @Test
+    void testRunParallel() throws MojoExecutionException {
+        final var stages = new FakeStages(Map.of(A, Set.of(B, C), B, Set.of(C), C, Set.of()));
+        try (final var executor = Executors.newFixedThreadPool(4)) {
+            final var report = new Scheduler(stages, executor, 4).run(List.of(A, B, C));
+            assertEquals(3, report.files());
+            assertEquals(4, report.threads());
+        }
+        stages.verify();
+    }
+
+    @Test
+    void testRunSeparateExecutors() throws MojoExecutionException {
+        final var ioThreads = ConcurrentHashMap.<Boolean>newKeySet();
+        final var cpuThreads = ConcurrentHashMap.<Boolean>newKeySet();
+        final var stages = new FakeStages(Map.of(A, Set.of(B), B, Set.of())) {
+            @Override
+            public ParsedObject parse(final Path fxml) throws MojoExecutionException {
+                ioThreads.add(Thread.currentThread().isVirtual());
+                return super.parse(fxml);
+            }
+
+            @Override
+            public void compile(final Path fxml, final CompilationInfo info, final Map<Path, CompilationInfo> mapping) {
+                cpuThreads.add(Thread.currentThread().isVirtual());
+                super.compile(fxml, info, mapping);
+            }
+        };
+        try (final var ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             final var cpuExecutor = Executors.newFixedThreadPool(2)) {
+            final var report = new Scheduler(stages, ioExecutor, cpuExecutor, 2).run(List.of(A, B));
+            assertEquals(2, report.threads());
+        }
+        stages.verify();
+        assertEquals(Set.of(true), ioThreads);
+        assertEquals(Set.of(false), cpuThreads);
+    }
+
+    @Test
+    void testIncludeCycle() {
+        final var stages = new FakeStages(Map.of(A, Set.of(B), B, Set.of(A)));
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try (final var executor = Executors.newFixedThreadPool(2)) {
+                new Scheduler(stages, executor, 2).run(List.of(A, B));
+            }
+        });
+        stages.verify();
+    }
+
+    @Test
+    void testIncludeNotInBuild() throws MojoExecutionException {
+        final var stages = new FakeStages(Map.of(A, Set.of(C)));
+        new Scheduler(stages, Runnable::run, 1).run(List.of(A));
+        assertEquals(Map.of(A, "controllerA"), stages.controllerMappings.get(A));
+        assertEquals(Set.of(A), stages.compiled.keySet());
+    }
+
+    @Test
+    void testLargestFirst(@TempDir final Path tempDir) throws IOException, MojoExecutionException {
+        final var small = tempDir.resolve("small.fxml");
+        final var medium = tempDir.resolve("medium.fxml");
+        final var large = tempDir.resolve("large.fxml");
+        Files.writeString(small, "a");
+        Files.writeString(medium, "aa");
+        Files.writeString(large, "aaa");
+        final var stages = new FakeStages(Map.of(small, Set.of(), medium, Set.of(), large, Set.of()));
+        new Scheduler(stages, Runnable::run, 1).run(List.of(small, medium, large));
+        assertEquals(List.of(large, medium, small), stages.parsed);
+    }
+
+    @Test
+    void testParseException() {
+        final var stages = new FakeStages(Map.of(A, Set.of(B), B, Set.of())) {
+            @Override
+            public ParsedObject parse(final Path fxml) throws MojoExecutionException {
+                if (fxml.equals(B)) {
+                    throw new MojoExecutionException("error");
+                }
+                return super.parse(fxml);
+            }
+        };
+        final var scheduler = new Scheduler(stages, Runnable::run, 1);
+        final var files = List.of(A, B);
+        final var exception = assertThrows(MojoExecutionException.class, () -> scheduler.run(files));
+        assertEquals("error", exception.getMessage());
+        assertEquals(Map.of(), stages.compiled);
+    }
+
+    @Test
+    void testRuntimeException() {
+        final var stages = new FakeStages(Map.of(A, Set.of())) {
+            @Override
+            public void compile(final Path fxml, final CompilationInfo info, final Map<Path, CompilationInfo> mapping) {
+                throw new IllegalStateException("error");
+            }
+        };
+        final var scheduler = new Scheduler(stages, Runnable::run, 1);
+        final var files = List.of(A);
+        final var exception = assertThrows(MojoExecutionException.class, () -> scheduler.run(files));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void testIllegal() {
+        final var stages = new FakeStages(Map.of());
+        assertThrows(NullPointerException.class, () -> new Scheduler(null, Runnable::run, 1));
+        assertThrows(NullPointerException.class, () -> new Scheduler(stages, null, 1));
+        assertThrows(NullPointerException.class, () -> new Scheduler(stages, null, Runnable::run, 1));
+        assertThrows(NullPointerException.class, () -> new Scheduler(stages, Runnable::run, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Scheduler(stages, Runnable::run, 0));
+    }
+
+    private static class FakeStages implements Scheduler.Stages {
+
+        final Map<Path, Set<Path>> includes;
+        final List<Path> parsed;
+        final Map<Path, Map<Path, String>> controllerMappings;
+        final Map<Path, Map<Path, CompilationInfo>> compiled;
+
+        FakeStages(final Map<Path, Set<Path>> includes) {
+            this.includes = includes;
+            this.parsed = Collections.synchronizedList(new ArrayList<>());
+            this.controllerMappings = new ConcurrentHashMap<>();
+            this.compiled = new ConcurrentHashMap<>();
+        }
+
+        @Override
+        public ParsedObject parse(final Path fxml) throws MojoExecutionException {
+            parsed.add(fxml);
+            return new ParsedObjectImpl(fxml.toString(), Map.of(), new LinkedHashMap<>(), List.of());
+        }
+
+        @Override
+        public String getController(final Path fxml, final ParsedObject root) {
+            assertEquals(fxml.toString(), root.className());
+            return "controller" + fxml.getFileName().toString().replace(".fxml", "").toUpperCase();
+        }
+
+        @Override
+        public Set<Path> getIncludes(final Path fxml, final ParsedObject root) {
+            return includes.get(fxml);
+        }
+
+        @Override
+        public CompilationInfo getCompilationInfo(final Path fxml, final ParsedObject root, final Map<Path, String> controllerMapping) {
+            controllerMappings.put(fxml, Map.copyOf(controllerMapping));
+            final var inclusions = new HashMap<String, Inclusion>();
+            for (final var include : includes.get(fxml)) {
+                inclusions.put(include.toString(), new Inclusion(include, 1));
+            }
+            return new CompilationInfo(fxml, Path.of(fxml + ".java"), "Output", Path.of("Controller.java"), "Controller",
+                    Set.of(), Set.of(), inclusions, false, root);
+        }
+
+        @Override
+        public void compile(final Path fxml, final CompilationInfo info, final Map<Path, CompilationInfo> mapping) {
+            assertEquals(fxml, info.inputFile());
+            assertNull(compiled.put(fxml, Map.copyOf(mapping)));
+        }
+
+        void verify() {
+            assertEquals(includes.keySet(), Set.copyOf(parsed));
+            assertEquals(includes.size(), parsed.size());
+            assertEquals(includes.keySet(), compiled.keySet());
+            for (final var entry : includes.entrySet()) {
+                final var fxml = entry.getKey();
+                final var controllers = controllerMappings.get(fxml);
+                assertEquals(controllers.get(fxml), getController(fxml, new ParsedObjectImpl(fxml.toString(), Map.of(), new LinkedHashMap<>(), List.of())));
+                entry.getValue().forEach(include -> assertTrue(controllers.containsKey(include)));
+                final var mapping = compiled.get(fxml);
+                assertTrue(mapping.containsKey(fxml));
+                getClosure(fxml).forEach(include -> assertTrue(mapping.containsKey(include), fxml + " compiled before " + include));
+            }
+        }
+
+        private Set<Path> getClosure(final Path fxml) {
+            final var closure = new java.util.HashSet<Path>();
+            final var queue = new java.util.ArrayDeque<>(includes.get(fxml));
+            while (!queue.isEmpty()) {
+                final var current = queue.poll();
+                if (closure.add(current)) {
+                    queue.addAll(includes.getOrDefault(current, Set.of()));
+                }
+            }
+            return closure;
+        }
+    }
+}
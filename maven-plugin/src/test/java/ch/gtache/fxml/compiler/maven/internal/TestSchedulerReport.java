@@ -0,0 +1,26 @@
+package ch.gtache.fxml.compiler.maven.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TestSchedulerReport {
+
+    @Test
+    void testEfficiency() {
+        assertEquals(0.5, new SchedulerReport(2, 4, Duration.ofSeconds(2), Duration.ofSeconds(4)).efficiency());
+        assertEquals(1, new SchedulerReport(2, 1, Duration.ofSeconds(1), Duration.ofSeconds(2)).efficiency());
+        assertEquals(1, new SchedulerReport(0, 1, Duration.ZERO, Duration.ZERO).efficiency());
+    }
+
+    @Test
+    void testIllegal() {
+        assertThrows(IllegalArgumentException.class, () -> new SchedulerReport(-1, 1, Duration.ZERO, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new SchedulerReport(0, 0, Duration.ZERO, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> new SchedulerReport(0, 1, null, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> new SchedulerReport(0, 1, Duration.ZERO, null));
+    }
+}
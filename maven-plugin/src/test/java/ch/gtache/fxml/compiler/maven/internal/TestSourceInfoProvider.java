@@ -1,6 +1,8 @@
 package ch.gtache.fxml.compiler.maven.internal;
 
 import ch.gtache.fxml.compiler.impl.SourceInfoImpl;
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -9,8 +11,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -18,7 +23,7 @@ import static org.mockito.Mockito.when;
 class TestSourceInfoProvider {
 
     @Test
-    void testGetSourceInfo(@Mock final CompilationInfo compilationInfo) {
+    void testGetSourceInfo(@Mock final CompilationInfo compilationInfo) throws MojoExecutionException {
         final var outputClass = "outputClass";
         final var controllerClass = "controllerClass";
         final var inputFile = Path.of("inputFile");
@@ -41,9 +46,60 @@ class TestSourceInfoProvider {
         final var mapping = Map.of(includeFile, includeCompilationInfo);
 
         final var expectedIncludeSourceInfo = new SourceInfoImpl(includeOutputClass, includeControllerClass, includeInputFile, List.of(), Map.of(), false);
-        assertEquals(expectedIncludeSourceInfo, SourceInfoProvider.getSourceInfo(includeCompilationInfo, mapping));
+        final var provider = new SourceInfoProvider();
+        assertEquals(expectedIncludeSourceInfo, provider.getSourceInfo(includeCompilationInfo, mapping));
         final var expected = new SourceInfoImpl(outputClass, controllerClass, inputFile, List.of(expectedIncludeSourceInfo, expectedIncludeSourceInfo, expectedIncludeSourceInfo),
                 Map.of("one", expectedIncludeSourceInfo), true);
-        assertEquals(expected, SourceInfoProvider.getSourceInfo(compilationInfo, mapping));
+        assertEquals(expected, provider.getSourceInfo(compilationInfo, mapping));
+    }
+
+    @Test
+    void testGetSourceInfoMemoized() throws MojoExecutionException {
+        final var top = Path.of("top");
+        final var left = Path.of("left");
+        final var right = Path.of("right");
+        final var shared = Path.of("shared");
+        final var mapping = Map.of(
+                top, createInfo(top, Map.of("left", new Inclusion(left, 1), "right", new Inclusion(right, 1))),
+                left, createInfo(left, Map.of("shared", new Inclusion(shared, 1))),
+                right, createInfo(right, Map.of("shared", new Inclusion(shared, 2))),
+                shared, createInfo(shared, Map.of()));
+        final var provider = new SourceInfoProvider();
+        final var sourceInfo = provider.getSourceInfo(mapping.get(top), mapping);
+        final var leftInfo = sourceInfo.sourceToSourceInfo().get("left");
+        final var rightInfo = sourceInfo.sourceToSourceInfo().get("right");
+        assertSame(leftInfo.sourceToSourceInfo().get("shared"), rightInfo.sourceToSourceInfo().get("shared"));
+        assertSame(leftInfo, provider.getSourceInfo(mapping.get(left), mapping));
+        assertSame(sourceInfo, provider.getSourceInfo(mapping.get(top), mapping));
+        assertEquals(sourceInfo, new SourceInfoProvider().getSourceInfo(mapping.get(top), mapping));
+    }
+
+    @Test
+    void testGetSourceInfoCycle() {
+        final var a = Path.of("a");
+        final var b = Path.of("b");
+        final var c = Path.of("c");
+        final var mapping = Map.of(
+                a, createInfo(a, Map.of("b", new Inclusion(b, 1))),
+                b, createInfo(b, Map.of("c", new Inclusion(c, 1))),
+                c, createInfo(c, Map.of("b", new Inclusion(b, 1))));
+        final var provider = new SourceInfoProvider();
+        final var info = mapping.get(a);
+        final var exception = assertThrows(MojoExecutionException.class, () -> provider.getSourceInfo(info, mapping));
+        assertEquals("Include cycle detected : b -> c -> b", exception.getMessage());
+    }
+
+    @Test
+    void testGetSourceInfoMissingInclude() {
+        final var a = Path.of("a");
+        final var info = createInfo(a, Map.of("b", new Inclusion(Path.of("b"), 1)));
+        final var provider = new SourceInfoProvider();
+        final var mapping = Map.of(a, info);
+        assertThrows(MojoExecutionException.class, () -> provider.getSourceInfo(info, mapping));
+    }
+
+    private static CompilationInfo createInfo(final Path path, final Map<String, Inclusion> includes) {
+        return new CompilationInfo(path, Path.of(path + ".java"), path.toString(), Path.of("Controller.java"), "Controller",
+                Set.of(), Set.of(), includes, false, mock(ParsedObject.class));
     }
 }
@@ -1,13 +1,12 @@
 package ch.gtache.fxml.compiler.parsing.xml;
 
-import ch.gtache.fxml.compiler.impl.ClassesFinder;
 import ch.gtache.fxml.compiler.parsing.FXMLParser;
 import ch.gtache.fxml.compiler.parsing.ParseException;
 import ch.gtache.fxml.compiler.parsing.ParsedDefine;
 import ch.gtache.fxml.compiler.parsing.ParsedObject;
 import ch.gtache.fxml.compiler.parsing.ParsedProperty;
 import ch.gtache.fxml.compiler.parsing.impl.*;
-import javafx.event.EventHandler;
+import ch.gtache.fxml.compiler.parsing.xml.ParsingHelper.SourceTypeName;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.w3c.dom.Document;
@@ -21,14 +20,14 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.SequencedCollection;
-import java.util.stream.Collectors;
+
+import static ch.gtache.fxml.compiler.parsing.xml.ParsingHelper.addAttribute;
 
 /**
  * Implementation of {@link FXMLParser} using DOM parsing
@@ -69,15 +68,7 @@ public class DOMFXMLParser implements FXMLParser {
         for (var i = 0; i < children.getLength(); i++) {
             final var node = children.item(i);
             if (node.getNodeType() == Node.PROCESSING_INSTRUCTION_NODE && node.getNodeName().equals("import")) {
-                final var value = node.getNodeValue();
-                final var imported = getImports(node);
-                if (value.endsWith(".*") && imported.isEmpty()) {
-                    logger.debug("Found package import {} which couldn't be pre-fetched", value);
-                    imports.add(value.substring(0, value.length() - 2));
-                } else {
-                    logger.debug("Found import {} -> {}", node.getNodeValue(), imported);
-                    imported.forEach(imports::add);
-                }
+                imports.addImport(node.getNodeValue());
             }
         }
         return imports;
@@ -173,28 +164,14 @@ public class DOMFXMLParser implements FXMLParser {
     }
 
     private static Map<String, ParsedProperty> parseAttributes(final NamedNodeMap attributes, final Imports imports) throws ParseException {
-        if (attributes == null) {
-            return new HashMap<>();
-        } else {
-            final var map = new HashMap<String, ParsedProperty>();
+        final var map = new HashMap<String, ParsedProperty>();
+        if (attributes != null) {
             for (var i = 0; i < attributes.getLength(); i++) {
                 final var attribute = attributes.item(i);
-                final var value = attribute.getNodeValue();
-                final var sourceTypeName = getSourceTypeName(attribute, imports);
-                final var sourceType = sourceTypeName.sourceType();
-                final var name = sourceTypeName.name();
-                if (!name.startsWith("xmlns")) {
-                    if (name.startsWith("on")) {
-                        logger.debug("Found event handler {} -> {}", name, value);
-                        map.put(name, new ParsedPropertyImpl(name, EventHandler.class.getName(), value));
-                    } else {
-                        logger.debug("Found attribute {} ({})-> {}", name, sourceType, value);
-                        map.put(name, new ParsedPropertyImpl(name, sourceType, value));
-                    }
-                }
+                addAttribute(map, attribute.getNodeName(), attribute.getNodeValue(), imports);
             }
-            return map;
         }
+        return map;
     }
 
     private ComplexProperty parseProperty(final Node node, final Imports imports) throws ParseException {
@@ -214,34 +191,7 @@ public class DOMFXMLParser implements FXMLParser {
     }
 
     private static SourceTypeName getSourceTypeName(final Node node, final Imports imports) throws ParseException {
-        final var nameSplit = node.getNodeName().split("\\.");
-        if (nameSplit.length > 1) {
-            final var sourceTypeName = Arrays.stream(nameSplit).limit(nameSplit.length - 1L).collect(Collectors.joining("."));
-            final var importedSourceType = imports.search(sourceTypeName);
-            final var name = nameSplit[nameSplit.length - 1];
-            return new SourceTypeName(name, importedSourceType);
-        } else {
-            final var name = nameSplit[0];
-            return new SourceTypeName(name, null);
-        }
-    }
-
-    private static Map<String, String> getImports(final Node node) throws ParseException {
-        final var imports = new HashMap<String, String>();
-        final var importValue = node.getNodeValue();
-        if (importValue.endsWith("*")) {
-            final var packageName = importValue.substring(0, importValue.length() - 2);
-            try {
-                final var allClasses = ClassesFinder.getClasses(packageName);
-                allClasses.forEach(s -> imports.put(s.substring(packageName.length() + 1), s));
-            } catch (final IOException e) {
-                throw new ParseException("Error reading package " + packageName, e);
-            }
-        } else {
-            final var className = importValue.substring(importValue.lastIndexOf('.') + 1);
-            imports.put(className, importValue);
-        }
-        return imports;
+        return ParsingHelper.getSourceTypeName(node.getNodeName(), imports);
     }
 
     private static boolean isObject(final Node node) {
@@ -249,9 +199,7 @@ public class DOMFXMLParser implements FXMLParser {
     }
 
     private static boolean isProperty(final Node node) {
-        final var name = node.getNodeName();
-        final var lastPart = name.substring(name.lastIndexOf('.') + 1);
-        return !name.startsWith("fx:") && Character.isLowerCase(lastPart.charAt(0));
+        return ParsingHelper.isProperty(node.getNodeName());
     }
 
     private static boolean isSimpleProperty(final Node item) {
@@ -265,47 +213,4 @@ public class DOMFXMLParser implements FXMLParser {
             objects = List.copyOf(objects);
         }
     }
-
-    private record SourceTypeName(String name, String sourceType) {
-
-        private SourceTypeName {
-            Objects.requireNonNull(name);
-        }
-    }
-
-    private record Imports(Map<String, String> imports, SequencedCollection<String> packages) {
-
-        private Imports() {
-            this(new HashMap<>(), new ArrayList<>());
-        }
-
-        private void add(final String key, final String value) {
-            imports.put(key, value);
-        }
-
-        private void add(final String value) {
-            packages.add(value);
-        }
-
-        private String search(final String key) throws ParseException {
-            if (imports.containsKey(key)) {
-                return imports.get(key);
-            } else {
-                //Fallback to searching in packages
-                logger.debug("Class {} not found in imports, searching in packages", key);
-                for (final var pkg : packages) {
-                    final var className = pkg + "." + key;
-                    try {
-                        Class.forName(className, false, Thread.currentThread().getContextClassLoader());
-                        logger.debug("Class {} found in package {}", className, pkg);
-                        imports.put(key, className);
-                        return className;
-                    } catch (final ClassNotFoundException e) {
-                        logger.debug("Class {} not found in package {}", key, pkg);
-                    }
-                }
-                throw new ParseException("Cannot find class " + key + " ; Is a dependency missing for the plugin?");
-            }
-        }
-    }
 }
@@ -0,0 +1,92 @@
+package ch.gtache.fxml.compiler.parsing.xml;
+
+import ch.gtache.fxml.compiler.impl.ClassesFinder;
+import ch.gtache.fxml.compiler.parsing.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SequencedCollection;
+
+/**
+ * Imports of an FXML file, used to resolve class names
+ */
+final class Imports {
+
+    private static final Logger logger = LogManager.getLogger(Imports.class);
+
+    private final Map<String, String> imports;
+    private final SequencedCollection<String> packages;
+
+    /**
+     * Instantiates new empty imports
+     */
+    Imports() {
+        this.imports = new HashMap<>();
+        this.packages = new ArrayList<>();
+    }
+
+    /**
+     * Adds an import (the value of an import processing instruction)
+     *
+     * @param value The import value (class or package.*)
+     * @throws ParseException If a package can't be read
+     */
+    void addImport(final String value) throws ParseException {
+        final var imported = getImports(value);
+        if (value.endsWith(".*") && imported.isEmpty()) {
+            logger.debug("Found package import {} which couldn't be pre-fetched", value);
+            packages.add(value.substring(0, value.length() - 2));
+        } else {
+            logger.debug("Found import {} -> {}", value, imported);
+            imports.putAll(imported);
+        }
+    }
+
+    /**
+     * Searches the fully qualified name of the given class
+     *
+     * @param key The class name as written in the FXML
+     * @return The fully qualified class name
+     * @throws ParseException If the class can't be found
+     */
+    String search(final String key) throws ParseException {
+        if (imports.containsKey(key)) {
+            return imports.get(key);
+        } else {
+            //Fallback to searching in packages
+            logger.debug("Class {} not found in imports, searching in packages", key);
+            for (final var pkg : packages) {
+                final var className = pkg + "." + key;
+                try {
+                    Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+                    logger.debug("Class {} found in package {}", className, pkg);
+                    imports.put(key, className);
+                    return className;
+                } catch (final ClassNotFoundException e) {
+                    logger.debug("Class {} not found in package {}", key, pkg);
+                }
+            }
+            throw new ParseException("Cannot find class " + key + " ; Is a dependency missing for the plugin?");
+        }
+    }
+
+    private static Map<String, String> getImports(final String importValue) throws ParseException {
+        final var imports = new HashMap<String, String>();
+        if (importValue.endsWith("*")) {
+            final var packageName = importValue.substring(0, importValue.length() - 2);
+            try {
+                imports.putAll(ClassesFinder.getClassMap(packageName));
+            } catch (final IOException e) {
+                throw new ParseException("Error reading package " + packageName, e);
+            }
+        } else {
+            final var className = importValue.substring(importValue.lastIndexOf('.') + 1);
+            imports.put(className, importValue);
+        }
+        return imports;
+    }
+}
@@ -0,0 +1,94 @@
+package ch.gtache.fxml.compiler.parsing.xml;
+
+import ch.gtache.fxml.compiler.parsing.ParseException;
+import ch.gtache.fxml.compiler.parsing.ParsedProperty;
+import ch.gtache.fxml.compiler.parsing.impl.ParsedPropertyImpl;
+import javafx.event.EventHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Helper methods shared by the XML {@link ch.gtache.fxml.compiler.parsing.FXMLParser} implementations
+ */
+final class ParsingHelper {
+
+    private static final Logger logger = LogManager.getLogger(ParsingHelper.class);
+
+    private ParsingHelper() {
+    }
+
+    /**
+     * Adds the given XML attribute to the attributes map
+     *
+     * @param attributes The attributes map
+     * @param qName      The qualified name of the attribute
+     * @param value      The value of the attribute
+     * @param imports    The imports
+     * @throws ParseException If an error occurs
+     */
+    static void addAttribute(final Map<? super String, ? super ParsedProperty> attributes, final String qName,
+                             final String value, final Imports imports) throws ParseException {
+        final var sourceTypeName = getSourceTypeName(qName, imports);
+        final var sourceType = sourceTypeName.sourceType();
+        final var name = sourceTypeName.name();
+        if (!name.startsWith("xmlns")) {
+            if (name.startsWith("on")) {
+                logger.debug("Found event handler {} -> {}", name, value);
+                attributes.put(name, new ParsedPropertyImpl(name, EventHandler.class.getName(), value));
+            } else {
+                logger.debug("Found attribute {} ({})-> {}", name, sourceType, value);
+                attributes.put(name, new ParsedPropertyImpl(name, sourceType, value));
+            }
+        }
+    }
+
+    /**
+     * Splits the given qualified name into a property name and a source type (for static properties)
+     *
+     * @param qName   The qualified name
+     * @param imports The imports
+     * @return The name and source type
+     * @throws ParseException If the source type can't be found
+     */
+    static SourceTypeName getSourceTypeName(final String qName, final Imports imports) throws ParseException {
+        final var nameSplit = qName.split("\\.");
+        if (nameSplit.length > 1) {
+            final var sourceTypeName = Arrays.stream(nameSplit).limit(nameSplit.length - 1L).collect(Collectors.joining("."));
+            final var importedSourceType = imports.search(sourceTypeName);
+            final var name = nameSplit[nameSplit.length - 1];
+            return new SourceTypeName(name, importedSourceType);
+        } else {
+            final var name = nameSplit[0];
+            return new SourceTypeName(name, null);
+        }
+    }
+
+    /**
+     * Checks if the given element name represents a property
+     *
+     * @param qName The qualified name of the element
+     * @return True if the element is a property, false if it is an object
+     */
+    static boolean isProperty(final String qName) {
+        final var lastPart = qName.substring(qName.lastIndexOf('.') + 1);
+        return !qName.startsWith("fx:") && Character.isLowerCase(lastPart.charAt(0));
+    }
+
+    /**
+     * A property name with its optional source type (for static properties)
+     *
+     * @param name       The name
+     * @param sourceType The source type
+     */
+    record SourceTypeName(String name, String sourceType) {
+
+        SourceTypeName {
+            Objects.requireNonNull(name);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package ch.gtache.fxml.compiler.parsing.xml;
+
+import ch.gtache.fxml.compiler.parsing.FXMLParser;
+import ch.gtache.fxml.compiler.parsing.ParseException;
+import ch.gtache.fxml.compiler.parsing.ParsedDefine;
+import ch.gtache.fxml.compiler.parsing.ParsedObject;
+import ch.gtache.fxml.compiler.parsing.ParsedProperty;
+import ch.gtache.fxml.compiler.parsing.impl.*;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SequencedCollection;
+
+import static ch.gtache.fxml.compiler.parsing.xml.ParsingHelper.addAttribute;
+import static ch.gtache.fxml.compiler.parsing.xml.ParsingHelper.getSourceTypeName;
+import static ch.gtache.fxml.compiler.parsing.xml.ParsingHelper.isProperty;
+
+/**
+ * Implementation of {@link FXMLParser} using StAX parsing.
+ * The object tree is built in a single pass over the XML events, without materializing a DOM.
+ * The result is identical to the one of {@link DOMFXMLParser}.
+ */
+public class StAXFXMLParser implements FXMLParser {
+
+    private static final Logger logger = LogManager.getLogger(StAXFXMLParser.class);
+    private static final String REPORT_CDATA = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+
+    private final XMLInputFactory inputFactory;
+
+    /**
+     * Instantiates a new parser
+     */
+    public StAXFXMLParser() {
+        this.inputFactory = XMLInputFactory.newDefaultFactory();
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        if (inputFactory.isPropertySupported(REPORT_CDATA)) {
+            //CDATA sections are distinct nodes in DOM
+            inputFactory.setProperty(REPORT_CDATA, true);
+        }
+    }
+
+    @Override
+    public ParsedObject parse(final String content) throws ParseException {
+        try {
+            return parse(inputFactory.createXMLStreamReader(new StringReader(content)));
+        } catch (final XMLStreamException e) {
+            throw new ParseException("Error parsing document", e);
+        }
+    }
+
+    @Override
+    public ParsedObject parse(final Path path) throws ParseException {
+        try (final var in = Files.newInputStream(path)) {
+            return parse(inputFactory.createXMLStreamReader(in));
+        } catch (final IOException | XMLStreamException e) {
+            throw new ParseException("Error parsing " + path, e);
+        }
+    }
+
+    private ParsedObject parse(final XMLStreamReader reader) throws XMLStreamException, ParseException {
+        try {
+            return parseDocument(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private ParsedObject parseDocument(final XMLStreamReader reader) throws XMLStreamException, ParseException {
+        logger.debug("Parsing imports");
+        final var imports = new Imports();
+        while (reader.hasNext()) {
+            final var event = reader.next();
+            if (event == XMLStreamConstants.PROCESSING_INSTRUCTION && reader.getPITarget().equals("import")) {
+                imports.addImport(reader.getPIData().strip());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                return parseObject(reader, imports);
+            }
+        }
+        throw new ParseException("Missing root element");
+    }
+
+    private ParsedObject parseObject(final XMLStreamReader reader, final Imports imports) throws XMLStreamException, ParseException {
+        final var name = getName(reader);
+        final var attributes = parseAttributes(reader, imports);
+        logger.debug("Parsing {}", name);
+        return switch (name) {
+            case "fx:include" -> {
+                skipElement(reader);
+                yield new ParsedIncludeImpl(attributes);
+            }
+            case "fx:reference" -> {
+                skipElement(reader);
+                yield new ParsedReferenceImpl(attributes);
+            }
+            case "fx:copy" -> {
+                skipElement(reader);
+                yield new ParsedCopyImpl(attributes);
+            }
+            case "fx:define" -> parseDefine(reader, imports);
+            case "fx:root", "fx:script" -> throw new ParseException("Unsupported node : " + name);
+            default -> {
+                if (attributes.containsKey("fx:constant")) {
+                    skipElement(reader);
+                    yield new ParsedConstantImpl(imports.search(name), attributes);
+                } else if (attributes.containsKey("fx:value")) {
+                    skipElement(reader);
+                    yield new ParsedValueImpl(imports.search(name), attributes);
+                } else if (attributes.containsKey("fx:factory")) {
+                    yield parseFactory(reader, name, attributes, imports);
+                } else {
+                    yield parseObject(reader, name, attributes, imports);
+                }
+            }
+        };
+    }
+
+    private ParsedDefine parseDefine(final XMLStreamReader reader, final Imports imports) throws XMLStreamException, ParseException {
+        final var children = new ChildReader(reader);
+        final var parsedChildren = new ArrayList<ParsedObject>();
+        for (var event = children.next(); event != XMLStreamConstants.END_ELEMENT; event = children.next()) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final var name = getName(reader);
+                if (isProperty(name)) {
+                    throw new ParseException("fx:define with unexpected node : " + name);
+                } else {
+                    parsedChildren.add(parseObject(reader, imports));
+                }
+            }
+        }
+        return new ParsedDefineImpl(parsedChildren);
+    }
+
+    private ParsedObject parseObject(final XMLStreamReader reader, final String name, final Map<String, ParsedProperty> attributes,
+                                     final Imports imports) throws XMLStreamException, ParseException {
+        final var children = new ChildReader(reader);
+        final var properties = new LinkedHashMap<ParsedProperty, SequencedCollection<ParsedObject>>();
+        final var objects = new ArrayList<ParsedObject>();
+        for (var event = children.next(); event != XMLStreamConstants.END_ELEMENT; event = children.next()) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final var childName = getName(reader);
+                if (isProperty(childName)) {
+                    parseProperty(reader, childName, attributes, properties, imports);
+                } else {
+                    objects.add(parseObject(reader, imports));
+                }
+            } else if (event == XMLStreamConstants.CHARACTERS && !children.text().isBlank()) {
+                objects.add(new ParsedTextImpl(children.text().trim()));
+            }
+        }
+        return new ParsedObjectImpl(imports.search(name), attributes, properties, objects);
+    }
+
+    private ParsedObject parseFactory(final XMLStreamReader reader, final String name, final Map<String, ParsedProperty> attributes,
+                                      final Imports imports) throws XMLStreamException, ParseException {
+        final var children = new ChildReader(reader);
+        final var arguments = new ArrayList<ParsedObject>();
+        final var objects = new ArrayList<ParsedObject>();
+        for (var event = children.next(); event != XMLStreamConstants.END_ELEMENT; event = children.next()) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final var childName = getName(reader);
+                if (isProperty(childName)) {
+                    throw new ParseException("Unexpected node : " + childName + " in factory " + name);
+                } else {
+                    final var parsed = parseObject(reader, imports);
+                    if (parsed instanceof ParsedDefine) {
+                        objects.add(parsed);
+                    } else {
+                        arguments.add(parsed);
+                    }
+                }
+            }
+        }
+        return new ParsedFactoryImpl(imports.search(name), attributes, arguments, objects);
+    }
+
+    /**
+     * Parses a property element. A property element containing only text is handled like an attribute.
+     */
+    private void parseProperty(final XMLStreamReader reader, final String name, final Map<? super String, ? super ParsedProperty> attributes,
+                               final Map<? super ParsedProperty, ? super SequencedCollection<ParsedObject>> properties,
+                               final Imports imports) throws XMLStreamException, ParseException {
+        final var sourceTypeName = getSourceTypeName(name, imports);
+        final var children = new ChildReader(reader);
+        final var objects = new ArrayList<ParsedObject>();
+        var nodeCount = 0;
+        String firstText = null;
+        for (var event = children.next(); event != XMLStreamConstants.END_ELEMENT; event = children.next()) {
+            nodeCount++;
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                objects.add(parseObject(reader, imports));
+            } else if (event == XMLStreamConstants.CHARACTERS) {
+                final var text = children.text();
+                if (nodeCount == 1) {
+                    firstText = text;
+                }
+                if (!text.isBlank()) {
+                    objects.add(new ParsedTextImpl(text.trim()));
+                }
+            }
+        }
+        if (nodeCount == 1 && firstText != null) {
+            //A property that could be an attribute
+            final var property = new ParsedPropertyImpl(sourceTypeName.name(), sourceTypeName.sourceType(), firstText);
+            attributes.put(property.name(), property);
+        } else {
+            logger.debug("Found property {} ({})", sourceTypeName.name(), sourceTypeName.sourceType());
+            properties.put(new ParsedPropertyImpl(sourceTypeName.name(), sourceTypeName.sourceType(), null), List.copyOf(objects));
+        }
+    }
+
+    private static Map<String, ParsedProperty> parseAttributes(final XMLStreamReader reader, final Imports imports) throws ParseException {
+        final var count = reader.getAttributeCount();
+        final var map = HashMap.<String, ParsedProperty>newHashMap(count);
+        for (var i = 0; i < count; i++) {
+            final var prefix = reader.getAttributePrefix(i);
+            final var localName = reader.getAttributeLocalName(i);
+            final var qName = prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+            addAttribute(map, qName, reader.getAttributeValue(i), imports);
+        }
+        return map;
+    }
+
+    private static String getName(final XMLStreamReader reader) {
+        final var prefix = reader.getPrefix();
+        final var localName = reader.getLocalName();
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        var depth = 1;
+        while (depth > 0) {
+            final var event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Iterates over the child nodes of an element, merging consecutive character events into a single text node
+     * (like DOM text nodes). Comments, processing instructions and CDATA sections are returned as their own nodes.
+     */
+    private static final class ChildReader {
+
+        private final XMLStreamReader reader;
+        private boolean pending;
+        private String text;
+
+        private ChildReader(final XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Moves to the next child node. If the node is an element, the reader is positioned on its start and the
+         * caller must consume the element until its end.
+         *
+         * @return The node event type, {@link XMLStreamConstants#END_ELEMENT} if there are no more children
+         * @throws XMLStreamException If an error occurs
+         */
+        private int next() throws XMLStreamException {
+            var event = pending ? reader.getEventType() : reader.next();
+            pending = false;
+            while (!isNode(event)) {
+                event = reader.next();
+            }
+            if (isText(event)) {
+                var current = reader.getText();
+                event = reader.next();
+                if (isText(event)) {
+                    final var sb = new StringBuilder(current);
+                    while (isText(event)) {
+                        sb.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        event = reader.next();
+                    }
+                    current = sb.toString();
+                }
+                text = current;
+                pending = true;
+                return XMLStreamConstants.CHARACTERS;
+            } else {
+                return event;
+            }
+        }
+
+        /**
+         * @return The text of the current text node
+         */
+        private String text() {
+            return text;
+        }
+
+        private static boolean isText(final int event) {
+            return event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.SPACE;
+        }
+
+        private static boolean isNode(final int event) {
+            return switch (event) {
+                case XMLStreamConstants.START_ELEMENT, XMLStreamConstants.END_ELEMENT, XMLStreamConstants.CHARACTERS,
+                     XMLStreamConstants.SPACE, XMLStreamConstants.COMMENT, XMLStreamConstants.PROCESSING_INSTRUCTION,
+                     XMLStreamConstants.CDATA, XMLStreamConstants.ENTITY_REFERENCE -> true;
+                default -> false;
+            };
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ch.gtache.fxml.compiler.parsing.xml;
+
+import ch.gtache.fxml.compiler.parsing.ParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestStAXFXMLParser {
+
+    private final StAXFXMLParser parser;
+    private final DOMFXMLParser domParser;
+
+    TestStAXFXMLParser() {
+        this.parser = new StAXFXMLParser();
+        this.domParser = new DOMFXMLParser();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"loadView.fxml", "includedView.fxml"})
+    void testSameAsDOM(final String file) throws Exception {
+        final var content = read(file);
+        assertEquals(domParser.parse(content), parser.parse(content));
+    }
+
+    @Test
+    void testPath() throws Exception {
+        final var url = getClass().getResource("loadView.fxml");
+        assertNotNull(url);
+        final var path = Path.of(url.toURI());
+        assertEquals(domParser.parse(path), parser.parse(path));
+    }
+
+    @Test
+    void testTextNodes() throws ParseException {
+        final var content = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <?import javafx.scene.control.Label?>
+                <?import javafx.scene.layout.VBox?>
+                <VBox xmlns="http://javafx.com/javafx/22" xmlns:fx="http://javafx.com/fxml/1" fx:controller="Controller">
+                    <!-- comment -->
+                    <children>
+                        <Label text="a"/>
+                        some &amp; text
+                    </children>
+                    <accessibleText>  raw &lt;text&gt;  </accessibleText>
+                    <id><!-- comment -->id</id>
+                    <style><![CDATA[cdata]]></style>
+                    <accessibleHelp></accessibleHelp>
+                </VBox>
+                """;
+        assertEquals(domParser.parse(content), parser.parse(content));
+    }
+
+    @Test
+    void testMissingRoot() {
+        assertThrows(ParseException.class, () -> parser.parse("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"));
+    }
+
+    @Test
+    void testMalformed() {
+        assertThrows(ParseException.class, () -> parser.parse("<?import javafx.scene.layout.VBox?><VBox>"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invalidDefine.fxml", "invalidFactory.fxml", "loadRoot.fxml", "loadScript.fxml", "unknownClass.fxml"})
+    void testInvalid(final String file) throws IOException {
+        final var content = read(file);
+        assertThrows(ParseException.class, () -> parser.parse(content));
+    }
+
+    @Test
+    void testPathNotFound() {
+        assertThrows(ParseException.class, () -> parser.parse(Path.of("notfound.fxml")));
+    }
+
+    private String read(final String file) throws IOException {
+        try (final var in = getClass().getResourceAsStream(file)) {
+            assertNotNull(in);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}